@@ -12,6 +12,7 @@ import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.commands.Command;
+import com.wynntils.core.mod.type.TaskPoolStatistics;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.screens.base.WynntilsMenuScreenBase;
@@ -76,7 +77,8 @@ public class WynntilsCommand extends Command {
                         .then(Commands.literal("profile")
                                 .then(Commands.literal("reset").executes(this::profileReset))
                                 .then(Commands.literal("showAnnotations").executes(this::profileShowAnnotations))
-                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays))))
+                                .then(Commands.literal("showOverlays").executes(this::profileShowOverlays)))
+                        .then(Commands.literal("tasks").executes(this::debugTasks)))
                 .then(Commands.literal("discord").executes(this::discordLink))
                 .then(Commands.literal("donate").executes(this::donateLink))
                 .then(Commands.literal("help").executes(this::help))
@@ -122,6 +124,30 @@ public class WynntilsCommand extends Command {
         return 1;
     }
 
+    private int debugTasks(CommandContext<CommandSourceStack> context) {
+        StringBuilder resList = new StringBuilder();
+        for (TaskPoolStatistics statistics : Managers.Executor.getStatistics()) {
+            resList.append("%-9s queued: %4d, running: %3d, done: %7d, failed: %4d\n"
+                    .formatted(
+                            statistics.getName(),
+                            statistics.getQueueDepth(),
+                            statistics.getRunning(),
+                            statistics.getCompleted(),
+                            statistics.getFailed()));
+            resList.append("          wait avg/max: %7.2f/%7.2f ms, run avg/max: %7.2f/%7.2f ms\n"
+                    .formatted(
+                            statistics.getAverageWaitMs(),
+                            statistics.getMaxWaitMs(),
+                            statistics.getAverageRunMs(),
+                            statistics.getMaxRunMs()));
+        }
+
+        context.getSource()
+                .sendSuccess(() -> Component.literal(resList.toString()).withStyle(ChatFormatting.AQUA), false);
+
+        return 1;
+    }
+
     private void showProfilingData(
             CommandContext<CommandSourceStack> context,
             Map<Class<?>, Integer> profilingTimes,
@@ -361,7 +387,7 @@ public class WynntilsCommand extends Command {
             return 0;
         }
 
-        CompletableFuture.runAsync(() -> {
+        Managers.Executor.runIo(() -> {
             WynntilsMod.info("Attempting to fetch Wynntils update.");
             CompletableFuture<UpdateService.UpdateResult> completableFuture = Services.Update.tryUpdate();
 
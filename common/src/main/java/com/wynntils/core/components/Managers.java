@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.components;
@@ -13,6 +13,7 @@ import com.wynntils.core.json.JsonManager;
 import com.wynntils.core.keybinds.KeyBindManager;
 import com.wynntils.core.mod.ConnectionManager;
 import com.wynntils.core.mod.CrashReportManager;
+import com.wynntils.core.mod.ExecutorManager;
 import com.wynntils.core.mod.TickSchedulerManager;
 import com.wynntils.core.net.DownloadManager;
 import com.wynntils.core.net.NetManager;
@@ -28,6 +29,9 @@ public final class Managers {
     // Start with SystemPropertiesManager so it can bootstrap before other Managers access properties
     public static final SystemPropertiesManager SystemProperties = new SystemPropertiesManager();
 
+    // Then, load ExecutorManager so other Managers can register background work and shutdown tasks
+    public static final ExecutorManager Executor = new ExecutorManager();
+
     // Then, load UrlManager to give it chance to update URLs in background
     public static final NetManager Net = new NetManager();
     public static final UrlManager Url = new UrlManager(Net);
@@ -7,6 +7,7 @@ package com.wynntils.core.consumers.overlays;
 import com.mojang.blaze3d.platform.Window;
 import com.mojang.blaze3d.vertex.ByteBufferBuilder;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.consumers.features.Feature;
@@ -94,6 +95,9 @@ public final class OverlayManager extends Manager {
         enabledOverlays.remove(disabledOverlay);
         WynntilsMod.unregisterEventListener(disabledOverlay);
 
+        // The overlay might have been hiding scoreboard segments
+        Handlers.Scoreboard.refreshSegmentVisibility();
+
         enabledOverlays.forEach(
                 overlay -> overlay.getConfigOptionFromString("userEnabled").ifPresent(overlay::callOnConfigUpdate));
     }
@@ -108,6 +112,9 @@ public final class OverlayManager extends Manager {
         enabledOverlays.add(enableOverlay);
         WynntilsMod.registerEventListener(enableOverlay);
 
+        // The overlay might hide scoreboard segments
+        Handlers.Scoreboard.refreshSegmentVisibility();
+
         enabledOverlays.forEach(
                 overlay -> overlay.getConfigOptionFromString("userEnabled").ifPresent(overlay::callOnConfigUpdate));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.core.json;
@@ -11,6 +11,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
 import com.wynntils.core.crowdsource.CrowdSourcedData;
@@ -19,22 +20,35 @@ import com.wynntils.services.itemrecord.type.SavedItem;
 import com.wynntils.utils.EnumUtils;
 import com.wynntils.utils.FileUtils;
 import com.wynntils.utils.colors.CustomColor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.lang3.RandomStringUtils;
 
 public final class JsonManager extends Manager {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     public static final Gson GSON = new GsonBuilder()
             .registerTypeAdapter(CustomColor.class, new CustomColor.CustomColorSerializer())
             .registerTypeAdapter(StyledText.class, new StyledText.StyledTextSerializer())
@@ -59,27 +73,82 @@ public final class JsonManager extends Manager {
         return GSON.fromJson(GSON.toJson(value), fieldType);
     }
 
+    /**
+     * Serialize each value to a member of a new json object, in the order of the map.
+     */
+    public JsonObject toJsonObject(Map<String, ?> values) {
+        JsonObject jsonObject = new JsonObject();
+        values.forEach((name, value) -> jsonObject.add(name, GSON.toJsonTree(value)));
+        return jsonObject;
+    }
+
     /**
      * Write a json object to a file, taking care to preserve the file against corruption since
      * it contains precious data.
      */
     public void savePreciousJson(File jsonFile, JsonObject jsonObject) {
+        savePreciousJson(jsonFile, false, writer -> GSON.toJson(jsonObject, writer));
+    }
+
+    /**
+     * Stream json to a file, taking care to preserve the file against corruption since it
+     * contains precious data. The json is written to a temporary file which is synced to disk
+     * and then atomically moved in place, so a crash never leaves a half-written file behind. The
+     * directory is synced after the move, so the new file survives a crash as well.
+     * The previous file is kept as a backup.
+     *
+     * If requested, the file is gzip compressed. {@link #loadPreciousJson(File)} detects
+     * compressed files transparently.
+     */
+    public void savePreciousJson(File jsonFile, boolean compress, JsonStreamWriter contentWriter) {
         FileUtils.mkdir(jsonFile.getParentFile());
 
-        if (jsonFile.exists()) {
-            File backupFile = new File(jsonFile.getPath() + ".bak");
-            // Remove old backup (if any), and move current json file to backup
-            FileUtils.deleteFile(backupFile);
-            FileUtils.moveFile(jsonFile, backupFile);
+        Path jsonPath = jsonFile.toPath();
+        Path tempPath = Path.of(jsonFile.getPath() + ".tmp");
+        Path backupPath = Path.of(jsonFile.getPath() + ".bak");
+
+        boolean written = false;
+        try {
+            OutputStream outputStream = new SyncingChannelOutputStream(FileChannel.open(
+                    tempPath,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE));
+            outputStream = compress
+                    ? new GZIPOutputStream(outputStream, WRITE_BUFFER_SIZE)
+                    : new BufferedOutputStream(outputStream, WRITE_BUFFER_SIZE);
+
+            // Closing the writer finishes the compression, syncs the file to disk and closes it
+            try (JsonWriter jsonWriter =
+                    GSON.newJsonWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+                contentWriter.write(jsonWriter);
+            }
+            written = true;
+        } catch (IOException | RuntimeException e) {
+            WynntilsMod.error("Failed to save json file " + jsonFile, e);
+        } finally {
+            if (!written) {
+                // Keep the current file as it is, and just remove what we managed to write
+                FileUtils.deleteFile(tempPath.toFile());
+            }
         }
 
-        try (OutputStreamWriter fileWriter =
-                new OutputStreamWriter(new FileOutputStream(jsonFile), StandardCharsets.UTF_8)) {
-            GSON.toJson(jsonObject, fileWriter);
-            fileWriter.flush();
-        } catch (IOException e) {
-            WynntilsMod.error("Failed to save json file " + jsonFile, e);
+        if (!written) return;
+
+        if (Files.exists(jsonPath)) {
+            // Keep the current file as a backup. Linking makes sure there is never a moment without
+            // a primary file, but not all file systems support it.
+            try {
+                Files.deleteIfExists(backupPath);
+                Files.createLink(backupPath, jsonPath);
+            } catch (IOException | UnsupportedOperationException e) {
+                FileUtils.moveFile(jsonFile, backupPath.toFile());
+            }
         }
+
+        FileUtils.atomicMoveFile(tempPath.toFile(), jsonFile);
+        // The move is only durable once the directory itself is synced
+        FileUtils.syncDirectory(jsonFile.getParentFile());
     }
 
     /**
@@ -90,10 +159,17 @@ public final class JsonManager extends Manager {
         FileUtils.mkdir(jsonFile.getParentFile());
 
         if (!jsonFile.exists()) {
-            return createEmptyFile(jsonFile);
+            File backupFile = new File(jsonFile.getPath() + ".bak");
+            if (!backupFile.exists()) {
+                return createEmptyFile(jsonFile);
+            }
+
+            // We were interrupted while replacing the file, restore the last good version
+            WynntilsMod.warn("Json file " + jsonFile.getPath() + " is missing, restoring it from backup");
+            FileUtils.tryCopyFile(backupFile, jsonFile);
         }
 
-        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(jsonFile), StandardCharsets.UTF_8)) {
+        try (InputStreamReader reader = new InputStreamReader(openInputStream(jsonFile), StandardCharsets.UTF_8)) {
             JsonElement fileElement = JsonParser.parseReader(new JsonReader(reader));
 
             if (fileElement.isJsonObject()) {
@@ -112,6 +188,17 @@ public final class JsonManager extends Manager {
         return createEmptyFile(jsonFile);
     }
 
+    private InputStream openInputStream(File jsonFile) throws IOException {
+        BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(jsonFile));
+
+        // Peek at the header to see if this file was saved compressed
+        inputStream.mark(2);
+        int magic = inputStream.read() | (inputStream.read() << 8);
+        inputStream.reset();
+
+        return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(inputStream) : inputStream;
+    }
+
     private JsonObject createEmptyFile(File jsonFile) {
         JsonObject storageJson = new JsonObject();
         savePreciousJson(jsonFile, storageJson);
@@ -130,4 +217,37 @@ public final class JsonManager extends Manager {
                                 + RandomStringUtils.randomAlphanumeric(5) + "_" + jsonFile.getName()));
         FileUtils.deleteFile(jsonFile);
     }
+
+    /**
+     * An output stream writing directly to a file channel, which forces the content to disk when closed.
+     */
+    private static final class SyncingChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        private SyncingChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        }
+    }
 }
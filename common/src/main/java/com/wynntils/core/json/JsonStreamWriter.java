@@ -0,0 +1,16 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.json;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+/**
+ * Writes json content directly to a stream, without building an intermediate json tree.
+ */
+@FunctionalInterface
+public interface JsonStreamWriter {
+    void write(JsonWriter writer) throws IOException;
+}
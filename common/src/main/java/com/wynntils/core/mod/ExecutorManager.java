@@ -0,0 +1,154 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.mod;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Manager;
+import com.wynntils.core.mod.type.TaskPoolStatistics;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Owns all background threads of the mod.
+ *
+ * Blocking work (file and network I/O) is run on virtual threads, while CPU heavy work is run on a
+ * bounded pool of platform threads, so it never competes with the render thread for more than half
+ * of the cores. Delayed and periodic tasks are run by a small scheduler, and should hand off any long
+ * running work to one of the other pools.
+ *
+ * On shutdown, the pools are drained in order, after which the registered shutdown tasks (like flushing
+ * config and storage) are run.
+ */
+public final class ExecutorManager extends Manager {
+    private static final int CPU_POOL_SIZE = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int SCHEDULER_POOL_SIZE = 2;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final ExecutorService ioExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("wynntils-io-", 0).factory());
+    private final ThreadPoolExecutor cpuExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
+            CPU_POOL_SIZE,
+            new ThreadFactoryBuilder()
+                    .setNameFormat("wynntils-cpu-%d")
+                    .setDaemon(true)
+                    .build());
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+            SCHEDULER_POOL_SIZE,
+            new ThreadFactoryBuilder()
+                    .setNameFormat("wynntils-scheduler-%d")
+                    .setDaemon(true)
+                    .build());
+
+    // Virtual threads are started immediately, so the I/O pool never has a queue
+    private final TaskPoolStatistics ioStatistics = new TaskPoolStatistics("io", () -> 0);
+    private final TaskPoolStatistics cpuStatistics =
+            new TaskPoolStatistics("cpu", () -> cpuExecutor.getQueue().size());
+    private final TaskPoolStatistics schedulerStatistics =
+            new TaskPoolStatistics("scheduler", () -> scheduler.getQueue().size());
+
+    private final List<Runnable> shutdownTasks = new CopyOnWriteArrayList<>();
+
+    public ExecutorManager() {
+        super(List.of());
+
+        // Pending delayed tasks are dropped on shutdown, their owners flush their state in shutdown tasks
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+        scheduler.setRemoveOnCancelPolicy(true);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "wynntils-shutdown"));
+    }
+
+    /**
+     * Run a task that blocks, like file or network I/O, on a virtual thread.
+     */
+    public CompletableFuture<Void> runIo(Runnable task) {
+        return CompletableFuture.runAsync(ioStatistics.wrap(task), ioExecutor);
+    }
+
+    /**
+     * Run a task that blocks, like file or network I/O, on a virtual thread.
+     */
+    public <T> CompletableFuture<T> supplyIo(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(ioStatistics.wrap(task), ioExecutor);
+    }
+
+    /**
+     * Run a CPU heavy task on the bounded compute pool.
+     */
+    public CompletableFuture<Void> runCpu(Runnable task) {
+        return CompletableFuture.runAsync(cpuStatistics.wrap(task), cpuExecutor);
+    }
+
+    /**
+     * Run a CPU heavy task on the bounded compute pool.
+     */
+    public <T> CompletableFuture<T> supplyCpu(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(cpuStatistics.wrap(task), cpuExecutor);
+    }
+
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return scheduler.schedule(schedulerStatistics.wrapScheduled(task), delay, unit);
+    }
+
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return scheduler.scheduleAtFixedRate(schedulerStatistics.wrapScheduled(task), initialDelay, period, unit);
+    }
+
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+        return scheduler.scheduleWithFixedDelay(schedulerStatistics.wrapScheduled(task), initialDelay, delay, unit);
+    }
+
+    /**
+     * Register a task to be run on shutdown, after all background work has been finished.
+     * Shutdown tasks are run in the order they were added.
+     */
+    public void addShutdownTask(Runnable task) {
+        shutdownTasks.add(task);
+    }
+
+    public List<TaskPoolStatistics> getStatistics() {
+        return List.of(ioStatistics, cpuStatistics, schedulerStatistics);
+    }
+
+    private void shutdown() {
+        // Stop periodic work first, so it can not submit new work to the other pools
+        scheduler.shutdown();
+        awaitTermination(scheduler, "scheduler");
+
+        // Let in-flight work, like saves, finish
+        cpuExecutor.shutdown();
+        ioExecutor.shutdown();
+        awaitTermination(cpuExecutor, "cpu");
+        awaitTermination(ioExecutor, "io");
+
+        for (Runnable task : shutdownTasks) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                WynntilsMod.error("Shutdown task failed", t);
+            }
+        }
+    }
+
+    private void awaitTermination(ExecutorService executor, String name) {
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                WynntilsMod.warn("Timed out waiting for " + name + " tasks to finish on shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.core.mod.type;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Collects queue depth and latency metrics for a single task pool of the {@link com.wynntils.core.mod.ExecutorManager}.
+ */
+public final class TaskPoolStatistics {
+    private final String name;
+    private final IntSupplier queueDepthSupplier;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong maxRunNanos = new AtomicLong();
+
+    public TaskPoolStatistics(String name, IntSupplier queueDepthSupplier) {
+        this.name = name;
+        this.queueDepthSupplier = queueDepthSupplier;
+    }
+
+    /**
+     * Wraps a task that is submitted right now, measuring both how long it waited to start and how long it ran.
+     */
+    public Runnable wrap(Runnable task) {
+        Supplier<Void> wrapped = wrap(() -> {
+            task.run();
+            return null;
+        });
+        return wrapped::get;
+    }
+
+    /**
+     * Wraps a task that is submitted right now, measuring both how long it waited to start and how long it ran.
+     */
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        long submitted = System.nanoTime();
+
+        return () -> {
+            long waitNanos = System.nanoTime() - submitted;
+            waited.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+            return run(task);
+        };
+    }
+
+    /**
+     * Wraps a delayed or periodic task. The delay is intentional, so only the run time is measured.
+     */
+    public Runnable wrapScheduled(Runnable task) {
+        return () -> run(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private <T> T run(Supplier<T> task) {
+        long started = System.nanoTime();
+        running.incrementAndGet();
+
+        try {
+            T result = task.get();
+            completed.increment();
+            return result;
+        } catch (Throwable t) {
+            failed.increment();
+            throw t;
+        } finally {
+            long runNanos = System.nanoTime() - started;
+            running.decrementAndGet();
+            totalRunNanos.add(runNanos);
+            maxRunNanos.accumulateAndGet(runNanos, Math::max);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQueueDepth() {
+        return queueDepthSupplier.getAsInt();
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return the number of tasks that finished without throwing
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * @return the number of tasks that threw
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public double getAverageWaitMs() {
+        long count = waited.sum();
+        return count == 0 ? 0 : totalWaitNanos.sum() / 1_000_000d / count;
+    }
+
+    public double getMaxWaitMs() {
+        return maxWaitNanos.get() / 1_000_000d;
+    }
+
+    public double getAverageRunMs() {
+        // Failed tasks took their run time as well
+        long count = completed.sum() + failed.sum();
+        return count == 0 ? 0 : totalRunNanos.sum() / 1_000_000d / count;
+    }
+
+    public double getMaxRunMs() {
+        return maxRunNanos.get() / 1_000_000d;
+    }
+}
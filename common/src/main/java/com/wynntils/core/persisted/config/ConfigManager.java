@@ -28,10 +28,13 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.reflect.FieldUtils;
 
@@ -42,14 +45,27 @@ public final class ConfigManager extends Manager {
     private static final String OVERLAY_GROUPS_JSON_KEY = "overlayGroups";
     private static final Set<Config<?>> CONFIGS = new TreeSet<>();
 
+    // Saves are coalesced: all saves requested within SAVE_DELAY of the first one result in a single write,
+    // and we never write the config file more often than once every MIN_SAVE_INTERVAL
+    private static final long SAVE_DELAY = 500;
+    private static final long MIN_SAVE_INTERVAL = 2_000;
+
+    private final Object writeLock = new Object();
+
     private final File userConfigFile;
     private JsonObject configObject;
 
+    private JsonObject pendingConfigJson;
+    private ScheduledFuture<?> scheduledSave;
+    private long lastSaved;
+
     public ConfigManager() {
         super(List.of());
 
         userConfigFile = new File(
                 CONFIG_DIR, UndashedUuid.toString(McUtils.mc().getUser().getProfileId()) + FILE_SUFFIX);
+
+        addShutdownHook();
     }
 
     public void init() {
@@ -100,6 +116,9 @@ public final class ConfigManager extends Manager {
     }
 
     public void reloadConfiguration() {
+        // Make sure we do not read a file that is older than our latest requested save
+        flushConfig();
+
         configObject = Managers.Json.loadPreciousJson(userConfigFile);
         loadConfigOptions(true, true);
     }
@@ -177,19 +196,65 @@ public final class ConfigManager extends Manager {
                 .toList();
     }
 
-    public synchronized void saveConfig() {
+    /**
+     * Request the config to be saved. The values are snapshotted on the calling thread, but the
+     * actual file write is done in the background, coalescing multiple requests into a single write.
+     */
+    public void saveConfig() {
         // Requesting to save before we have read the old config? Just skip it
         if (configObject == null) return;
 
+        synchronized (this) {
+            // Snapshot under the lock, so an older snapshot can never replace a newer one
+            pendingConfigJson = createConfigJson();
+
+            // A write is already scheduled, it will pick up the latest snapshot
+            if (scheduledSave != null) return;
+
+            long delay = Math.max(SAVE_DELAY, (lastSaved + MIN_SAVE_INTERVAL) - System.currentTimeMillis());
+            scheduledSave = Managers.Executor.schedule(
+                    () -> Managers.Executor.runIo(this::writePendingConfig), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Write any pending config save to disk immediately, on the calling thread.
+     */
+    public void flushConfig() {
+        synchronized (this) {
+            if (scheduledSave != null) {
+                // If the write has already started, it will be waited for by the write lock below
+                scheduledSave.cancel(false);
+            }
+        }
+
+        writePendingConfig();
+    }
+
+    private void writePendingConfig() {
+        synchronized (writeLock) {
+            JsonObject configJson;
+            synchronized (this) {
+                configJson = pendingConfigJson;
+                pendingConfigJson = null;
+                scheduledSave = null;
+            }
+
+            if (configJson == null) return;
+
+            Managers.Json.savePreciousJson(userConfigFile, configJson);
+            lastSaved = System.currentTimeMillis();
+        }
+    }
+
+    private JsonObject createConfigJson() {
         // create json object, with entry for each option of each container
-        JsonObject configJson = new JsonObject();
+        Map<String, Object> configValues = new LinkedHashMap<>();
         for (Config<?> config : getConfigList()) {
             if (!config.valueChanged()) continue; // only save options that have been set by the user
-            Object value = config.get();
-
-            JsonElement configElement = Managers.Json.GSON.toJsonTree(value);
-            configJson.add(config.getJsonName(), configElement);
+            configValues.put(config.getJsonName(), config.get());
         }
+        JsonObject configJson = Managers.Json.toJsonObject(configValues);
 
         // Also save upfixer data
         String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
@@ -209,7 +274,11 @@ public final class ConfigManager extends Manager {
 
         configJson.add(OVERLAY_GROUPS_JSON_KEY, overlayGroups);
 
-        Managers.Json.savePreciousJson(userConfigFile, configJson);
+        return configJson;
+    }
+
+    private void addShutdownHook() {
+        Managers.Executor.addShutdownTask(this::flushConfig);
     }
 
     public File getUserConfigFile() {
@@ -5,7 +5,9 @@
 package com.wynntils.core.persisted.storage;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import com.mojang.util.UndashedUuid;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Manager;
@@ -14,18 +16,19 @@ import com.wynntils.core.mod.event.WynncraftConnectionEvent;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.PersistedValue;
 import com.wynntils.core.persisted.upfixers.UpfixerType;
+import com.wynntils.core.properties.Property;
 import com.wynntils.utils.mc.McUtils;
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import net.neoforged.bus.api.SubscribeEvent;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -37,11 +40,16 @@ public final class StorageManager extends Manager {
     private static final String FILE_SUFFIX = ".data.json";
     private final File userStorageFile;
 
-    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
+    // Heavy users can have storages of several megabytes, allow them to be stored compressed
+    private final Property<Boolean> compressStorage = createProperty(Boolean.class, "compress", false);
+
     private final Map<String, Storage<?>> storages = new TreeMap<>();
     private final Map<Storage<?>, Type> storageTypes = new HashMap<>();
     private final Map<Storage<?>, Storageable> storageOwner = new HashMap<>();
 
+    // Storages that failed to serialize once, these are no longer streamed directly to the file
+    private final Set<String> failedStorages = new HashSet<>();
+
     private JsonObject storageObject;
 
     private long lastPersisted;
@@ -102,7 +110,7 @@ public final class StorageManager extends Manager {
     }
 
     private void addShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(this::writeToJson));
+        Managers.Executor.addShutdownTask(this::writeToJson);
     }
 
     @SubscribeEvent
@@ -118,12 +126,12 @@ public final class StorageManager extends Manager {
         long now = System.currentTimeMillis();
         long delay = Math.max((lastPersisted + SAVE_INTERVAL) - now, 0);
 
-        executor.schedule(
-                () -> {
+        Managers.Executor.schedule(
+                () -> Managers.Executor.runIo(() -> {
                     scheduledPersist = false;
                     lastPersisted = System.currentTimeMillis();
                     writeToJson();
-                },
+                }),
                 delay,
                 TimeUnit.MILLISECONDS);
         scheduledPersist = true;
@@ -167,21 +175,54 @@ public final class StorageManager extends Manager {
     }
 
     private synchronized void writeToJson() {
-        JsonObject storageJson = new JsonObject();
+        // A storage that fails leaves the file broken, so write again with it buffered until no new storage fails
+        int knownFailures;
+        do {
+            knownFailures = failedStorages.size();
+
+            // Stream the storages to the file, instead of merging them into one json tree first
+            Managers.Json.savePreciousJson(userStorageFile, compressStorage.get(), this::writeStorages);
+        } while (failedStorages.size() > knownFailures);
+    }
+
+    private void writeStorages(JsonWriter writer) throws IOException {
+        writer.beginObject();
 
         // Save upfixers
         String upfixerJsonMemberName = Managers.Upfixer.UPFIXER_JSON_MEMBER_NAME;
-        storageJson.add(upfixerJsonMemberName, storageObject.get(upfixerJsonMemberName));
+        writer.name(upfixerJsonMemberName);
+        Managers.Json.GSON.toJson(
+                Objects.requireNonNullElse(storageObject.get(upfixerJsonMemberName), JsonNull.INSTANCE), writer);
+
+        for (Map.Entry<String, Storage<?>> entry : storages.entrySet()) {
+            String jsonName = entry.getKey();
+            Storage<?> storage = entry.getValue();
+            Type valueType = storageTypes.get(storage);
+
+            if (failedStorages.contains(jsonName)) {
+                // Only this storage is serialized before writing, so if it fails again it is skipped on its own
+                String json;
+                try {
+                    json = Managers.Json.GSON.toJson(storage.get(), valueType);
+                } catch (Throwable t) {
+                    WynntilsMod.error("Failed to save storage " + jsonName, t);
+                    continue;
+                }
+
+                writer.name(jsonName).jsonValue(json);
+                continue;
+            }
 
-        storages.forEach((jsonName, storage) -> {
             try {
-                JsonElement jsonElem = Managers.Json.GSON.toJsonTree(storage.get(), storageTypes.get(storage));
-                storageJson.add(jsonName, jsonElem);
+                writer.name(jsonName);
+                Managers.Json.GSON.toJson(storage.get(), valueType, writer);
             } catch (Throwable t) {
-                WynntilsMod.error("Failed to save storage " + jsonName, t);
+                // A partially written storage leaves the file broken, so abort the write and keep the old file
+                failedStorages.add(jsonName);
+                throw new IOException("Failed to save storage " + jsonName, t);
             }
-        });
+        }
 
-        Managers.Json.savePreciousJson(userStorageFile, storageJson);
+        writer.endObject();
     }
 }
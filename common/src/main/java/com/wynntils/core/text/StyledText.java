@@ -49,6 +49,10 @@ public final class StyledText implements Iterable<StyledTextPart> {
     private final List<ClickEvent> clickEvents;
     private final List<HoverEvent> hoverEvents;
 
+    // Styled texts are used as keys of render caches, which hash them every frame.
+    // They are immutable, so the hash is only computed once, like String does.
+    private int hash;
+
     /**
      * Note: All callers of this constructor should ensure that the event lists are collected from the parts.
      * Additionally, they should ensure that the events are distinct.
@@ -823,7 +827,12 @@ public final class StyledText implements Iterable<StyledTextPart> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(parts, clickEvents, hoverEvents);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(parts, clickEvents, hoverEvents);
+            hash = h;
+        }
+        return h;
     }
 
     public static class StyledTextSerializer implements JsonSerializer<StyledText>, JsonDeserializer<StyledText> {
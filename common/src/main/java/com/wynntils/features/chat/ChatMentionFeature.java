@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.chat;
@@ -17,10 +17,10 @@ import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.utils.colors.ColorChatFormatting;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.type.IterationDecision;
+import com.wynntils.utils.type.MentionMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.network.chat.Style;
 import net.minecraft.sounds.SoundEvents;
@@ -30,8 +30,6 @@ import net.neoforged.bus.api.SubscribeEvent;
 @ConfigCategory(Category.CHAT)
 public class ChatMentionFeature extends Feature {
     private static final Pattern END_OF_HEADER_PATTERN = Pattern.compile(".*:\\s?");
-    private static final Pattern NON_WORD_CHARACTERS =
-            Pattern.compile("\\W"); // all non-alphanumeric-underscore characters
 
     @Persisted
     public final Config<Boolean> markMention = new Config<>(true);
@@ -48,40 +46,25 @@ public class ChatMentionFeature extends Feature {
     @Persisted
     public final Config<Boolean> suppressMentionsInInfo = new Config<>(false);
 
-    private List<Pattern> mentionPatterns;
+    private MentionMatcher mentionMatcher;
 
     public ChatMentionFeature() {
-        mentionPatterns = buildPattern();
+        mentionMatcher = buildMatcher();
     }
 
     @Override
     protected void onConfigUpdate(Config<?> config) {
-        // rebuild pattern in case it has changed
-        mentionPatterns = buildPattern();
+        // rebuild matcher in case the aliases have changed
+        mentionMatcher = buildMatcher();
     }
 
-    private List<Pattern> buildPattern() {
-        List<Pattern> returnable = new ArrayList<>();
-
+    private MentionMatcher buildMatcher() {
         List<String> splitAliases = new ArrayList<>();
         splitAliases.add(McUtils.mc().getUser().getName());
         splitAliases.addAll(Arrays.asList(this.aliases.get().split(",")));
 
-        for (String alias : splitAliases) {
-            if (alias.isEmpty()) continue;
-
-            Matcher nonWordMatcher = NON_WORD_CHARACTERS.matcher(alias);
-            if (nonWordMatcher.find()) {
-                // We know there are strange characters in this alias, we need a different way to detect them
-                // we cannot use word boundaries (because there are non word characters!)
-                // so we will just do a simple space/start/end check
-                String quotedAlias = Pattern.quote(alias);
-                returnable.add(Pattern.compile("(?:\\s|^)(" + quotedAlias + ")(?:\\s|$)", Pattern.CASE_INSENSITIVE));
-            } else {
-                returnable.add(Pattern.compile("(?<!\\[)\\b(" + alias + ")\\b(?!:|])", Pattern.CASE_INSENSITIVE));
-            }
-        }
-        return returnable;
+        // All aliases are matched in a single pass, so the cost of a message does not grow with the alias count
+        return new MentionMatcher(splitAliases);
     }
 
     @SubscribeEvent(priority = EventPriority.HIGH)
@@ -90,45 +73,41 @@ public class ChatMentionFeature extends Feature {
 
         StyledText styledText = e.getStyledText();
         StyledText modified = styledText.iterateBackwards((part, changes) -> {
+            String partString = part.getString(null, PartStyle.StyleType.NONE);
+
             // We have reached the end of the message content,
             // we don't want to highlight our own name in our own message
-            if (END_OF_HEADER_PATTERN
-                    .matcher(part.getString(null, PartStyle.StyleType.NONE))
-                    .matches()) {
+            if (END_OF_HEADER_PATTERN.matcher(partString).matches()) {
                 return IterationDecision.BREAK;
             }
 
-            StyledTextPart partToReplace = part;
-            for (Pattern pattern : mentionPatterns) {
-                Matcher matcher = pattern.matcher(partToReplace.getString(null, PartStyle.StyleType.NONE));
-
-                while (matcher.find()) {
-                    String match = partToReplace.getString(null, PartStyle.StyleType.NONE);
+            List<MentionMatcher.Match> matches = mentionMatcher.findAll(partString);
+            if (matches.isEmpty()) return IterationDecision.CONTINUE;
 
-                    String firstPart = match.substring(0, matcher.start());
-                    String mentionPart = match.substring(matcher.start(), matcher.end());
-                    String lastPart = match.substring(matcher.end());
+            PartStyle partStyle = part.getPartStyle();
+            changes.remove(part);
 
-                    PartStyle partStyle = partToReplace.getPartStyle();
+            int lastEnd = 0;
+            for (MentionMatcher.Match match : matches) {
+                String firstPart = partString.substring(lastEnd, match.start());
+                String mentionPart = partString.substring(match.start(), match.end());
 
-                    StyledTextPart first = new StyledTextPart(firstPart, partStyle.getStyle(), null, Style.EMPTY);
-                    StyledTextPart mention = new StyledTextPart(
-                            mentionPart,
-                            partStyle.getStyle().withColor(mentionColor.get().getChatFormatting()),
-                            null,
-                            first.getPartStyle().getStyle());
-                    StyledTextPart last = new StyledTextPart(lastPart, partStyle.getStyle(), null, Style.EMPTY);
+                StyledTextPart first = new StyledTextPart(firstPart, partStyle.getStyle(), null, Style.EMPTY);
+                StyledTextPart mention = new StyledTextPart(
+                        mentionPart,
+                        partStyle.getStyle().withColor(mentionColor.get().getChatFormatting()),
+                        null,
+                        first.getPartStyle().getStyle());
 
-                    changes.remove(partToReplace);
-                    changes.add(first);
-                    changes.add(mention);
-                    changes.add(last);
+                changes.add(first);
+                changes.add(mention);
 
-                    partToReplace = last;
-                    matcher = pattern.matcher(lastPart);
-                }
+                lastEnd = match.end();
             }
 
+            String lastPart = partString.substring(lastEnd);
+            changes.add(new StyledTextPart(lastPart, partStyle.getStyle(), null, Style.EMPTY));
+
             return IterationDecision.CONTINUE;
         });
 
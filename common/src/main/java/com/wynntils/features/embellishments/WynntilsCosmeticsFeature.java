@@ -23,6 +23,9 @@ public class WynntilsCosmeticsFeature extends Feature {
     @Persisted
     public final Config<Boolean> renderOwnCape = new Config<>(true);
 
+    @Persisted
+    public final Config<Integer> textureMemoryBudget = new Config<>(64);
+
     @SubscribeEvent
     public void onCapeRender(PlayerRenderLayerEvent.Cape event) {
         if (!isEnabled() || !Managers.Connection.onServer()) return;
@@ -4,7 +4,6 @@
  */
 package com.wynntils.features.inventory;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
@@ -16,9 +15,10 @@ import com.wynntils.mc.event.HotbarSlotRenderEvent;
 import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.models.items.properties.DurableItemProperty;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.RenderUtils;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import com.wynntils.utils.type.CappedValue;
 import java.util.Optional;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -34,16 +34,22 @@ public class DurabilityArcFeature extends Feature {
     @SubscribeEvent
     public void onRenderHotbarSlot(HotbarSlotRenderEvent.CountPre e) {
         if (!renderDurabilityArcHotbar.get()) return;
-        drawDurabilityArc(e.getPoseStack(), e.getItemStack(), e.getX(), e.getY());
+        drawDurabilityArc(e.getPoseStack(), e.getGuiGraphics().bufferSource, e.getItemStack(), e.getX(), e.getY());
     }
 
     @SubscribeEvent
     public void onRenderSlot(SlotRenderEvent.CountPre e) {
         if (!renderDurabilityArcInventories.get()) return;
-        drawDurabilityArc(e.getPoseStack(), e.getSlot().getItem(), e.getSlot().x, e.getSlot().y);
+        drawDurabilityArc(
+                e.getPoseStack(),
+                e.getGuiGraphics().bufferSource,
+                e.getSlot().getItem(),
+                e.getSlot().x,
+                e.getSlot().y);
     }
 
-    private void drawDurabilityArc(PoseStack poseStack, ItemStack itemStack, int slotX, int slotY) {
+    private void drawDurabilityArc(
+            PoseStack poseStack, MultiBufferSource bufferSource, ItemStack itemStack, int slotX, int slotY) {
         Optional<DurableItemProperty> durableItemOpt =
                 Models.Item.asWynnItemProperty(itemStack, DurableItemProperty.class);
         if (durableItemOpt.isEmpty()) return;
@@ -56,8 +62,6 @@ public class DurabilityArcFeature extends Feature {
         CustomColor color = CustomColor.fromInt(colorInt).withAlpha(160);
 
         // draw
-        RenderSystem.enableDepthTest();
-        RenderUtils.drawArc(poseStack, color, slotX, slotY, 100, durabilityFraction, 6, 8);
-        RenderSystem.disableDepthTest();
+        BufferedRenderUtils.drawArc(poseStack, bufferSource, color, slotX, slotY, 100, durabilityFraction, 6, 8);
     }
 }
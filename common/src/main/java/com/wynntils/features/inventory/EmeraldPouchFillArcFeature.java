@@ -4,7 +4,6 @@
  */
 package com.wynntils.features.inventory;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
@@ -16,9 +15,10 @@ import com.wynntils.mc.event.HotbarSlotRenderEvent;
 import com.wynntils.mc.event.SlotRenderEvent;
 import com.wynntils.models.items.items.game.EmeraldPouchItem;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.RenderUtils;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import com.wynntils.utils.type.CappedValue;
 import java.util.Optional;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -34,16 +34,22 @@ public class EmeraldPouchFillArcFeature extends Feature {
     @SubscribeEvent
     public void onRenderHotbarSlot(HotbarSlotRenderEvent.CountPre e) {
         if (!renderFillArcHotbar.get()) return;
-        drawFilledArc(e.getPoseStack(), e.getItemStack(), e.getX(), e.getY());
+        drawFilledArc(e.getPoseStack(), e.getGuiGraphics().bufferSource, e.getItemStack(), e.getX(), e.getY());
     }
 
     @SubscribeEvent
     public void onRenderSlot(SlotRenderEvent.CountPre e) {
         if (!renderFillArcInventory.get()) return;
-        drawFilledArc(e.getPoseStack(), e.getSlot().getItem(), e.getSlot().x, e.getSlot().y);
+        drawFilledArc(
+                e.getPoseStack(),
+                e.getGuiGraphics().bufferSource,
+                e.getSlot().getItem(),
+                e.getSlot().x,
+                e.getSlot().y);
     }
 
-    private void drawFilledArc(PoseStack poseStack, ItemStack itemStack, int slotX, int slotY) {
+    private void drawFilledArc(
+            PoseStack poseStack, MultiBufferSource bufferSource, ItemStack itemStack, int slotX, int slotY) {
         Optional<EmeraldPouchItem> optionalItem = Models.Item.asWynnItem(itemStack, EmeraldPouchItem.class);
 
         if (optionalItem.isEmpty()) return;
@@ -60,8 +66,6 @@ public class EmeraldPouchFillArcFeature extends Feature {
         float ringFraction = Math.min(1f, capacityFraction);
 
         // draw
-        RenderSystem.enableDepthTest();
-        RenderUtils.drawArc(poseStack, color, slotX - 2, slotY - 2, 100, ringFraction, 8, 10);
-        RenderSystem.disableDepthTest();
+        BufferedRenderUtils.drawArc(poseStack, bufferSource, color, slotX - 2, slotY - 2, 100, ringFraction, 8, 10);
     }
 }
@@ -19,7 +19,7 @@ import com.wynntils.models.containers.containers.ScrapMenuContainer;
 import com.wynntils.models.containers.type.SearchableContainerProperty;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.RenderUtils;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -106,7 +106,16 @@ public class HightlightDuplicateCosmeticsFeature extends Feature {
             if ((isSelected && condition != HighlightCondition.HOVER)
                     || (isHovered && condition != HighlightCondition.SELECTED)) {
                 CustomColor color = isSelected ? selectedHighlightColor.get() : hoveredHighlightColor.get();
-                RenderUtils.drawArc(e.getPoseStack(), color, e.getSlot().x, e.getSlot().y, 200, 1f, 6, 8);
+                BufferedRenderUtils.drawArc(
+                        e.getPoseStack(),
+                        e.getGuiGraphics().bufferSource,
+                        color,
+                        e.getSlot().x,
+                        e.getSlot().y,
+                        200,
+                        1f,
+                        6,
+                        8);
             }
         }
     }
@@ -4,7 +4,6 @@
  */
 package com.wynntils.features.inventory;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.persisted.Persisted;
@@ -22,7 +21,6 @@ import com.wynntils.models.items.items.game.PowderItem;
 import com.wynntils.models.items.items.gui.CosmeticItem;
 import com.wynntils.models.items.properties.GearTierItemProperty;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
 import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import java.util.Optional;
@@ -154,9 +152,9 @@ public class ItemHighlightFeature extends Feature {
         CustomColor color = getHighlightColor(e.getSlot().getItem(), false);
         if (color == CustomColor.NONE) return;
 
-        RenderSystem.enableDepthTest();
-        RenderUtils.drawTexturedRectWithColor(
+        BufferedRenderUtils.drawTexturedRectWithColor(
                 e.getPoseStack(),
+                e.getGuiGraphics().bufferSource,
                 Texture.HIGHLIGHT.resource(),
                 color.withAlpha(inventoryOpacity.get()),
                 e.getSlot().x - 1,
@@ -170,7 +168,6 @@ public class ItemHighlightFeature extends Feature {
                 18,
                 Texture.HIGHLIGHT.width(),
                 Texture.HIGHLIGHT.height());
-        RenderSystem.disableDepthTest();
     }
 
     @SubscribeEvent
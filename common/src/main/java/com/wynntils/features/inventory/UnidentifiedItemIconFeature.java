@@ -23,8 +23,8 @@ import com.wynntils.models.items.properties.IdentifiableItemProperty;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
 import com.wynntils.utils.render.FontRenderer;
-import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import com.wynntils.utils.render.type.HorizontalAlignment;
 import com.wynntils.utils.render.type.TextShadow;
 import com.wynntils.utils.render.type.VerticalAlignment;
@@ -33,6 +33,7 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -75,21 +76,30 @@ public class UnidentifiedItemIconFeature extends Feature {
 
     @SubscribeEvent
     public void onSlotRender(SlotRenderEvent.CountPre e) {
-        drawIcon(e.getPoseStack(), e.getSlot().getItem(), e.getSlot().x, e.getSlot().y, 200);
+        drawIcon(
+                e.getPoseStack(),
+                e.getGuiGraphics().bufferSource,
+                e.getSlot().getItem(),
+                e.getSlot().x,
+                e.getSlot().y,
+                200);
     }
 
     @SubscribeEvent
     public void onHotbarSlotRender(HotbarSlotRenderEvent.CountPre e) {
-        drawIcon(e.getPoseStack(), e.getItemStack(), e.getX(), e.getY(), 200);
+        drawIcon(e.getPoseStack(), e.getGuiGraphics().bufferSource, e.getItemStack(), e.getX(), e.getY(), 200);
     }
 
-    private void drawIcon(PoseStack poseStack, ItemStack itemStack, int slotX, int slotY, int z) {
+    private void drawIcon(
+            PoseStack poseStack, MultiBufferSource bufferSource, ItemStack itemStack, int slotX, int slotY, int z) {
         Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
         if (wynnItemOpt.isEmpty()) return;
 
         WynnItem wynnItem = wynnItemOpt.get();
         if (wynnItem instanceof GearBoxItem box) {
-            texture.get().getIconRenderer().renderIcon(poseStack, slotX, slotY, z, box.getGearType(), Optional.empty());
+            texture.get()
+                    .getIconRenderer()
+                    .renderIcon(poseStack, bufferSource, slotX, slotY, z, box.getGearType(), Optional.empty());
             return;
         }
 
@@ -103,6 +113,7 @@ public class UnidentifiedItemIconFeature extends Feature {
                     .getIconRenderer()
                     .renderIcon(
                             poseStack,
+                            bufferSource,
                             slotX,
                             slotY,
                             z,
@@ -113,14 +124,22 @@ public class UnidentifiedItemIconFeature extends Feature {
 
     @FunctionalInterface
     private interface IconRenderer {
-        void renderIcon(PoseStack poseStack, int x, int y, int z, GearType gearType, Optional<CustomColor> textColor);
+        void renderIcon(
+                PoseStack poseStack,
+                MultiBufferSource bufferSource,
+                int x,
+                int y,
+                int z,
+                GearType gearType,
+                Optional<CustomColor> textColor);
 
         static IconRenderer forSpriteSheet(Texture texture, int yOffset, int padding) {
             int paddedDims = 16 - padding - padding;
-            return (poseStack, x, y, z, gearType, textColor) -> {
+            return (poseStack, bufferSource, x, y, z, gearType, textColor) -> {
                 Pair<Integer, Integer> textureCoords = TEXTURE_COORDS.get(gearType);
-                RenderUtils.drawTexturedRect(
+                BufferedRenderUtils.drawTexturedRect(
                         poseStack,
+                        bufferSource,
                         texture.resource(),
                         x + padding,
                         y + padding,
@@ -142,7 +161,7 @@ public class UnidentifiedItemIconFeature extends Feature {
                 VerticalAlignment verticalAlignment) {
             int padding = 0;
             int paddedDims = 16 - padding - padding;
-            return (poseStack, x, y, z, gearType, textColor) -> {
+            return (poseStack, bufferSource, x, y, z, gearType, textColor) -> {
                 poseStack.pushPose();
                 poseStack.translate(0, 0, z);
                 StyledText text = textMap.apply(gearType);
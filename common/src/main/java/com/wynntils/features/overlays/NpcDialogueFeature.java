@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.overlays;
@@ -28,8 +28,6 @@ import com.wynntils.utils.mc.McUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import net.minecraft.ChatFormatting;
@@ -74,7 +72,6 @@ public class NpcDialogueFeature extends Feature {
     @Persisted
     public final Config<Integer> dialogAutoProgressAdditionalTimePerWord = new Config<>(300); // Milliseconds
 
-    private final ScheduledExecutorService autoProgressExecutor = Executors.newSingleThreadScheduledExecutor();
     private ScheduledFuture<?> scheduledAutoProgressKeyPress = null;
 
     // Normal mode
@@ -160,10 +157,10 @@ public class NpcDialogueFeature extends Feature {
         if (!(e.getPacket() instanceof ServerboundPlayerCommandPacket packet)) return;
         if (packet.getAction() != ServerboundPlayerCommandPacket.Action.PRESS_SHIFT_KEY) return;
 
-        scheduledAutoProgressKeyPress.cancel(true);
+        scheduledAutoProgressKeyPress.cancel(false);
 
         // Must be scheduled, can't be sent immediately
-        autoProgressExecutor.schedule(
+        Managers.Executor.schedule(
                 () -> McUtils.sendPacket(new ServerboundPlayerCommandPacket(
                         McUtils.player(), ServerboundPlayerCommandPacket.Action.RELEASE_SHIFT_KEY)),
                 100,
@@ -189,7 +186,7 @@ public class NpcDialogueFeature extends Feature {
     public void cancelAutoProgress() {
         if (scheduledAutoProgressKeyPress == null) return;
 
-        scheduledAutoProgressKeyPress.cancel(true);
+        scheduledAutoProgressKeyPress.cancel(false);
 
         // Also reset the auto progress container
         resetAutoProgressContainer();
@@ -202,7 +199,7 @@ public class NpcDialogueFeature extends Feature {
     private ScheduledFuture<?> scheduledSneakPress(List<StyledText> dialogue) {
         long delay = Models.NpcDialogue.calculateMessageReadTime(dialogue);
 
-        return autoProgressExecutor.schedule(
+        return Managers.Executor.schedule(
                 () -> McUtils.sendPacket(new ServerboundPlayerCommandPacket(
                         McUtils.player(), ServerboundPlayerCommandPacket.Action.PRESS_SHIFT_KEY)),
                 delay,
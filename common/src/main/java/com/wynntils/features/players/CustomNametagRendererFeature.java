@@ -11,45 +11,37 @@ import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.config.Category;
 import com.wynntils.core.persisted.config.Config;
 import com.wynntils.core.persisted.config.ConfigCategory;
-import com.wynntils.core.text.PartStyle;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.event.EntityNameTagRenderEvent;
 import com.wynntils.mc.event.GetCameraEntityEvent;
 import com.wynntils.mc.event.PlayerNametagRenderEvent;
 import com.wynntils.mc.event.RenderLevelEvent;
 import com.wynntils.mc.extension.EntityRenderStateExtension;
-import com.wynntils.models.gear.type.GearInfo;
-import com.wynntils.models.players.WynntilsUser;
-import com.wynntils.models.players.type.AccountType;
+import com.wynntils.models.gear.event.GearInfoReloadedEvent;
+import com.wynntils.models.players.type.NametagState;
 import com.wynntils.screens.playerviewer.PlayerViewerScreen;
 import com.wynntils.services.leaderboard.type.LeaderboardBadge;
 import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.mc.type.EquipmentSnapshot;
 import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
-import com.wynntils.utils.wynn.ItemUtils;
+import com.wynntils.utils.type.StateKeyedCache;
 import com.wynntils.utils.wynn.RaycastUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import net.minecraft.ChatFormatting;
+import java.util.UUID;
 import net.minecraft.client.gui.screens.ChatScreen;
 import net.minecraft.client.player.AbstractClientPlayer;
-import net.minecraft.client.player.LocalPlayer;
-import net.minecraft.network.chat.Component;
-import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
 
 @ConfigCategory(Category.PLAYERS)
 public class CustomNametagRendererFeature extends Feature {
-    // how much larger account tags should be relative to gear lines
-    private static final float ACCOUNT_TYPE_MULTIPLIER = 1.5f;
     private static final float NAMETAG_HEIGHT = 0.25875f;
     private static final float BADGE_MARGIN = 2;
     private static final int BADGE_SCROLL_SPEED = 40;
-    private static final String WYNNTILS_LOGO = "⛨"; // Well, at least it's a shield...
+    private static final int MAX_CACHED_NAMETAGS = 256;
 
     @Persisted
     public final Config<Boolean> hideAllNametags = new Config<>(false);
@@ -78,6 +70,10 @@ public class CustomNametagRendererFeature extends Feature {
     @Persisted
     public final Config<Float> customNametagScale = new Config<>(0.5f);
 
+    // The nametag lines of each player, built again only when their equipment, user data or name changes
+    private final StateKeyedCache<UUID, NametagState, List<NametagState.Line>> nametagModels =
+            new StateKeyedCache<>(MAX_CACHED_NAMETAGS);
+
     private Player hitPlayerCache = null;
 
     @SubscribeEvent
@@ -97,13 +93,7 @@ public class CustomNametagRendererFeature extends Feature {
             return;
         }
 
-        List<CustomNametag> nametags = new ArrayList<>();
-
-        if (showGearOnHover.get()) {
-            addGearNametags(event, nametags);
-        }
-
-        addAccountTypeNametag(event, nametags);
+        List<NametagState.Line> nametags = getNametags(event, player);
 
         // need to handle the rendering ourselves
         if (!nametags.isEmpty()) {
@@ -114,6 +104,12 @@ public class CustomNametagRendererFeature extends Feature {
         }
     }
 
+    @SubscribeEvent
+    public void onGearInfoReloaded(GearInfoReloadedEvent event) {
+        // Gear lines show the names and tiers of the gear info
+        nametagModels.invalidate();
+    }
+
     @SubscribeEvent
     public void onEntityNameTagRender(EntityNameTagRenderEvent event) {
         if (hideAllNametags.get()) {
@@ -143,79 +139,25 @@ public class CustomNametagRendererFeature extends Feature {
         hitPlayerCache = hitPlayer.orElse(null);
     }
 
-    private void addGearNametags(PlayerNametagRenderEvent event, List<CustomNametag> nametags) {
-        Entity entity = ((EntityRenderStateExtension) event.getEntityRenderState()).getEntity();
-        if (!(entity instanceof AbstractClientPlayer player)) return;
-        LocalPlayer localPlayer = McUtils.player();
-
-        if (hitPlayerCache != player) return;
-
-        if (!Models.Player.isLocalPlayer(localPlayer)) return;
-
-        ItemStack heldItem = hitPlayerCache.getMainHandItem();
-        MutableComponent handComp = getItemComponent(heldItem);
-        if (handComp != null) nametags.add(new CustomNametag(handComp, customNametagScale.get()));
-
-        for (ItemStack armorStack : hitPlayerCache.getArmorSlots()) {
-            MutableComponent armorComp = getItemComponent(armorStack);
-            if (armorComp != null) nametags.add(new CustomNametag(armorComp, customNametagScale.get()));
-        }
+    private List<NametagState.Line> getNametags(PlayerNametagRenderEvent event, AbstractClientPlayer player) {
+        boolean showGear = showGearOnHover.get()
+                && hitPlayerCache == player
+                && Models.Player.isLocalPlayer(McUtils.player());
+        EquipmentSnapshot equipment =
+                showGear ? EquipmentSnapshot.of(player.getMainHandItem(), player.getArmorSlots()) : null;
+
+        NametagState state = new NametagState(
+                equipment,
+                Models.Player.getUser(player.getUUID()),
+                event.getDisplayName(),
+                showWynntilsMarker.get(),
+                customNametagScale.get());
+
+        return nametagModels.get(
+                player.getUUID(), state, () -> state.buildLines(Models.Gear::getGearInfoFromApiName));
     }
 
-    private static MutableComponent getItemComponent(ItemStack itemStack) {
-        if (itemStack == null || itemStack == ItemStack.EMPTY) return null;
-
-        // This must specifically NOT be normalized; the ֎ is significant
-        String gearName = StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting();
-        MutableComponent description = ItemUtils.getNonGearDescription(itemStack, gearName);
-        if (description != null) return description;
-
-        GearInfo gearInfo = Models.Gear.getGearInfoFromApiName(gearName);
-        if (gearInfo == null) return null;
-
-        return Component.literal(gearInfo.name()).withStyle(gearInfo.tier().getChatFormatting());
-    }
-
-    private void addAccountTypeNametag(PlayerNametagRenderEvent event, List<CustomNametag> nametags) {
-        Entity entity = ((EntityRenderStateExtension) event.getEntityRenderState()).getEntity();
-        if (!(entity instanceof AbstractClientPlayer player)) return;
-
-        WynntilsUser user = Models.Player.getUser(player.getUUID());
-        if (user == null) {
-            if (!nametags.isEmpty()) {
-                // We will cancel vanilla rendering, so we must add back the normal vanilla base nametag
-                Component realName = event.getDisplayName();
-                nametags.add(new CustomNametag(realName, 1f));
-            }
-            return;
-        }
-
-        AccountType accountType = user.accountType();
-        if (accountType.getComponent() != null) {
-            nametags.add(
-                    new CustomNametag(accountType.getComponent(), customNametagScale.get() * ACCOUNT_TYPE_MULTIPLIER));
-        }
-
-        // Add an appropriate Wynntils marker
-        Component realName = event.getDisplayName();
-        Component vanillaNametag = realName;
-
-        if (showWynntilsMarker.get()) {
-            StyledText styledText = StyledText.fromComponent(realName);
-            if (styledText.getString(PartStyle.StyleType.NONE).startsWith("[")) {
-                vanillaNametag = Component.literal(WYNNTILS_LOGO)
-                        .withStyle(ChatFormatting.DARK_GRAY)
-                        .append(realName);
-            } else {
-                vanillaNametag = Component.literal(WYNNTILS_LOGO + " ")
-                        .withStyle(ChatFormatting.GRAY)
-                        .append(realName);
-            }
-        }
-        nametags.add(new CustomNametag(vanillaNametag, 1f));
-    }
-
-    private void drawNametags(PlayerNametagRenderEvent event, List<CustomNametag> nametags) {
+    private void drawNametags(PlayerNametagRenderEvent event, List<NametagState.Line> nametags) {
         Entity entity = ((EntityRenderStateExtension) event.getEntityRenderState()).getEntity();
         if (!(entity instanceof AbstractClientPlayer player)) return;
 
@@ -224,9 +166,9 @@ public class CustomNametagRendererFeature extends Feature {
                 hideNametagBackground.get() ? 0 : ((int) (McUtils.options().getBackgroundOpacity(0.25F) * 255f) << 24);
 
         float yOffset = 0f;
-        for (CustomNametag nametag : nametags) {
+        for (NametagState.Line nametag : nametags) {
             // move rendering up to fit the next line, plus a small gap
-            yOffset += nametag.nametagScale() * NAMETAG_HEIGHT;
+            yOffset += nametag.scale() * NAMETAG_HEIGHT;
 
             RenderUtils.renderCustomNametag(
                     event.getPoseStack(),
@@ -235,9 +177,9 @@ public class CustomNametagRendererFeature extends Feature {
                     backgroundColor,
                     event.getEntityRenderDispatcher(),
                     player,
-                    nametag.nametagComponent(),
+                    nametag.component(),
                     event.getFont(),
-                    nametag.nametagScale(),
+                    nametag.scale(),
                     yOffset);
         }
 
@@ -293,6 +235,4 @@ public class CustomNametagRendererFeature extends Feature {
             xOffset += LeaderboardBadge.WIDTH + BADGE_MARGIN;
         }
     }
-
-    private record CustomNametag(Component nametagComponent, float nametagScale) {}
 }
@@ -34,7 +34,7 @@ import com.wynntils.utils.mc.KeyboardUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.TooltipUtils;
 import com.wynntils.utils.render.FontRenderer;
-import com.wynntils.utils.render.RenderUtils;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
 import com.wynntils.utils.type.Pair;
 import com.wynntils.utils.wynn.InventoryUtils;
 import com.wynntils.utils.wynn.ItemUtils;
@@ -50,6 +50,7 @@ import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.inventory.AbstractContainerScreen;
 import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent;
 import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipPositioner;
+import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
@@ -125,12 +126,19 @@ public class ItemCompareFeature extends Feature {
     @SubscribeEvent
     public void onSlotRenderEvent(SlotRenderEvent.Pre event) {
         Slot slot = event.getSlot();
-        drawSelectionArc(event.getPoseStack(), slot.getItem(), slot.x, slot.y, false);
+        drawSelectionArc(
+                event.getPoseStack(), event.getGuiGraphics().bufferSource, slot.getItem(), slot.x, slot.y, false);
     }
 
     @SubscribeEvent
     public void onHotbarSlotRenderEvent(HotbarSlotRenderEvent.Pre event) {
-        drawSelectionArc(event.getPoseStack(), event.getItemStack(), event.getX(), event.getY(), true);
+        drawSelectionArc(
+                event.getPoseStack(),
+                event.getGuiGraphics().bufferSource,
+                event.getItemStack(),
+                event.getX(),
+                event.getY(),
+                true);
     }
 
     @SubscribeEvent(priority = EventPriority.LOW)
@@ -425,11 +433,18 @@ public class ItemCompareFeature extends Feature {
         return I18n.get(key);
     }
 
-    private void drawSelectionArc(PoseStack poseStack, ItemStack itemStack, int slotX, int slotY, boolean hotbar) {
+    private void drawSelectionArc(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            ItemStack itemStack,
+            int slotX,
+            int slotY,
+            boolean hotbar) {
         Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
         if (wynnItemOpt.isEmpty()) return;
         if (isItemStackSelected(itemStack)) {
-            RenderUtils.drawArc(poseStack, CommonColors.LIGHT_BLUE, slotX, slotY, hotbar ? 0 : 200, 1, 6, 8);
+            BufferedRenderUtils.drawArc(
+                    poseStack, bufferSource, CommonColors.LIGHT_BLUE, slotX, slotY, hotbar ? 0 : 200, 1, 6, 8);
         }
     }
 
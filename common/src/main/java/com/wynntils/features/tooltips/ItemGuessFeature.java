@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.tooltips;
@@ -15,11 +15,13 @@ import com.wynntils.core.persisted.config.ConfigCategory;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.event.ItemTooltipRenderEvent;
 import com.wynntils.models.emeralds.type.EmeraldUnits;
+import com.wynntils.models.gear.event.GearInfoReloadedEvent;
 import com.wynntils.models.gear.type.GearInfo;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.items.items.game.GearBoxItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,16 +36,41 @@ public class ItemGuessFeature extends Feature {
     @Persisted
     public final Config<Boolean> showGuessesPrice = new Config<>(true);
 
+    // The finished addon of each gear box, valid for the favorites revision it was built with
+    private final Map<GearBoxItem, List<Component>> tooltipAddonCache = new HashMap<>();
+    private int tooltipAddonRevision = 0;
+
     @SubscribeEvent
     public void onTooltipPre(ItemTooltipRenderEvent.Pre event) {
         Optional<GearBoxItem> gearBoxItemOpt = Models.Item.asWynnItem(event.getItemStack(), GearBoxItem.class);
         if (gearBoxItemOpt.isEmpty()) return;
 
         List<Component> tooltips = LoreUtils.appendTooltip(
-                event.getItemStack(), event.getTooltips(), getTooltipAddon(gearBoxItemOpt.get()));
+                event.getItemStack(), event.getTooltips(), getCachedTooltipAddon(gearBoxItemOpt.get()));
         event.setTooltips(tooltips);
     }
 
+    @SubscribeEvent
+    public void onGearInfoReloaded(GearInfoReloadedEvent event) {
+        tooltipAddonCache.clear();
+    }
+
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        tooltipAddonCache.clear();
+    }
+
+    private List<Component> getCachedTooltipAddon(GearBoxItem gearBoxItem) {
+        // Favorites are underlined in the addon
+        int favoritesRevision = Services.Favorites.getRevision();
+        if (tooltipAddonRevision != favoritesRevision) {
+            tooltipAddonCache.clear();
+            tooltipAddonRevision = favoritesRevision;
+        }
+
+        return tooltipAddonCache.computeIfAbsent(gearBoxItem, this::getTooltipAddon);
+    }
+
     private List<Component> getTooltipAddon(GearBoxItem gearBoxItem) {
         List<Component> addon = new ArrayList<>();
         List<GearInfo> possibleGear = Models.Gear.getPossibleGears(gearBoxItem);
@@ -1,10 +1,11 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.features.utilities;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.features.Feature;
 import com.wynntils.core.consumers.features.properties.StartDisabled;
@@ -18,6 +19,7 @@ import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
 import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.models.npcdialogue.event.NpcDialogueProcessingEvent;
 import com.wynntils.services.translation.TranslationService;
+import com.wynntils.services.translation.type.TranslationProvider;
 import com.wynntils.utils.mc.McUtils;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,33 +89,26 @@ public class TranslationFeature extends Feature {
         event.addProcessingStep(future -> future.thenCompose(styledTexts -> {
             if (styledTexts.isEmpty()) return CompletableFuture.completedFuture(styledTexts);
 
+            TranslationProvider translator = Services.Translation.getTranslator(translationService.get());
+            if (translator == null) return CompletableFuture.completedFuture(styledTexts);
+
+            List<String> codedTexts = styledTexts.stream().map(this::wrapCoding).toList();
+
+            // Dialogue is often repeated, so skip the async job entirely if we already know the translation
+            List<String> cachedTranslation = translator.getCachedTranslation(codedTexts, languageName.get());
+            if (cachedTranslation != null) {
+                return CompletableFuture.completedFuture(createTranslatedDialogue(styledTexts, cachedTranslation));
+            }
+
             CompletableFuture<List<StyledText>> translationFuture = new CompletableFuture<>();
 
-            CompletableFuture.runAsync(() -> {
+            Managers.Executor.runIo(() -> {
                 try {
-                    Services.Translation.getTranslator(translationService.get())
-                            .translate(
-                                    styledTexts.stream().map(this::wrapCoding).toList(),
-                                    languageName.get(),
-                                    translatedMsgList -> {
-                                        List<StyledText> translatedComponents = new ArrayList<>();
-
-                                        // Add the original message if requested
-                                        if (keepOriginal.get()) {
-                                            translatedComponents.addAll(styledTexts);
-                                        }
-
-                                        // Add the translated message
-                                        for (int i = 0; i < translatedMsgList.size(); i++) {
-                                            String result = translatedMsgList.get(i);
-                                            StyledText originalText = styledTexts.get(i);
-
-                                            StyledText messageToSend = unwrapCoding(result, originalText);
-                                            translatedComponents.add(messageToSend);
-                                        }
-
-                                        translationFuture.complete(translatedComponents);
-                                    });
+                    translator.translate(
+                            codedTexts,
+                            languageName.get(),
+                            translatedMsgList ->
+                                    translationFuture.complete(createTranslatedDialogue(styledTexts, translatedMsgList)));
                 } catch (Exception e) {
                     WynntilsMod.error("Failed to translate NPC dialogue.", e);
                     translationFuture.complete(styledTexts);
@@ -124,6 +119,26 @@ public class TranslationFeature extends Feature {
         }));
     }
 
+    private List<StyledText> createTranslatedDialogue(List<StyledText> styledTexts, List<String> translatedMsgList) {
+        List<StyledText> translatedComponents = new ArrayList<>();
+
+        // Add the original message if requested
+        if (keepOriginal.get()) {
+            translatedComponents.addAll(styledTexts);
+        }
+
+        // Add the translated message
+        for (int i = 0; i < translatedMsgList.size(); i++) {
+            String result = translatedMsgList.get(i);
+            StyledText originalText = styledTexts.get(i);
+
+            StyledText messageToSend = unwrapCoding(result, originalText);
+            translatedComponents.add(messageToSend);
+        }
+
+        return translatedComponents;
+    }
+
     private StyledText unwrapCoding(String codedTranslatedString, StyledText originalText) {
         // Some translated text (e.g. from pt_br) contains special characters.
         // These will need to be stripped or converted, which is not ideal but better than nothing.
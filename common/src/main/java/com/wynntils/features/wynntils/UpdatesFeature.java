@@ -36,7 +36,7 @@ public class UpdatesFeature extends Feature {
     public void onWorldStateChange(WorldStateEvent event) {
         if (!event.isFirstJoinWorld()) return;
 
-        CompletableFuture.runAsync(() -> Services.Update.getLatestBuild()
+        Managers.Executor.runIo(() -> Services.Update.getLatestBuild()
                 .whenCompleteAsync((updateInfo, throwable) -> Managers.TickScheduler.scheduleNextTick(() -> {
                     if (updateInfo.version() == null) {
                         WynntilsMod.info(
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.actionbar;
@@ -15,8 +15,8 @@ import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.type.IterationDecision;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -31,6 +31,12 @@ public final class ActionBarHandler extends Handler {
     private static final FallBackSegmentMatcher FALLBACK_SEGMENT_MATCHER = new FallBackSegmentMatcher();
 
     private final List<ActionBarSegmentMatcher> segmentMatchers = new ArrayList<>();
+    private final ActionBarSegmenter segmenter = new ActionBarSegmenter(segmentMatchers, FALLBACK_SEGMENT_MATCHER);
+
+    // The last received packet, and the texts separated from it
+    private Component lastPacketMessage = null;
+    private StyledText lastActionBarText = StyledText.EMPTY;
+    private StyledText lastCoordinatesText = StyledText.EMPTY;
 
     private StyledText lastParsedActionBarText = StyledText.EMPTY;
     private List<ActionBarSegment> lastMatchedSegments = new ArrayList<>();
@@ -43,39 +49,55 @@ public final class ActionBarHandler extends Handler {
     public void onActionBarUpdate(ChatPacketReceivedEvent.GameInfo event) {
         // FIXME: Reverse dependency!
         if (Models.WorldState.onWorld()) {
-            StyledText packetText = StyledText.fromComponent(event.getMessage());
+            Component message = event.getMessage();
 
-            // Separate the action bar text from the coordinates
-            StyledText actionBarText = packetText.iterate((part, changes) -> {
-                if (!ACTION_BAR_FONT.equals(part.getPartStyle().getFont())) {
-                    changes.remove(part);
-                }
+            StyledText actionBarText;
+            StyledText coordinatesText;
 
-                return IterationDecision.CONTINUE;
-            });
+            // The server resends the action bar every few ticks, usually without any changes
+            if (message == lastPacketMessage || message.equals(lastPacketMessage)) {
+                actionBarText = lastActionBarText;
+                coordinatesText = lastCoordinatesText;
+            } else {
+                StyledText packetText = StyledText.fromComponent(message);
 
-            StyledText coordinatesText = packetText.iterate((part, changes) -> {
-                if (!COORDINATES_FONT.equals(part.getPartStyle().getFont())) {
-                    changes.remove(part);
-                }
+                // Separate the action bar text from the coordinates
+                actionBarText = packetText.iterate((part, changes) -> {
+                    if (!ACTION_BAR_FONT.equals(part.getPartStyle().getFont())) {
+                        changes.remove(part);
+                    }
 
-                return IterationDecision.CONTINUE;
-            });
+                    return IterationDecision.CONTINUE;
+                });
 
-            if (actionBarText.isEmpty()) {
-                WynntilsMod.warn("Failed to find action bar text in packet: " + packetText.getString());
-                return;
+                coordinatesText = packetText.iterate((part, changes) -> {
+                    if (!COORDINATES_FONT.equals(part.getPartStyle().getFont())) {
+                        changes.remove(part);
+                    }
+
+                    return IterationDecision.CONTINUE;
+                });
+
+                if (actionBarText.isEmpty()) {
+                    WynntilsMod.warn("Failed to find action bar text in packet: " + packetText.getString());
+                    return;
+                }
+
+                lastPacketMessage = message;
+                lastActionBarText = actionBarText;
+                lastCoordinatesText = coordinatesText;
             }
 
             List<ActionBarSegment> matchedSegments;
 
             // Skip parsing if the action bar text is the same as the last parsed one
-            if (lastParsedActionBarText.equals(packetText)) {
+            // (only the coordinates may have changed)
+            if (lastParsedActionBarText.equals(actionBarText)) {
                 matchedSegments = lastMatchedSegments;
             } else {
                 matchedSegments = parseActionBarSegments(actionBarText);
 
-                lastParsedActionBarText = packetText;
+                lastParsedActionBarText = actionBarText;
                 lastMatchedSegments = matchedSegments;
 
                 if (WynntilsMod.isDevelopmentBuild() || WynntilsMod.isDevelopmentEnvironment()) {
@@ -126,29 +148,15 @@ public final class ActionBarHandler extends Handler {
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
+        lastPacketMessage = null;
+        lastActionBarText = StyledText.EMPTY;
+        lastCoordinatesText = StyledText.EMPTY;
         lastParsedActionBarText = StyledText.EMPTY;
         lastMatchedSegments = new ArrayList<>();
     }
 
     public List<ActionBarSegment> parseActionBarSegments(StyledText actionBarText) {
-        List<ActionBarSegment> matchedSegments = new ArrayList<>();
-
-        for (ActionBarSegmentMatcher segmentMatcher : segmentMatchers) {
-            ActionBarSegment parsedSegment =
-                    segmentMatcher.parse(actionBarText.getString().replaceAll("%", ""));
-            if (parsedSegment == null) continue;
-
-            matchedSegments.add(parsedSegment);
-            actionBarText = actionBarText.replaceFirst(parsedSegment.getSegmentText(), "%");
-        }
-
-        // Check if there is any leftover text, add them as separate fallback segments
-        // (as we could be missing a segment matcher in separate, not continuous parts of the action bar text)
-        Arrays.stream(actionBarText.split("%"))
-                .filter(text -> !text.isEmpty())
-                .forEach(part -> matchedSegments.add(FALLBACK_SEGMENT_MATCHER.parse(part.getString())));
-
-        return matchedSegments;
+        return segmenter.segment(actionBarText.getString());
     }
 
     private static void debugChecks(List<ActionBarSegment> matchedSegments, StyledText actionBarText) {
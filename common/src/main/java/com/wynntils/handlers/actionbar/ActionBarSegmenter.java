@@ -0,0 +1,87 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.actionbar;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits an action bar string into segments, using the registered matchers in order.
+ * <p>
+ * Each matcher sees the action bar with the spans of the previously matched segments removed. The spans are
+ * tracked as positions in the original string, so the text is never re-rendered or regex-replaced between
+ * matchers. Any text not claimed by a matcher is handed to the fallback matcher, one segment per continuous run.
+ */
+public final class ActionBarSegmenter {
+    // Literal placeholder character that never reaches the matchers, kept for compatibility with older parsing
+    private static final char PLACEHOLDER = '%';
+
+    private final List<ActionBarSegmentMatcher> segmentMatchers;
+    private final ActionBarSegmentMatcher fallbackMatcher;
+
+    public ActionBarSegmenter(List<ActionBarSegmentMatcher> segmentMatchers, ActionBarSegmentMatcher fallbackMatcher) {
+        this.segmentMatchers = segmentMatchers;
+        this.fallbackMatcher = fallbackMatcher;
+    }
+
+    public List<ActionBarSegment> segment(String actionBar) {
+        List<ActionBarSegment> matchedSegments = new ArrayList<>();
+
+        boolean[] consumed = new boolean[actionBar.length()];
+        for (int i = 0; i < actionBar.length(); i++) {
+            consumed[i] = actionBar.charAt(i) == PLACEHOLDER;
+        }
+
+        int[] offsets = new int[actionBar.length()];
+        String remaining = buildRemaining(actionBar, consumed, offsets);
+
+        for (ActionBarSegmentMatcher segmentMatcher : segmentMatchers) {
+            ActionBarSegment parsedSegment = segmentMatcher.parse(remaining);
+            if (parsedSegment == null) continue;
+
+            matchedSegments.add(parsedSegment);
+
+            String segmentText = parsedSegment.getSegmentText();
+            int start = remaining.indexOf(segmentText);
+            // The matcher produced text that is not part of the action bar, there is nothing to remove
+            if (start == -1 || segmentText.isEmpty()) continue;
+
+            for (int i = start; i < start + segmentText.length(); i++) {
+                consumed[offsets[i]] = true;
+            }
+
+            remaining = buildRemaining(actionBar, consumed, offsets);
+        }
+
+        // Check if there is any leftover text, add them as separate fallback segments
+        // (as we could be missing a segment matcher in separate, not continuous parts of the action bar text)
+        int runStart = -1;
+        for (int i = 0; i <= actionBar.length(); i++) {
+            boolean free = i < actionBar.length() && !consumed[i];
+
+            if (free && runStart == -1) {
+                runStart = i;
+            } else if (!free && runStart != -1) {
+                matchedSegments.add(fallbackMatcher.parse(actionBar.substring(runStart, i)));
+                runStart = -1;
+            }
+        }
+
+        return matchedSegments;
+    }
+
+    private static String buildRemaining(String actionBar, boolean[] consumed, int[] offsets) {
+        StringBuilder builder = new StringBuilder(actionBar.length());
+
+        for (int i = 0; i < actionBar.length(); i++) {
+            if (consumed[i]) continue;
+
+            offsets[builder.length()] = i;
+            builder.append(actionBar.charAt(i));
+        }
+
+        return builder.toString();
+    }
+}
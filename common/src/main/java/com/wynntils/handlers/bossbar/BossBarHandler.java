@@ -9,16 +9,10 @@ import com.wynntils.core.components.Handler;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.bossbar.event.BossBarAddedEvent;
 import com.wynntils.mc.event.BossHealthUpdateEvent;
-import com.wynntils.utils.type.Pair;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import net.minecraft.client.gui.components.LerpingBossEvent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundBossEventPacket;
@@ -26,11 +20,10 @@ import net.minecraft.world.BossEvent;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class BossBarHandler extends Handler {
-    private final Map<UUID, TrackedBar> presentBars = new HashMap<>();
-    private final List<TrackedBar> knownBars = new ArrayList<>();
+    private final TrackedBarDispatcher dispatcher = new TrackedBarDispatcher();
 
     public void registerBar(TrackedBar trackedBar) {
-        knownBars.add(trackedBar);
+        dispatcher.register(trackedBar);
     }
 
     // FixPacketBugsFeature gets in the way if receiveCanceled is not set
@@ -58,11 +51,12 @@ public final class BossBarHandler extends Handler {
                 boolean darkenScreen,
                 boolean playMusic,
                 boolean createWorldFog) {
-            Optional<Pair<TrackedBar, Matcher>> trackedBarOpt = matchBar(name);
-            if (trackedBarOpt.isEmpty()) return;
+            Optional<TrackedBarDispatcher.BarMatch> barMatchOpt =
+                    dispatcher.matchNewBar(id, StyledText.fromComponent(name).getString());
+            if (barMatchOpt.isEmpty()) return;
 
-            TrackedBar trackedBar = trackedBarOpt.get().a();
-            Matcher matcher = trackedBarOpt.get().b();
+            TrackedBar trackedBar = barMatchOpt.get().trackedBar();
+            Matcher matcher = barMatchOpt.get().matcher();
 
             LerpingBossEvent bossEvent =
                     new LerpingBossEvent(id, name, progress, color, overlay, darkenScreen, playMusic, createWorldFog);
@@ -81,12 +75,10 @@ public final class BossBarHandler extends Handler {
 
             trackedBar.onUpdateName(matcher);
             trackedBar.onUpdateProgress(progress);
-
-            presentBars.put(id, trackedBar);
         }
 
         private void handleBarUpdate(UUID id, Consumer<TrackedBar> consumer) {
-            TrackedBar trackedBar = presentBars.get(id);
+            TrackedBar trackedBar = dispatcher.getPresentBar(id);
 
             if (trackedBar != null) {
                 if (!trackedBar.isRendered()) {
@@ -97,20 +89,11 @@ public final class BossBarHandler extends Handler {
             }
         }
 
-        private Optional<Pair<TrackedBar, Matcher>> matchBar(Component name) {
-            return knownBars.stream()
-                    .flatMap(trackedBar -> trackedBar.patterns.stream().map(pattern -> new Pair<>(trackedBar, pattern)))
-                    .map(pair ->
-                            new Pair<>(pair.a(), StyledText.fromComponent(name).getMatcher(pair.b())))
-                    .filter(pair -> pair.b().matches())
-                    .findFirst();
-        }
-
         @Override
         public void remove(UUID id) {
             handleBarUpdate(id, trackedBar -> {
                 trackedBar.reset();
-                presentBars.remove(id);
+                dispatcher.removePresentBar(id);
             });
         }
 
@@ -124,25 +107,21 @@ public final class BossBarHandler extends Handler {
 
         @Override
         public void updateName(UUID id, Component name) {
+            String nameString = StyledText.fromComponent(name).getString();
+
             // Some bars like the skip cutscene bar start out as an empty component and set the name later
-            if (!presentBars.containsKey(id)) {
-                Optional<Pair<TrackedBar, Matcher>> trackedBarOpt = matchBar(name);
-                trackedBarOpt.ifPresent(trackedBarMatcherPair -> presentBars.put(id, trackedBarMatcherPair.a()));
+            if (!dispatcher.isPresent(id)) {
+                dispatcher.matchNewBar(id, nameString);
             }
 
             handleBarUpdate(id, trackedBar -> {
-                StyledText nameText = StyledText.fromComponent(name);
-
-                for (Pattern pattern : trackedBar.patterns) {
-                    Matcher matcher = nameText.getMatcher(pattern);
-                    if (matcher.matches()) {
-                        trackedBar.onUpdateName(matcher);
-                        return;
-                    }
+                Optional<Matcher> matcherOpt = dispatcher.matchPresentBar(id, nameString);
+                if (matcherOpt.isEmpty()) {
+                    WynntilsMod.error("Failed to match already matched boss bar");
+                    return;
                 }
 
-                WynntilsMod.error("Failed to match already matched boss bar");
-                return;
+                trackedBar.onUpdateName(matcherOpt.get());
             });
         }
 
@@ -0,0 +1,200 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.bossbar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which tracked bar a boss bar belongs to.
+ * <p>
+ * New bars are only matched against the patterns whose literal prefix the bar name starts with. Once a bar is
+ * matched, its owner and pattern are remembered by bar UUID, so name updates only run that pattern again, and
+ * only fall back to the other patterns of the owner when the name stops starting with its literal prefix.
+ */
+public final class TrackedBarDispatcher {
+    // The length of the name prefix used to look up candidate patterns
+    private static final int KEY_LENGTH = 2;
+
+    private final List<BarPattern> barPatterns = new ArrayList<>();
+    private final Map<UUID, BarPattern> presentBars = new HashMap<>();
+
+    // Built on first use after a bar is registered
+    private Map<String, List<BarPattern>> keyedCandidates = null;
+    private List<BarPattern> unkeyedCandidates = null;
+
+    public void register(TrackedBar trackedBar) {
+        for (Pattern pattern : trackedBar.patterns) {
+            barPatterns.add(new BarPattern(trackedBar, pattern, getLiteralPrefix(pattern)));
+        }
+
+        keyedCandidates = null;
+        unkeyedCandidates = null;
+    }
+
+    /**
+     * Matches the name against all tracked bars, and remembers the matching bar for the UUID.
+     */
+    public Optional<BarMatch> matchNewBar(UUID id, String name) {
+        for (BarPattern barPattern : getCandidates(name)) {
+            if (!name.startsWith(barPattern.prefix())) continue;
+
+            Matcher matcher = barPattern.pattern().matcher(name);
+            if (matcher.matches()) {
+                presentBars.put(id, barPattern);
+                return Optional.of(new BarMatch(barPattern.trackedBar(), matcher));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Matches the name against the patterns of the tracked bar that owns the UUID, starting with the pattern that
+     * matched last.
+     */
+    public Optional<Matcher> matchPresentBar(UUID id, String name) {
+        BarPattern lastPattern = presentBars.get(id);
+        if (lastPattern == null) return Optional.empty();
+
+        if (name.startsWith(lastPattern.prefix())) {
+            Matcher matcher = lastPattern.pattern().matcher(name);
+            if (matcher.matches()) return Optional.of(matcher);
+        }
+
+        // The name changed shape, try the other patterns of the same bar
+        for (BarPattern barPattern : barPatterns) {
+            if (barPattern.trackedBar() != lastPattern.trackedBar() || barPattern == lastPattern) continue;
+            if (!name.startsWith(barPattern.prefix())) continue;
+
+            Matcher matcher = barPattern.pattern().matcher(name);
+            if (matcher.matches()) {
+                presentBars.put(id, barPattern);
+                return Optional.of(matcher);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public TrackedBar getPresentBar(UUID id) {
+        BarPattern barPattern = presentBars.get(id);
+        return barPattern == null ? null : barPattern.trackedBar();
+    }
+
+    public boolean isPresent(UUID id) {
+        return presentBars.containsKey(id);
+    }
+
+    public void removePresentBar(UUID id) {
+        presentBars.remove(id);
+    }
+
+    private List<BarPattern> getCandidates(String name) {
+        if (keyedCandidates == null) {
+            buildCandidates();
+        }
+
+        if (name.length() < KEY_LENGTH) return unkeyedCandidates;
+
+        return keyedCandidates.getOrDefault(name.substring(0, KEY_LENGTH), unkeyedCandidates);
+    }
+
+    private void buildCandidates() {
+        keyedCandidates = new HashMap<>();
+        unkeyedCandidates = new ArrayList<>();
+
+        // Every list keeps registration order, so the first registered bar still wins
+        for (BarPattern barPattern : barPatterns) {
+            if (barPattern.prefix().length() < KEY_LENGTH) {
+                unkeyedCandidates.add(barPattern);
+                keyedCandidates.values().forEach(candidates -> candidates.add(barPattern));
+            } else {
+                keyedCandidates
+                        .computeIfAbsent(
+                                barPattern.prefix().substring(0, KEY_LENGTH), key -> new ArrayList<>(unkeyedCandidates))
+                        .add(barPattern);
+            }
+        }
+    }
+
+    /**
+     * @return The text every match of the pattern starts with, or an empty string if that can not be told from the
+     * pattern source
+     */
+    private static String getLiteralPrefix(Pattern pattern) {
+        if (pattern.flags() != 0) return "";
+
+        String source = pattern.pattern();
+        if (hasTopLevelAlternation(source)) return "";
+
+        StringBuilder prefix = new StringBuilder();
+        int i = source.startsWith("^") ? 1 : 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            int start;
+            int next;
+
+            if (c == '\\') {
+                // Escaped symbols are literals, escaped letters and digits are classes or references
+                if (i + 1 >= source.length() || Character.isLetterOrDigit(source.charAt(i + 1))) break;
+
+                start = i + 1;
+                next = i + 2;
+            } else if ("[](){}.*+?^$|".indexOf(c) != -1) {
+                break;
+            } else {
+                start = i;
+                // A quantifier after a surrogate pair applies to the whole code point
+                next = Character.isHighSurrogate(c) && i + 1 < source.length() ? i + 2 : i + 1;
+            }
+
+            // A quantifier makes the literal before it optional or repeated
+            if (next < source.length() && "*+?{".indexOf(source.charAt(next)) != -1) break;
+
+            prefix.append(source, start, next);
+            i = next;
+        }
+
+        return prefix.toString();
+    }
+
+    private static boolean hasTopLevelAlternation(String source) {
+        int depth = 0;
+        boolean inClass = false;
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                if (c == ']') {
+                    inClass = false;
+                }
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public record BarMatch(TrackedBar trackedBar, Matcher matcher) {}
+
+    private record BarPattern(TrackedBar trackedBar, Pattern pattern, String prefix) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.item;
@@ -10,4 +10,11 @@ import net.minecraft.world.item.ItemStack;
 @FunctionalInterface
 public interface ItemAnnotator {
     ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name);
+
+    /**
+     * @return the items this annotator can possibly annotate, other items are never passed to it
+     */
+    default ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.ANY;
+    }
 }
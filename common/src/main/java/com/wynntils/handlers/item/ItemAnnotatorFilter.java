@@ -0,0 +1,40 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.item;
+
+import java.util.Arrays;
+import java.util.Set;
+import net.minecraft.world.item.Item;
+
+/**
+ * A cheap pre-check for the items an {@link ItemAnnotator} can possibly annotate, based on the item type and the
+ * formatting code the item name starts with. Annotators are not asked for items their filter rejects, so a filter
+ * must never reject an item the annotator would annotate.
+ *
+ * @param items          the item types the annotator accepts, or empty for any item type
+ * @param nameColorCodes the formatting codes (the character after the leading '§') the item name can start with,
+ *                       or empty for any name
+ */
+public record ItemAnnotatorFilter(Set<Item> items, String nameColorCodes) {
+    public static final ItemAnnotatorFilter ANY = new ItemAnnotatorFilter(Set.of(), "");
+
+    public static ItemAnnotatorFilter nameColors(String nameColorCodes) {
+        return new ItemAnnotatorFilter(Set.of(), nameColorCodes);
+    }
+
+    public static ItemAnnotatorFilter items(String nameColorCodes, Item... items) {
+        return new ItemAnnotatorFilter(Set.copyOf(Arrays.asList(items)), nameColorCodes);
+    }
+
+    /**
+     * @param item          the item type of the stack
+     * @param nameColorCode the formatting code the name starts with, or 0 if the name starts with plain text
+     */
+    public boolean accepts(Item item, char nameColorCode) {
+        if (!items.isEmpty() && !items.contains(item)) return false;
+
+        return nameColorCodes.isEmpty() || (nameColorCode != 0 && nameColorCodes.indexOf(nameColorCode) != -1);
+    }
+}
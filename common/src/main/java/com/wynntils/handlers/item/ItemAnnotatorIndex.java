@@ -0,0 +1,56 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.item;
+
+import com.wynntils.core.text.StyledText;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Maps item stacks to the annotators that could claim them, in registration order.
+ * <p>
+ * Stacks are classified by their item type and the formatting code their name starts with. The candidate list of
+ * each class is computed once from the {@link ItemAnnotatorFilter}s of the annotators, and reused until the
+ * annotators change.
+ */
+public final class ItemAnnotatorIndex {
+    private final List<ItemAnnotator> annotators;
+    private final Map<StackClass, List<ItemAnnotator>> candidates = new HashMap<>();
+
+    public ItemAnnotatorIndex(List<ItemAnnotator> annotators) {
+        this.annotators = annotators;
+    }
+
+    public List<ItemAnnotator> getCandidates(ItemStack itemStack, StyledText name) {
+        StackClass stackClass = new StackClass(itemStack.getItem(), getNameColorCode(name));
+
+        return candidates.computeIfAbsent(stackClass, key -> annotators.stream()
+                .filter(annotator -> annotator.getFilter().accepts(key.item(), key.nameColorCode()))
+                .toList());
+    }
+
+    /**
+     * Must be called when annotators are added or removed.
+     */
+    public void invalidate() {
+        candidates.clear();
+    }
+
+    public int getClassCount() {
+        return candidates.size();
+    }
+
+    public static char getNameColorCode(StyledText name) {
+        String nameString = name.getString();
+        if (nameString.length() < 2 || nameString.charAt(0) != '§') return 0;
+
+        return nameString.charAt(1);
+    }
+
+    private record StackClass(Item item, char nameColorCode) {}
+}
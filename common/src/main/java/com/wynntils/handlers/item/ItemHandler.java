@@ -44,6 +44,7 @@ public final class ItemHandler extends Handler {
     private static final List<Item> WILDCARD_ITEMS = List.of(Items.DIAMOND_SHOVEL, Items.DIAMOND_PICKAXE);
 
     private final List<ItemAnnotator> annotators = new ArrayList<>();
+    private final ItemAnnotatorIndex annotatorIndex = new ItemAnnotatorIndex(annotators);
     private final Map<Class<?>, Integer> profilingTimes = new HashMap<>();
     private final Map<Class<?>, Integer> profilingCounts = new HashMap<>();
     // Keep this as a field just of performance reasons to skip a new allocation in annotate()
@@ -68,6 +69,7 @@ public final class ItemHandler extends Handler {
 
     public void registerAnnotator(ItemAnnotator annotator) {
         annotators.add(annotator);
+        annotatorIndex.invalidate();
     }
 
     public void updateItem(ItemStack itemStack, ItemAnnotation annotation, StyledText name) {
@@ -286,7 +288,8 @@ public final class ItemHandler extends Handler {
 
         ItemAnnotation annotation = null;
 
-        for (ItemAnnotator annotator : annotators) {
+        // Only ask the annotators that could claim this item
+        for (ItemAnnotator annotator : annotatorIndex.getCandidates(itemStack, simplified)) {
             try {
                 annotation = annotator.getAnnotation(itemStack, simplified);
                 if (annotation != null) {
@@ -309,10 +312,13 @@ public final class ItemHandler extends Handler {
         }
 
         // Hopefully we have none :)
-        for (ItemAnnotator annotator : crashedAnnotators) {
-            annotators.remove(annotator);
+        if (!crashedAnnotators.isEmpty()) {
+            for (ItemAnnotator annotator : crashedAnnotators) {
+                annotators.remove(annotator);
+            }
+            crashedAnnotators.clear();
+            annotatorIndex.invalidate();
         }
-        crashedAnnotators.clear();
 
         if (annotation == null) return null;
 
@@ -19,9 +19,7 @@ import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.mc.type.Location;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.syncher.EntityDataSerializer;
@@ -34,35 +32,40 @@ import net.neoforged.bus.api.SubscribeEvent;
 public final class LabelHandler extends Handler {
     private final List<LabelParser> parsers = new ArrayList<>();
 
-    private final Map<Integer, LabelInfo> liveLabels = new HashMap<>();
+    private final LiveLabelIndex liveLabels = new LiveLabelIndex();
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitySetData(SetEntityDataEvent event) {
+        Entity entity = McUtils.mc().level.getEntity(event.getId());
+        if (entity == null) return;
+
         // Handle the events regarding the Wynncraft 2.1 TextDisplays
-        handleTextDisplayEvents(event);
+        if (entity instanceof Display.TextDisplay textDisplay) {
+            handleTextDisplayEvents(event, textDisplay);
+        }
 
         // Handle the events regarding the entity labels, which are old (usually armor stands)
-        handleEntityLabelEvents(event);
+        handleEntityLabelEvents(event, entity);
     }
 
-    private void handleTextDisplayEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (!(entity instanceof Display.TextDisplay textDisplay)) return;
-
+    private void handleTextDisplayEvents(SetEntityDataEvent event, Display.TextDisplay textDisplay) {
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Display.TextDisplay.DATA_TEXT_ID.id()) {
                 Component oldComponent = textDisplay.getText();
                 Component newComponent = (Component) packedItem.value();
 
+                // Most updates resend the same text, skip those before converting anything
+                if (newComponent.equals(oldComponent)) continue;
+
                 StyledText oldText = StyledText.fromComponent(oldComponent);
                 StyledText newText = StyledText.fromComponent(newComponent);
 
                 // Sometimes there is no actual change; ignore it then
                 if (oldText.equals(newText)) continue;
 
-                LabelInfo labelInfo = tryIdentifyLabel(newText, entity);
+                LabelInfo labelInfo = tryIdentifyLabel(newText, textDisplay);
                 if (labelInfo != null) {
-                    liveLabels.put(entity.getId(), labelInfo);
+                    liveLabels.put(textDisplay.getId(), labelInfo);
                 }
 
                 TextDisplayChangedEvent.Text textChangedEvent =
@@ -88,10 +91,7 @@ public final class LabelHandler extends Handler {
         }
     }
 
-    private void handleEntityLabelEvents(SetEntityDataEvent event) {
-        Entity entity = McUtils.mc().level.getEntity(event.getId());
-        if (entity == null) return;
-
+    private void handleEntityLabelEvents(SetEntityDataEvent event, Entity entity) {
         for (SynchedEntityData.DataValue<?> packedItem : event.getPackedItems()) {
             if (packedItem.id() == Entity.DATA_CUSTOM_NAME_VISIBLE.id()) {
                 WynntilsMod.postEvent(new EntityLabelEvent.Visibility(entity, (Boolean) packedItem.value()));
@@ -103,6 +103,8 @@ public final class LabelHandler extends Handler {
                 if (value.isEmpty()) continue;
 
                 Component oldNameComponent = entity.getCustomName();
+                if (value.get().equals(oldNameComponent)) continue;
+
                 StyledText oldName =
                         oldNameComponent != null ? StyledText.fromComponent(oldNameComponent) : StyledText.EMPTY;
                 StyledText newName = StyledText.fromComponent(value.get());
@@ -118,18 +120,15 @@ public final class LabelHandler extends Handler {
 
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public void onEntitiesRemoved(RemoveEntitiesEvent event) {
-        List<LabelInfo> removedLabels = liveLabels.values().stream()
-                .filter(label -> event.getEntityIds().contains(label.getEntity().getId()))
-                .toList();
+        List<LabelInfo> removedLabels = liveLabels.removeAll(event.getEntityIds());
+        if (removedLabels.isEmpty()) return;
 
-        removedLabels.forEach(label -> liveLabels.remove(label.getEntity().getId()));
         WynntilsMod.postEvent(new LabelsRemovedEvent(removedLabels));
     }
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
-        List<LabelInfo> oldLabels = new ArrayList<>(liveLabels.values());
-        liveLabels.clear();
+        List<LabelInfo> oldLabels = liveLabels.clear();
         WynntilsMod.postEvent(new LabelsRemovedEvent(oldLabels));
     }
 
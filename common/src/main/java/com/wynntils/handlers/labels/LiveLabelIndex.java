@@ -0,0 +1,65 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.labels;
+
+import com.wynntils.handlers.labels.type.LabelInfo;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The identified labels that are currently alive, keyed by the id of their entity.
+ */
+public final class LiveLabelIndex {
+    private final Int2ObjectOpenHashMap<LabelInfo> labels = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Tracks a label, replacing any label previously identified for the same entity.
+     */
+    public void put(int entityId, LabelInfo labelInfo) {
+        labels.put(entityId, labelInfo);
+    }
+
+    public LabelInfo get(int entityId) {
+        return labels.get(entityId);
+    }
+
+    /**
+     * Stops tracking the labels of the given entities.
+     *
+     * @return the removed labels, in the order of the given entity ids
+     */
+    public List<LabelInfo> removeAll(List<Integer> entityIds) {
+        // The removal packet already stores the ids in an IntList, avoid boxing them again
+        IntList ids = entityIds instanceof IntList intList ? intList : new IntArrayList(entityIds);
+
+        List<LabelInfo> removedLabels = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            LabelInfo removedLabel = labels.remove(ids.getInt(i));
+            if (removedLabel != null) {
+                removedLabels.add(removedLabel);
+            }
+        }
+
+        return removedLabels;
+    }
+
+    /**
+     * Stops tracking all labels.
+     *
+     * @return the removed labels
+     */
+    public List<LabelInfo> clear() {
+        List<LabelInfo> removedLabels = new ArrayList<>(labels.values());
+        labels.clear();
+        return removedLabels;
+    }
+
+    public int size() {
+        return labels.size();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.particle;
+
+import com.wynntils.handlers.particle.type.Particle;
+import com.wynntils.handlers.particle.type.ParticleType;
+import com.wynntils.handlers.particle.type.ParticleVerifier;
+import com.wynntils.handlers.particle.type.UnverifiedParticle;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.core.particles.ParticleOptions;
+
+/**
+ * Collects received particles into possible particle shapes, until a shape is verified by its {@link ParticleVerifier}.
+ * <p>
+ * Particles of effects no verifier is interested in are dropped before anything is allocated. Possible shapes that
+ * have not received a particle for {@link #EXPIRY_MILLIS} are discarded, so an incomplete shape does not block the
+ * detection of the next one.
+ */
+public final class ParticleTracker {
+    // All particles of a shape are sent together, so a second without progress means the shape is incomplete
+    public static final long EXPIRY_MILLIS = 1000L;
+
+    private final Map<ParticleType, ParticleVerifier> particleVerifiers = new EnumMap<>(ParticleType.class);
+    private final Set<ParticleOptions> compatibleEffects = new HashSet<>();
+
+    private final List<UnverifiedParticle> unverifiedParticles = new ArrayList<>();
+
+    public void registerParticleVerifier(ParticleType particleType, ParticleVerifier particleVerifier) {
+        particleVerifiers.put(particleType, particleVerifier);
+        compatibleEffects.add(particleType.getCompatibleParticleEffect());
+    }
+
+    public ParticleVerifier getParticleVerifier(ParticleType particleType) {
+        return particleVerifiers.get(particleType);
+    }
+
+    /**
+     * Adds a received particle to the possible particle shapes.
+     *
+     * @return the verified particle, if this particle completed a shape, otherwise null
+     */
+    public Particle addParticle(ParticleOptions particleEffect, double x, double y, double z, long time) {
+        if (!compatibleEffects.contains(particleEffect)) return null;
+
+        unverifiedParticles.removeIf(
+                unverifiedParticle -> time - unverifiedParticle.getLastParticleTime() > EXPIRY_MILLIS);
+
+        // We depend on the fact that particle groups are sent in order:
+        // If we have A and B particle animation, then we will receive all A particles, then all B particles
+        if (unverifiedParticles.isEmpty()) {
+            for (Map.Entry<ParticleType, ParticleVerifier> entry : particleVerifiers.entrySet()) {
+                // Check if the this type is compatible with the particle effect type
+                if (!entry.getKey().getCompatibleParticleEffect().equals(particleEffect)) continue;
+
+                UnverifiedParticle unverifiedParticleOfType =
+                        new UnverifiedParticle(entry.getValue(), particleEffect, time);
+
+                // Check if the particle passes the verifier
+                if (unverifiedParticleOfType.addNewParticle(x, y, z, particleEffect, time)) {
+                    unverifiedParticles.add(unverifiedParticleOfType);
+                }
+            }
+
+            return null;
+        }
+
+        List<UnverifiedParticle> invalidParticles = new ArrayList<>();
+
+        for (UnverifiedParticle unverifiedParticle : unverifiedParticles) {
+            // Check if the this type is compatible with the particle effect type
+            if (!unverifiedParticle.getParticleEffect().equals(particleEffect)) continue;
+
+            // Check if the particle passes the verifier
+            if (unverifiedParticle.addNewParticle(x, y, z, particleEffect, time)) {
+                ParticleVerifier.VerificationResult verificationResult = unverifiedParticle.verifyCompleteness();
+
+                switch (verificationResult) {
+                    case VERIFIED -> {
+                        Particle particle = unverifiedParticle.getParticle();
+
+                        // We have verified this particle, so we can reset the unverified particles
+                        unverifiedParticles.clear();
+                        return particle;
+                    }
+                    case UNVERIFIED -> {
+                        // Do nothing, we will wait for more particles
+                    }
+                    case INVALID -> {
+                        invalidParticles.add(unverifiedParticle);
+                    }
+                }
+            } else {
+                // This must mean that either this particle is invalid or this particle type is not what we are
+                // looking for
+                invalidParticles.add(unverifiedParticle);
+            }
+        }
+
+        unverifiedParticles.removeAll(invalidParticles);
+        return null;
+    }
+
+    public void clear() {
+        unverifiedParticles.clear();
+    }
+}
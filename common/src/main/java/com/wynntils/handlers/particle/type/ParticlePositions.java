@@ -0,0 +1,43 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.particle.type;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
+/**
+ * The positions of the particles received for a possible particle shape, in the order they were received.
+ * <p>
+ * Coordinates are stored unboxed in a single array, so adding a position does not allocate.
+ * They are kept exact, as verifiers check the alignment of specific particles to the block grid.
+ */
+public final class ParticlePositions {
+    private final DoubleArrayList coordinates = new DoubleArrayList();
+
+    public void add(double x, double y, double z) {
+        coordinates.add(x);
+        coordinates.add(y);
+        coordinates.add(z);
+    }
+
+    public int size() {
+        return coordinates.size() / 3;
+    }
+
+    public boolean isEmpty() {
+        return coordinates.isEmpty();
+    }
+
+    public double x(int index) {
+        return coordinates.getDouble(index * 3);
+    }
+
+    public double y(int index) {
+        return coordinates.getDouble(index * 3 + 1);
+    }
+
+    public double z(int index) {
+        return coordinates.getDouble(index * 3 + 2);
+    }
+}
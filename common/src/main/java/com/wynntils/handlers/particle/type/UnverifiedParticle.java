@@ -1,30 +1,29 @@
 /*
- * Copyright © Wynntils 2023.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.handlers.particle.type;
 
-import com.wynntils.core.components.Handlers;
-import java.util.ArrayList;
-import java.util.List;
-import net.minecraft.core.Position;
 import net.minecraft.core.particles.ParticleOptions;
 
 public class UnverifiedParticle {
-    private final ParticleType particleType;
+    private final ParticleVerifier particleVerifier;
     private final ParticleOptions particleEffect;
-    private final List<Position> particles = new ArrayList<>();
+    private final ParticlePositions particles = new ParticlePositions();
+    private long lastParticleTime;
 
-    public UnverifiedParticle(ParticleType particleType, ParticleOptions particleOptions) {
-        this.particleType = particleType;
+    public UnverifiedParticle(ParticleVerifier particleVerifier, ParticleOptions particleOptions, long creationTime) {
+        this.particleVerifier = particleVerifier;
         this.particleEffect = particleOptions;
+        this.lastParticleTime = creationTime;
     }
 
-    public boolean addNewParticle(Position newPosition, ParticleOptions newParticleOption) {
+    public boolean addNewParticle(double x, double y, double z, ParticleOptions newParticleOption, long time) {
         if (newParticleOption != particleEffect) return false;
 
-        if (Handlers.Particle.getParticleVerifier(particleType).verifyNewPosition(particles, newPosition)) {
-            particles.add(newPosition);
+        if (particleVerifier.verifyNewPosition(particles, x, y, z)) {
+            particles.add(x, y, z);
+            lastParticleTime = time;
             return true;
         }
 
@@ -32,14 +31,18 @@ public class UnverifiedParticle {
     }
 
     public ParticleVerifier.VerificationResult verifyCompleteness() {
-        return Handlers.Particle.getParticleVerifier(particleType).verifyCompleteness(particles);
+        return particleVerifier.verifyCompleteness(particles);
     }
 
     public ParticleOptions getParticleEffect() {
         return particleEffect;
     }
 
+    public long getLastParticleTime() {
+        return lastParticleTime;
+    }
+
     public Particle getParticle() {
-        return Handlers.Particle.getParticleVerifier(particleType).getParticle(particles);
+        return particleVerifier.getParticle(particles);
     }
 }
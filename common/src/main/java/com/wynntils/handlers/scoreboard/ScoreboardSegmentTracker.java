@@ -0,0 +1,318 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.scoreboard;
+
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.text.PartStyle;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.scoreboard.type.ScoreboardDiff;
+import com.wynntils.handlers.scoreboard.type.ScoreboardLine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a reconstructed scoreboard into segments, and diffs them against the segments of the previous update.
+ * <p>
+ * Segments whose header and content did not change are kept as they are, so only changed segments have to be
+ * announced again. An update with the same lines as the previous one is skipped. The visibility of the segments can
+ * change without their lines changing, so it is decided again for every segment by {@link #updateVisibility}.
+ */
+public final class ScoreboardSegmentTracker {
+    private static final Pattern NEXT_LINE_PATTERN = Pattern.compile("À+");
+
+    private final List<ScoreboardPart> scoreboardParts;
+    private final ScoreboardPart fallbackPart;
+
+    private List<ScoreboardLine> lastScoreboard = List.of();
+    private List<ScoreboardSegment> segments = List.of();
+    private int rebuildCount = 0;
+
+    public ScoreboardSegmentTracker(List<ScoreboardPart> scoreboardParts, ScoreboardPart fallbackPart) {
+        this.scoreboardParts = scoreboardParts;
+        this.fallbackPart = fallbackPart;
+    }
+
+    public ScoreboardDiff update(List<ScoreboardLine> reconstructedScoreboard) {
+        if (reconstructedScoreboard.equals(lastScoreboard)) return ScoreboardDiff.NO_CHANGES;
+
+        lastScoreboard = List.copyOf(reconstructedScoreboard);
+        rebuildCount++;
+
+        // 1. Verify that the scoreboard is in a semi-valid state
+        // (in a state where we can make sense of it, even if the actual data is still being updated)
+        List<ScoreboardPart> validParts = getValidScoreboardParts(reconstructedScoreboard);
+
+        // 2. Calculate the scoreboard segments
+        List<ScoreboardSegment> calculatedSegments = calculateScoreboardSegments(reconstructedScoreboard, validParts);
+
+        // 3. Diff them against the previous segments
+        List<ScoreboardSegment> oldSegments = segments;
+        List<ScoreboardSegment> unmatchedOldSegments = new ArrayList<>(oldSegments);
+        List<ScoreboardSegment> newSegments = new ArrayList<>();
+        List<ScoreboardSegment> addedSegments = new ArrayList<>();
+
+        for (ScoreboardSegment segment : calculatedSegments) {
+            int oldIndex = findSegmentWithSameContent(unmatchedOldSegments, segment);
+
+            if (oldIndex != -1) {
+                // Keep the old segment, it also carries the visibility it was given when added
+                newSegments.add(unmatchedOldSegments.remove(oldIndex));
+            } else {
+                addedSegments.add(segment);
+                newSegments.add(segment);
+            }
+        }
+
+        List<ScoreboardSegment> removedSegments = new ArrayList<>();
+        for (ScoreboardSegment oldSegment : unmatchedOldSegments) {
+            // Special case for the fallback part, it is never removed
+            if (oldSegment.getScoreboardPart() == fallbackPart) continue;
+
+            if (newSegments.stream()
+                    .noneMatch(segment -> segment.getScoreboardPart() == oldSegment.getScoreboardPart())) {
+                removedSegments.add(oldSegment);
+            }
+        }
+
+        segments = List.copyOf(newSegments);
+
+        boolean reordered = oldSegments.size() != newSegments.size();
+        for (int i = 0; !reordered && i < newSegments.size(); i++) {
+            reordered = oldSegments.get(i) != newSegments.get(i);
+        }
+
+        return new ScoreboardDiff(addedSegments, removedSegments, reordered);
+    }
+
+    /**
+     * Decides the visibility of every current segment again, including the ones that did not change.
+     *
+     * @return whether the visibility of any segment changed
+     */
+    public boolean updateVisibility(Predicate<ScoreboardSegment> isVisible) {
+        boolean changed = false;
+
+        for (ScoreboardSegment segment : segments) {
+            boolean visible = isVisible.test(segment);
+            if (segment.isVisible() == visible) continue;
+
+            segment.setVisibility(visible);
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    public List<ScoreboardSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * @return the number of times the segments were calculated, updates without line changes are not counted
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    public void reset() {
+        lastScoreboard = List.of();
+        segments = List.of();
+    }
+
+    private List<ScoreboardPart> getValidScoreboardParts(List<ScoreboardLine> reconstructedScoreboard) {
+        // The scoreboard is valid if:
+        // 1. There are no duplicate lines
+        // 2. There are no gaps in the scores, and they are decreasing (there are no duplicate scores)
+
+        // We can also check for validness by checking scoreboard parts:
+        // 3. A valid scoreboard always starts with a newline (À)
+        // 4. A scoreboard is valid if it consists of valid segments:
+        //    - A valid segment is a part that starts with a header, then one or more lines, then a footer which is a
+        // newline (À+).
+        //    - The footer is not present if the segment is the last one displayed.
+
+        // 0. An empty scoreboard is valid
+        if (reconstructedScoreboard.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. Check for duplicate lines
+        List<StyledText> lines = new ArrayList<>();
+        for (ScoreboardLine line : reconstructedScoreboard) {
+            if (lines.contains(line.line())) {
+                // We found a duplicate line, so the scoreboard is invalid
+                return List.of();
+            }
+
+            lines.add(line.line());
+        }
+
+        // 2. Check for gaps in the scores
+        int lastScore = reconstructedScoreboard.stream()
+                .map(ScoreboardLine::score)
+                .findFirst()
+                .orElse(0);
+        for (ScoreboardLine line : reconstructedScoreboard.stream().skip(1).toList()) {
+            if (line.score() >= lastScore) {
+                // We found a non strictly decreasing score, so the scoreboard is invalid
+                // Note: lastScore - line.score() should always be 1,
+                //       but during very specific cases during lootruns there can be a gap of 2
+                return List.of();
+            }
+
+            lastScore = line.score();
+        }
+
+        // 3. Check for a new line at the start
+        if (!reconstructedScoreboard.stream()
+                .findFirst()
+                .map(ScoreboardLine::line)
+                .orElse(StyledText.EMPTY)
+                .equals(StyledText.fromString("À"))) {
+            // We did not find a new line at the start, so the scoreboard is invalid
+            return List.of();
+        }
+
+        // 4. Check for segment correctness
+        //    There are 2 error cases here:
+        //       - Fatal error: We find info that makes the current scoreboard invalid
+        //       - "Valid" error: We find an error, but it only makes the current segment invalid, not the scoreboard
+        //                        If we find a segment that is not valid,
+        //                        we return the list of valid segments up to that point.
+        //                        This is a valid case because the scoreboard cannot fit all segments,
+        //                        so it will only display the x lines.
+        int currentIndex = 1;
+        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard.stream().toList();
+
+        List<ScoreboardPart> scoreboardParts = new ArrayList<>();
+        while (currentIndex < scoreboardLines.size()) {
+            ScoreboardPart part = getScoreboardPartForHeader(scoreboardLines.get(currentIndex));
+
+            // We could not find a suitable part for the header
+            if (part == null) {
+                return scoreboardParts;
+            }
+
+            // A part cannot be duplicated unless the scoreboard is invalid (or the part is the fallback part)
+            if (part != fallbackPart && scoreboardParts.contains(part)) {
+                return List.of();
+            }
+
+            // The header can be the last line, but that makes that segment invalid
+            if (currentIndex + 1 == scoreboardLines.size()) {
+                return scoreboardParts;
+            }
+
+            // The next line cannot be the end of this segment
+            // (As it would mean the header has no content)
+            if (scoreboardLines
+                    .get(currentIndex + 1)
+                    .line()
+                    .getMatcher(NEXT_LINE_PATTERN)
+                    .matches()) {
+                return List.of();
+            }
+
+            scoreboardParts.add(part);
+
+            // Find the next segment end
+            for (currentIndex = currentIndex + 1; currentIndex < scoreboardLines.size(); currentIndex++) {
+                ScoreboardLine line = scoreboardLines.get(currentIndex);
+
+                if (line.line().getMatcher(NEXT_LINE_PATTERN).matches()) {
+                    currentIndex++;
+                    break;
+                }
+            }
+        }
+
+        // All checks passed, so the scoreboard is valid
+        // (In theory, this can happen while the scoreboard is still being updated, but it's very unlikely, and we
+        // cannot do anything about it)
+        return scoreboardParts;
+    }
+
+    private List<ScoreboardSegment> calculateScoreboardSegments(
+            List<ScoreboardLine> reconstructedScoreboard, List<ScoreboardPart> validParts) {
+        int currentIndex = 1;
+        List<ScoreboardLine> scoreboardLines = reconstructedScoreboard.stream().toList();
+
+        List<ScoreboardSegment> calculatedSegments = new ArrayList<>();
+
+        int validPartIndex = 0;
+        while (currentIndex < scoreboardLines.size() && validPartIndex < validParts.size()) {
+            ScoreboardLine headerLine = scoreboardLines.get(currentIndex);
+            ScoreboardPart calculatedPart = getScoreboardPartForHeader(headerLine);
+
+            // We could not find a suitable part for the header
+            if (calculatedPart == null) {
+                WynntilsMod.error(
+                        "Scoreboard passed validness check, but we could not find a scoreboard part for the line: "
+                                + scoreboardLines.get(currentIndex).line());
+                return calculatedSegments;
+            }
+
+            // Check if we calculate the same part as during the validation
+            if (calculatedPart != validParts.get(validPartIndex)) {
+                WynntilsMod.error("Scoreboard passed validness check, but the scoreboard part for the line: "
+                        + scoreboardLines.get(currentIndex).line()
+                        + " does not match the valid part: "
+                        + validParts.get(validPartIndex));
+                return calculatedSegments;
+            }
+
+            validPartIndex++;
+
+            List<StyledText> contentLines = new ArrayList<>();
+            for (currentIndex = currentIndex + 1; currentIndex < scoreboardLines.size(); currentIndex++) {
+                ScoreboardLine line = scoreboardLines.get(currentIndex);
+
+                if (line.line().getMatcher(NEXT_LINE_PATTERN).matches()) {
+                    currentIndex++;
+                    break;
+                }
+
+                contentLines.add(line.line());
+            }
+
+            calculatedSegments.add(new ScoreboardSegment(calculatedPart, headerLine.line(), contentLines));
+        }
+
+        return calculatedSegments;
+    }
+
+    private ScoreboardPart getScoreboardPartForHeader(ScoreboardLine scoreboardLine) {
+        String unformattedLine = scoreboardLine.line().getString(PartStyle.StyleType.NONE);
+
+        for (ScoreboardPart part : scoreboardParts) {
+            if (part.getSegmentMatcher()
+                    .headerPattern()
+                    .matcher(unformattedLine)
+                    .matches()) {
+                return part;
+            }
+        }
+
+        return fallbackPart;
+    }
+
+    private static int findSegmentWithSameContent(List<ScoreboardSegment> segments, ScoreboardSegment segment) {
+        for (int i = 0; i < segments.size(); i++) {
+            ScoreboardSegment other = segments.get(i);
+
+            // Unlike equals, this ignores the visibility
+            if (other.getScoreboardPart() == segment.getScoreboardPart()
+                    && Objects.equals(other.getHeader(), segment.getHeader())
+                    && Objects.equals(other.getContent(), segment.getContent())) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.handlers.scoreboard.type;
+
+import com.wynntils.handlers.scoreboard.ScoreboardSegment;
+import java.util.List;
+
+/**
+ * The segment changes of a scoreboard update.
+ *
+ * @param addedSegments   the segments that are new or changed since the previous update
+ * @param removedSegments the segments whose part is no longer on the scoreboard
+ * @param reordered       whether segments that were kept moved to another position
+ */
+public record ScoreboardDiff(
+        List<ScoreboardSegment> addedSegments, List<ScoreboardSegment> removedSegments, boolean reordered) {
+    public static final ScoreboardDiff NO_CHANGES = new ScoreboardDiff(List.of(), List.of(), false);
+
+    public boolean hasChanges() {
+        return reordered || !addedSegments.isEmpty() || !removedSegments.isEmpty();
+    }
+}
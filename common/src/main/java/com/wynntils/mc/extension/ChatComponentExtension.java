@@ -1,11 +1,16 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.extension;
 
+import java.util.List;
+import net.minecraft.client.GuiMessage;
 import net.minecraft.network.chat.Component;
 
 public interface ChatComponentExtension {
     void deleteMessage(Component component);
+
+    // Replaces all messages, oldest first, and lays them out again
+    void replaceMessages(List<GuiMessage> messages);
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
@@ -66,6 +66,15 @@ public abstract class ChatComponentMixin implements ChatComponentExtension {
         refreshTrimmedMessages();
     }
 
+    @Unique
+    @Override
+    public void replaceMessages(List<GuiMessage> messages) {
+        allMessages.clear();
+        // The newest message is the first one
+        messages.forEach(guiMessage -> allMessages.addFirst(guiMessage));
+        refreshTrimmedMessages();
+    }
+
     @Inject(
             method = "render(Lnet/minecraft/client/gui/GuiGraphics;IIIZ)V",
             at =
@@ -1,10 +1,11 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.render.FontRenderer;
 import net.minecraft.client.ResourceLoadStateTracker;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -15,6 +16,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 public abstract class ResourceLoadStateTrackerMixin {
     @Inject(method = "finishReload()V", at = @At("RETURN"))
     private void onResourceManagerReloadPost(CallbackInfo info) {
+        // Fonts are reloaded with the resources, so text measured with the old glyphs is stale
+        FontRenderer.getInstance().invalidateTextLayouts();
+
         // This is the signal that Minecraft has finished loading the initial resources,
         // or a resource pack has been reloaded
         WynntilsMod.onResourcesFinishedLoading();
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.mc.mixin.accessors;
@@ -12,6 +12,9 @@ import org.spongepowered.asm.mixin.gen.Accessor;
 
 @Mixin(ChatComponent.class)
 public interface ChatComponentAccessor {
+    @Accessor("allMessages")
+    List<GuiMessage> getAllMessages();
+
     @Accessor("trimmedMessages")
     List<GuiMessage.Line> getTrimmedMessages();
 }
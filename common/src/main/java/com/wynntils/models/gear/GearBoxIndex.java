@@ -0,0 +1,66 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.gear;
+
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.gear.type.GearTier;
+import com.wynntils.models.gear.type.GearType;
+import com.wynntils.models.wynnitem.type.ItemObtainType;
+import com.wynntils.utils.type.RangedValue;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The gear that can drop from gear boxes, grouped by gear type and tier.
+ * <p>
+ * A new index is built every time the gear registry is loaded, so the candidates of a gear box only have to be
+ * looked up once per load. Candidates are kept in registry order.
+ */
+public final class GearBoxIndex {
+    public static final GearBoxIndex EMPTY = new GearBoxIndex(List.of());
+
+    private final Map<GearType, Map<GearTier, List<GearInfo>>> boxableGear = new EnumMap<>(GearType.class);
+
+    // Gear boxes only come in a few level ranges, so this stays small
+    private final Map<GearBoxKey, List<GearInfo>> possibilitiesCache = new HashMap<>();
+
+    public GearBoxIndex(List<GearInfo> gearInfos) {
+        for (GearInfo gearInfo : gearInfos) {
+            if (!canBeGearBox(gearInfo)) continue;
+
+            boxableGear
+                    .computeIfAbsent(gearInfo.type(), type -> new EnumMap<>(GearTier.class))
+                    .computeIfAbsent(gearInfo.tier(), tier -> new ArrayList<>())
+                    .add(gearInfo);
+        }
+    }
+
+    public static boolean canBeGearBox(GearInfo gear) {
+        // If an item is pre-identified, it cannot be in a gear box
+        // Also check that the item has a source that can drop boxed items
+        return !gear.metaInfo().preIdentified()
+                && gear.metaInfo().obtainInfo().stream()
+                        .anyMatch(x -> ItemObtainType.BOXED_ITEMS.contains(x.sourceType()));
+    }
+
+    public List<GearInfo> getPossibleGears(GearType gearType, GearTier gearTier, RangedValue levelRange) {
+        return possibilitiesCache.computeIfAbsent(
+                new GearBoxKey(gearType, gearTier, levelRange), this::calculatePossibleGears);
+    }
+
+    private List<GearInfo> calculatePossibleGears(GearBoxKey key) {
+        List<GearInfo> candidates =
+                boxableGear.getOrDefault(key.gearType(), Map.of()).getOrDefault(key.gearTier(), List.of());
+
+        return candidates.stream()
+                .filter(gear -> key.levelRange().inRange(gear.requirements().level()))
+                .toList();
+    }
+
+    private record GearBoxKey(GearType gearType, GearTier gearTier, RangedValue levelRange) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.gear;
@@ -10,10 +10,12 @@ import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.net.Dependency;
 import com.wynntils.core.net.DownloadRegistry;
 import com.wynntils.core.net.UrlId;
+import com.wynntils.models.gear.event.GearInfoReloadedEvent;
 import com.wynntils.models.gear.type.GearInfo;
 import com.wynntils.models.gear.type.GearMetaInfo;
 import com.wynntils.models.gear.type.GearRequirements;
@@ -37,6 +39,7 @@ public class GearInfoRegistry {
     private List<GearInfo> gearInfoRegistry = List.of();
     private Map<String, GearInfo> gearInfoLookup = Map.of();
     private Map<String, GearInfo> gearInfoLookupApiName = Map.of();
+    private GearBoxIndex gearBoxIndex = GearBoxIndex.EMPTY;
 
     public void registerDownloads(DownloadRegistry registry) {
         registry.registerDownload(UrlId.DATA_STATIC_GEAR, Dependency.simple(Models.Set, UrlId.DATA_STATIC_ITEM_SETS))
@@ -60,6 +63,10 @@ public class GearInfoRegistry {
         return gearInfoRegistry.stream();
     }
 
+    public GearBoxIndex getGearBoxIndex() {
+        return gearBoxIndex;
+    }
+
     private void handleGearInfo(JsonObject json) {
         Gson gson = new GsonBuilder()
                 .registerTypeHierarchyAdapter(GearInfo.class, new GearInfoDeserializer())
@@ -90,10 +97,15 @@ public class GearInfoRegistry {
             }
         }
 
+        GearBoxIndex boxIndex = new GearBoxIndex(gearRegistry);
+
         // Make the result visisble to the world
         gearInfoRegistry = gearRegistry;
         gearInfoLookup = lookupMap;
         gearInfoLookupApiName = altLookupMap;
+        gearBoxIndex = boxIndex;
+
+        WynntilsMod.postEvent(new GearInfoReloadedEvent());
     }
 
     private static final class GearInfoDeserializer extends AbstractItemInfoDeserializer<GearInfo> {
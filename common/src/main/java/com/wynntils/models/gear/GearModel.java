@@ -20,7 +20,6 @@ import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.wynnitem.parsing.CraftedItemParseResults;
 import com.wynntils.models.wynnitem.parsing.WynnItemParseResult;
 import com.wynntils.models.wynnitem.parsing.WynnItemParser;
-import com.wynntils.models.wynnitem.type.ItemObtainType;
 import com.wynntils.utils.type.CappedValue;
 import java.util.HashMap;
 import java.util.List;
@@ -52,8 +51,6 @@ public final class GearModel extends Model {
 
     private final GearInfoRegistry gearInfoRegistry = new GearInfoRegistry();
 
-    private final Map<GearBoxItem, List<GearInfo>> possibilitiesCache = new HashMap<>();
-
     public GearModel() {
         super(List.of());
     }
@@ -64,28 +61,13 @@ public final class GearModel extends Model {
     }
 
     public List<GearInfo> getPossibleGears(GearBoxItem gearBoxItem) {
-        List<GearInfo> possibilities = possibilitiesCache.get(gearBoxItem);
-        if (possibilities != null) return possibilities;
-
-        List<GearInfo> possibleGear = getAllGearInfos()
-                .filter(gear -> gear.type() == gearBoxItem.getGearType()
-                        && gear.tier() == gearBoxItem.getGearTier()
-                        && canBeGearBox(gear)
-                        && gearBoxItem
-                                .getLevelRange()
-                                .inRange(gear.requirements().level()))
-                .toList();
-        possibilitiesCache.put(gearBoxItem, possibleGear);
-
-        return possibleGear;
+        return gearInfoRegistry
+                .getGearBoxIndex()
+                .getPossibleGears(gearBoxItem.getGearType(), gearBoxItem.getGearTier(), gearBoxItem.getLevelRange());
     }
 
     public boolean canBeGearBox(GearInfo gear) {
-        // If an item is pre-identified, it cannot be in a gear box
-        // Also check that the item has a source that can drop boxed items
-        return !gear.metaInfo().preIdentified()
-                && gear.metaInfo().obtainInfo().stream()
-                        .anyMatch(x -> ItemObtainType.BOXED_ITEMS.contains(x.sourceType()));
+        return GearBoxIndex.canBeGearBox(gear);
     }
 
     // For "real" gear items eg. from the inventory
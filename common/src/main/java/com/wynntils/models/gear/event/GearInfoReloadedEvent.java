@@ -0,0 +1,12 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.gear.event;
+
+import net.neoforged.bus.api.Event;
+
+/**
+ * Fired when the gear database has been (re)loaded, and any data derived from the previous gear infos is stale.
+ */
+public class GearInfoReloadedEvent extends Event {}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.game.AmplifierItem;
 import com.wynntils.utils.MathUtils;
 import java.util.regex.Matcher;
@@ -25,4 +26,9 @@ public final class AmplifierAnnotator implements GameItemAnnotator {
 
         return new AmplifierItem(tier);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("b");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.world.item.ItemStack;
@@ -25,4 +26,9 @@ public final class CharmAnnotator implements GameItemAnnotator {
 
         return Models.Rewards.fromCharmItemStack(itemStack, name, displayName, type);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("5abcdef");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.wynnitem.parsing.WynnItemParser;
 import java.util.regex.Matcher;
 import net.minecraft.world.item.ItemStack;
@@ -20,4 +21,9 @@ public final class CraftedGearAnnotator implements GameItemAnnotator {
 
         return Models.Gear.parseCraftedGearItem(itemStack);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("3");
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -7,10 +7,13 @@ package com.wynntils.models.items.annotators.game;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.emeralds.type.EmeraldUnits;
 import com.wynntils.models.items.items.game.EmeraldItem;
+import java.util.Arrays;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 
 public final class EmeraldAnnotator implements GameItemAnnotator {
@@ -27,4 +30,10 @@ public final class EmeraldAnnotator implements GameItemAnnotator {
 
         return new EmeraldItem(itemStack::getCount, unit);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.items(
+                "a", Arrays.stream(EmeraldUnits.values()).map(EmeraldUnits::getItemType).toArray(Item[]::new));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.game;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.game.TeleportScrollItem;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -32,4 +33,9 @@ public final class TeleportScrollAnnotator implements GameItemAnnotator {
         String destination = Services.Destination.getAbbreviation(scrollName);
         return new TeleportScrollItem(destination, false, remainingCharges);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("#");
+    }
 }
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import net.minecraft.world.item.ItemStack;
@@ -28,4 +29,9 @@ public final class TomeAnnotator implements GameItemAnnotator {
 
         return Models.Rewards.fromTomeItemStack(itemStack, name, tomeName, isUnidentified);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.items("5abcdef", Items.IRON_HORSE_ARMOR);
+    }
 }
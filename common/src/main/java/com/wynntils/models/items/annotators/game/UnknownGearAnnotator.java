@@ -9,6 +9,7 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GameItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.models.gear.GearModel;
 import com.wynntils.models.gear.type.GearTier;
 import com.wynntils.models.gear.type.GearType;
 import java.util.regex.Matcher;
@@ -18,7 +19,7 @@ import net.minecraft.world.item.ItemStack;
 public final class UnknownGearAnnotator implements GameItemAnnotator {
     @Override
     public ItemAnnotation getAnnotation(ItemStack itemStack, StyledText name) {
-        Matcher matcher = name.getMatcher(Models.Gear.GEAR_PATTERN);
+        Matcher matcher = name.getMatcher(GearModel.GEAR_PATTERN);
         if (!matcher.matches()) return null;
 
         GearType gearType = GearType.fromItemStack(itemStack);
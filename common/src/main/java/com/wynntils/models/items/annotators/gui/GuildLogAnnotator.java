@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.GuildLogItem;
 import com.wynntils.utils.mc.LoreUtils;
 import java.time.LocalDateTime;
@@ -67,4 +68,9 @@ public class GuildLogAnnotator implements GuiItemAnnotator {
 
         return null;
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.items("", Items.PAPER);
+    }
 }
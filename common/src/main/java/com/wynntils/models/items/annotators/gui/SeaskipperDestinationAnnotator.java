@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -8,6 +8,7 @@ import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.SeaskipperDestinationItem;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,4 +28,9 @@ public final class SeaskipperDestinationAnnotator implements GuiItemAnnotator {
         String shorthand = Services.Destination.getAbbreviation(destination);
         return new SeaskipperDestinationItem(destination, price, shorthand);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("b");
+    }
 }
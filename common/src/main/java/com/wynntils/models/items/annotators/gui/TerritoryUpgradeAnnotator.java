@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.annotators.gui;
@@ -7,6 +7,7 @@ package com.wynntils.models.items.annotators.gui;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.item.GuiItemAnnotator;
 import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotatorFilter;
 import com.wynntils.models.items.items.gui.TerritoryUpgradeItem;
 import com.wynntils.models.territories.type.TerritoryUpgrade;
 import java.util.regex.Matcher;
@@ -28,4 +29,9 @@ public class TerritoryUpgradeAnnotator implements GuiItemAnnotator {
 
         return new TerritoryUpgradeItem(territoryUpgrade, level);
     }
+
+    @Override
+    public ItemAnnotatorFilter getFilter() {
+        return ItemAnnotatorFilter.nameColors("6abcd");
+    }
 }
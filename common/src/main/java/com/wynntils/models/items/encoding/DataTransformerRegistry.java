@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding;
@@ -42,18 +42,17 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.ItemData;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.EncodedByteBuffer;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * This class is responsible for registering and storing all data transformers.
- * Data transformers are used for transforming between {@link ItemData} and {@link UnsignedByte} arrays.
+ * Data transformers are used for transforming between {@link ItemData} and encoded bytes.
  */
 public final class DataTransformerRegistry {
     private final DataTransformerMap dataTransformers = new DataTransformerMap();
@@ -63,16 +62,14 @@ public final class DataTransformerRegistry {
     }
 
     public ErrorOr<EncodedByteBuffer> encodeData(ItemTransformingVersion version, List<ItemData> data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+        UnsignedByteWriter writer = new UnsignedByteWriter();
 
         for (ItemData itemData : data) {
             try {
-                ErrorOr<UnsignedByte[]> errorOrEncodedData = encodeData(version, itemData);
+                ErrorOr<Void> errorOrEncodedData = encodeData(version, itemData, writer);
                 if (errorOrEncodedData.hasError()) {
                     return ErrorOr.error(errorOrEncodedData.getError());
                 }
-
-                bytes.addAll(Arrays.asList(errorOrEncodedData.getValue()));
             } catch (Exception e) {
                 return ErrorOr.error("Failed to encode data class "
                                 + itemData.getClass().getSimpleName() + "!")
@@ -80,11 +77,11 @@ public final class DataTransformerRegistry {
             }
         }
 
-        return ErrorOr.of(EncodedByteBuffer.fromBytes(bytes.toArray(new UnsignedByte[0])));
+        return ErrorOr.of(EncodedByteBuffer.fromBytes(writer.toByteArray()));
     }
 
     public ErrorOr<List<ItemData>> decodeData(EncodedByteBuffer encodedByteBuffer) {
-        ArrayReader<UnsignedByte> byteReader = encodedByteBuffer.getReader();
+        UnsignedByteReader byteReader = encodedByteBuffer.getReader();
 
         // Handle start data specially
         ErrorOr<StartData> errorOrStartData = StartDataTransformer.decodeData(byteReader);
@@ -95,7 +92,7 @@ public final class DataTransformerRegistry {
         return decodeData(errorOrStartData.getValue().version(), byteReader);
     }
 
-    private ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, ItemData data) {
+    private ErrorOr<Void> encodeData(ItemTransformingVersion version, ItemData data, UnsignedByteWriter writer) {
         DataTransformer<ItemData> dataTransformer = (DataTransformer<ItemData>) dataTransformers.get(data.getClass());
         if (dataTransformer == null) {
             return ErrorOr.error(
@@ -103,20 +100,20 @@ public final class DataTransformerRegistry {
                     .logged();
         }
 
-        return dataTransformer.encode(version, data);
+        return dataTransformer.encode(version, data, writer);
     }
 
-    private ErrorOr<List<ItemData>> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<List<ItemData>> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         List<ItemData> dataList = new ArrayList<>();
 
         while (byteReader.hasRemaining()) {
-            UnsignedByte dataBlockId = byteReader.read();
+            int dataBlockId = byteReader.read();
 
             try {
-                DataTransformer<ItemData> dataTransformer = dataTransformers.get(dataBlockId.toByte());
+                DataTransformer<ItemData> dataTransformer = dataTransformers.get((byte) dataBlockId);
 
                 if (dataTransformer == null) {
-                    return ErrorOr.error("No data transformer found for id " + dataBlockId.value())
+                    return ErrorOr.error("No data transformer found for id " + dataBlockId)
                             .logged();
                 }
 
@@ -128,7 +125,7 @@ public final class DataTransformerRegistry {
 
                 dataList.add(errorOrData.getValue());
             } catch (Exception e) {
-                return ErrorOr.error("Failed to decode data block with id " + dataBlockId.value() + "!")
+                return ErrorOr.error("Failed to decode data block with id " + dataBlockId + "!")
                         .logged();
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,21 +9,22 @@ import com.wynntils.models.items.encoding.data.CustomConsumableTypeData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 
 public class CustomConsumableTypeDataTransformer extends DataTransformer<CustomConsumableTypeData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, CustomConsumableTypeData data) {
+    protected ErrorOr<Void> encodeData(
+            ItemTransformingVersion version, CustomConsumableTypeData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> encodeCustomConsumableTypeData(data);
+            case VERSION_1 -> encodeCustomConsumableTypeData(data, writer);
         };
     }
 
     @Override
     public ErrorOr<CustomConsumableTypeData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+            ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeCustomConsumableTypeData(byteReader);
         };
@@ -34,15 +35,16 @@ public class CustomConsumableTypeDataTransformer extends DataTransformer<CustomC
         return DataTransformerType.CUSTOM_CONSUMABLE_TYPE_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeCustomConsumableTypeData(CustomConsumableTypeData data) {
+    private ErrorOr<Void> encodeCustomConsumableTypeData(CustomConsumableTypeData data, UnsignedByteWriter writer) {
         // The data is a single byte, containing the id of the type of the item.
-        return ErrorOr.of(
-                new UnsignedByte[] {UnsignedByte.of((byte) data.consumableType().getEncodingId())});
+        writer.write(data.consumableType().getEncodingId());
+
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<CustomConsumableTypeData> decodeCustomConsumableTypeData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<CustomConsumableTypeData> decodeCustomConsumableTypeData(UnsignedByteReader byteReader) {
         // The data is a single byte, containing the id of the type of the item.
-        int typeId = byteReader.read().value();
+        int typeId = byteReader.read();
         ConsumableType type = ConsumableType.fromEncodingId(typeId);
         if (type == null) {
             return ErrorOr.error("Unknown consumable type id: " + typeId);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,32 +9,31 @@ import com.wynntils.models.items.encoding.data.CustomGearTypeData;
 import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 
 public class CustomGearTypeTransformer extends DataTransformer<CustomGearTypeData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, CustomGearTypeData data) {
+    protected ErrorOr<Void> encodeData(
+            ItemTransformingVersion version, CustomGearTypeData data, UnsignedByteWriter writer) {
         return switch (version) {
             case VERSION_1 -> {
                 if (data.gearType().getEncodingId() == -1) {
                     yield ErrorOr.error("Gear type cannot be encoded.");
                 }
 
-                yield ErrorOr.of(new UnsignedByte[] {
-                    new UnsignedByte((byte) data.gearType().getEncodingId())
-                });
+                writer.write(data.gearType().getEncodingId());
+                yield ErrorOr.of(null);
             }
         };
     }
 
     @Override
-    public ErrorOr<CustomGearTypeData> decodeData(
-            ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<CustomGearTypeData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> {
-                GearType gearType = GearType.fromEncodingId(byteReader.read().value());
+                GearType gearType = GearType.fromEncodingId(byteReader.read());
 
                 if (gearType == null) {
                     yield ErrorOr.error("Gear type cannot be decoded.");
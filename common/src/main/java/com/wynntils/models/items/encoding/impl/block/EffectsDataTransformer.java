@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -11,22 +11,22 @@ import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.wynnitem.type.ConsumableEffect;
 import com.wynntils.models.wynnitem.type.NamedItemEffect;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 import java.util.ArrayList;
 import java.util.List;
 
 public class EffectsDataTransformer extends DataTransformer<EffectsData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, EffectsData data) {
+    protected ErrorOr<Void> encodeData(ItemTransformingVersion version, EffectsData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> encodeEffectsData(data);
+            case VERSION_1 -> encodeEffectsData(data, writer);
         };
     }
 
     @Override
-    public ErrorOr<EffectsData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<EffectsData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeEffectsData(byteReader);
         };
@@ -37,34 +37,31 @@ public class EffectsDataTransformer extends DataTransformer<EffectsData> {
         return DataTransformerType.EFFECTS_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeEffectsData(EffectsData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<Void> encodeEffectsData(EffectsData data, UnsignedByteWriter writer) {
         // The first byte is the number of effects.
-        bytes.add(UnsignedByte.of((byte) data.namedEffects().size()));
+        writer.write(data.namedEffects().size());
 
         // An effect is encoded the following way:
         for (NamedItemEffect namedEffect : data.namedEffects()) {
             // The first byte is the id of the effect.
-            UnsignedByte id = UnsignedByte.of((byte) namedEffect.type().getId());
-            bytes.add(id);
+            writer.write(namedEffect.type().getId());
 
             // The next bytes are the effect's value bytes, which are assembled into an integer
-            UnsignedByte[] unsignedBytes = UnsignedByteUtils.encodeVariableSizedInteger(namedEffect.value());
-            bytes.addAll(List.of(unsignedBytes));
+            UnsignedByteUtils.encodeVariableSizedInteger(namedEffect.value(), writer);
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<EffectsData> decodeEffectsData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<EffectsData> decodeEffectsData(UnsignedByteReader byteReader) {
         List<NamedItemEffect> namedEffects = new ArrayList<>();
 
         // The first byte is the number of effects.
-        int numberOfEffects = byteReader.read().value();
+        int numberOfEffects = byteReader.read();
 
         for (int i = 0; i < numberOfEffects; i++) {
             // The first byte is the id of the effect.
-            int effectId = byteReader.read().value();
+            int effectId = byteReader.read();
 
             ConsumableEffect consumableEffect = ConsumableEffect.fromId(effectId);
             if (consumableEffect == null) {
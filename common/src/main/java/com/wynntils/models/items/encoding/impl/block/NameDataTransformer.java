@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -9,50 +9,49 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
-import java.util.List;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 
 public class NameDataTransformer extends DataTransformer<NameData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, NameData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, NameData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> encodeName(data.name().orElse(""));
+            case VERSION_1 -> encodeName(data.name().orElse(""), writer);
         };
     }
 
     @Override
-    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<NameData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeName(byteReader);
         };
     }
 
-    private ErrorOr<UnsignedByte[]> encodeName(String name) {
+    private ErrorOr<Void> encodeName(String name, UnsignedByteWriter writer) {
         try {
-            return ErrorOr.of(UnsignedByteUtils.encodeString(name));
+            UnsignedByteUtils.encodeString(name, writer);
+            return ErrorOr.of(null);
         } catch (IllegalArgumentException e) {
             return ErrorOr.error("Name contains non-ASCII characters");
         }
     }
 
-    private ErrorOr<NameData> decodeName(ArrayReader<UnsignedByte> byteReader) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+    private ErrorOr<NameData> decodeName(UnsignedByteReader byteReader) {
+        UnsignedByteWriter bytes = new UnsignedByteWriter();
 
         // Read until we find a null byte
         do {
-            bytes.add(byteReader.read());
-        } while (byteReader.hasRemaining() && byteReader.peek().value() != 0);
+            bytes.write(byteReader.read());
+        } while (byteReader.hasRemaining() && byteReader.peek() != 0);
 
         // If this is the case, the byte reader ended, and we didn't find a null byte
-        UnsignedByte nullByte = byteReader.read();
-        if (nullByte.value() != 0) {
+        int nullByte = byteReader.read();
+        if (nullByte != 0) {
             return ErrorOr.error("Name data is not null terminated");
         }
 
-        return ErrorOr.of(NameData.sanitized(UnsignedByteUtils.decodeString(bytes)));
+        return ErrorOr.of(NameData.sanitized(UnsignedByteUtils.decodeString(bytes.toByteArray())));
     }
 
     @Override
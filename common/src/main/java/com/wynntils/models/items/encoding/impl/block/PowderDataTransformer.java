@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -12,19 +12,18 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
 
 public class PowderDataTransformer extends DataTransformer<PowderData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, PowderData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, PowderData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> encodePowderData(data);
+            case VERSION_1 -> encodePowderData(data, writer);
         };
     }
 
@@ -34,7 +33,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
     }
 
     @Override
-    public ErrorOr<PowderData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<PowderData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodePowderData(byteReader);
         };
@@ -45,7 +44,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
         return DataTransformerType.POWDER_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodePowderData(PowderData data) {
+    private ErrorOr<Void> encodePowderData(PowderData data, UnsignedByteWriter writer) {
         // Powders are encoded as bits, a powder needs 5 bits to encode
         // That means the total size is 5 * powderCount,
         // which is padded to the nearest byte
@@ -79,7 +78,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
             powderData[i] = false;
         }
 
-        UnsignedByte[] dataBytes = UnsignedByteUtils.fromBitArray(powderData);
+        byte[] dataBytes = UnsignedByteUtils.toPackedBytes(powderData);
         if (data.powders().size() > 255) {
             return ErrorOr.error("Too many powders on item.");
         }
@@ -89,19 +88,19 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
 
         // The first byte is the powder slots on the item
         // The second byte is the number of powders
-        return ErrorOr.of(Stream.concat(
-                        Stream.of(UnsignedByte.of((byte) data.powderSlots()), UnsignedByte.of((byte)
-                                data.powders().size())),
-                        Stream.of(dataBytes))
-                .toArray(UnsignedByte[]::new));
+        writer.write(data.powderSlots());
+        writer.write(data.powders().size());
+        writer.write(dataBytes);
+
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<PowderData> decodePowderData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<PowderData> decodePowderData(UnsignedByteReader byteReader) {
         // The first byte is the powder slots on the item
-        int powderSlots = byteReader.read().value();
+        int powderSlots = byteReader.read();
 
         // The second byte is the number of powders
-        int powderCount = byteReader.read().value();
+        int powderCount = byteReader.read();
 
         if (powderCount > powderSlots) {
             WynntilsMod.warn("Powder count is greater than powder slots. This should not happen.");
@@ -116,7 +115,7 @@ public class PowderDataTransformer extends DataTransformer<PowderData> {
         int totalBits = (bitsNeeded + 7) / 8 * 8;
 
         // The remaining bytes are the powder data
-        UnsignedByte[] powderData = byteReader.read(totalBits / 8);
+        byte[] powderData = byteReader.read(totalBits / 8);
 
         // Convert the powder data to a bit array
         boolean[] powderBits = UnsignedByteUtils.toBitArray(powderData);
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -13,24 +13,25 @@ import com.wynntils.models.items.encoding.type.DataTransformer;
 import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class RequirementsDataTransformer extends DataTransformer<RequirementsData> {
     @Override
-    protected ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, RequirementsData data) {
+    protected ErrorOr<Void> encodeData(
+            ItemTransformingVersion version, RequirementsData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> encodeRequirementsData(data);
+            case VERSION_1 -> encodeRequirementsData(data, writer);
         };
     }
 
     @Override
-    public ErrorOr<RequirementsData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<RequirementsData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeRequirementsData(byteReader);
         };
@@ -41,15 +42,13 @@ public class RequirementsDataTransformer extends DataTransformer<RequirementsDat
         return DataTransformerType.REQUIREMENTS_DATA_TRANSFORMER.getId();
     }
 
-    private ErrorOr<UnsignedByte[]> encodeRequirementsData(RequirementsData data) {
-        List<UnsignedByte> bytes = new ArrayList<>();
-
+    private ErrorOr<Void> encodeRequirementsData(RequirementsData data, UnsignedByteWriter writer) {
         // The first byte is the level requirement.
         int level = data.requirements().level();
         if (level > 255 || level < 0) {
             return ErrorOr.error("Level requirement does not fit in a byte.");
         }
-        bytes.add(UnsignedByte.of((byte) level));
+        writer.write(level);
 
         // The second byte is the class requirement, represented with an id.
         byte classId = 0;
@@ -61,31 +60,30 @@ public class RequirementsDataTransformer extends DataTransformer<RequirementsDat
                 }
             }
         }
-        bytes.add(UnsignedByte.of(classId));
+        writer.write(classId);
 
         // The next byte is the number of skill requirements.
-        bytes.add(UnsignedByte.of((byte) data.requirements().skills().size()));
+        writer.write(data.requirements().skills().size());
 
         for (Pair<Skill, Integer> skillPair : data.requirements().skills()) {
             // A skill requirement encoded as an id byte, representing the skill (`ETWFA` order).
             int id = skillPair.a().getAssociatedElement().getEncodingId();
-            bytes.add(UnsignedByte.of((byte) id));
+            writer.write(id);
 
             // The next bytes are the skill requirement bytes, which are assembled into an integer.
             int skillRequirement = skillPair.b();
-            UnsignedByte[] encodedRequirement = UnsignedByteUtils.encodeVariableSizedInteger(skillRequirement);
-            bytes.addAll(List.of(encodedRequirement));
+            UnsignedByteUtils.encodeVariableSizedInteger(skillRequirement, writer);
         }
 
-        return ErrorOr.of(bytes.toArray(new UnsignedByte[0]));
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<RequirementsData> decodeRequirementsData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<RequirementsData> decodeRequirementsData(UnsignedByteReader byteReader) {
         // The first byte is the level requirement.
-        int level = byteReader.read().value();
+        int level = byteReader.read();
 
         // The second byte is the class requirement, represented with an id.
-        byte classId = byteReader.read().toByte();
+        byte classId = (byte) byteReader.read();
         ClassType decodedClassType = ClassType.NONE;
         for (ClassType classType : ClassType.values()) {
             if (classType.getEncodingId() == classId) {
@@ -97,13 +95,13 @@ public class RequirementsDataTransformer extends DataTransformer<RequirementsDat
         decodedClassType = decodedClassType == ClassType.NONE ? null : decodedClassType;
 
         // The next byte is the number of skill requirements.
-        int skillCount = byteReader.read().value();
+        int skillCount = byteReader.read();
 
         List<Pair<Skill, Integer>> skills = new ArrayList<>();
 
         for (int i = 0; i < skillCount; i++) {
             // A skill requirement encoded as an id byte, representing the skill (`ETWFA` order).
-            int id = byteReader.read().value();
+            int id = byteReader.read();
             Skill skill = Skill.fromElement(Element.fromEncodingId(id));
 
             // The next bytes are the skill requirement bytes, which are assembled into an integer.
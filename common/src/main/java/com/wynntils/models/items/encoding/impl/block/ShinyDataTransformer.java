@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.impl.block;
@@ -11,15 +11,15 @@ import com.wynntils.models.items.encoding.type.DataTransformerType;
 import com.wynntils.models.items.encoding.type.ItemTransformingVersion;
 import com.wynntils.models.stats.type.ShinyStat;
 import com.wynntils.utils.UnsignedByteUtils;
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 
 public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     @Override
-    public ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, ShinyData data) {
+    public ErrorOr<Void> encodeData(ItemTransformingVersion version, ShinyData data, UnsignedByteWriter writer) {
         return switch (version) {
-            case VERSION_1 -> ErrorOr.of(encodeShinyData(data));
+            case VERSION_1 -> encodeShinyData(data, writer);
         };
     }
 
@@ -29,7 +29,7 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
     }
 
     @Override
-    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader) {
+    public ErrorOr<ShinyData> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader) {
         return switch (version) {
             case VERSION_1 -> decodeShinyData(byteReader);
         };
@@ -40,28 +40,23 @@ public class ShinyDataTransformer extends DataTransformer<ShinyData> {
         return DataTransformerType.SHINY_DATA_TRANSFORMER.getId();
     }
 
-    private static UnsignedByte[] encodeShinyData(ShinyData data) {
-        UnsignedByte[] shinyStatValueBytes =
-                UnsignedByteUtils.encodeVariableSizedInteger(data.shinyStat().value());
-
-        UnsignedByte[] bytes = new UnsignedByte[shinyStatValueBytes.length + 1];
-
+    private static ErrorOr<Void> encodeShinyData(ShinyData data, UnsignedByteWriter writer) {
         // The first byte is the id of the shiny stat.
-        bytes[0] = UnsignedByte.of((byte) data.shinyStat().statType().id());
+        writer.write(data.shinyStat().statType().id());
 
         // The following bytes is are assembled into an integer representing the shiny value.
-        System.arraycopy(shinyStatValueBytes, 0, bytes, 1, shinyStatValueBytes.length);
+        UnsignedByteUtils.encodeVariableSizedInteger(data.shinyStat().value(), writer);
 
-        return bytes;
+        return ErrorOr.of(null);
     }
 
-    private ErrorOr<ShinyData> decodeShinyData(ArrayReader<UnsignedByte> byteReader) {
+    private ErrorOr<ShinyData> decodeShinyData(UnsignedByteReader byteReader) {
         // The first byte is the id of the shiny stat.
-        UnsignedByte statTypeId = byteReader.read();
+        int statTypeId = byteReader.read();
 
         // The following bytes is are assembled into an integer representing the shiny value.
         long statValue = UnsignedByteUtils.decodeVariableSizedInteger(byteReader);
 
-        return ErrorOr.of(new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId.value()), statValue)));
+        return ErrorOr.of(new ShinyData(new ShinyStat(Models.Shiny.getShinyStatType(statTypeId), statValue)));
     }
 }
@@ -1,42 +1,43 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.items.encoding.type;
 
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.ErrorOr;
-import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 
 /**
  * Interface for transforming data into bytes.
  * @param <T> The type of data to transform.
  */
 public abstract class DataTransformer<T extends ItemData> {
-    public final ErrorOr<UnsignedByte[]> encode(ItemTransformingVersion version, T data) {
-        if (!shouldEncodeData(version, data)) return ErrorOr.of(new UnsignedByte[0]);
+    /**
+     * Writes the id of this transformer, followed by the encoded data. If encoding fails,
+     * nothing is left in the writer.
+     */
+    public final ErrorOr<Void> encode(ItemTransformingVersion version, T data, UnsignedByteWriter writer) {
+        if (!shouldEncodeData(version, data)) return ErrorOr.of(null);
 
-        ErrorOr<UnsignedByte[]> errorOrData = encodeData(version, data);
+        int startSize = writer.size();
+        writer.write(getId());
+
+        ErrorOr<Void> errorOrData = encodeData(version, data, writer);
         if (errorOrData.hasError()) {
-            return errorOrData;
+            writer.truncate(startSize);
         }
 
-        UnsignedByte[] dataBytes = errorOrData.getValue();
-
-        UnsignedByte[] bytes = new UnsignedByte[dataBytes.length + 1];
-        bytes[0] = UnsignedByte.of(getId());
-        System.arraycopy(dataBytes, 0, bytes, 1, dataBytes.length);
-
-        return ErrorOr.of(bytes);
+        return errorOrData;
     }
 
-    protected abstract ErrorOr<UnsignedByte[]> encodeData(ItemTransformingVersion version, T data);
+    protected abstract ErrorOr<Void> encodeData(ItemTransformingVersion version, T data, UnsignedByteWriter writer);
 
     protected boolean shouldEncodeData(ItemTransformingVersion version, T data) {
         return true;
     }
 
-    public abstract ErrorOr<T> decodeData(ItemTransformingVersion version, ArrayReader<UnsignedByte> byteReader);
+    public abstract ErrorOr<T> decodeData(ItemTransformingVersion version, UnsignedByteReader byteReader);
 
     public abstract byte getId();
 }
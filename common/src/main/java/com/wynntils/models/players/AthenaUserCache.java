@@ -0,0 +1,111 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.players;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.FileUtils;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A disk cache of Athena user lookups, so players we have seen recently do not need to be looked up again.
+ * Players without a Wynntils account are cached as well, as they are the vast majority of lookups.
+ */
+final class AthenaUserCache {
+    private static final long USER_TTL_MS = TimeUnit.DAYS.toMillis(1);
+    // Keep this shorter, so a newly registered account is picked up in a reasonable time
+    private static final long NO_ACCOUNT_TTL_MS = TimeUnit.HOURS.toMillis(6);
+
+    private static final Type CACHE_TYPE = new TypeToken<HashMap<UUID, CachedUser>>() {}.getType();
+
+    private final File cacheFile;
+    private final Map<UUID, CachedUser> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty = false;
+
+    AthenaUserCache(File cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * @return true if there is a recent lookup result for this player, even if the player has no Wynntils account
+     */
+    boolean contains(UUID uuid) {
+        CachedUser cached = entries.get(uuid);
+        return cached != null && !isExpired(cached, System.currentTimeMillis());
+    }
+
+    /**
+     * @return the cached user, or null if the player is not cached or has no Wynntils account
+     */
+    WynntilsUser getUser(UUID uuid) {
+        CachedUser cached = entries.get(uuid);
+        if (cached == null || isExpired(cached, System.currentTimeMillis())) return null;
+
+        return cached.user();
+    }
+
+    void put(UUID uuid, WynntilsUser user) {
+        entries.put(uuid, new CachedUser(user, System.currentTimeMillis()));
+        dirty = true;
+    }
+
+    synchronized void load() {
+        if (!cacheFile.exists()) return;
+
+        try (Reader reader = new FileReader(cacheFile, StandardCharsets.UTF_8)) {
+            Map<UUID, CachedUser> loaded = WynntilsMod.GSON.fromJson(reader, CACHE_TYPE);
+            if (loaded == null) return;
+
+            long now = System.currentTimeMillis();
+            loaded.forEach((uuid, cached) -> {
+                if (cached != null && !isExpired(cached, now)) {
+                    entries.putIfAbsent(uuid, cached);
+                }
+            });
+        } catch (IOException | JsonParseException e) {
+            WynntilsMod.warn("Failed to load Athena user cache, ignoring it", e);
+        }
+    }
+
+    synchronized void save() {
+        if (!dirty) return;
+        dirty = false;
+
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(cached -> isExpired(cached, now));
+
+        // Write to a temporary file first, so a crash while saving does not leave a truncated cache behind
+        File tempFile = new File(cacheFile.getPath() + ".tmp");
+        try (Writer writer = new FileWriter(tempFile, StandardCharsets.UTF_8)) {
+            WynntilsMod.GSON.toJson(new HashMap<>(entries), CACHE_TYPE, writer);
+        } catch (IOException e) {
+            WynntilsMod.warn("Failed to save Athena user cache", e);
+            FileUtils.deleteFile(tempFile);
+            return;
+        }
+
+        FileUtils.atomicMoveFile(tempFile, cacheFile);
+    }
+
+    private static boolean isExpired(CachedUser cached, long now) {
+        long ttl = cached.user() == null ? NO_ACCOUNT_TTL_MS : USER_TTL_MS;
+        return now - cached.fetchedAt() > ttl;
+    }
+
+    private record CachedUser(WynntilsUser user, long fetchedAt) {}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.models.players;
@@ -7,6 +7,7 @@ package com.wynntils.models.players;
 import com.google.common.reflect.TypeToken;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.wynntils.core.WynntilsMod;
 import com.wynntils.core.components.Managers;
@@ -22,6 +23,8 @@ import com.wynntils.models.players.type.WynnPlayerInfo;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.type.ErrorOr;
+import com.wynntils.utils.type.RequestCoalescer;
 import com.wynntils.utils.type.TimedSet;
 import java.lang.reflect.Type;
 import java.util.List;
@@ -56,6 +59,10 @@ public final class PlayerModel extends Model {
     // before disabling lookups for them
     private static final int MAX_USER_ERRORS = 3;
 
+    // User lookups are collected for a short while, so a burst of joining players is looked up together
+    private static final long USER_LOOKUP_WINDOW_MS = 250;
+    private static final int MAX_USER_LOOKUP_BATCH = 32;
+
     private final Map<UUID, WynntilsUser> users = new ConcurrentHashMap<>();
     private final Set<UUID> usersWithoutWynntilsAccount = ConcurrentHashMap.newKeySet();
     private final Set<UUID> fetching = ConcurrentHashMap.newKeySet();
@@ -68,10 +75,19 @@ public final class PlayerModel extends Model {
             new TimedSet<>(ERROR_TIMEOUT_MINUTE, TimeUnit.MINUTES, true, ConcurrentHashMap::newKeySet);
     private final Map<UUID, Integer> userFailures = new ConcurrentHashMap<>();
 
+    private final AthenaUserCache userCache = new AthenaUserCache(Managers.Net.getCacheFile("athenaUsers.json"));
+    private final RequestCoalescer<UUID, ErrorOr<JsonObject>> userLookups = new RequestCoalescer<>(
+            MAX_USER_LOOKUP_BATCH,
+            this::lookupUsers,
+            flush -> Managers.Executor.schedule(flush, USER_LOOKUP_WINDOW_MS, TimeUnit.MILLISECONDS));
+
     public PlayerModel() {
         super(List.of());
         errors.clear();
         userFailures.clear();
+
+        Managers.Executor.runIo(userCache::load);
+        Managers.Executor.addShutdownTask(userCache::save);
     }
 
     // Returns true if the player is on the same server and is not a npc
@@ -113,6 +129,7 @@ public final class PlayerModel extends Model {
         if (event.getNewState() == WorldState.NOT_CONNECTED) {
             clearNameMap();
             reset();
+            Managers.Executor.runIo(userCache::save);
         }
         if (event.getNewState() == WorldState.WORLD) {
             clearGhostCache();
@@ -162,6 +179,18 @@ public final class PlayerModel extends Model {
         if (fetching.contains(uuid)) return;
         if (users.containsKey(uuid) || usersWithoutWynntilsAccount.contains(uuid)) return;
 
+        if (userCache.contains(uuid)) {
+            nameMap.put(uuid, userName);
+
+            WynntilsUser user = userCache.getUser(uuid);
+            if (user == null) {
+                usersWithoutWynntilsAccount.add(uuid);
+            } else {
+                addUser(uuid, user);
+            }
+            return;
+        }
+
         // Call getEntries to clear old entries
         if (errors.getEntries().size() >= MAX_ERRORS) {
             // Athena is having problems, skip this
@@ -176,36 +205,89 @@ public final class PlayerModel extends Model {
         fetching.add(uuid); // temporary, avoid extra loads
         nameMap.put(uuid, userName);
 
-        ApiResponse apiResponse =
-                Services.WynntilsAccount.callApi(UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
-        apiResponse.handleJsonObject(
-                json -> {
-                    if (json.has("message") && json.get("message").getAsString().equals(ATHENA_USER_NOT_FOUND)) {
-                        // This user does not exist in our database, stop requesting it
-                        usersWithoutWynntilsAccount.add(uuid);
-                        fetching.remove(uuid);
-                        return;
-                    }
-
-                    if (!json.has("user")) {
-                        fetching.remove(uuid);
-                        saveUserFailures(uuid, userName);
-                        return;
-                    }
-
-                    WynntilsUser user = WynntilsMod.GSON.fromJson(json.getAsJsonObject("user"), WynntilsUser.class);
-
-                    users.put(uuid, user);
-                    fetching.remove(uuid);
-
-                    // Schedule cape loading for next render tick
-                    RenderSystem.recordRenderCall(() -> Services.Cosmetics.loadCosmeticTextures(uuid, user));
-                },
-                onError -> {
-                    errors.put(System.currentTimeMillis());
+        userLookups.request(uuid).whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                // The whole batch failed, count it as a failure of this lookup
+                WynntilsMod.warn("Athena user lookup batch failed", throwable);
+                errors.put(System.currentTimeMillis());
+                fetching.remove(uuid);
+                saveUserFailures(uuid, userName);
+                return;
+            }
+
+            if (result == null) {
+                // The lookup was skipped, allow it to be retried later
+                fetching.remove(uuid);
+                return;
+            }
+
+            if (result.hasError()) {
+                errors.put(System.currentTimeMillis());
+
+                saveUserFailures(uuid, userName);
+                return;
+            }
+
+            JsonObject json = result.getValue();
+            if (json.has("message") && json.get("message").getAsString().equals(ATHENA_USER_NOT_FOUND)) {
+                // This user does not exist in our database, stop requesting it
+                usersWithoutWynntilsAccount.add(uuid);
+                userCache.put(uuid, null);
+                fetching.remove(uuid);
+                return;
+            }
+
+            if (!json.has("user")) {
+                fetching.remove(uuid);
+                saveUserFailures(uuid, userName);
+                return;
+            }
+
+            WynntilsUser user = WynntilsMod.GSON.fromJson(json.getAsJsonObject("user"), WynntilsUser.class);
+
+            userCache.put(uuid, user);
+            addUser(uuid, user);
+            fetching.remove(uuid);
+        });
+    }
+
+    private void addUser(UUID uuid, WynntilsUser user) {
+        users.put(uuid, user);
+
+        // Schedule cape loading for next render tick
+        RenderSystem.recordRenderCall(() -> Services.Cosmetics.loadCosmeticTextures(uuid, user));
+    }
+
+    private CompletableFuture<Map<UUID, ErrorOr<JsonObject>>> lookupUsers(Set<UUID> uuids) {
+        // Athena might have started failing while this batch was collected
+        // Call getEntries to clear old entries
+        if (errors.getEntries().size() >= MAX_ERRORS) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
 
-                    saveUserFailures(uuid, userName);
-                });
+        // Athena only offers single user lookups, so the batch is sent as concurrent requests
+        Map<UUID, ErrorOr<JsonObject>> results = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] requests = uuids.stream()
+                .map(uuid -> {
+                    CompletableFuture<Void> request = new CompletableFuture<>();
+
+                    ApiResponse apiResponse = Services.WynntilsAccount.callApi(
+                            UrlId.API_ATHENA_USER_INFO, Map.of("uuid", uuid.toString()));
+                    apiResponse.handleJsonObject(
+                            json -> {
+                                results.put(uuid, ErrorOr.of(json));
+                                request.complete(null);
+                            },
+                            onError -> {
+                                results.put(uuid, ErrorOr.error(String.valueOf(onError.getMessage())));
+                                request.complete(null);
+                            });
+
+                    return request;
+                })
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(requests).thenApply(ignored -> results);
     }
 
     public CompletableFuture<WynnPlayerInfo> getPlayer(String username) {
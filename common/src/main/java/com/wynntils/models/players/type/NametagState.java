@@ -0,0 +1,105 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.models.players.type;
+
+import com.wynntils.core.text.PartStyle;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.players.WynntilsUser;
+import com.wynntils.utils.mc.type.EquipmentSnapshot;
+import com.wynntils.utils.wynn.ItemUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+
+/**
+ * Everything the custom nametag lines of a player are built from. The equipment is only set while the player is
+ * hovered, as their gear is only shown then.
+ */
+public record NametagState(
+        EquipmentSnapshot equipment,
+        WynntilsUser user,
+        Component displayName,
+        boolean showWynntilsMarker,
+        float scale) {
+    // how much larger account tags should be relative to gear lines
+    private static final float ACCOUNT_TYPE_MULTIPLIER = 1.5f;
+    private static final String WYNNTILS_LOGO = "⛨"; // Well, at least it's a shield...
+
+    /**
+     * @param gearLookup finds the gear info of a gear item by its name, or returns null if there is none
+     * @return the lines to draw from the bottom up, or an empty list if the vanilla nametag should be drawn
+     */
+    public List<Line> buildLines(Function<String, GearInfo> gearLookup) {
+        List<Line> lines = new ArrayList<>();
+
+        if (equipment != null) {
+            addGearLines(gearLookup, lines);
+        }
+
+        addAccountTypeLines(lines);
+
+        return List.copyOf(lines);
+    }
+
+    private void addGearLines(Function<String, GearInfo> gearLookup, List<Line> lines) {
+        for (EquipmentSnapshot.Slot slot : equipment.slots()) {
+            MutableComponent itemComponent = getItemComponent(slot, gearLookup);
+            if (itemComponent != null) lines.add(new Line(itemComponent, scale));
+        }
+    }
+
+    private static MutableComponent getItemComponent(
+            EquipmentSnapshot.Slot slot, Function<String, GearInfo> gearLookup) {
+        if (slot.item() == null) return null;
+
+        // This must specifically NOT be normalized; the ֎ is significant
+        String gearName = StyledText.fromComponent(slot.hoverName()).getStringWithoutFormatting();
+        MutableComponent description = ItemUtils.getNonGearDescription(slot.item(), slot.damage(), gearName);
+        if (description != null) return description;
+
+        GearInfo gearInfo = gearLookup.apply(gearName);
+        if (gearInfo == null) return null;
+
+        return Component.literal(gearInfo.name()).withStyle(gearInfo.tier().getChatFormatting());
+    }
+
+    private void addAccountTypeLines(List<Line> lines) {
+        if (user == null) {
+            if (!lines.isEmpty()) {
+                // We will cancel vanilla rendering, so we must add back the normal vanilla base nametag
+                lines.add(new Line(displayName, 1f));
+            }
+            return;
+        }
+
+        AccountType accountType = user.accountType();
+        if (accountType.getComponent() != null) {
+            lines.add(new Line(accountType.getComponent(), scale * ACCOUNT_TYPE_MULTIPLIER));
+        }
+
+        // Add an appropriate Wynntils marker
+        Component vanillaNametag = displayName;
+
+        if (showWynntilsMarker) {
+            StyledText styledText = StyledText.fromComponent(displayName);
+            if (styledText.getString(PartStyle.StyleType.NONE).startsWith("[")) {
+                vanillaNametag = Component.literal(WYNNTILS_LOGO)
+                        .withStyle(ChatFormatting.DARK_GRAY)
+                        .append(displayName);
+            } else {
+                vanillaNametag = Component.literal(WYNNTILS_LOGO + " ")
+                        .withStyle(ChatFormatting.GRAY)
+                        .append(displayName);
+            }
+        }
+        lines.add(new Line(vanillaNametag, 1f));
+    }
+
+    public record Line(Component component, float scale) {}
+}
@@ -23,8 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import net.neoforged.bus.api.SubscribeEvent;
 
@@ -33,14 +31,12 @@ public final class ServerListModel extends Model {
 
     private static final List<String> SERVER_TYPES = List.of("lobby", "GM", "DEV", "WAR", "HB", "YT");
 
-    private final ScheduledExecutorService timerExecutor = new ScheduledThreadPoolExecutor(1);
-
     private Map<String, ServerProfile> availableServers = new HashMap<>();
 
     public ServerListModel() {
         super(List.of());
 
-        timerExecutor.scheduleWithFixedDelay(this::updateServerList, 0, SERVER_UPDATE_MS, TimeUnit.MILLISECONDS);
+        Managers.Executor.scheduleWithFixedDelay(this::updateServerList, 0, SERVER_UPDATE_MS, TimeUnit.MILLISECONDS);
     }
 
     public List<String> getWynnServerTypes() {
@@ -5,6 +5,7 @@
 package com.wynntils.overlays;
 
 import com.mojang.blaze3d.platform.Window;
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.consumers.overlays.OverlayPosition;
@@ -83,6 +84,7 @@ public class ContentTrackerOverlay extends Overlay {
     @Override
     protected void onConfigUpdate(Config<?> config) {
         updateTextRenderSettings(toRender);
+        Handlers.Scoreboard.refreshSegmentVisibility();
     }
 
     @Override
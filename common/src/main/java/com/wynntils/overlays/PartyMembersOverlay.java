@@ -6,6 +6,7 @@ package com.wynntils.overlays;
 
 import com.mojang.blaze3d.platform.Window;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.consumers.overlays.ContainerOverlay;
@@ -137,6 +138,13 @@ public class PartyMembersOverlay extends ContainerOverlay<PartyMembersOverlay.Pa
         }
     }
 
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        super.onConfigUpdate(config);
+
+        Handlers.Scoreboard.refreshSegmentVisibility();
+    }
+
     private void updateChildren() {
         this.clearChildren();
 
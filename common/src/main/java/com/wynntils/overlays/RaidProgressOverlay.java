@@ -4,6 +4,7 @@
  */
 package com.wynntils.overlays;
 
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.overlays.OverlayPosition;
 import com.wynntils.core.consumers.overlays.TextOverlay;
@@ -63,6 +64,7 @@ public class RaidProgressOverlay extends TextOverlay {
     @Override
     protected void onConfigUpdate(Config<?> config) {
         buildTemplates();
+        Handlers.Scoreboard.refreshSegmentVisibility();
     }
 
     @Override
@@ -5,6 +5,7 @@
 package com.wynntils.overlays;
 
 import com.mojang.blaze3d.platform.Window;
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.overlays.Overlay;
 import com.wynntils.core.consumers.overlays.OverlayPosition;
@@ -102,6 +103,7 @@ public class TerritoryAttackTimerOverlay extends Overlay {
     @Override
     protected void onConfigUpdate(Config<?> config) {
         updateTextRenderSetting();
+        Handlers.Scoreboard.refreshSegmentVisibility();
     }
 
     private void updateTextRenderSetting() {
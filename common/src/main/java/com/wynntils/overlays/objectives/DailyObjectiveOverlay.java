@@ -6,6 +6,7 @@ package com.wynntils.overlays.objectives;
 
 import com.mojang.blaze3d.platform.Window;
 import com.mojang.blaze3d.vertex.PoseStack;
+import com.wynntils.core.components.Handlers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.consumers.overlays.OverlayPosition;
 import com.wynntils.core.consumers.overlays.OverlaySize;
@@ -59,6 +60,11 @@ public class DailyObjectiveOverlay extends ObjectiveOverlayBase {
         }
     }
 
+    @Override
+    protected void onConfigUpdate(Config<?> config) {
+        Handlers.Scoreboard.refreshSegmentVisibility();
+    }
+
     @Override
     public void render(
             GuiGraphics guiGraphics, MultiBufferSource bufferSource, DeltaTracker deltaTracker, Window window) {
@@ -6,6 +6,7 @@ package com.wynntils.screens.lootrunpaths;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.screens.base.WynntilsListScreen;
@@ -17,7 +18,6 @@ import com.wynntils.screens.wynntilsmenu.WynntilsMenuScreen;
 import com.wynntils.services.lootrunpaths.LootrunPathInstance;
 import com.wynntils.services.lootrunpaths.event.LootrunPathCacheRefreshEvent;
 import com.wynntils.utils.StringUtils;
-import com.wynntils.utils.TaskUtils;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.Texture;
@@ -60,7 +60,7 @@ public final class WynntilsLootrunPathsScreen extends WynntilsListScreen<Lootrun
     protected void doInit() {
         super.doInit();
 
-        TaskUtils.runAsync(Services.LootrunPaths::refreshLootrunCache);
+        Managers.Executor.runIo(Services.LootrunPaths::refreshLootrunCache);
 
         this.addRenderableWidget(new BackButton(
                 (int) ((Texture.CONTENT_BOOK_BACKGROUND.width() / 2f - 16) / 2f + offsetX),
@@ -75,7 +75,7 @@ public final class WynntilsLootrunPathsScreen extends WynntilsListScreen<Lootrun
                 (int) (Texture.RELOAD_ICON_OFFSET.width() / 2f / 1.7f),
                 (int) (Texture.RELOAD_ICON_OFFSET.height() / 1.7f),
                 "lootrun",
-                () -> TaskUtils.runAsync(Services.LootrunPaths::refreshLootrunCache)));
+                () -> Managers.Executor.runIo(Services.LootrunPaths::refreshLootrunCache)));
 
         this.addRenderableWidget(new PageSelectorButton(
                 (int) (Texture.CONTENT_BOOK_BACKGROUND.width() / 2f
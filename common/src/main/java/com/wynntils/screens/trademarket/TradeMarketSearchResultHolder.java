@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.screens.trademarket;
@@ -10,21 +10,21 @@ import com.wynntils.handlers.wrappedscreen.WrappedScreenHolder;
 import com.wynntils.handlers.wrappedscreen.type.WrappedScreenInfo;
 import com.wynntils.mc.event.ContainerSetContentEvent;
 import com.wynntils.mc.event.ContainerSetSlotEvent;
+import com.wynntils.services.itemfilter.type.ItemQueryPlan;
 import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.utils.mc.LoreUtils;
+import com.wynntils.utils.type.FilteredSortedView;
 import com.wynntils.utils.wynn.ContainerUtils;
 import com.wynntils.utils.wynn.ItemUtils;
 import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
 import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -66,7 +66,9 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
     private Map<Integer, Int2ObjectSortedMap<ItemStack>> itemMap = new TreeMap<>();
     private int pageItemCount = 0;
 
-    private List<ItemStack> filteredItems = new ArrayList<>();
+    // Keyed by page * LAST_ITEM_SLOT + slot, so ties keep the order of the item map
+    private final FilteredSortedView<Integer, ItemStack> filteredItems = new FilteredSortedView<>();
+    private ItemSearchQuery filteredItemsQuery;
     private ItemStack sortingButtonItem = ItemStack.EMPTY;
 
     @SubscribeEvent
@@ -105,8 +107,14 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
 
         ItemStack itemStack = event.getItemStack();
 
+        // The changed slot is applied to the filtered items incrementally,
+        // we only need to rebuild them if the query changed in the meantime
         handleSetItem(slot, itemStack);
-        updateDisplayItems(wrappedScreen.getSearchQuery());
+
+        ItemSearchQuery searchQuery = wrappedScreen.getSearchQuery();
+        if (searchQuery != filteredItemsQuery) {
+            updateDisplayItems(searchQuery);
+        }
     }
 
     @Override
@@ -140,7 +148,8 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
         initialPageLoadRequested = false;
         itemMap = new TreeMap<>();
         pageItemCount = 0;
-        filteredItems = new ArrayList<>();
+        filteredItems.clear();
+        filteredItemsQuery = null;
         sortingButtonItem = ItemStack.EMPTY;
 
         this.wrappedScreen = null;
@@ -216,6 +225,7 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
 
         // Reset the item map
         itemMap = new TreeMap<>();
+        filteredItems.clear();
         pageItemCount = 0;
 
         // Set the page loading mode so we expect the items to be loaded
@@ -234,19 +244,14 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
     }
 
     public void updateDisplayItems(ItemSearchQuery searchQuery) {
-        filteredItems.clear();
-
-        Stream<ItemStack> items = itemMap.values().stream()
-                .map(map -> map.values().toArray(new ItemStack[0]))
-                .flatMap(Stream::of);
+        ItemQueryPlan queryPlan = Services.ItemFilter.getQueryPlan(searchQuery);
 
-        List<ItemStack> matchingItems = Services.ItemFilter.filterAndSort(searchQuery, items.toList());
-
-        filteredItems.addAll(matchingItems);
+        filteredItemsQuery = searchQuery;
+        filteredItems.setQuery(queryPlan::matchesWithSorts, queryPlan.getSortComparator());
     }
 
     public List<ItemStack> getFilteredItems() {
-        return filteredItems;
+        return filteredItems.getView();
     }
 
     public int getPageLoadBatchSize() {
@@ -286,9 +291,11 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
             // Update item in slot, when changing pages,
             // items can change
             currentItems.put(slot, itemStack);
+            filteredItems.put(getFilteredItemKey(currentPage, slot), itemStack);
         } else {
             // Remove the item from the map if it was there
             currentItems.remove(slot);
+            filteredItems.remove(getFilteredItemKey(currentPage, slot));
         }
 
         pageItemCount++;
@@ -320,6 +327,7 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
                 // Sync the item map and current page info
                 itemMap.put(parsedCurrentPage, itemMap.remove(currentPage));
                 currentPage = parsedCurrentPage;
+                resyncFilteredItems();
 
                 // Load the pages until the first page
                 loadItemsUntilPage(1, true);
@@ -442,6 +450,20 @@ public class TradeMarketSearchResultHolder extends WrappedScreenHolder<TradeMark
         }
     }
 
+    private void resyncFilteredItems() {
+        filteredItems.clear();
+
+        for (Map.Entry<Integer, Int2ObjectSortedMap<ItemStack>> page : itemMap.entrySet()) {
+            for (Int2ObjectMap.Entry<ItemStack> entry : page.getValue().int2ObjectEntrySet()) {
+                filteredItems.put(getFilteredItemKey(page.getKey(), entry.getIntKey()), entry.getValue());
+            }
+        }
+    }
+
+    private static int getFilteredItemKey(int page, int slot) {
+        return page * LAST_ITEM_SLOT + slot;
+    }
+
     private boolean isEmptyItem(ItemStack itemStack) {
         List<StyledText> loreTag = LoreUtils.getLore(itemStack);
         return itemStack.getItem() == Items.SNOW && (loreTag == null || loreTag.isEmpty());
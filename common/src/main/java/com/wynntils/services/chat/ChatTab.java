@@ -1,10 +1,11 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.chat;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.text.StyledText;
 import com.wynntils.handlers.chat.type.RecipientType;
 import java.util.Objects;
 import java.util.Optional;
@@ -63,6 +64,15 @@ public class ChatTab {
         return filteredTypes;
     }
 
+    public boolean matches(RecipientType recipientType, StyledText originalStyledText) {
+        if (filteredTypes != null && !filteredTypes.isEmpty() && !filteredTypes.contains(recipientType)) {
+            return false;
+        }
+
+        Optional<Pattern> regex = getCustomRegex();
+        return regex.isEmpty() || originalStyledText.matches(regex.get());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) return true;
@@ -0,0 +1,161 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.chat;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The messages of all chat tabs, stored once and shared between the tabs.
+ * <p>
+ * Every tab records the messages it received as a bitset over the log, and keeps as many messages as a vanilla
+ * chat component would. Messages that are not part of any tab anymore are dropped from the log, so it stays
+ * bounded by the number of tabs.
+ */
+public final class ChatTabLog<T> {
+    private final int tabCapacity;
+
+    private final List<T> messages = new ArrayList<>();
+    private final Map<ChatTab, TabState> tabStates = new HashMap<>();
+
+    // The number of messages in the log that are part of at least one tab
+    private int liveMessages = 0;
+
+    public ChatTabLog(int tabCapacity) {
+        this.tabCapacity = tabCapacity;
+    }
+
+    public void addMessage(T message, Collection<ChatTab> tabs, ChatTab focusedTab) {
+        if (tabs.isEmpty()) return;
+
+        int index = messages.size();
+        messages.add(message);
+        liveMessages++;
+
+        for (ChatTab tab : tabs) {
+            TabState state = tabStates.computeIfAbsent(tab, t -> new TabState());
+            state.members.set(index);
+            state.count++;
+
+            // Drop the oldest message of the tab, like the chat component would
+            if (state.count > tabCapacity) {
+                removeMember(state, state.members.nextSetBit(0));
+            }
+
+            if (focusedTab != tab) {
+                state.unread = true;
+            }
+        }
+
+        if (messages.size() > 2 * Math.max(liveMessages, tabCapacity)) {
+            compact();
+        }
+    }
+
+    /**
+     * @return The messages of the tab, oldest first
+     */
+    public List<T> getMessages(ChatTab tab) {
+        TabState state = tabStates.get(tab);
+        if (state == null) return List.of();
+
+        List<T> tabMessages = new ArrayList<>(state.count);
+        for (int i = state.members.nextSetBit(0); i >= 0; i = state.members.nextSetBit(i + 1)) {
+            tabMessages.add(messages.get(i));
+        }
+
+        return tabMessages;
+    }
+
+    /**
+     * Removes every message from the tab that is not in the given messages, compared by identity.
+     * This is used to carry over messages that were deleted from the chat while the tab was shown.
+     */
+    public void retainMessages(ChatTab tab, Collection<T> retainedMessages) {
+        TabState state = tabStates.get(tab);
+        if (state == null) return;
+
+        Set<T> retained = Collections.newSetFromMap(new IdentityHashMap<>());
+        retained.addAll(retainedMessages);
+
+        for (int i = state.members.nextSetBit(0); i >= 0; i = state.members.nextSetBit(i + 1)) {
+            if (!retained.contains(messages.get(i))) {
+                removeMember(state, i);
+            }
+        }
+    }
+
+    public boolean hasUnreadMessages(ChatTab tab) {
+        TabState state = tabStates.get(tab);
+        return state != null && state.unread;
+    }
+
+    public void markRead(ChatTab tab) {
+        TabState state = tabStates.get(tab);
+        if (state == null) return;
+
+        state.unread = false;
+    }
+
+    public int size() {
+        return messages.size();
+    }
+
+    public void clear() {
+        messages.clear();
+        tabStates.clear();
+        liveMessages = 0;
+    }
+
+    private void removeMember(TabState state, int index) {
+        state.members.clear(index);
+        state.count--;
+
+        for (TabState otherState : tabStates.values()) {
+            if (otherState.members.get(index)) return;
+        }
+
+        liveMessages--;
+    }
+
+    private void compact() {
+        BitSet live = new BitSet(messages.size());
+        for (TabState state : tabStates.values()) {
+            live.or(state.members);
+        }
+
+        // Map every live message to its index in the compacted log
+        int[] newIndexes = new int[messages.size()];
+        List<T> liveList = new ArrayList<>(liveMessages);
+        for (int i = live.nextSetBit(0); i >= 0; i = live.nextSetBit(i + 1)) {
+            newIndexes[i] = liveList.size();
+            liveList.add(messages.get(i));
+        }
+
+        for (TabState state : tabStates.values()) {
+            BitSet members = new BitSet(liveList.size());
+            for (int i = state.members.nextSetBit(0); i >= 0; i = state.members.nextSetBit(i + 1)) {
+                members.set(newIndexes[i]);
+            }
+            state.members = members;
+        }
+
+        messages.clear();
+        messages.addAll(liveList);
+    }
+
+    private static final class TabState {
+        private BitSet members = new BitSet();
+        private int count = 0;
+        private boolean unread = false;
+    }
+}
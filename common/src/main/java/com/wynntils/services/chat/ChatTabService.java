@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2024.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.chat;
@@ -14,28 +14,34 @@ import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
 import com.wynntils.handlers.chat.type.RecipientType;
 import com.wynntils.mc.event.ClientsideMessageEvent;
 import com.wynntils.mc.event.TickEvent;
+import com.wynntils.mc.extension.ChatComponentExtension;
+import com.wynntils.mc.mixin.accessors.ChatComponentAccessor;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.mc.McUtils;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
+import net.minecraft.client.GuiMessage;
+import net.minecraft.client.GuiMessageTag;
 import net.minecraft.client.gui.components.ChatComponent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 import net.neoforged.bus.api.SubscribeEvent;
 
 public final class ChatTabService extends Service {
+    // The number of messages a vanilla chat component keeps
+    private static final int MAX_TAB_MESSAGES = 100;
+
+    // All tabs share one log, only the tab that is shown is laid out in a chat component
+    private final ChatTabLog<GuiMessage> chatTabLog = new ChatTabLog<>(MAX_TAB_MESSAGES);
+
     private ChatComponent fallbackChat;
+    private ChatComponent tabChat;
 
     private ChatTab focusedTab = null;
-
-    private final Map<ChatTab, ChatComponent> chatTabData = new ConcurrentHashMap<>();
-    private final Map<ChatTab, Boolean> unreadMessages = new ConcurrentHashMap<>();
+    private ChatTab shownTab = null;
 
     public ChatTabService() {
         super(List.of());
@@ -99,14 +105,17 @@ public final class ChatTabService extends Service {
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
         if (event.getNewState() == WorldState.NOT_CONNECTED) {
-            chatTabData.clear();
-            unreadMessages.clear();
+            chatTabLog.clear();
+            tabChat = null;
+            shownTab = null;
         }
     }
 
     @SubscribeEvent
     public void onTick(TickEvent event) {
-        chatTabData.values().forEach(ChatComponent::tick);
+        if (tabChat != null) {
+            tabChat.tick();
+        }
     }
 
     public void setFocusedTab(int index) {
@@ -123,9 +132,9 @@ public final class ChatTabService extends Service {
 
             McUtils.mc().gui.chat = fallbackChat;
         } else {
-            chatTabData.putIfAbsent(focusedTab, new ChatComponent(McUtils.mc()));
-            unreadMessages.put(focusedTab, false);
-            McUtils.mc().gui.chat = chatTabData.get(focusedTab);
+            showTab(focusedTab);
+            chatTabLog.markRead(focusedTab);
+            McUtils.mc().gui.chat = tabChat;
         }
     }
 
@@ -134,61 +143,73 @@ public final class ChatTabService extends Service {
     }
 
     public boolean hasUnreadMessages(ChatTab tab) {
-        return unreadMessages.getOrDefault(tab, false);
+        return chatTabLog.hasUnreadMessages(tab);
     }
 
     public void matchMessage(ClientsideMessageEvent event) {
+        matchMessage(RecipientType.CLIENTSIDE, event.getOriginalStyledText(), event.getStyledText());
+    }
+
+    public void matchMessage(ChatMessageReceivedEvent event) {
+        matchMessage(event.getRecipientType(), event.getOriginalStyledText(), event.getStyledText());
+    }
+
+    private void matchMessage(RecipientType recipientType, StyledText originalStyledText, StyledText styledText) {
+        List<ChatTab> matchingTabs = new ArrayList<>();
+
         // Firstly, find the FIRST matching tab with high priority
         for (ChatTab chatTab : getChatTabs()) {
             if (!chatTab.isConsuming()) continue;
 
-            if (matchMessageFromEvent(chatTab, event)) {
-                addMessageToTab(chatTab, event.getStyledText().getComponent());
-                return;
+            if (chatTab.matches(recipientType, originalStyledText)) {
+                matchingTabs.add(chatTab);
+                break;
             }
         }
 
         // Secondly, match ALL tabs with low priority
-        for (ChatTab chatTab : getChatTabs()) {
-            if (chatTab.isConsuming()) continue;
+        if (matchingTabs.isEmpty()) {
+            for (ChatTab chatTab : getChatTabs()) {
+                if (chatTab.isConsuming()) continue;
 
-            if (matchMessageFromEvent(chatTab, event)) {
-                addMessageToTab(chatTab, event.getStyledText().getComponent());
+                if (chatTab.matches(recipientType, originalStyledText)) {
+                    matchingTabs.add(chatTab);
+                }
             }
         }
+
+        if (matchingTabs.isEmpty()) return;
+
+        addMessageToTabs(matchingTabs, styledText.getComponent());
     }
 
-    public void matchMessage(ChatMessageReceivedEvent event) {
-        // Firstly, find the FIRST matching tab with high priority
-        for (ChatTab chatTab : getChatTabs()) {
-            if (!chatTab.isConsuming()) continue;
+    private void addMessageToTabs(List<ChatTab> tabs, Component message) {
+        GuiMessage guiMessage = null;
 
-            if (matchMessageFromEvent(chatTab, event)) {
-                addMessageToTab(chatTab, event.getStyledText().getComponent());
-                return;
-            }
+        // Only the shown tab is laid out, the others pick the message up once they are shown
+        if (shownTab != null && shownTab == focusedTab && tabs.contains(shownTab)) {
+            guiMessage = addMessageToChat(tabChat, message);
         }
 
-        // Secondly, match ALL tabs with low priority
-        for (ChatTab chatTab : getChatTabs()) {
-            if (chatTab.isConsuming()) continue;
-
-            if (matchMessageFromEvent(chatTab, event)) {
-                addMessageToTab(chatTab, event.getStyledText().getComponent());
-            }
+        if (guiMessage == null) {
+            guiMessage = new GuiMessage(
+                    McUtils.mc().gui.getGuiTicks(),
+                    message,
+                    null,
+                    McUtils.mc().isSingleplayer() ? GuiMessageTag.systemSinglePlayer() : GuiMessageTag.system());
         }
-    }
 
-    private void addMessageToTab(ChatTab tab, Component message) {
-        chatTabData.putIfAbsent(tab, new ChatComponent(McUtils.mc()));
+        chatTabLog.addMessage(guiMessage, tabs, focusedTab);
+    }
 
+    private GuiMessage addMessageToChat(ChatComponent chat, Component message) {
         try {
-            chatTabData.get(tab).addMessage(message);
+            chat.addMessage(message);
         } catch (Throwable t) {
             MutableComponent warning = Component.literal(
                             "<< WARNING: A chat message was lost due to a crash in a mod other than Wynntils. See log for details. >>")
                     .withStyle(ChatFormatting.RED);
-            chatTabData.get(tab).addMessage(warning);
+            chat.addMessage(warning);
             // We have seen many issues with badly written mods that inject into addMessage, and
             // throws exceptions. Instead of considering it a Wynntils crash, dump it to the log and
             // ignore it. We can't resend the message to the chat, since that could cause an infinite loop,
@@ -199,33 +220,29 @@ public final class ChatTabService extends Service {
             WynntilsMod.warn("This is not a Wynntils bug. Here is the exception that we caught.", t);
         }
 
-        if (focusedTab != tab) {
-            unreadMessages.put(tab, true);
-        }
+        // Keep the message the chat created, so it is shown the same way when the tab is laid out again
+        List<GuiMessage> chatMessages = ((ChatComponentAccessor) chat).getAllMessages();
+        if (chatMessages.isEmpty()) return null;
+
+        GuiMessage guiMessage = chatMessages.getFirst();
+        return guiMessage.content() == message ? guiMessage : null;
     }
 
-    private boolean matchMessageFromEvent(ChatTab chatTab, ChatMessageReceivedEvent event) {
-        if (chatTab.getFilteredTypes() != null
-                && !chatTab.getFilteredTypes().isEmpty()
-                && !chatTab.getFilteredTypes().contains(event.getRecipientType())) {
-            return false;
+    private void showTab(ChatTab tab) {
+        if (tabChat == null) {
+            tabChat = new ChatComponent(McUtils.mc());
         }
 
-        Optional<Pattern> regex = chatTab.getCustomRegex();
-        return regex.isEmpty() || event.getOriginalStyledText().matches(regex.get());
-    }
+        if (shownTab == tab) return;
 
-    private boolean matchMessageFromEvent(ChatTab chatTab, ClientsideMessageEvent event) {
-        if (chatTab.getFilteredTypes() != null
-                && !chatTab.getFilteredTypes().isEmpty()
-                && !chatTab.getFilteredTypes().contains(RecipientType.CLIENTSIDE)) {
-            return false;
+        // Messages may have been deleted from the chat while the previous tab was shown
+        if (shownTab != null) {
+            chatTabLog.retainMessages(shownTab, ((ChatComponentAccessor) tabChat).getAllMessages());
         }
 
-        Optional<Pattern> regex = chatTab.getCustomRegex();
-        if (regex.isEmpty()) return true;
-
-        return event.getOriginalStyledText().matches(regex.get());
+        shownTab = tab;
+        tabChat.clearMessages(false);
+        ((ChatComponentExtension) tabChat).replaceMessages(chatTabLog.getMessages(tab));
     }
 
     /**
@@ -5,13 +5,17 @@
 package com.wynntils.services.cosmetics;
 
 import com.mojang.blaze3d.platform.NativeImage;
-import com.wynntils.core.WynntilsMod;
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.features.embellishments.WynntilsCosmeticsFeature;
+import com.wynntils.mc.event.TickEvent;
 import com.wynntils.models.players.WynntilsUser;
 import com.wynntils.models.players.type.CosmeticInfo;
+import com.wynntils.models.worlds.event.WorldStateEvent;
+import com.wynntils.models.worlds.type.WorldState;
+import com.wynntils.services.cosmetics.type.CosmeticTextureCache;
 import com.wynntils.services.cosmetics.type.WynntilsCapeLayer;
 import com.wynntils.services.cosmetics.type.WynntilsElytraLayer;
 import com.wynntils.services.cosmetics.type.WynntilsLayer;
@@ -20,11 +24,12 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import net.minecraft.client.model.PlayerModel;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.player.AbstractClientPlayer;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.LivingEntityRenderer;
@@ -33,6 +38,7 @@ import net.minecraft.client.renderer.texture.DynamicTexture;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.player.PlayerModelPart;
+import net.neoforged.bus.api.SubscribeEvent;
 
 public class CosmeticsService extends Service {
     private static final BiFunction<
@@ -55,7 +61,19 @@ public class CosmeticsService extends Service {
                             WynntilsLayer>>
             REGISTERED_LAYERS = List.of(CAPE_LAYER, ELYTRA_LAYER);
 
-    private final Map<UUID, ResourceLocation[]> cosmeticTextures = new ConcurrentHashMap<>();
+    // Sweep for textures of players that are no longer loaded every 5 seconds
+    private static final int RELEASE_INTERVAL_TICKS = 100;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    // Lower budgets would only release textures that are loaded again right away
+    private static final int MIN_TEXTURE_BUDGET_MEGABYTES = 16;
+
+    private final CosmeticTextureCache cosmeticTextures = new CosmeticTextureCache(
+            this::getTextureBudgetBytes,
+            System::currentTimeMillis,
+            RenderSystem::recordRenderCall,
+            location -> McUtils.mc().getTextureManager().release(location));
+
+    private int ticksUntilRelease = RELEASE_INTERVAL_TICKS;
 
     public CosmeticsService() {
         super(List.of());
@@ -103,41 +121,103 @@ public class CosmeticsService extends Service {
         return textures[currentFrame];
     }
 
+    @SubscribeEvent
+    public void onTick(TickEvent event) {
+        ticksUntilRelease--;
+        if (ticksUntilRelease > 0) return;
+        ticksUntilRelease = RELEASE_INTERVAL_TICKS;
+
+        ClientLevel level = McUtils.mc().level;
+        if (level == null) return;
+
+        Set<UUID> loadedPlayers = level.players().stream().map(Player::getUUID).collect(Collectors.toSet());
+        cosmeticTextures.releaseUnloaded(loadedPlayers::contains);
+    }
+
+    @SubscribeEvent
+    public void onWorldStateChange(WorldStateEvent event) {
+        if (event.getNewState() != WorldState.NOT_CONNECTED) return;
+
+        cosmeticTextures.releaseAll();
+    }
+
     public void loadCosmeticTextures(UUID uuid, WynntilsUser user) {
-        try {
-            if (user.cosmetics().texture() == null || user.cosmetics().texture().isEmpty()) return;
-            if (cosmeticTextures.containsKey(uuid)) return;
+        if (!hasTexture(user)) return;
 
-            byte[] textureBytes = Base64.getDecoder().decode(user.cosmetics().texture());
-            ByteArrayInputStream byteStream = new ByteArrayInputStream(textureBytes);
-            NativeImage image = NativeImage.read(byteStream);
+        cosmeticTextures.load(uuid, id -> registerTextures(id, user));
+    }
 
-            int frames = (image.getHeight() * 2) / image.getWidth();
-            int frameHeight = image.getHeight() / frames;
+    public ResourceLocation[] getUserCosmeticTexture(UUID uuid) {
+        WynntilsUser user = Models.Player.getUser(uuid);
+        if (user == null || !hasTexture(user)) return null;
 
-            ResourceLocation[] locations = new ResourceLocation[frames];
-            String baseLocation = "wynntils:capes/" + uuid.toString().replace("-", "");
+        // Textures that were released are loaded again for the next render tick
+        return cosmeticTextures.get(uuid, id -> registerTextures(id, user));
+    }
+
+    private CosmeticTextureCache.Textures registerTextures(UUID uuid, WynntilsUser user) throws IOException {
+        byte[] textureBytes = Base64.getDecoder().decode(user.cosmetics().texture());
+        ByteArrayInputStream byteStream = new ByteArrayInputStream(textureBytes);
+        NativeImage image = NativeImage.read(byteStream);
+
+        try {
+            return registerFrames(uuid, image);
+        } catch (IOException | RuntimeException e) {
+            image.close();
+            throw e;
+        }
+    }
 
-            if (frames == 1) { // not animated
-                locations[0] = ResourceLocation.parse(baseLocation);
-                McUtils.mc().getTextureManager().register(locations[0], new DynamicTexture(image));
-            } else { // animated
-                for (int i = 0; i < frames; i++) {
-                    NativeImage frame = new NativeImage(frameHeight * 2, frameHeight, false);
+    private CosmeticTextureCache.Textures registerFrames(UUID uuid, NativeImage image) throws IOException {
+        int frames = (image.getHeight() * 2) / image.getWidth();
+        if (frames == 0) {
+            throw new IOException(
+                    "Cosmetic texture of " + image.getWidth() + "x" + image.getHeight() + " is wider than 2:1");
+        }
+        int frameHeight = image.getHeight() / frames;
+
+        ResourceLocation[] locations = new ResourceLocation[frames];
+        String baseLocation = "wynntils:capes/" + uuid.toString().replace("-", "");
+
+        if (frames == 1) { // not animated
+            locations[0] = ResourceLocation.parse(baseLocation);
+            McUtils.mc().getTextureManager().register(locations[0], new DynamicTexture(image));
+        } else { // animated
+            for (int i = 0; i < frames; i++) {
+                NativeImage frame = new NativeImage(frameHeight * 2, frameHeight, false);
+                try {
                     image.copyRect(frame, 0, frameHeight * i, 0, 0, frameHeight * 2, frameHeight, false, false);
 
                     locations[i] = ResourceLocation.parse(baseLocation + "/" + i);
                     McUtils.mc().getTextureManager().register(locations[i], new DynamicTexture(frame));
+                } catch (RuntimeException e) {
+                    frame.close();
+
+                    // The caller only closes the source image, so release the frames registered so far
+                    for (int registered = 0; registered < i; registered++) {
+                        McUtils.mc().getTextureManager().release(locations[registered]);
+                    }
+                    throw e;
                 }
             }
 
-            cosmeticTextures.put(uuid, locations);
-        } catch (IOException e) {
-            WynntilsMod.warn("IOException occurred while loading cosmetics for user " + uuid, e);
+            // Every frame was copied into its own texture
+            image.close();
         }
+
+        // Frames are RGBA, so 4 bytes per pixel
+        long sizeBytes = (long) frames * frameHeight * frameHeight * 2 * 4;
+        return new CosmeticTextureCache.Textures(locations, sizeBytes);
     }
 
-    public ResourceLocation[] getUserCosmeticTexture(UUID uuid) {
-        return cosmeticTextures.getOrDefault(uuid, null);
+    private static boolean hasTexture(WynntilsUser user) {
+        return user.cosmetics().texture() != null && !user.cosmetics().texture().isEmpty();
+    }
+
+    private long getTextureBudgetBytes() {
+        int budgetMegabytes = Managers.Feature.getFeatureInstance(WynntilsCosmeticsFeature.class)
+                .textureMemoryBudget
+                .get();
+        return Math.max(MIN_TEXTURE_BUDGET_MEGABYTES, budgetMegabytes) * BYTES_PER_MEGABYTE;
     }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.cosmetics.type;
+
+import com.wynntils.core.WynntilsMod;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Keeps track of the registered cosmetic textures of each user, releases them and loads them again when needed.
+ * <p>
+ * Textures are released when their user is no longer loaded, and the least recently used textures are released
+ * when the registered textures take more memory than the budget. Textures that were used recently are never released
+ * for the budget, as they would only be loaded again on the next frame. A user whose textures failed to load is not
+ * retried until {@link #releaseAll()}.
+ */
+public final class CosmeticTextureCache {
+    // Textures used within this time are still being rendered
+    private static final long IN_USE_MS = 5000;
+
+    private final LongSupplier budgetBytes;
+    private final LongSupplier clock;
+    private final Consumer<Runnable> loadScheduler;
+    private final Consumer<ResourceLocation> releaser;
+    private final LinkedHashMap<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<UUID> pendingLoads = new HashSet<>();
+    private final Set<UUID> failedLoads = new HashSet<>();
+
+    private long usedBytes = 0;
+
+    /**
+     * @param loadScheduler called with a load of released textures, it must run it where textures can be registered
+     * @param releaser      releases a registered texture
+     */
+    public CosmeticTextureCache(
+            LongSupplier budgetBytes,
+            LongSupplier clock,
+            Consumer<Runnable> loadScheduler,
+            Consumer<ResourceLocation> releaser) {
+        this.budgetBytes = budgetBytes;
+        this.clock = clock;
+        this.loadScheduler = loadScheduler;
+        this.releaser = releaser;
+    }
+
+    /**
+     * @return The textures of the user, or null if they are not loaded yet. Missing textures are scheduled to be
+     * loaded, unless they are already pending or failed to load before.
+     */
+    public synchronized ResourceLocation[] get(UUID uuid, Loader loader) {
+        Entry entry = entries.get(uuid);
+        if (entry != null) {
+            entry.lastUsed = clock.getAsLong();
+            return entry.frames;
+        }
+
+        if (!failedLoads.contains(uuid) && pendingLoads.add(uuid)) {
+            loadScheduler.accept(() -> load(uuid, loader));
+        }
+
+        return null;
+    }
+
+    public synchronized boolean contains(UUID uuid) {
+        return entries.containsKey(uuid);
+    }
+
+    /**
+     * Loads the textures of a user now, unless they are already loaded or failed to load before. Any exception of
+     * the loader marks the user as failed.
+     */
+    public void load(UUID uuid, Loader loader) {
+        synchronized (this) {
+            if (entries.containsKey(uuid) || failedLoads.contains(uuid)) {
+                pendingLoads.remove(uuid);
+                return;
+            }
+        }
+
+        try {
+            Textures textures = loader.load(uuid);
+            synchronized (this) {
+                Entry entry = new Entry(textures.frames(), textures.sizeBytes(), clock.getAsLong());
+                Entry previous = entries.put(uuid, entry);
+                // Registering at the same locations already replaced the textures of a concurrent load
+                if (previous != null) {
+                    usedBytes -= previous.sizeBytes;
+                }
+                usedBytes += textures.sizeBytes();
+                enforceBudget();
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (this) {
+                failedLoads.add(uuid);
+            }
+            WynntilsMod.warn("Failed to load cosmetics for user " + uuid, e);
+        } finally {
+            synchronized (this) {
+                pendingLoads.remove(uuid);
+            }
+        }
+    }
+
+    /**
+     * Releases the textures of all users that are no longer loaded, and of the least recently used users if the
+     * budget has been lowered.
+     */
+    public synchronized void releaseUnloaded(Predicate<UUID> isLoaded) {
+        Iterator<Map.Entry<UUID, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Entry> entry = iterator.next();
+            if (isLoaded.test(entry.getKey())) continue;
+
+            iterator.remove();
+            release(entry.getValue());
+        }
+
+        enforceBudget();
+    }
+
+    /**
+     * Releases all textures, and allows users that failed to load to be loaded again.
+     */
+    public synchronized void releaseAll() {
+        entries.values().forEach(this::release);
+        entries.clear();
+        failedLoads.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    private void enforceBudget() {
+        long budget = budgetBytes.getAsLong();
+        long inUseSince = clock.getAsLong() - IN_USE_MS;
+        Iterator<Entry> iterator = entries.values().iterator();
+
+        // Entries are ordered by last use, so every entry after one that is in use is in use as well
+        while (usedBytes > budget && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (eldest.lastUsed > inUseSince) return;
+
+            iterator.remove();
+            release(eldest);
+        }
+    }
+
+    private void release(Entry entry) {
+        for (ResourceLocation frame : entry.frames) {
+            releaser.accept(frame);
+        }
+        usedBytes -= entry.sizeBytes;
+    }
+
+    /**
+     * Registers the textures of a user.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        Textures load(UUID uuid) throws IOException;
+    }
+
+    public record Textures(ResourceLocation[] frames, long sizeBytes) {}
+
+    private static final class Entry {
+        private final ResourceLocation[] frames;
+        private final long sizeBytes;
+
+        private long lastUsed;
+
+        private Entry(ResourceLocation[] frames, long sizeBytes, long lastUsed) {
+            this.frames = frames;
+            this.sizeBytes = sizeBytes;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
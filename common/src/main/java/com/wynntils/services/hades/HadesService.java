@@ -31,8 +31,7 @@ import com.wynntils.utils.mc.McUtils;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
@@ -53,7 +52,7 @@ public final class HadesService extends Service {
     private HadesConnection hadesConnection;
     private int tickCountUntilUpdate = 0;
     private PlayerStatus lastSentStatus;
-    private ScheduledExecutorService pingScheduler;
+    private ScheduledFuture<?> pingTask;
 
     public HadesService() {
         super(List.of());
@@ -101,15 +100,14 @@ public final class HadesService extends Service {
 
         WynntilsMod.info("Starting Hades Ping Scheduler Task");
 
-        pingScheduler = Executors.newSingleThreadScheduledExecutor();
-        pingScheduler.scheduleAtFixedRate(this::sendPing, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
+        pingTask = Managers.Executor.scheduleAtFixedRate(this::sendPing, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
     }
 
     @SubscribeEvent
     public void onDisconnect(HadesEvent.Disconnected event) {
-        if (pingScheduler == null) return;
-        pingScheduler.shutdown();
-        pingScheduler = null;
+        if (pingTask == null) return;
+        pingTask.cancel(false);
+        pingTask = null;
     }
 
     private void sendPing() {
@@ -8,10 +8,8 @@ import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
-import com.wynntils.core.text.StyledText;
 import com.wynntils.models.elements.type.Skill;
 import com.wynntils.models.ingredients.type.IngredientPosition;
-import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.profession.type.ProfessionType;
 import com.wynntils.models.stats.type.StatType;
 import com.wynntils.models.territories.type.GuildResource;
@@ -61,6 +59,7 @@ import com.wynntils.services.itemfilter.statproviders.territory.TerritoryTreasur
 import com.wynntils.services.itemfilter.statproviders.territory.TerritoryUpgradeCountStatProvider;
 import com.wynntils.services.itemfilter.statproviders.territory.TerritoryUpgradeLevelStatProvider;
 import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemQueryPlan;
 import com.wynntils.services.itemfilter.type.ItemSearchQuery;
 import com.wynntils.services.itemfilter.type.ItemStatProvider;
 import com.wynntils.services.itemfilter.type.SortDirection;
@@ -70,16 +69,16 @@ import com.wynntils.services.itemfilter.type.StatFilterFactory;
 import com.wynntils.services.itemfilter.type.StatProviderAndFilterPair;
 import com.wynntils.services.itemfilter.type.StatProviderFilterMap;
 import com.wynntils.services.itemfilter.type.StatValue;
+import com.wynntils.utils.type.BoundedLruMap;
 import com.wynntils.utils.type.CappedValue;
 import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Stream;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.resources.language.I18n;
 import net.minecraft.world.item.ItemStack;
@@ -88,6 +87,7 @@ public class ItemFilterService extends Service {
     private static final String SORT_KEY = "sort";
     private static final String SORT_REVERSE_KEY = "^";
     private static final String LIST_SEPARATOR = ",";
+    private static final int QUERY_PLAN_CACHE_SIZE = 32;
 
     @Persisted
     public final Storage<List<Pair<String, String>>> presets = new Storage<>(new ArrayList<>());
@@ -95,6 +95,8 @@ public class ItemFilterService extends Service {
     private final List<ItemStatProvider<?>> itemStatProviders = new ArrayList<>();
     private final List<Pair<Class<?>, StatFilterFactory<? extends StatFilter<?>>>> statFilters = new ArrayList<>();
 
+    private final BoundedLruMap<QueryPlanKey, ItemQueryPlan> queryPlans = new BoundedLruMap<>(QUERY_PLAN_CACHE_SIZE);
+
     public ItemFilterService() {
         super(List.of());
 
@@ -102,6 +104,19 @@ public class ItemFilterService extends Service {
         registerStatFilters();
     }
 
+    /**
+     * Creates a service that only knows the given stat providers. The built-in providers depend on the models,
+     * so this is used to parse queries where the models are not available, like in tests and benchmarks.
+     *
+     * @param itemStatProviders the stat providers that can be used in queries
+     */
+    protected ItemFilterService(List<ItemStatProvider<?>> itemStatProviders) {
+        super(List.of());
+
+        itemStatProviders.forEach(this::registerStatProvider);
+        registerStatFilters();
+    }
+
     public List<ItemStatProvider<?>> getItemStatProviders() {
         return itemStatProviders;
     }
@@ -277,16 +292,7 @@ public class ItemFilterService extends Service {
      * @return true if the item matches the search query, false otherwise
      */
     public boolean matches(ItemSearchQuery searchQuery, ItemStack itemStack) {
-        if (searchQuery.isEmpty()) return true;
-        if (itemStack.isEmpty()) return false;
-
-        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-        if (wynnItemOpt.isEmpty()) return false;
-
-        return filterMatches(searchQuery, wynnItemOpt.get())
-                && itemNameMatches(
-                        searchQuery,
-                        StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting());
+        return getQueryPlan(searchQuery).matches(itemStack);
     }
 
     /**
@@ -297,50 +303,40 @@ public class ItemFilterService extends Service {
      * @return the filtered and sorted list of items
      */
     public <T extends ItemStack> List<T> filterAndSort(ItemSearchQuery searchQuery, List<T> originalList) {
-        Stream<T> filteredList = originalList.stream().filter(itemStack -> matches(searchQuery, itemStack));
-
-        // Sorted stat providers must be filtered as "any" filters
-        filteredList = filteredList.filter(itemStack -> {
-            Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
-
-            WynnItem wynnItem = wynnItemOpt.get();
-
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                ItemStatProvider<?> statProvider = sortInfo.provider();
-                if (statProvider.getValue(wynnItem).isEmpty()) {
-                    return false;
-                }
-            }
-
-            return true;
-        });
-
-        filteredList = filteredList.sorted((itemStack1, itemStack2) -> {
-            Optional<WynnItem> wynnItem1Opt = Models.Item.getWynnItem(itemStack1);
-            Optional<WynnItem> wynnItem2Opt = Models.Item.getWynnItem(itemStack2);
-
-            if (wynnItem1Opt.isEmpty() || wynnItem2Opt.isEmpty()) {
-                return 0;
-            }
-
-            WynnItem wynnItem1 = wynnItem1Opt.get();
-            WynnItem wynnItem2 = wynnItem2Opt.get();
-
-            for (SortInfo sortInfo : searchQuery.sorts()) {
-                int compare = sortInfo.provider().compare(wynnItem1, wynnItem2);
+        return getQueryPlan(searchQuery).filterAndSort(originalList);
+    }
 
-                if (compare != 0) {
-                    return switch (sortInfo.direction()) {
-                        case ASCENDING -> -compare;
-                        case DESCENDING -> compare;
-                    };
-                }
-            }
+    /**
+     * Checks if the given item would be part of the result of {@link #filterAndSort(ItemSearchQuery, List)}.
+     * In addition to {@link #matches(ItemSearchQuery, ItemStack)}, the item must have a value for all sorted stats.
+     *
+     * @param searchQuery the search query
+     * @param itemStack   the item to check
+     * @return true if the item is kept by the search query, false otherwise
+     */
+    public boolean matchesWithSorts(ItemSearchQuery searchQuery, ItemStack itemStack) {
+        return getQueryPlan(searchQuery).matchesWithSorts(itemStack);
+    }
 
-            return 0;
-        });
+    /**
+     * Returns the comparator used to order the result of {@link #filterAndSort(ItemSearchQuery, List)}.
+     *
+     * @param searchQuery the search query
+     * @return a comparator ordering items by the sorts of the search query
+     */
+    public Comparator<ItemStack> getSortComparator(ItemSearchQuery searchQuery) {
+        return getQueryPlan(searchQuery).getSortComparator();
+    }
 
-        return filteredList.toList();
+    /**
+     * Returns the compiled plan for the given search query. Plans are cached per search query instance, so repeated
+     * calls with the query a screen holds are cheap.
+     *
+     * @param searchQuery the search query
+     * @return the compiled plan of the search query
+     */
+    public synchronized ItemQueryPlan getQueryPlan(ItemSearchQuery searchQuery) {
+        return queryPlans.computeIfAbsent(new QueryPlanKey(searchQuery), key -> ItemQueryPlan.compile(searchQuery));
     }
 
     /**
@@ -430,31 +426,6 @@ public class ItemFilterService extends Service {
         }
     }
 
-    /**
-     * Checks if the given item matches all filters. Tokens that are not filters in the search query are ignored. If no
-     * filters are present, this method always returns true.
-     *
-     * @param wynnItem the wynnItem version of the item
-     * @return true if the item matches all filters, false otherwise
-     */
-    private boolean filterMatches(ItemSearchQuery searchQuery, WynnItem wynnItem) {
-        return searchQuery.filters().matches(wynnItem);
-    }
-
-    /**
-     * Checks if the given item name contains the concatenated plain text tokens of the search query. The filter tokens
-     * in the search query are ignored. If there are no plain text tokens, this method always returns true.
-     *
-     * @param itemName the name to check
-     * @return true if the name contains the concatenated plain text tokens, false otherwise
-     */
-    private boolean itemNameMatches(ItemSearchQuery searchQuery, String itemName) {
-        return searchQuery.plainTextTokens().isEmpty()
-                || itemName.toLowerCase(Locale.ROOT)
-                        .contains(
-                                String.join(" ", searchQuery.plainTextTokens()).toLowerCase(Locale.ROOT));
-    }
-
     private ErrorOr<List<SortInfo>> getStatSortOrder(
             String inputString, List<ItemProviderType> supportedProviderTypes) {
         List<Pair<SortDirection, String>> providerNamesWithDirection = Arrays.stream(inputString.split(LIST_SEPARATOR))
@@ -590,4 +561,20 @@ public class ItemFilterService extends Service {
     private <T> void registerStatFilter(Class<T> clazz, StatFilterFactory<? extends StatFilter<T>> statFilterFactory) {
         statFilters.add(Pair.of(clazz, statFilterFactory));
     }
+
+    /**
+     * The same query string can resolve to different stat providers on different screens, and the filters of a
+     * query do not compare by content, so plans are keyed by the search query instance they were compiled from.
+     */
+    private record QueryPlanKey(ItemSearchQuery searchQuery) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof QueryPlanKey other && other.searchQuery == searchQuery;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(searchQuery);
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemfilter.type;
+
+import com.wynntils.core.components.Models;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.filters.AnyStatFilters;
+import com.wynntils.services.itemfilter.filters.BooleanStatFilter;
+import com.wynntils.services.itemfilter.filters.RangedStatFilters;
+import com.wynntils.services.itemfilter.filters.StringStatFilter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A search query compiled for repeated evaluation. The stat clauses of the query are ordered from the cheapest to
+ * the most expensive, each stat is only resolved once per item, and the item name is only computed if all stat
+ * clauses matched.
+ * <p>
+ * The results are the same as evaluating the {@link ItemSearchQuery} directly. Create plans with
+ * {@link com.wynntils.services.itemfilter.ItemFilterService#getQueryPlan(ItemSearchQuery)}, which caches them.
+ */
+public final class ItemQueryPlan {
+    private final ItemSearchQuery searchQuery;
+    private final boolean emptyQuery;
+    private final List<Clause> clauses;
+    private final String nameToken;
+    private final List<SortInfo> sorts;
+
+    private ItemQueryPlan(ItemSearchQuery searchQuery, List<Clause> clauses, String nameToken) {
+        this.searchQuery = searchQuery;
+        this.emptyQuery = searchQuery.isEmpty();
+        this.clauses = clauses;
+        this.nameToken = nameToken;
+        this.sorts = List.copyOf(searchQuery.sorts());
+    }
+
+    public static ItemQueryPlan compile(ItemSearchQuery searchQuery) {
+        List<Clause> clauses = new ArrayList<>();
+        for (Map.Entry<ItemStatProvider<?>, List<StatProviderAndFilterPair>> entry :
+                searchQuery.filters().entries().entrySet()) {
+            // A clause matches if any of its filters match, so try the cheap ones first
+            List<StatFilter> filters = entry.getValue().stream()
+                    .map(pair -> (StatFilter) pair.statFilter())
+                    .sorted(Comparator.comparingInt(ItemQueryPlan::getFilterCost))
+                    .toList();
+            int cost = filters.stream().mapToInt(ItemQueryPlan::getFilterCost).sum();
+
+            clauses.add(new Clause(entry.getKey(), filters, cost));
+        }
+        clauses.sort(Comparator.comparingInt(Clause::cost));
+
+        String nameToken = searchQuery.plainTextTokens().isEmpty()
+                ? null
+                : String.join(" ", searchQuery.plainTextTokens()).toLowerCase(Locale.ROOT);
+
+        return new ItemQueryPlan(searchQuery, List.copyOf(clauses), nameToken);
+    }
+
+    public ItemSearchQuery getSearchQuery() {
+        return searchQuery;
+    }
+
+    /**
+     * @see com.wynntils.services.itemfilter.ItemFilterService#matches(ItemSearchQuery, ItemStack)
+     */
+    public boolean matches(ItemStack itemStack) {
+        if (emptyQuery) return true;
+        if (itemStack.isEmpty()) return false;
+
+        Optional<WynnItem> wynnItemOpt = Models.Item.getWynnItem(itemStack);
+        return wynnItemOpt.isPresent() && matches(wynnItemOpt.get(), () -> getItemName(itemStack));
+    }
+
+    /**
+     * @see com.wynntils.services.itemfilter.ItemFilterService#matchesWithSorts(ItemSearchQuery, ItemStack)
+     */
+    public boolean matchesWithSorts(ItemStack itemStack) {
+        return matchesWithSorts(itemStack, resolveWynnItem(itemStack));
+    }
+
+    /**
+     * Checks if the given item matches all stat clauses and the plain text of the query.
+     *
+     * @param wynnItem     the item to check
+     * @param nameSupplier supplies the unformatted name of the item, only called if the name is needed
+     * @return true if the item matches, false otherwise
+     */
+    public boolean matches(WynnItem wynnItem, Supplier<String> nameSupplier) {
+        for (Clause clause : clauses) {
+            if (!clause.matches(wynnItem)) return false;
+        }
+
+        return nameToken == null || nameSupplier.get().toLowerCase(Locale.ROOT).contains(nameToken);
+    }
+
+    /**
+     * Checks if the given item has a value for all sorted stats. Items without them are not part of sorted results.
+     */
+    public boolean hasSortValues(WynnItem wynnItem) {
+        for (SortInfo sortInfo : sorts) {
+            if (sortInfo.provider().getValue(wynnItem).isEmpty()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * @see com.wynntils.services.itemfilter.ItemFilterService#getSortComparator(ItemSearchQuery)
+     */
+    public Comparator<ItemStack> getSortComparator() {
+        return (itemStack1, itemStack2) ->
+                compareWynnItems(resolveWynnItem(itemStack1), resolveWynnItem(itemStack2));
+    }
+
+    /**
+     * Compares two items by the sorts of the query. If any of the items is missing, they are considered equal.
+     */
+    public int compareWynnItems(WynnItem wynnItem1, WynnItem wynnItem2) {
+        if (wynnItem1 == null || wynnItem2 == null) return 0;
+
+        for (SortInfo sortInfo : sorts) {
+            int compare = sortInfo.provider().compare(wynnItem1, wynnItem2);
+
+            if (compare != 0) {
+                return switch (sortInfo.direction()) {
+                    case ASCENDING -> -compare;
+                    case DESCENDING -> compare;
+                };
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * @see com.wynntils.services.itemfilter.ItemFilterService#filterAndSort(ItemSearchQuery, List)
+     */
+    public <T extends ItemStack> List<T> filterAndSort(List<T> originalList) {
+        // Resolve every item once, instead of once per clause and per comparison
+        List<ResolvedItem<T>> resolvedItems = new ArrayList<>();
+        for (T itemStack : originalList) {
+            WynnItem wynnItem = resolveWynnItem(itemStack);
+            if (matchesWithSorts(itemStack, wynnItem)) {
+                resolvedItems.add(new ResolvedItem<>(itemStack, wynnItem));
+            }
+        }
+
+        if (!sorts.isEmpty()) {
+            resolvedItems.sort((item1, item2) -> compareWynnItems(item1.wynnItem(), item2.wynnItem()));
+        }
+
+        return resolvedItems.stream().map(ResolvedItem::itemStack).toList();
+    }
+
+    private boolean matchesWithSorts(ItemStack itemStack, WynnItem wynnItem) {
+        if (emptyQuery && sorts.isEmpty()) return true;
+        if (wynnItem == null) return false;
+
+        return matches(wynnItem, () -> getItemName(itemStack)) && hasSortValues(wynnItem);
+    }
+
+    private static WynnItem resolveWynnItem(ItemStack itemStack) {
+        if (itemStack.isEmpty()) return null;
+
+        return Models.Item.getWynnItem(itemStack).orElse(null);
+    }
+
+    private static String getItemName(ItemStack itemStack) {
+        return StyledText.fromComponent(itemStack.getHoverName()).getStringWithoutFormatting();
+    }
+
+    private static int getFilterCost(StatFilter<?> statFilter) {
+        return switch (statFilter) {
+            case AnyStatFilters.AbstractAnyStatFilter<?> anyFilter -> 0;
+            case BooleanStatFilter booleanFilter -> 0;
+            case RangedStatFilters.AbstractRangedStatFilter<?> rangedFilter -> 1;
+            case StringStatFilter stringFilter -> 2;
+            default -> 3;
+        };
+    }
+
+    private record Clause(ItemStatProvider<?> statProvider, List<StatFilter> filters, int cost) {
+        private boolean matches(WynnItem wynnItem) {
+            Optional<?> value = statProvider.getValue(wynnItem);
+            if (value.isEmpty()) return false;
+
+            for (StatFilter filter : filters) {
+                if (filter.matches(value.get())) return true;
+            }
+
+            return false;
+        }
+    }
+
+    private record ResolvedItem<T>(T itemStack, WynnItem wynnItem) {}
+}
@@ -1,18 +1,23 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemrecord;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Models;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.components.Services;
 import com.wynntils.core.persisted.Persisted;
 import com.wynntils.core.persisted.storage.Storage;
+import com.wynntils.models.gear.event.GearInfoReloadedEvent;
 import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemrecord.type.DecodedItemCache;
 import com.wynntils.services.itemrecord.type.SavedItem;
+import com.wynntils.utils.EncodedByteBuffer;
 import com.wynntils.utils.mc.KeyboardUtils;
 import com.wynntils.utils.mc.McUtils;
+import com.wynntils.utils.type.ErrorOr;
 import com.wynntils.utils.type.Pair;
 import java.util.ArrayList;
 import java.util.List;
@@ -21,9 +26,11 @@ import java.util.TreeSet;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.item.ItemStack;
+import net.neoforged.bus.api.SubscribeEvent;
 
 public class ItemRecordService extends Service {
     private static final String DEFAULT_CATEGORY = "Uncategorized";
+    private static final int DECODED_ITEM_CACHE_SIZE = 512;
 
     @Persisted
     public final Storage<Set<SavedItem>> savedItems = new Storage<>(new TreeSet<>());
@@ -36,10 +43,27 @@ public class ItemRecordService extends Service {
     @Persisted
     public final Storage<Set<String>> categories = new Storage<>(new TreeSet<>(List.of(DEFAULT_CATEGORY)));
 
+    private final DecodedItemCache decodedItemCache = new DecodedItemCache(
+            DECODED_ITEM_CACHE_SIZE,
+            base64 -> Models.ItemEncoding.decodeItem(EncodedByteBuffer.fromBase64String(base64), null));
+
     public ItemRecordService() {
         super(List.of());
     }
 
+    @SubscribeEvent
+    public void onGearInfoReloaded(GearInfoReloadedEvent event) {
+        // Decoded items reference the old gear infos
+        decodedItemCache.invalidate();
+    }
+
+    /**
+     * Decodes a saved item, reusing the previous result if the same payload was decoded before.
+     */
+    public ErrorOr<WynnItem> decodeItem(String base64) {
+        return decodedItemCache.get(base64);
+    }
+
     public boolean saveItem(WynnItem wynnItem, ItemStack itemStack, Component itemName) {
         // Regular ItemStack can't be converted to json so store the tags needed
         // to recreate it
@@ -0,0 +1,46 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.itemrecord.type;
+
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.utils.type.BoundedLruMap;
+import com.wynntils.utils.type.ErrorOr;
+import java.util.function.Function;
+
+/**
+ * A bounded LRU cache of decoded items, keyed by their encoded base64 payload.
+ * <p>
+ * Only successfully decoded items are cached, so items that fail to decode are retried on the next lookup.
+ * The cache must be invalidated when the data the decoder depends on changes.
+ */
+public final class DecodedItemCache {
+    private final Function<String, ErrorOr<WynnItem>> decoder;
+    private final BoundedLruMap<String, WynnItem> decodedItems;
+
+    public DecodedItemCache(int maxSize, Function<String, ErrorOr<WynnItem>> decoder) {
+        this.decoder = decoder;
+        this.decodedItems = new BoundedLruMap<>(maxSize);
+    }
+
+    public synchronized ErrorOr<WynnItem> get(String base64) {
+        WynnItem cachedItem = decodedItems.get(base64);
+        if (cachedItem != null) return ErrorOr.of(cachedItem);
+
+        ErrorOr<WynnItem> errorOrWynnItem = decoder.apply(base64);
+        if (!errorOrWynnItem.hasError()) {
+            decodedItems.put(base64, errorOrWynnItem.getValue());
+        }
+
+        return errorOrWynnItem;
+    }
+
+    public synchronized void invalidate() {
+        decodedItems.clear();
+    }
+
+    public synchronized int size() {
+        return decodedItems.size();
+    }
+}
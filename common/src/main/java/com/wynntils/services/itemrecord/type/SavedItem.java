@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2024.
+ * Copyright © Wynntils 2024-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.itemrecord.type;
@@ -12,6 +12,7 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import com.wynntils.core.components.Models;
+import com.wynntils.core.components.Services;
 import com.wynntils.models.items.WynnItem;
 import com.wynntils.models.items.encoding.type.EncodingSettings;
 import com.wynntils.utils.EncodedByteBuffer;
@@ -50,8 +51,7 @@ public record SavedItem(String base64, Set<String> categories, ItemStack itemSta
      * Note that this can't be done during deserialization because the models might not have finished loading yet
      */
     public WynnItem wynnItem() {
-        ErrorOr<WynnItem> errorOrWynnItem =
-                Models.ItemEncoding.decodeItem(EncodedByteBuffer.fromBase64String(base64), null);
+        ErrorOr<WynnItem> errorOrWynnItem = Services.ItemRecord.decodeItem(base64);
 
         if (errorOrWynnItem.hasError()) {
             throw new IllegalStateException(
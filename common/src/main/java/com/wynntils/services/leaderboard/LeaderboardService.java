@@ -1,24 +1,24 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.leaderboard;
 
-import com.google.gson.JsonElement;
 import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Service;
 import com.wynntils.core.net.ApiResponse;
 import com.wynntils.core.net.UrlId;
 import com.wynntils.services.leaderboard.type.LeaderboardBadge;
+import com.wynntils.services.leaderboard.type.LeaderboardSnapshot;
 import com.wynntils.services.leaderboard.type.LeaderboardType;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class LeaderboardService extends Service {
-    private Map<UUID, List<LeaderboardBadge>> leaderboard = new HashMap<>();
+    // Swapped as a whole, so renderers never see a partially applied ranking
+    private final AtomicReference<LeaderboardSnapshot> leaderboard = new AtomicReference<>(LeaderboardSnapshot.EMPTY);
 
     public LeaderboardService() {
         super(List.of());
@@ -30,24 +30,18 @@ public class LeaderboardService extends Service {
     }
 
     public List<LeaderboardBadge> getBadges(UUID id) {
-        return leaderboard.getOrDefault(id, List.of());
+        return leaderboard.get().getBadges(id);
     }
 
     private void updateLeaderboards() {
-        leaderboard = new HashMap<>();
-
+        // All types are requested at once, each response is applied as soon as it arrives.
+        // Rankings that failed to load keep their previous standings.
         for (LeaderboardType type : LeaderboardType.values()) {
             ApiResponse apiResponse =
                     Managers.Net.callApi(UrlId.DATA_WYNNCRAFT_LEADERBOARD, Map.of("type", type.getKey()));
             apiResponse.handleJsonObject(json -> {
-                for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
-                    UUID uuid = UUID.fromString(
-                            entry.getValue().getAsJsonObject().get("uuid").getAsString());
-                    List<LeaderboardBadge> badges = leaderboard.getOrDefault(uuid, new ArrayList<>());
-
-                    badges.add(LeaderboardBadge.from(type, Integer.parseInt(entry.getKey())));
-                    leaderboard.put(uuid, badges);
-                }
+                Map<Integer, UUID> ranking = LeaderboardSnapshot.parseRanking(json);
+                leaderboard.updateAndGet(snapshot -> snapshot.withRanking(type, ranking));
             });
         }
     }
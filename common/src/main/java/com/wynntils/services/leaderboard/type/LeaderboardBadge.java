@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.leaderboard.type;
@@ -8,9 +8,20 @@ public record LeaderboardBadge(int uOffset, int vOffset) {
     public static final int WIDTH = 19;
     public static final int HEIGHT = 18;
 
-    public static LeaderboardBadge from(LeaderboardType leaderboardType, int standing) {
-        int uOffset = leaderboardType.ordinal() * WIDTH;
+    // There are only three badge colors per leaderboard, so every snapshot shares the same badges
+    private static final int COLORS = 3;
+    private static final LeaderboardBadge[] BADGES = new LeaderboardBadge[LeaderboardType.values().length * COLORS];
+
+    static {
+        for (LeaderboardType leaderboardType : LeaderboardType.values()) {
+            for (int color = 0; color < COLORS; color++) {
+                BADGES[leaderboardType.ordinal() * COLORS + color] =
+                        new LeaderboardBadge(leaderboardType.ordinal() * WIDTH, color * HEIGHT);
+            }
+        }
+    }
 
+    public static LeaderboardBadge from(LeaderboardType leaderboardType, int standing) {
         int color = 2; // just in case Athena gives a number not between 1 and 9
 
         if (standing >= 1 && standing <= 3) {
@@ -23,8 +34,6 @@ public record LeaderboardBadge(int uOffset, int vOffset) {
             color = 2;
         }
 
-        int vOffset = color * HEIGHT;
-
-        return new LeaderboardBadge(uOffset, vOffset);
+        return BADGES[leaderboardType.ordinal() * COLORS + color];
     }
 }
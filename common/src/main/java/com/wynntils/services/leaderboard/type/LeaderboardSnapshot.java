@@ -0,0 +1,113 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.leaderboard.type;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * An immutable view of the leaderboard badges of every player.
+ * <p>
+ * A new snapshot is derived for every leaderboard ranking that changed, rebuilding only the badges of the players
+ * that were or are on that ranking. Badges are listed in leaderboard type order.
+ */
+public final class LeaderboardSnapshot {
+    public static final LeaderboardSnapshot EMPTY = new LeaderboardSnapshot(0, Map.of(), Map.of());
+
+    private final int version;
+    // The players on each leaderboard, by standing
+    private final Map<LeaderboardType, Map<Integer, UUID>> rankings;
+    private final Map<UUID, List<LeaderboardBadge>> badges;
+
+    private LeaderboardSnapshot(
+            int version, Map<LeaderboardType, Map<Integer, UUID>> rankings, Map<UUID, List<LeaderboardBadge>> badges) {
+        this.version = version;
+        this.rankings = rankings;
+        this.badges = badges;
+    }
+
+    /**
+     * @return The standings of a leaderboard API response, which maps each standing to a player
+     */
+    public static Map<Integer, UUID> parseRanking(JsonObject json) {
+        Map<Integer, UUID> ranking = new TreeMap<>();
+        for (Map.Entry<String, JsonElement> entry : json.entrySet()) {
+            UUID uuid = UUID.fromString(
+                    entry.getValue().getAsJsonObject().get("uuid").getAsString());
+            ranking.put(Integer.parseInt(entry.getKey()), uuid);
+        }
+
+        return Collections.unmodifiableMap(ranking);
+    }
+
+    /**
+     * @return A snapshot with the ranking of the leaderboard replaced, or this snapshot if the ranking is unchanged
+     */
+    public LeaderboardSnapshot withRanking(LeaderboardType type, Map<Integer, UUID> ranking) {
+        Map<Integer, UUID> oldRanking = rankings.getOrDefault(type, Map.of());
+        if (oldRanking.equals(ranking)) return this;
+
+        Map<LeaderboardType, Map<Integer, UUID>> newRankings = new EnumMap<>(LeaderboardType.class);
+        newRankings.putAll(rankings);
+        newRankings.put(type, Collections.unmodifiableMap(new TreeMap<>(ranking)));
+
+        Set<UUID> changedPlayers = new HashSet<>(oldRanking.values());
+        changedPlayers.addAll(ranking.values());
+
+        Map<UUID, List<LeaderboardBadge>> newBadges = new HashMap<>(badges);
+        for (UUID uuid : changedPlayers) {
+            List<LeaderboardBadge> playerBadges = collectBadges(newRankings, uuid);
+            if (playerBadges.isEmpty()) {
+                newBadges.remove(uuid);
+            } else {
+                newBadges.put(uuid, playerBadges);
+            }
+        }
+
+        return new LeaderboardSnapshot(
+                version + 1, Collections.unmodifiableMap(newRankings), Collections.unmodifiableMap(newBadges));
+    }
+
+    public List<LeaderboardBadge> getBadges(UUID uuid) {
+        return badges.getOrDefault(uuid, List.of());
+    }
+
+    public Map<Integer, UUID> getRanking(LeaderboardType type) {
+        return rankings.getOrDefault(type, Map.of());
+    }
+
+    public int getPlayerCount() {
+        return badges.size();
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    private static List<LeaderboardBadge> collectBadges(Map<LeaderboardType, Map<Integer, UUID>> rankings, UUID uuid) {
+        List<LeaderboardBadge> playerBadges = new ArrayList<>();
+
+        // Enum maps iterate in leaderboard type order
+        for (Map.Entry<LeaderboardType, Map<Integer, UUID>> ranking : rankings.entrySet()) {
+            for (Map.Entry<Integer, UUID> standing : ranking.getValue().entrySet()) {
+                if (standing.getValue().equals(uuid)) {
+                    playerBadges.add(LeaderboardBadge.from(ranking.getKey(), standing.getKey()));
+                }
+            }
+        }
+
+        return List.copyOf(playerBadges);
+    }
+}
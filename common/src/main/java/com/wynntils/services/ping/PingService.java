@@ -4,14 +4,14 @@
  */
 package com.wynntils.services.ping;
 
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Service;
 import com.wynntils.mc.event.PongReceivedEvent;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.utils.mc.McUtils;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import net.minecraft.Util;
 import net.minecraft.network.protocol.ping.ServerboundPingRequestPacket;
@@ -19,7 +19,7 @@ import net.neoforged.bus.api.SubscribeEvent;
 
 public class PingService extends Service {
     private static final int MS_PER_PING = 1000;
-    private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private ScheduledFuture<?> pingTask;
 
     private int lastPing = 0;
 
@@ -29,11 +29,14 @@ public class PingService extends Service {
 
     @SubscribeEvent
     public void onWorldStateChange(WorldStateEvent event) {
+        if (pingTask != null) {
+            pingTask.cancel(false);
+            pingTask = null;
+        }
+
         if (event.getNewState() == WorldState.WORLD) {
-            executor.scheduleAtFixedRate(this::sendPingPacket, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
-        } else {
-            executor.shutdownNow();
-            executor = Executors.newSingleThreadScheduledExecutor();
+            pingTask =
+                    Managers.Executor.scheduleAtFixedRate(this::sendPingPacket, 0, MS_PER_PING, TimeUnit.MILLISECONDS);
         }
     }
 
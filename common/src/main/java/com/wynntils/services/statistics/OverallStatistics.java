@@ -0,0 +1,78 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.statistics;
+
+import com.wynntils.services.statistics.type.StatisticEntry;
+import com.wynntils.services.statistics.type.StatisticKind;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Running totals of the statistics of all characters.
+ * <p>
+ * Every increment is added to the totals as it happens. A statistic is only computed again from the statistics of
+ * all characters after it was reset, as its min and max can not be taken back.
+ */
+public final class OverallStatistics {
+    private final Supplier<Collection<Map<StatisticKind, StatisticEntry>>> characterStatistics;
+    private final Map<StatisticKind, StatisticEntry> totals = new EnumMap<>(StatisticKind.class);
+    // Statistics that must be computed again before they are used, initially all of them
+    private final Set<StatisticKind> staleStatistics = EnumSet.allOf(StatisticKind.class);
+
+    public OverallStatistics(Supplier<Collection<Map<StatisticKind, StatisticEntry>>> characterStatistics) {
+        this.characterStatistics = characterStatistics;
+    }
+
+    /**
+     * Adds an increment of a character statistic to the totals.
+     *
+     * @param updatedEntry The statistic of the character, with the increment already applied
+     */
+    public void add(StatisticKind kind, long amount, StatisticEntry updatedEntry) {
+        if (staleStatistics.contains(kind)) return;
+
+        StatisticEntry increment = new StatisticEntry(
+                amount, 1, amount, amount, updatedEntry.firstModified(), updatedEntry.lastModified());
+        StatisticEntry total = totals.get(kind);
+        totals.put(kind, total == null ? increment : total.merge(increment));
+    }
+
+    public StatisticEntry get(StatisticKind kind) {
+        if (staleStatistics.remove(kind)) {
+            recompute(kind);
+        }
+
+        return totals.getOrDefault(kind, StatisticEntry.EMPTY);
+    }
+
+    public void invalidate(StatisticKind kind) {
+        staleStatistics.add(kind);
+    }
+
+    public void invalidateAll() {
+        staleStatistics.addAll(EnumSet.allOf(StatisticKind.class));
+    }
+
+    private void recompute(StatisticKind kind) {
+        StatisticEntry total = null;
+
+        for (Map<StatisticKind, StatisticEntry> statistics : characterStatistics.get()) {
+            StatisticEntry entry = statistics.get(kind);
+            if (entry != null) {
+                total = total == null ? entry : total.merge(entry);
+            }
+        }
+
+        if (total == null) {
+            totals.remove(kind);
+        } else {
+            totals.put(kind, total);
+        }
+    }
+}
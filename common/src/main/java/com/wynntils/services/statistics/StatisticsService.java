@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.statistics;
@@ -29,8 +29,12 @@ public final class StatisticsService extends Service {
     @Persisted
     public final Storage<Boolean> screenOverallMode = new Storage<>(true);
 
+    private final OverallStatistics overallStatistics = new OverallStatistics(() -> statistics.get().values());
+
     // The currently active statistics
     private Map<StatisticKind, StatisticEntry> currentStatistics = new EnumMap<>(StatisticKind.class);
+    // Whether the active statistics belong to a character, and are part of the overall statistics
+    private boolean hasCharacterStatistics = false;
 
     public StatisticsService() {
         super(List.of());
@@ -45,12 +49,24 @@ public final class StatisticsService extends Service {
             // have a valid map, otherwise we will crash when trying to set statistics.
             // These values will not be persisted.
             currentStatistics = new EnumMap<>(StatisticKind.class);
+            hasCharacterStatistics = false;
             return;
         }
 
         setCurrentStatistics(Models.Character.getId());
     }
 
+    @Override
+    public void onStorageLoad(Storage<?> storage) {
+        if (storage != statistics) return;
+
+        // The storage value was replaced, so the active statistics must be looked up again
+        overallStatistics.invalidateAll();
+        if (hasCharacterStatistics) {
+            setCurrentStatistics(Models.Character.getId());
+        }
+    }
+
     @SubscribeEvent
     public void onCharacterUpdated(CharacterUpdateEvent event) {
         setCurrentStatistics(Models.Character.getId());
@@ -65,7 +81,11 @@ public final class StatisticsService extends Service {
                 ? currentStatistics.get(kind).getUpdatedEntry(amount)
                 : new StatisticEntry(amount, 1, amount, amount, System.currentTimeMillis(), System.currentTimeMillis());
         currentStatistics.put(kind, newValue);
-        statistics.touched();
+
+        if (hasCharacterStatistics) {
+            overallStatistics.add(kind, amount, newValue);
+            statistics.touched();
+        }
     }
 
     public StatisticEntry getStatistic(StatisticKind statistic) {
@@ -77,27 +97,13 @@ public final class StatisticsService extends Service {
     }
 
     public StatisticEntry getOverallStatistic(StatisticKind statistic) {
-        StatisticEntry overall = StatisticEntry.EMPTY;
-
-        for (Map<StatisticKind, StatisticEntry> characterStatistics :
-                statistics.get().values()) {
-            StatisticEntry entry = characterStatistics.get(statistic);
-            if (entry != null) {
-                overall = new StatisticEntry(
-                        overall.total() + entry.total(),
-                        overall.count() + entry.count(),
-                        Math.min(overall.min(), entry.min()),
-                        Math.max(overall.max(), entry.max()),
-                        Math.min(overall.firstModified(), entry.firstModified()),
-                        Math.max(overall.lastModified(), entry.lastModified()));
-            }
-        }
-
-        return overall;
+        return overallStatistics.get(statistic);
     }
 
     public void resetStatisticForCharacter(StatisticKind statistic) {
-        currentStatistics.remove(statistic);
+        if (currentStatistics.remove(statistic) == null) return;
+
+        overallStatistics.invalidate(statistic);
         statistics.touched();
     }
 
@@ -106,18 +112,26 @@ public final class StatisticsService extends Service {
                 statistics.get().values()) {
             characterStatistics.remove(statistic);
         }
+        overallStatistics.invalidate(statistic);
         statistics.touched();
     }
 
     public void resetStatistics() {
+        if (currentStatistics.isEmpty()) return;
+
+        currentStatistics.keySet().forEach(overallStatistics::invalidate);
         currentStatistics.clear();
         statistics.touched();
     }
 
     private void setCurrentStatistics(String id) {
         // Make sure our statistics is based on the correct character, and that it is persisted
-        statistics.get().putIfAbsent(id, new EnumMap<>(StatisticKind.class));
         currentStatistics = statistics.get().get(id);
+        hasCharacterStatistics = true;
+        if (currentStatistics != null) return;
+
+        currentStatistics = new EnumMap<>(StatisticKind.class);
+        statistics.get().put(id, currentStatistics);
         statistics.touched();
     }
 
@@ -1,105 +1,59 @@
 /*
- * Copyright © Wynntils 2018-2024.
+ * Copyright © Wynntils 2018-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.translation;
 
-import com.google.gson.JsonSyntaxException;
-import com.google.gson.reflect.TypeToken;
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
 import com.wynntils.services.translation.type.TranslationProvider;
-import com.wynntils.utils.TaskUtils;
 import java.io.File;
-import java.io.IOException;
-import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
-import org.apache.commons.io.FileUtils;
 
 public abstract class CachingTranslationProvider implements TranslationProvider {
     private static final File TRANSLATION_CACHE_ROOT = WynntilsMod.getModStorageDir("translationcache");
+    private static final int FLUSH_INTERVAL = 16;
 
-    // Map language code (String) to a translation map (String -> String)
-    private static Map<String, ConcurrentHashMap<String, List<String>>> translationCaches = new HashMap<>();
-    private static int counter;
+    private static final TranslationCache TRANSLATION_CACHE = new TranslationCache(TRANSLATION_CACHE_ROOT);
 
     protected abstract void translateNew(
             List<String> message, String toLanguage, Consumer<List<String>> handleTranslation);
 
     protected void saveTranslation(String toLanguage, List<String> message, List<String> translatedMessage) {
-        Map<String, List<String>> translationCache = translationCaches.get(toLanguage);
-        translationCache.put(createKey(message), translatedMessage);
-        counter++;
-        if (counter % 16 == 0) {
-            // Persist translation cache in background
-            TaskUtils.runAsync(CachingTranslationProvider::saveTranslationCache);
+        TRANSLATION_CACHE.put(toLanguage, message, translatedMessage);
+        if (TRANSLATION_CACHE.getPendingCount() >= FLUSH_INTERVAL) {
+            // Persist new translations in background
+            Managers.Executor.runIo(CachingTranslationProvider::saveTranslationCache);
         }
     }
 
     @Override
     public void translate(List<String> message, String toLanguage, Consumer<List<String>> handleTranslation) {
         if (message.isEmpty()) {
-            TaskUtils.runAsync(() -> handleTranslation.accept(List.of()));
+            Managers.Executor.runCpu(() -> handleTranslation.accept(List.of()));
             return;
         }
 
-        Map<String, List<String>> translationCache =
-                translationCaches.computeIfAbsent(toLanguage, k -> new ConcurrentHashMap<>());
-        List<String> cachedTranslation = translationCache.get(createKey(message));
+        List<String> cachedTranslation = getCachedTranslation(message, toLanguage);
         if (cachedTranslation != null) {
-            TaskUtils.runAsync(() -> handleTranslation.accept(cachedTranslation));
+            Managers.Executor.runCpu(() -> handleTranslation.accept(cachedTranslation));
             return;
         }
 
         translateNew(message, toLanguage, handleTranslation);
     }
 
-    public static synchronized void saveTranslationCache() {
-        try {
-            if (translationCaches == null) return;
-
-            File f = new File(TRANSLATION_CACHE_ROOT, "translations.json");
-            String json = WynntilsMod.GSON.toJson(translationCaches);
-            FileUtils.writeStringToFile(f, json, "UTF-8");
-        } catch (IOException e) {
-            WynntilsMod.error("Error when trying to save translation cache.", e);
-        }
+    @Override
+    public List<String> getCachedTranslation(List<String> message, String toLanguage) {
+        return TRANSLATION_CACHE.get(toLanguage, message);
     }
 
-    public static synchronized void loadTranslationCache() {
-        File f = new File(TRANSLATION_CACHE_ROOT, "translations.json");
-
-        if (!f.exists()) {
-            translationCaches = new HashMap<>();
-            return;
-        }
-
-        try {
-            String json = FileUtils.readFileToString(f, "UTF-8");
-
-            Type type = new TypeToken<HashMap<String, ConcurrentHashMap<String, List<String>>>>() {}.getType();
-            translationCaches = WynntilsMod.GSON.fromJson(json, type);
-        } catch (IOException e) {
-            WynntilsMod.error("Error when trying to load translation cache.", e);
-        } catch (IllegalStateException | JsonSyntaxException e) {
-            WynntilsMod.error("Translation cache was corrupt when parsing it. Trying to delete it.", e);
-
-            try {
-                FileUtils.delete(f);
-            } catch (IOException ioException) {
-                WynntilsMod.error("Error when trying to delete translation cache.", ioException);
-            }
-        } finally {
-            if (translationCaches == null) {
-                translationCaches = new HashMap<>();
-            }
-        }
+    public static void saveTranslationCache() {
+        TRANSLATION_CACHE.flush();
     }
 
-    private String createKey(List<String> message) {
-        return String.join("", message);
+    public static void loadTranslationCache() {
+        TRANSLATION_CACHE.load();
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.services.translation;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import com.wynntils.core.WynntilsMod;
+import com.wynntils.utils.FileUtils;
+import com.wynntils.utils.type.BoundedLruMap;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A bounded cache of translations, with one LRU cache per target language. Messages are keyed by a
+ * 64-bit hash, so the original message does not need to be kept around.
+ * <p>
+ * New translations are persisted by appending them to a log file. The log is compacted when loaded,
+ * keeping only the entries that survive the size limit.
+ */
+final class TranslationCache {
+    private static final int MAX_ENTRIES_PER_LANGUAGE = 4096;
+
+    // Log entries must be on a single line each, so do not use the pretty printing Gson
+    private static final Gson LOG_GSON = new Gson();
+    private static final Type LEGACY_CACHE_TYPE = new TypeToken<Map<String, Map<String, List<String>>>>() {}.getType();
+
+    private final File logFile;
+    private final File legacyFile;
+
+    private final Map<String, LanguageCache> languages = new ConcurrentHashMap<>();
+    private final Queue<LogEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+
+    TranslationCache(File cacheDir) {
+        this.logFile = new File(cacheDir, "translations.log");
+        this.legacyFile = new File(cacheDir, "translations.json");
+    }
+
+    List<String> get(String language, List<String> message) {
+        LanguageCache cache = languages.get(language);
+        if (cache == null) return null;
+
+        return cache.get(createKey(message));
+    }
+
+    void put(String language, List<String> message, List<String> translation) {
+        long key = createKey(message);
+        getLanguageCache(language).put(key, translation);
+        pendingEntries.add(new LogEntry(language, key, translation));
+    }
+
+    int getPendingCount() {
+        return pendingEntries.size();
+    }
+
+    /**
+     * Append all translations added since the last flush to the log.
+     */
+    synchronized void flush() {
+        if (pendingEntries.isEmpty()) return;
+
+        FileUtils.mkdir(logFile.getParentFile());
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(logFile, StandardCharsets.UTF_8, true))) {
+            LogEntry entry;
+            while ((entry = pendingEntries.poll()) != null) {
+                writer.write(LOG_GSON.toJson(entry));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Error when trying to save translation cache.", e);
+        }
+    }
+
+    /**
+     * Replace the cache content with the content on disk, and compact the log. Translations that were not flushed
+     * yet are written first, so they are loaded again.
+     */
+    synchronized void load() {
+        flush();
+        // Translations added from now on stay pending, and are appended to the compacted log by the next flush
+        languages.clear();
+
+        loadLegacyCache();
+        replayLog();
+        compactLog();
+    }
+
+    private void loadLegacyCache() {
+        if (!legacyFile.exists()) return;
+
+        try (Reader reader = new FileReader(legacyFile, StandardCharsets.UTF_8)) {
+            Map<String, Map<String, List<String>>> legacyCaches = LOG_GSON.fromJson(reader, LEGACY_CACHE_TYPE);
+            if (legacyCaches != null) {
+                legacyCaches.forEach((language, translations) -> translations.forEach(
+                        (message, translation) -> getLanguageCache(language).put(hash(message), translation)));
+            }
+        } catch (IOException | JsonParseException e) {
+            WynntilsMod.error("Old translation cache was corrupt when parsing it, ignoring it.", e);
+        }
+
+        // It will be part of the compacted log from now on
+        FileUtils.deleteFile(legacyFile);
+    }
+
+    private void replayLog() {
+        if (!logFile.exists()) return;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(logFile, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+
+                try {
+                    LogEntry entry = LOG_GSON.fromJson(line, LogEntry.class);
+                    if (entry == null || entry.language() == null || entry.translation() == null) continue;
+
+                    getLanguageCache(entry.language()).put(entry.key(), entry.translation());
+                } catch (JsonParseException e) {
+                    // Most likely a partially written line from a crash, just skip it
+                    WynntilsMod.warn("Skipping corrupt translation cache entry");
+                }
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Error when trying to load translation cache.", e);
+        }
+    }
+
+    private void compactLog() {
+        if (languages.isEmpty()) {
+            FileUtils.deleteFile(logFile);
+            return;
+        }
+
+        FileUtils.mkdir(logFile.getParentFile());
+        File tempFile = new File(logFile.getPath() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(tempFile, StandardCharsets.UTF_8))) {
+            for (Map.Entry<String, LanguageCache> language : languages.entrySet()) {
+                for (LogEntry entry : language.getValue().toLogEntries(language.getKey())) {
+                    writer.write(LOG_GSON.toJson(entry));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            WynntilsMod.error("Error when trying to compact translation cache.", e);
+            FileUtils.deleteFile(tempFile);
+            return;
+        }
+
+        FileUtils.atomicMoveFile(tempFile, logFile);
+    }
+
+    private LanguageCache getLanguageCache(String language) {
+        return languages.computeIfAbsent(language, k -> new LanguageCache());
+    }
+
+    private static long createKey(List<String> message) {
+        return hash(String.join("", message));
+    }
+
+    private static long hash(String message) {
+        return Hashing.murmur3_128().hashString(message, StandardCharsets.UTF_8).asLong();
+    }
+
+    private record LogEntry(String language, long key, List<String> translation) {}
+
+    private static final class LanguageCache {
+        private final BoundedLruMap<Long, List<String>> entries = new BoundedLruMap<>(MAX_ENTRIES_PER_LANGUAGE);
+
+        private synchronized List<String> get(long key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(long key, List<String> translation) {
+            entries.put(key, List.copyOf(translation));
+        }
+
+        private synchronized List<LogEntry> toLogEntries(String language) {
+            // Least recently used first, so replaying the log restores the same order
+            List<LogEntry> logEntries = new ArrayList<>(entries.size());
+            entries.forEach((key, translation) -> logEntries.add(new LogEntry(language, key, translation)));
+            return logEntries;
+        }
+    }
+}
@@ -1,15 +1,15 @@
 /*
- * Copyright © Wynntils 2018-2024.
+ * Copyright © Wynntils 2018-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.translation;
 
 import com.wynntils.core.WynntilsMod;
+import com.wynntils.core.components.Managers;
 import com.wynntils.core.components.Service;
 import com.wynntils.models.worlds.event.WorldStateEvent;
 import com.wynntils.models.worlds.type.WorldState;
 import com.wynntils.services.translation.type.TranslationProvider;
-import com.wynntils.utils.TaskUtils;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,7 +43,7 @@ public final class TranslationService extends Service {
         if (!translationServiceSavingFuture.isDone() && !translationServiceSavingFuture.isCancelled()) return;
 
         // Save translation cache when world is unloaded
-        translationServiceSavingFuture = TaskUtils.runAsync(CachingTranslationProvider::saveTranslationCache);
+        translationServiceSavingFuture = Managers.Executor.runIo(CachingTranslationProvider::saveTranslationCache);
     }
 
     /**
@@ -84,10 +84,10 @@ public final class TranslationService extends Service {
     }
 
     private void addShutdownHook() {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        Managers.Executor.addShutdownTask(() -> {
             CachingTranslationProvider.saveTranslationCache();
             WynntilsMod.info("Successfully saved translation cache!");
-        }));
+        });
     }
 
     public enum TranslationServices {
@@ -129,7 +129,7 @@ public final class TranslationService extends Service {
                 }
                 resultList.add(latinString.toString());
             }
-            TaskUtils.runAsync(() -> handleTranslation.accept(resultList));
+            Managers.Executor.runCpu(() -> handleTranslation.accept(resultList));
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2018-2023.
+ * Copyright © Wynntils 2018-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.services.translation.type;
@@ -18,4 +18,16 @@ public interface TranslationProvider {
      * @param handleTranslation Handler for the translation. The argument is the translated string.
      */
     void translate(List<String> message, String toLanguage, Consumer<List<String>> handleTranslation);
+
+    /**
+     * Look up a previous translation of the message, without doing any work. This is cheap enough to be
+     * called on the main thread.
+     *
+     * @param message    The message to translate.
+     * @param toLanguage The target language code
+     * @return The translated message, or null if the message has no known translation.
+     */
+    default List<String> getCachedTranslation(List<String> message, String toLanguage) {
+        return null;
+    }
 }
@@ -1,87 +1,88 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils;
 
-import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.UnsignedByte;
-import java.util.ArrayList;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 /**
  * A buffer of bytes that can be encoded and decoded to various formats.
+ * The bytes are held as a primitive array, {@link UnsignedByte} arrays are only created on request.
  */
 public final class EncodedByteBuffer {
     private static final int PRIVATE_USE_AREA_A_START = 0xF0000;
     private static final int PRIVATE_USE_AREA_B_START = 0x100000;
 
-    private UnsignedByte[] bytes;
+    private final byte[] bytes;
 
-    private EncodedByteBuffer(UnsignedByte[] bytes) {
+    private EncodedByteBuffer(byte[] bytes) {
         this.bytes = bytes;
     }
 
+    public static EncodedByteBuffer fromBytes(byte[] bytes) {
+        return new EncodedByteBuffer(bytes);
+    }
+
     public static EncodedByteBuffer fromBytes(UnsignedByte[] bytes) {
+        return new EncodedByteBuffer(UnsignedByte.toPrimitive(bytes));
+    }
+
+    public static EncodedByteBuffer fromByteBuffer(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
         return new EncodedByteBuffer(bytes);
     }
 
     public static EncodedByteBuffer fromUtf16String(String string) {
-        List<UnsignedByte> bytes = new ArrayList<>();
+        // Every code point holds at most two bytes
+        UnsignedByteWriter writer = new UnsignedByteWriter(string.length() * 2);
 
-        int[] codePoints = string.codePoints().toArray();
-
-        for (int codePoint : codePoints) {
+        string.codePoints().forEach(codePoint -> {
             // Special cases
             if (codePoint >= PRIVATE_USE_AREA_B_START) {
                 // Single byte
                 int singleByteOffset = PRIVATE_USE_AREA_B_START + 0xEE;
                 if ((codePoint & 0xFF) == 0xEE) {
                     int actualValue = (codePoint - singleByteOffset) >> 8;
-                    bytes.add(UnsignedByte.of((byte) actualValue));
+                    writer.write(actualValue);
 
                     assert actualValue <= 255 : "Invalid code point: " + codePoint;
-                    continue;
+                    return;
                 }
 
                 // Two bytes
                 int values = codePoint - PRIVATE_USE_AREA_B_START;
 
-                UnsignedByte firstByte = UnsignedByte.of((byte) 255);
-                UnsignedByte secondByte = UnsignedByte.of((byte) (254 + (values & 0xFF)));
-
-                bytes.add(firstByte);
-                bytes.add(secondByte);
+                writer.write(255);
+                writer.write(254 + (values & 0xFF));
 
                 // Only 0x100000-0x100001 are used
                 assert codePoint < 0x100002 : "Invalid code point: " + codePoint;
-                continue;
+                return;
             }
 
             // Normal case
             int values = codePoint - PRIVATE_USE_AREA_A_START;
 
-            UnsignedByte firstByte = UnsignedByte.of((byte) (values >> 8));
-            UnsignedByte secondByte = UnsignedByte.of((byte) (values & 0xFF));
-
-            bytes.add(firstByte);
-            bytes.add(secondByte);
+            writer.write(values >> 8);
+            writer.write(values & 0xFF);
 
             // Only 0xF0000-0xFFFFD are used
             assert codePoint < 0xFFFFE : "Invalid code point: " + codePoint;
-        }
+        });
 
-        return fromBytes(bytes.toArray(UnsignedByte[]::new));
+        return fromBytes(writer.toByteArray());
     }
 
     public static EncodedByteBuffer fromBase64String(String string) {
-        byte[] decodedBytes = Base64.getDecoder().decode(string);
-        UnsignedByte[] bytes = UnsignedByte.of(decodedBytes);
-        return fromBytes(bytes);
+        return fromBytes(Base64.getDecoder().decode(string));
     }
 
     public String toUtf16String() {
@@ -89,13 +90,15 @@ public final class EncodedByteBuffer {
 
         // 2 byte -> UTF-16
         for (int i = 0; i < bytes.length - 1; i += 2) {
+            int firstByte = bytes[i] & 0xFF;
+            int secondByte = bytes[i + 1] & 0xFF;
             int codePoint;
 
             // 0xFFFE-0xFFFF are using private use area B
-            if (bytes[i].value() == 255 && bytes[i + 1].value() >= 254) {
-                codePoint = PRIVATE_USE_AREA_B_START + (bytes[i + 1].value() - 254);
+            if (firstByte == 255 && secondByte >= 254) {
+                codePoint = PRIVATE_USE_AREA_B_START + (secondByte - 254);
             } else {
-                codePoint = PRIVATE_USE_AREA_A_START + (bytes[i].value() << 8 | bytes[i + 1].value());
+                codePoint = PRIVATE_USE_AREA_A_START + (firstByte << 8 | secondByte);
             }
 
             builder.appendCodePoint(codePoint);
@@ -105,31 +108,54 @@ public final class EncodedByteBuffer {
         if (bytes.length % 2 == 1) {
             // Odd number of bytes, so we add a padding character
             // Pad with 0xEE to stay in the private use area
-            builder.appendCodePoint(PRIVATE_USE_AREA_B_START + (bytes[bytes.length - 1].value() << 8) + 238);
+            builder.appendCodePoint(PRIVATE_USE_AREA_B_START + ((bytes[bytes.length - 1] & 0xFF) << 8) + 238);
         }
 
         return builder.toString();
     }
 
     public String toBase64String() {
-        byte[] bytes = UnsignedByte.toPrimitive(this.bytes);
         return Base64.getEncoder().encodeToString(bytes);
     }
 
+    /**
+     * Returns a copy of the bytes as {@link UnsignedByte}s. Prefer {@link #getReader()} or {@link #toByteArray()}.
+     */
     public UnsignedByte[] getBytes() {
-        return bytes;
+        return UnsignedByte.of(bytes);
+    }
+
+    public byte[] toByteArray() {
+        return bytes.clone();
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public UnsignedByteReader getReader() {
+        return new UnsignedByteReader(bytes);
     }
 
-    public ArrayReader<UnsignedByte> getReader() {
-        return new ArrayReader<>(bytes);
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EncodedByteBuffer that = (EncodedByteBuffer) o;
+        return Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
     }
 
     @Override
     public String toString() {
-        return "EncodedByteBuffer{" + "bytes="
-                + Arrays.stream(bytes)
-                        .map(UnsignedByte::value)
-                        .map(Objects::toString)
-                        .collect(Collectors.joining(", ")) + '}';
+        StringJoiner joiner = new StringJoiner(", ", "EncodedByteBuffer{bytes=", "}");
+        for (byte value : bytes) {
+            joiner.add(Integer.toString(value & 0xFF));
+        }
+        return joiner.toString();
     }
 }
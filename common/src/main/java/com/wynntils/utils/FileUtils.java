@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2022-2023.
+ * Copyright © Wynntils 2022-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils;
@@ -10,7 +10,11 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 public final class FileUtils {
@@ -75,6 +79,37 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Moves a file in place atomically if the file system supports it, replacing the destination
+     */
+    public static void atomicMoveFile(File sourceFile, File destFile) {
+        try {
+            try {
+                Files.move(
+                        sourceFile.toPath(),
+                        destFile.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(sourceFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            WynntilsMod.error("Move file " + sourceFile + " to " + destFile + " failed");
+        }
+    }
+
+    /**
+     * Forces the entries of a directory to disk, so a file moved into it is still there after a crash. Some platforms
+     * cannot open directories, and do not need this.
+     */
+    public static void syncDirectory(File dir) {
+        try (FileChannel channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Windows does not allow opening directories, renames are durable there once they return
+        }
+    }
+
     public static void tryCopyFile(File sourceFile, File destFile) {
         try {
             copyFile(sourceFile, destFile);
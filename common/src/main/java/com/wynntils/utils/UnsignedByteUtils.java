@@ -1,11 +1,13 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils;
 
 import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -35,6 +37,31 @@ public final class UnsignedByteUtils {
         return values;
     }
 
+    public static byte[] toPackedBytes(boolean[] values) {
+        assert values.length % 8 == 0;
+
+        byte[] bytes = new byte[values.length / 8];
+        for (int i = 0; i < values.length; i += 8) {
+            byte value = 0;
+            for (int j = 0; j < 8; j++) {
+                value |= (values[i + j] ? 1 : 0) << (7 - j);
+            }
+            bytes[i / 8] = value;
+        }
+        return bytes;
+    }
+
+    public static boolean[] toBitArray(byte[] bytes) {
+        boolean[] values = new boolean[bytes.length * 8];
+        for (int i = 0; i < bytes.length; i++) {
+            byte value = bytes[i];
+            for (int j = 0; j < 8; j++) {
+                values[i * 8 + j] = ((value >> (7 - j)) & 1) == 1;
+            }
+        }
+        return values;
+    }
+
     public static UnsignedByte[] encodeString(String string) {
         // Check if the string only contains ASCII characters
         for (int i = 0; i < string.length(); i++) {
@@ -58,6 +85,25 @@ public final class UnsignedByteUtils {
         return bytes;
     }
 
+    public static void encodeString(String string, UnsignedByteWriter writer) {
+        // Check if the string only contains ASCII characters
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 127) {
+                throw new IllegalArgumentException("String contains non-ASCII characters");
+            }
+        }
+
+        // Strings are encoded by encoding the char's ASCII value
+        // and is terminated by a 0 byte
+        writer.write(string.getBytes(StandardCharsets.US_ASCII));
+        writer.write(0);
+    }
+
+    public static String decodeString(byte[] bytes) {
+        // Strings are encoded by encoding the char's ASCII value
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
     public static String decodeString(List<UnsignedByte> bytes) {
         // Strings are encoded by encoding the char's ASCII value
         byte[] asciiBytes = new byte[bytes.size()];
@@ -105,6 +151,18 @@ public final class UnsignedByteUtils {
         return bytes;
     }
 
+    public static void encodeVariableSizedInteger(long value, UnsignedByteWriter writer) {
+        // The same encoding as above, written directly to the writer
+        value = (value << 1) ^ (value >> 63);
+
+        while ((value & ~0x7FL) != 0) {
+            writer.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        writer.write((int) value);
+    }
+
     public static long decodeVariableSizedInteger(ArrayReader<UnsignedByte> byteReader) {
         long value = 0;
 
@@ -121,4 +179,21 @@ public final class UnsignedByteUtils {
         // Use zig-zag encoding to decode negative numbers
         return (value >>> 1) ^ -(value & 1);
     }
+
+    public static long decodeVariableSizedInteger(UnsignedByteReader byteReader) {
+        long value = 0;
+
+        // If the highest bit is set, read the next byte
+        int numBytes = 0;
+        while ((byteReader.peek() & 0x80) != 0) {
+            value |= (long) (byteReader.read() & 0x7F) << (7 * numBytes);
+            numBytes++;
+        }
+
+        // Read the last byte
+        value |= (long) (byteReader.read() & 0x7F) << (7 * numBytes);
+
+        // Use zig-zag encoding to decode negative numbers
+        return (value >>> 1) ^ -(value & 1);
+    }
 }
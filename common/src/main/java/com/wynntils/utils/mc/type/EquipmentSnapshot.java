@@ -0,0 +1,37 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.mc.type;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * The held item and armor of an entity, reduced to what tells Wynncraft items apart: the item, its damage and its
+ * name. Two snapshots are equal as long as none of these changed, even if the stacks were replaced.
+ */
+public record EquipmentSnapshot(List<Slot> slots) {
+    public static EquipmentSnapshot of(ItemStack mainHandItem, Iterable<ItemStack> armorItems) {
+        List<Slot> slots = new ArrayList<>();
+        slots.add(Slot.of(mainHandItem));
+        for (ItemStack armorItem : armorItems) {
+            slots.add(Slot.of(armorItem));
+        }
+
+        return new EquipmentSnapshot(List.copyOf(slots));
+    }
+
+    public record Slot(Item item, int damage, Component hoverName) {
+        private static final Slot EMPTY = new Slot(null, 0, null);
+
+        private static Slot of(ItemStack itemStack) {
+            if (itemStack == null || itemStack.isEmpty()) return EMPTY;
+
+            return new Slot(itemStack.getItem(), itemStack.getDamageValue(), itemStack.getHoverName());
+        }
+    }
+}
@@ -9,7 +9,6 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.mixin.accessors.MinecraftAccessor;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.mc.ComponentUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.render.buffered.BufferedFontRenderer;
 import com.wynntils.utils.render.type.HorizontalAlignment;
@@ -19,9 +18,6 @@ import java.util.List;
 import net.minecraft.Util;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.renderer.MultiBufferSource;
-import net.minecraft.network.chat.Component;
-import net.minecraft.network.chat.FormattedText;
-import net.minecraft.network.chat.Style;
 import net.minecraft.util.Mth;
 
 public final class FontRenderer {
@@ -29,13 +25,19 @@ public final class FontRenderer {
             MultiBufferSource.immediate(new ByteBufferBuilder(256));
     private static final FontRenderer INSTANCE = new FontRenderer();
     private final Font font;
+    private final TextLayoutCache textLayoutCache;
 
     private static final double HALF_PI = 1.5707963267948966;
     private static final double TWO_PI = 6.283185307179586;
     private static final int NEWLINE_OFFSET = 10;
+    private static final int MAX_CACHED_LAYOUTS = 1024;
+    private static final StyledText EMPTY_LINE = StyledText.fromString(" ");
+
+    private boolean forceUnicodeFont;
 
     private FontRenderer() {
         this.font = ((MinecraftAccessor) McUtils.mc()).getFont();
+        this.textLayoutCache = new TextLayoutCache(MAX_CACHED_LAYOUTS, font.getSplitter());
     }
 
     public static FontRenderer getInstance() {
@@ -46,6 +48,21 @@ public final class FontRenderer {
         return font;
     }
 
+    public TextLayoutCache getTextLayoutCache() {
+        // Toggling the unicode font rebuilds the glyphs without reloading resources
+        boolean currentForceUnicodeFont = McUtils.options().forceUnicodeFont().get();
+        if (currentForceUnicodeFont != forceUnicodeFont) {
+            forceUnicodeFont = currentForceUnicodeFont;
+            textLayoutCache.invalidate();
+        }
+
+        return textLayoutCache;
+    }
+
+    public void invalidateTextLayouts() {
+        textLayoutCache.invalidate();
+    }
+
     private void renderText(
             PoseStack poseStack,
             StyledText text,
@@ -215,7 +232,7 @@ public final class FontRenderer {
                 renderX,
                 cursorRenderY,
                 0,
-                font.width(text.getComponent()),
+                getTextLayoutCache().getWidth(text),
                 font.lineHeight + 2);
 
         renderAlignedTextInBox(
@@ -297,7 +314,7 @@ public final class FontRenderer {
             Font.DisplayMode displayMode) {
         if (text == null) return;
 
-        if (maxWidth == 0 || font.width(text.getComponent()) / textScale < maxWidth) {
+        if (maxWidth == 0 || getTextLayoutCache().getWidth(text) / textScale < maxWidth) {
             renderText(
                     poseStack,
                     text,
@@ -312,21 +329,12 @@ public final class FontRenderer {
             return;
         }
 
-        List<FormattedText> parts =
-                font.getSplitter().splitLines(text.getComponent(), (int) (maxWidth / textScale), Style.EMPTY);
+        List<StyledText> parts = getTextLayoutCache().getLines(text, (int) (maxWidth / textScale));
 
-        StyledText lastPart = StyledText.EMPTY;
         for (int i = 0; i < parts.size(); i++) {
-            // copy the format codes to this part as well
-            Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
-
-            StyledText part = StyledText.fromComponent(Component.literal("").withStyle(lastStyle))
-                    .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(parts.get(i))));
-            lastPart = part;
-
             renderText(
                     poseStack,
-                    part,
+                    parts.get(i),
                     x,
                     y + (i * font.lineHeight * textScale),
                     customColor,
@@ -422,7 +430,7 @@ public final class FontRenderer {
             VerticalAlignment verticalAlignment,
             TextShadow shadow,
             float textScale) {
-        int textLength = (int) ((font.width(styledText.getComponent()) + 1) * textScale);
+        int textLength = (int) ((getTextLayoutCache().getWidth(styledText) + 1) * textScale);
 
         if (textLength > renderWidth) {
             float maxScrollOffset =
@@ -652,8 +660,9 @@ public final class FontRenderer {
 
     public float calculateRenderHeight(StyledText line, float maxWidth) {
         // If we ask Mojang code the line height of an empty line we get 0 back so replace with space
-        return font.wordWrapHeight(
-                line.isEmpty() ? Component.literal(" ") : line.getComponent(),
-                maxWidth == 0 ? Integer.MAX_VALUE : (int) maxWidth);
+        List<StyledText> lines = getTextLayoutCache()
+                .getLines(line.isEmpty() ? EMPTY_LINE : line, maxWidth == 0 ? Integer.MAX_VALUE : (int) maxWidth);
+
+        return lines.size() * font.lineHeight;
     }
 }
@@ -36,12 +36,12 @@ import org.joml.Quaternionf;
 import org.lwjgl.opengl.GL11;
 
 public final class RenderUtils {
+    // number of possible segments for arc drawing, shared with BufferedRenderUtils
+    public static final float MAX_CIRCLE_STEPS = 16f;
+
     // used to render player nametags as semi-transparent
     private static final int NAMETAG_COLOR = 0x20FFFFFF;
 
-    // number of possible segments for arc drawing
-    private static final float MAX_CIRCLE_STEPS = 16f;
-
     // See https://github.com/MinecraftForge/MinecraftForge/issues/8083 as to why this uses TRIANGLE_STRIPS.
     // TLDR: New OpenGL only supports TRIANGLES and Minecraft patched QUADS to be usable ATM, but LINES patch is broken,
     // and you can't use it.
@@ -0,0 +1,90 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.render;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.mc.ComponentUtils;
+import com.wynntils.utils.type.BoundedLruMap;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.client.StringSplitter;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.FormattedText;
+import net.minecraft.network.chat.Style;
+import net.minecraft.util.Mth;
+
+/**
+ * A bounded LRU cache of measured text widths and wrapped lines, keyed by the text and the width it is wrapped to.
+ * <p>
+ * Overlays render the same text every frame, so this saves measuring the glyphs of every line again.
+ * The cache must be invalidated when the font changes, as the widths depend on the glyphs.
+ */
+public final class TextLayoutCache {
+    private final StringSplitter splitter;
+    private final BoundedLruMap<StyledText, Integer> widths;
+    private final BoundedLruMap<SplitKey, List<StyledText>> lines;
+
+    /**
+     * @param splitter The splitter of the font, which measures its glyphs
+     */
+    public TextLayoutCache(int maxSize, StringSplitter splitter) {
+        this.splitter = splitter;
+        this.widths = new BoundedLruMap<>(maxSize);
+        this.lines = new BoundedLruMap<>(maxSize);
+    }
+
+    public int getWidth(StyledText text) {
+        Integer width = widths.get(text);
+        if (width != null) return width;
+
+        // Rounded up like Font#width
+        int measuredWidth = Mth.ceil(splitter.stringWidth(text.getComponent()));
+        widths.put(text, measuredWidth);
+        return measuredWidth;
+    }
+
+    /**
+     * @param maxWidth The width to wrap at, already divided by the text scale
+     * @return The lines of the text, each starting with the formatting the previous line ended with
+     */
+    public List<StyledText> getLines(StyledText text, int maxWidth) {
+        SplitKey key = new SplitKey(text, maxWidth);
+        List<StyledText> cachedLines = lines.get(key);
+        if (cachedLines != null) return cachedLines;
+
+        List<StyledText> splitLines = List.copyOf(splitLines(text, maxWidth));
+        lines.put(key, splitLines);
+        return splitLines;
+    }
+
+    public void invalidate() {
+        widths.clear();
+        lines.clear();
+    }
+
+    public int size() {
+        return widths.size() + lines.size();
+    }
+
+    private List<StyledText> splitLines(StyledText text, int maxWidth) {
+        List<FormattedText> parts = splitter.splitLines(text.getComponent(), maxWidth, Style.EMPTY);
+        List<StyledText> splitLines = new ArrayList<>(parts.size());
+
+        StyledText lastPart = StyledText.EMPTY;
+        for (FormattedText formattedText : parts) {
+            // copy the format codes to this part as well
+            Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
+
+            StyledText part = StyledText.fromComponent(Component.literal("").withStyle(lastStyle))
+                    .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(formattedText)));
+            splitLines.add(part);
+            lastPart = part;
+        }
+
+        return splitLines;
+    }
+
+    private record SplitKey(StyledText text, int maxWidth) {}
+}
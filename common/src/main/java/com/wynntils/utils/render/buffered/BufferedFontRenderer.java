@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.render.buffered;
@@ -9,7 +9,6 @@ import com.wynntils.core.text.StyledText;
 import com.wynntils.mc.mixin.accessors.MinecraftAccessor;
 import com.wynntils.utils.colors.CommonColors;
 import com.wynntils.utils.colors.CustomColor;
-import com.wynntils.utils.mc.ComponentUtils;
 import com.wynntils.utils.mc.McUtils;
 import com.wynntils.utils.render.FontRenderer;
 import com.wynntils.utils.render.TextRenderTask;
@@ -22,8 +21,6 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.network.chat.Component;
-import net.minecraft.network.chat.FormattedText;
-import net.minecraft.network.chat.Style;
 
 public final class BufferedFontRenderer {
     private static final BufferedFontRenderer INSTANCE = new BufferedFontRenderer();
@@ -65,8 +62,8 @@ public final class BufferedFontRenderer {
 
         renderX = switch (horizontalAlignment) {
             case LEFT -> x;
-            case CENTER -> x - (font.width(text.getComponent()) / 2f * textScale);
-            case RIGHT -> x - font.width(text.getComponent()) * textScale;
+            case CENTER -> x - (FontRenderer.getInstance().getTextLayoutCache().getWidth(text) / 2f * textScale);
+            case RIGHT -> x - FontRenderer.getInstance().getTextLayoutCache().getWidth(text) * textScale;
         };
 
         renderY = switch (verticalAlignment) {
@@ -351,7 +348,7 @@ public final class BufferedFontRenderer {
             float textScale) {
         if (text == null) return;
 
-        if (maxWidth == 0 || font.width(text.getComponent()) < maxWidth / textScale) {
+        if (maxWidth == 0 || FontRenderer.getInstance().getTextLayoutCache().getWidth(text) < maxWidth / textScale) {
             renderText(
                     poseStack,
                     bufferSource,
@@ -366,22 +363,14 @@ public final class BufferedFontRenderer {
             return;
         }
 
-        List<FormattedText> parts =
-                font.getSplitter().splitLines(text.getComponent(), (int) (maxWidth / textScale), Style.EMPTY);
+        List<StyledText> parts =
+                FontRenderer.getInstance().getTextLayoutCache().getLines(text, (int) (maxWidth / textScale));
 
-        StyledText lastPart = StyledText.EMPTY;
         for (int i = 0; i < parts.size(); i++) {
-            // copy the format codes to this part as well
-            Style lastStyle = ComponentUtils.getLastPartCodes(lastPart);
-
-            StyledText part = StyledText.fromComponent(Component.literal("").withStyle(lastStyle))
-                    .append(StyledText.fromComponent(ComponentUtils.formattedTextToComponent(parts.get(i))));
-            lastPart = part;
-
             renderText(
                     poseStack,
                     bufferSource,
-                    part,
+                    parts.get(i),
                     x,
                     y + (i * font.lineHeight * textScale),
                     customColor,
@@ -8,6 +8,7 @@ import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.wynntils.utils.colors.CustomColor;
+import com.wynntils.utils.render.RenderUtils;
 import com.wynntils.utils.render.Texture;
 import java.util.List;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -214,6 +215,61 @@ public final class BufferedRenderUtils {
         }
     }
 
+    public static void drawArc(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float fill,
+            int innerRadius,
+            int outerRadius) {
+        drawArc(poseStack, bufferSource, color, x, y, z, fill, innerRadius, outerRadius, 0);
+    }
+
+    public static void drawArc(
+            PoseStack poseStack,
+            MultiBufferSource bufferSource,
+            CustomColor color,
+            float x,
+            float y,
+            float z,
+            float fill,
+            int innerRadius,
+            int outerRadius,
+            float angleOffset) {
+        // keeps arc from overlapping itself
+        int segments = (int) Math.min(fill * RenderUtils.MAX_CIRCLE_STEPS, RenderUtils.MAX_CIRCLE_STEPS - 1);
+        float midX = x + outerRadius;
+        float midY = y + outerRadius;
+        Matrix4f matrix = poseStack.last().pose();
+
+        // Drawn as separate quads instead of a triangle strip, so arcs of many slots end up in one draw call
+        VertexConsumer buffer = bufferSource.getBuffer(CustomRenderType.POSITION_COLOR_QUAD);
+
+        float angle = angleOffset;
+        float sinAngle = Mth.sin(angle);
+        float cosAngle = Mth.cos(angle);
+        for (int i = 1; i <= segments; i++) {
+            angle = Mth.TWO_PI * i / (RenderUtils.MAX_CIRCLE_STEPS - 1f) + angleOffset;
+            float nextSinAngle = Mth.sin(angle);
+            float nextCosAngle = Mth.cos(angle);
+
+            buffer.addVertex(matrix, midX + sinAngle * outerRadius, midY - cosAngle * outerRadius, z)
+                    .setColor(color.r, color.g, color.b, color.a);
+            buffer.addVertex(matrix, midX + sinAngle * innerRadius, midY - cosAngle * innerRadius, z)
+                    .setColor(color.r, color.g, color.b, color.a);
+            buffer.addVertex(matrix, midX + nextSinAngle * innerRadius, midY - nextCosAngle * innerRadius, z)
+                    .setColor(color.r, color.g, color.b, color.a);
+            buffer.addVertex(matrix, midX + nextSinAngle * outerRadius, midY - nextCosAngle * outerRadius, z)
+                    .setColor(color.r, color.g, color.b, color.a);
+
+            sinAngle = nextSinAngle;
+            cosAngle = nextCosAngle;
+        }
+    }
+
     public static void drawColoredTexturedRect(
             PoseStack poseStack,
             MultiBufferSource bufferSource,
@@ -0,0 +1,27 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A map that holds at most a given number of entries, evicting the least recently used entry when a new one is put.
+ * <p>
+ * Both reads and writes count as a use. Like {@link LinkedHashMap}, this map is not synchronized.
+ */
+public final class BoundedLruMap<K, V> extends LinkedHashMap<K, V> {
+    private final int maxSize;
+
+    public BoundedLruMap(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A filtered and sorted view over a keyed collection, which is kept up to date as single entries change.
+ * <p>
+ * Values that compare as equal keep the natural order of their keys, so the view is always the same as
+ * stably sorting the filtered values in key order. Changing an entry costs a binary search and a list
+ * shift, only changing the filter or the comparator rebuilds the whole view.
+ */
+public class FilteredSortedView<K extends Comparable<K>, V> {
+    private final TreeMap<K, V> entries = new TreeMap<>();
+    private final Set<K> visibleKeys = new HashSet<>();
+
+    private final List<K> viewKeys = new ArrayList<>();
+    private final List<V> viewValues = new ArrayList<>();
+    private final List<V> unmodifiableView = Collections.unmodifiableList(viewValues);
+
+    private Predicate<V> filter = value -> true;
+    private Comparator<V> comparator = (value1, value2) -> 0;
+
+    /**
+     * Sets the filter and sort order of the view, and rebuilds it from all entries.
+     */
+    public void setQuery(Predicate<V> filter, Comparator<V> comparator) {
+        this.filter = filter;
+        this.comparator = comparator;
+
+        rebuild();
+    }
+
+    public void put(K key, V value) {
+        removeFromView(key);
+        entries.put(key, value);
+
+        if (!filter.test(value)) return;
+
+        int index = findIndex(key, value);
+        int insertionPoint = index < 0 ? -(index + 1) : index;
+        viewKeys.add(insertionPoint, key);
+        viewValues.add(insertionPoint, value);
+        visibleKeys.add(key);
+    }
+
+    public void remove(K key) {
+        removeFromView(key);
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+        visibleKeys.clear();
+        viewKeys.clear();
+        viewValues.clear();
+    }
+
+    /**
+     * Returns the filtered and sorted values. The returned list is a live, read-only view.
+     */
+    public List<V> getView() {
+        return unmodifiableView;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void rebuild() {
+        visibleKeys.clear();
+        viewKeys.clear();
+        viewValues.clear();
+
+        List<K> keys = new ArrayList<>();
+        for (var entry : entries.entrySet()) {
+            if (!filter.test(entry.getValue())) continue;
+
+            keys.add(entry.getKey());
+        }
+
+        // List.sort is stable, so equal values stay in key order
+        keys.sort((key1, key2) -> comparator.compare(entries.get(key1), entries.get(key2)));
+
+        for (K key : keys) {
+            viewKeys.add(key);
+            viewValues.add(entries.get(key));
+        }
+        visibleKeys.addAll(keys);
+    }
+
+    private void removeFromView(K key) {
+        if (!visibleKeys.remove(key)) return;
+
+        int index = findIndex(key, entries.get(key));
+        if (index < 0 || !viewKeys.get(index).equals(key)) {
+            // The comparator is not consistent with the one the entry was inserted with,
+            // fall back to a linear search
+            index = viewKeys.indexOf(key);
+        }
+
+        viewKeys.remove(index);
+        viewValues.remove(index);
+    }
+
+    private int findIndex(K key, V value) {
+        int low = 0;
+        int high = viewKeys.size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            int compare = comparator.compare(viewValues.get(mid), value);
+            if (compare == 0) {
+                compare = viewKeys.get(mid).compareTo(key);
+            }
+
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds all mentions of a set of aliases in one pass over a text, using an Aho-Corasick automaton.
+ * <p>
+ * Aliases are matched ignoring ASCII case, and follow the rules the per-alias regexes used to have:
+ * <ul>
+ *     <li>Aliases made of word characters only ({@code [a-zA-Z0-9_]}) must be a whole word, that is not preceded by
+ *     {@code [} and not followed by {@code :} or {@code ]}.</li>
+ *     <li>Other aliases must be surrounded by whitespace or the text bounds. The surrounding whitespace is part of
+ *     the mention.</li>
+ * </ul>
+ * Mentions never overlap. The text after a mention is matched as if it was a new text, so a mention can directly
+ * follow another one.
+ */
+public final class MentionMatcher {
+    // The automaton, indexed by state, with state 0 being the root
+    private final List<int[]> transitions = new ArrayList<>();
+    private final List<char[]> transitionChars = new ArrayList<>();
+    private final int[] failure;
+    private final int[][] outputs;
+
+    private final int[] aliasLengths;
+    private final boolean[] wordAliases;
+
+    public MentionMatcher(Collection<String> aliases) {
+        List<String> uniqueAliases =
+                aliases.stream().filter(alias -> !alias.isEmpty()).distinct().toList();
+
+        aliasLengths = new int[uniqueAliases.size()];
+        wordAliases = new boolean[uniqueAliases.size()];
+
+        List<List<Integer>> stateOutputs = new ArrayList<>();
+        addState(stateOutputs);
+
+        for (int aliasIndex = 0; aliasIndex < uniqueAliases.size(); aliasIndex++) {
+            String alias = uniqueAliases.get(aliasIndex);
+            aliasLengths[aliasIndex] = alias.length();
+            wordAliases[aliasIndex] = alias.chars().allMatch(c -> isWordChar((char) c));
+
+            int state = 0;
+            for (int i = 0; i < alias.length(); i++) {
+                char c = foldCase(alias.charAt(i));
+                int next = getTransition(state, c);
+                if (next == -1) {
+                    next = addState(stateOutputs);
+                    addTransition(state, c, next);
+                }
+                state = next;
+            }
+            stateOutputs.get(state).add(aliasIndex);
+        }
+
+        failure = buildFailureLinks(stateOutputs);
+
+        outputs = new int[stateOutputs.size()][];
+        for (int state = 0; state < stateOutputs.size(); state++) {
+            outputs[state] = stateOutputs.get(state).stream()
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    public boolean isEmpty() {
+        return aliasLengths.length == 0;
+    }
+
+    /**
+     * @return The mentions in the text, in order
+     */
+    public List<Match> findAll(String text) {
+        if (isEmpty() || text.isEmpty()) return List.of();
+
+        // Collect every occurrence of every alias, as start index and alias index
+        List<long[]> occurrences = new ArrayList<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldCase(text.charAt(i));
+
+            while (state != 0 && getTransition(state, c) == -1) {
+                state = failure[state];
+            }
+            int next = getTransition(state, c);
+            state = next == -1 ? 0 : next;
+
+            for (int aliasIndex : outputs[state]) {
+                occurrences.add(new long[] {i + 1 - aliasLengths[aliasIndex], aliasIndex});
+            }
+        }
+
+        if (occurrences.isEmpty()) return List.of();
+
+        occurrences.sort(Comparator.comparingLong(occurrence -> occurrence[0]));
+
+        List<Match> matches = new ArrayList<>();
+        int segmentStart = 0;
+        int first = 0;
+        while (first < occurrences.size()) {
+            Match best = null;
+            int bestIndex = -1;
+
+            for (int i = first; i < occurrences.size(); i++) {
+                long[] occurrence = occurrences.get(i);
+                int aliasStart = (int) occurrence[0];
+                if (aliasStart < segmentStart) continue;
+                // A mention can start at most one character before its alias
+                if (best != null && aliasStart - 1 > best.start()) break;
+
+                Match match = tryMatch(text, segmentStart, aliasStart, (int) occurrence[1]);
+                if (match == null) continue;
+
+                if (best == null
+                        || match.start() < best.start()
+                        || (match.start() == best.start() && match.end() > best.end())) {
+                    best = match;
+                    bestIndex = i;
+                }
+            }
+
+            if (best == null) break;
+
+            matches.add(best);
+            segmentStart = best.end();
+            first = bestIndex + 1;
+        }
+
+        return matches;
+    }
+
+    private Match tryMatch(String text, int segmentStart, int aliasStart, int aliasIndex) {
+        int aliasEnd = aliasStart + aliasLengths[aliasIndex];
+
+        if (wordAliases[aliasIndex]) {
+            // (?<!\[)\b(alias)\b(?!:|])
+            if (aliasStart > segmentStart) {
+                char before = text.charAt(aliasStart - 1);
+                if (before == '[' || isWordChar(before)) return null;
+            }
+            if (aliasEnd < text.length()) {
+                char after = text.charAt(aliasEnd);
+                if (after == ':' || after == ']' || isWordChar(after)) return null;
+            }
+
+            return new Match(aliasStart, aliasEnd);
+        }
+
+        // (?:\s|^)(alias)(?:\s|$)
+        int start;
+        if (aliasStart > segmentStart && isWhitespace(text.charAt(aliasStart - 1))) {
+            start = aliasStart - 1;
+        } else if (aliasStart == segmentStart) {
+            start = aliasStart;
+        } else {
+            return null;
+        }
+
+        if (aliasEnd == text.length()) return new Match(start, aliasEnd);
+        if (isWhitespace(text.charAt(aliasEnd))) return new Match(start, aliasEnd + 1);
+
+        return null;
+    }
+
+    private int addState(List<List<Integer>> stateOutputs) {
+        transitions.add(new int[0]);
+        transitionChars.add(new char[0]);
+        stateOutputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void addTransition(int state, char c, int next) {
+        char[] chars = transitionChars.get(state);
+        int[] targets = transitions.get(state);
+
+        char[] newChars = Arrays.copyOf(chars, chars.length + 1);
+        int[] newTargets = Arrays.copyOf(targets, targets.length + 1);
+        newChars[chars.length] = c;
+        newTargets[targets.length] = next;
+
+        transitionChars.set(state, newChars);
+        transitions.set(state, newTargets);
+    }
+
+    private int getTransition(int state, char c) {
+        char[] chars = transitionChars.get(state);
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c) return transitions.get(state)[i];
+        }
+
+        return -1;
+    }
+
+    private int[] buildFailureLinks(List<List<Integer>> stateOutputs) {
+        int[] failure = new int[transitions.size()];
+
+        // Breadth first, so the failure state of a state is always done before the state itself
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0)) {
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            char[] chars = transitionChars.get(state);
+            int[] targets = transitions.get(state);
+
+            for (int i = 0; i < chars.length; i++) {
+                int child = targets[i];
+                queue.add(child);
+
+                int fallback = failure[state];
+                while (fallback != 0 && getTransition(fallback, chars[i]) == -1) {
+                    fallback = failure[fallback];
+                }
+                int fallbackChild = getTransition(fallback, chars[i]);
+                failure[child] = fallbackChild == -1 || fallbackChild == child ? 0 : fallbackChild;
+
+                // Aliases that end in the failure state also end here
+                stateOutputs.get(child).addAll(stateOutputs.get(failure[child]));
+            }
+        }
+
+        return failure;
+    }
+
+    // Pattern.CASE_INSENSITIVE only folds US-ASCII characters
+    private static char foldCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    // \w
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // \s
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    public record Match(int start, int end) {}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Collects requests for single keys over a short window, and resolves them together in one batch.
+ * Requests for a key that is already waiting for the next batch share the same future.
+ * <p>
+ * The batch loader is given all keys of a batch, and returns the values it could resolve. Keys missing
+ * from the result are completed with {@code null}. If the batch loader fails, all requests of the batch fail.
+ */
+public class RequestCoalescer<K, V> {
+    private final int maxBatchSize;
+    private final Function<Set<K>, CompletableFuture<Map<K, V>>> batchLoader;
+    private final Consumer<Runnable> flushScheduler;
+
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    // Counts the batches handed to the batch loader, so a scheduled flush only flushes the batch it was scheduled for
+    private long flushedBatches = 0;
+
+    /**
+     * @param maxBatchSize   the batch is flushed immediately when reaching this size
+     * @param batchLoader    resolves a batch of keys
+     * @param flushScheduler called when a new batch is started, it must run the given runnable once the
+     *                       collection window has passed
+     */
+    public RequestCoalescer(
+            int maxBatchSize,
+            Function<Set<K>, CompletableFuture<Map<K, V>>> batchLoader,
+            Consumer<Runnable> flushScheduler) {
+        this.maxBatchSize = maxBatchSize;
+        this.batchLoader = batchLoader;
+        this.flushScheduler = flushScheduler;
+    }
+
+    public CompletableFuture<V> request(K key) {
+        CompletableFuture<V> future;
+        boolean startedBatch;
+        boolean batchFull;
+        long batch;
+
+        synchronized (this) {
+            CompletableFuture<V> existing = pending.get(key);
+            if (existing != null) return existing;
+
+            startedBatch = pending.isEmpty();
+            future = new CompletableFuture<>();
+            pending.put(key, future);
+            batchFull = pending.size() >= maxBatchSize;
+            batch = flushedBatches;
+        }
+
+        if (batchFull) {
+            flush();
+        } else if (startedBatch) {
+            flushScheduler.accept(() -> flushBatch(batch));
+        }
+
+        return future;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Resolve all pending requests now.
+     */
+    public void flush() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+
+        if (batch != null) {
+            load(batch);
+        }
+    }
+
+    private void flushBatch(long batchNumber) {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            // The batch was already flushed, as it filled up or was flushed manually
+            if (flushedBatches != batchNumber) return;
+
+            batch = takePending();
+        }
+
+        if (batch != null) {
+            load(batch);
+        }
+    }
+
+    private Map<K, CompletableFuture<V>> takePending() {
+        if (pending.isEmpty()) return null;
+
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        flushedBatches++;
+        return batch;
+    }
+
+    private void load(Map<K, CompletableFuture<V>> batch) {
+        CompletableFuture<Map<K, V>> result;
+        try {
+            result = batchLoader.apply(Set.copyOf(batch.keySet()));
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        result.whenComplete((values, throwable) -> batch.forEach((key, future) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(values.get(key));
+            }
+        }));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A bounded LRU cache of values derived from the state of an object, keyed by the object.
+ * <p>
+ * A value is only derived again when the state passed for its key no longer equals the state it was derived from,
+ * so the state must hold everything the derived value depends on.
+ */
+public final class StateKeyedCache<K, S, V> {
+    private final BoundedLruMap<K, Entry<S, V>> entries;
+
+    public StateKeyedCache(int maxSize) {
+        this.entries = new BoundedLruMap<>(maxSize);
+    }
+
+    public V get(K key, S state, Supplier<V> deriver) {
+        Entry<S, V> entry = entries.get(key);
+        if (entry != null && Objects.equals(entry.state(), state)) return entry.value();
+
+        V value = deriver.get();
+        entries.put(key, new Entry<>(state, value));
+        return value;
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidate() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record Entry<S, V>(S state, V value) {}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads unsigned bytes from a byte array or a {@link ByteBuffer}, without boxing every byte.
+ * The read values are in the range 0 to 255, the same as {@link UnsignedByte#value()}.
+ */
+public final class UnsignedByteReader {
+    private final ByteBuffer buffer;
+
+    public UnsignedByteReader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    public UnsignedByteReader(ByteBuffer buffer) {
+        // Slice, so reading does not move the position of the given buffer
+        this.buffer = buffer.slice().asReadOnlyBuffer();
+    }
+
+    public int peek() {
+        checkRemaining(1);
+
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    public int read() {
+        checkRemaining(1);
+
+        return buffer.get() & 0xFF;
+    }
+
+    public byte[] read(int length) {
+        checkRemaining(length);
+
+        byte[] result = new byte[length];
+        buffer.get(result);
+        return result;
+    }
+
+    public byte[] readRemaining() {
+        return read(buffer.remaining());
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    private void checkRemaining(int length) {
+        // Throw an exception if we try to read past the end of the buffer
+        if (length > buffer.remaining()) {
+            throw new ArrayIndexOutOfBoundsException("Tried to read past the end of the array");
+        }
+    }
+}
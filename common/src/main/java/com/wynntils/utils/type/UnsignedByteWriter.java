@@ -0,0 +1,64 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.utils.type;
+
+import java.util.Arrays;
+
+/**
+ * Writes unsigned bytes into a growing byte array, without boxing every byte.
+ */
+public final class UnsignedByteWriter {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private byte[] bytes;
+    private int size;
+
+    public UnsignedByteWriter() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public UnsignedByteWriter(int initialCapacity) {
+        this.bytes = new byte[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Writes the lowest 8 bits of the given value.
+     */
+    public void write(int value) {
+        ensureCapacity(size + 1);
+        bytes[size++] = (byte) value;
+    }
+
+    public void write(byte[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards everything written after the given size.
+     */
+    public void truncate(int size) {
+        if (size < 0 || size > this.size) {
+            throw new IllegalArgumentException("Cannot truncate to " + size + ", size is " + this.size);
+        }
+
+        this.size = size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= bytes.length) return;
+
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+    }
+}
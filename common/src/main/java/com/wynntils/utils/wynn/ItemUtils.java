@@ -1,5 +1,5 @@
 /*
- * Copyright © Wynntils 2021-2024.
+ * Copyright © Wynntils 2021-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 package com.wynntils.utils.wynn;
@@ -16,6 +16,7 @@ import java.util.regex.Pattern;
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 
@@ -77,18 +78,19 @@ public final class ItemUtils {
     }
 
     public static MutableComponent getNonGearDescription(ItemStack itemStack, String gearName) {
+        return getNonGearDescription(itemStack.getItem(), itemStack.getDamageValue(), gearName);
+    }
+
+    public static MutableComponent getNonGearDescription(Item item, int damageValue, String gearName) {
         if (gearName.contains("Crafted")) {
             return Component.literal(gearName).withStyle(ChatFormatting.DARK_AQUA);
         }
 
         // this solves an unidentified item showcase exploit
         // boxes items are STONE_SHOVEL, 1 represents UNIQUE boxes and 6 MYTHIC boxes
-        if (itemStack.getItem() == Items.STONE_SHOVEL
-                && itemStack.getDamageValue() >= 1
-                && itemStack.getDamageValue() <= 6) {
+        if (item == Items.STONE_SHOVEL && damageValue >= 1 && damageValue <= 6) {
             return Component.literal("Unidentified Item")
-                    .withStyle(
-                            GearTier.fromBoxDamage(itemStack.getDamageValue()).getChatFormatting());
+                    .withStyle(GearTier.fromBoxDamage(damageValue).getChatFormatting());
         }
         return null;
     }
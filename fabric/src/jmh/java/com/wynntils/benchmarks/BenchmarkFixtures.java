@@ -0,0 +1,75 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.ItemLore;
+
+/**
+ * Loads the captured fixture data the benchmarks run on.
+ * <p>
+ * Fixtures are UTF-8 text files in {@code src/jmh/resources/fixtures}, with one entry per line. Empty lines and
+ * lines starting with {@code #} are ignored, any other whitespace is part of the entry.
+ */
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {}
+
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    public static List<String> lines(String fixtureName) {
+        InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + fixtureName);
+        if (inputStream == null) {
+            throw new IllegalArgumentException("Missing benchmark fixture: " + fixtureName);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Serialized as item id;name;lore lines separated by a backslash
+    public static List<ItemStack> itemStacks(String fixtureName) {
+        return lines(fixtureName).stream()
+                .map(line -> {
+                    String[] fields = line.split(";", -1);
+
+                    ItemStack itemStack =
+                            new ItemStack(BuiltInRegistries.ITEM.getValue(ResourceLocation.parse(fields[0])));
+                    itemStack.set(
+                            DataComponents.CUSTOM_NAME,
+                            StyledText.fromString(fields[1]).getComponent());
+
+                    List<Component> lore = Arrays.stream(fields[2].split("\\\\", -1))
+                            .map(loreLine -> (Component) StyledText.fromString(loreLine).getComponent())
+                            .toList();
+                    itemStack.set(DataComponents.LORE, new ItemLore(lore));
+
+                    return itemStack;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.persisted.PersistedValue;
+import com.wynntils.core.persisted.config.Config;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.features.redirects.ChatRedirectFeature;
+import com.wynntils.handlers.chat.event.ChatMessageReceivedEvent;
+import com.wynntils.handlers.chat.type.MessageType;
+import com.wynntils.handlers.chat.type.RecipientType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Passing chat messages through {@link ChatRedirectFeature#onChatMessage}, like it happens for each received message.
+ * <p>
+ * Redirected messages are queued as notifications, which needs {@code Managers}, so every redirector is set to hide
+ * its messages instead. This only skips the queueing, the messages are matched the same way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatRedirectBenchmark {
+    @Param({"FOREGROUND", "BACKGROUND"})
+    public MessageType messageType;
+
+    private List<StyledText> messages;
+    private ChatRedirectFeature feature;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        BenchmarkFixtures.bootstrap();
+
+        messages = BenchmarkFixtures.lines("chat.txt").stream()
+                .map(StyledText::fromString)
+                .toList();
+
+        // The feature is never registered, so none of its events are used.
+        // Config#store saves the configs through Managers as well, so the values are set directly.
+        feature = new ChatRedirectFeature();
+        Method setRaw = PersistedValue.class.getDeclaredMethod("setRaw", Object.class);
+        setRaw.setAccessible(true);
+        for (Field field : ChatRedirectFeature.class.getFields()) {
+            if (field.get(feature) instanceof Config<?> config
+                    && config.get() instanceof ChatRedirectFeature.RedirectAction) {
+                setRaw.invoke(config, ChatRedirectFeature.RedirectAction.HIDE);
+            }
+        }
+    }
+
+    @Benchmark
+    public void redirectMessages(Blackhole blackhole) {
+        for (StyledText message : messages) {
+            ChatMessageReceivedEvent event = new ChatMessageReceivedEvent(message, messageType, RecipientType.INFO);
+            feature.onChatMessage(event);
+            blackhole.consume(event.isCanceled());
+        }
+    }
+}
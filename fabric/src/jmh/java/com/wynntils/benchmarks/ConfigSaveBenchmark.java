@@ -0,0 +1,80 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.google.gson.JsonObject;
+import com.wynntils.core.json.JsonManager;
+import com.wynntils.utils.colors.CustomColor;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Saving a config with many user-changed options. ConfigManager snapshots the options on the calling thread for every
+ * save request, and coalesces the requests into a single background file write.
+ * <p>
+ * ConfigManager itself needs a running client, so this runs the {@link JsonManager} steps of its snapshot and write
+ * on a standalone instance. Collecting the changed values of the registered configs is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConfigSaveBenchmark {
+    @Param({"500"})
+    public int optionCount;
+
+    private final JsonManager jsonManager = new JsonManager();
+
+    private Map<String, Object> configValues;
+    private JsonObject configJson;
+    private File configFile;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixtures.bootstrap();
+
+        // A mix of the value types features use for their configs
+        configValues = new LinkedHashMap<>();
+        for (int i = 0; i < optionCount; i++) {
+            String jsonName = "feature" + (i / 10) + ".option" + (i % 10);
+            Object value =
+                    switch (i % 5) {
+                        case 0 -> i % 2 == 0;
+                        case 1 -> i * 3;
+                        case 2 -> i / 7f;
+                        case 3 -> CustomColor.fromInt(i * 0x010101);
+                        default -> List.of("entry" + i, "entry" + (i + 1));
+                    };
+            configValues.put(jsonName, value);
+        }
+
+        configJson = snapshotConfig();
+        configFile = new File(Files.createTempDirectory("wynntils-config-benchmark").toFile(), "config.conf.json");
+    }
+
+    // The work of every save request, done on the calling thread
+    @Benchmark
+    public JsonObject snapshotConfig() {
+        return jsonManager.toJsonObject(configValues);
+    }
+
+    // The work of a coalesced save, done once in the background
+    @Benchmark
+    public void writeConfig() {
+        jsonManager.savePreciousJson(configFile, configJson);
+    }
+}
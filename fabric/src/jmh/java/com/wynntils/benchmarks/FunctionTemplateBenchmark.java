@@ -0,0 +1,67 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.consumers.functions.FunctionManager;
+import com.wynntils.core.consumers.functions.templates.Template;
+import com.wynntils.core.consumers.functions.templates.parser.TemplateParser;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and formatting of function templates, as done by info boxes and overlays every frame.
+ * <p>
+ * Resolving a function goes through {@code Managers.Function}, which cannot be created without a client. The fixture
+ * therefore only uses constant expressions, which still go through the template and expression parsers, escaping
+ * and color code handling of a separate {@link FunctionManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FunctionTemplateBenchmark {
+    private final FunctionManager functionManager = new FunctionManager();
+
+    private List<String> templateStrings;
+    private List<Template> templates;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        templateStrings = BenchmarkFixtures.lines("templates.txt");
+        templates = templateStrings.stream()
+                .map(TemplateParser::getTemplateFromString)
+                .toList();
+    }
+
+    @Benchmark
+    public void parseTemplate(Blackhole blackhole) {
+        for (String templateString : templateStrings) {
+            blackhole.consume(TemplateParser.getTemplateFromString(templateString));
+        }
+    }
+
+    @Benchmark
+    public void calculateTemplate(Blackhole blackhole) {
+        for (Template template : templates) {
+            blackhole.consume(template.getString());
+        }
+    }
+
+    @Benchmark
+    public void formatLines(Blackhole blackhole) {
+        for (String templateString : templateStrings) {
+            blackhole.consume(functionManager.doFormatLines(templateString));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.ItemFilterService;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemQueryPlan;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.services.itemfilter.type.ItemStatProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Item search queries, as typed into the container search bars and the guide screens.
+ * <p>
+ * The built-in stat providers need the models, so the queries run on synthetic items with a few stat providers of
+ * the same kinds.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemQueryBenchmark {
+    private static final String[] NAMES = {"Oak Wood Spear", "Diamond Sword", "Nirvana", "Cancer", "Singularity"};
+    private static final String[] TYPES = {"spear", "wand", "bow", "dagger", "relik"};
+    private static final List<String> QUERIES = List.of(
+            "level:10-60",
+            "level:<10,>90",
+            "type:\"wand\"",
+            "powder:*",
+            "type:bow level:>=50 powder:1-3 unidentified:false",
+            "oak wood",
+            "level:>50 nirvana",
+            "sort:powder,^level");
+
+    @Param({"10000"})
+    public int itemCount;
+
+    private ItemFilterService itemFilterService;
+    private List<ItemSearchQuery> searchQueries;
+    private List<ItemQueryPlan> queryPlans;
+    private List<BenchmarkItem> items;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        itemFilterService = new ItemFilterService(List.of(
+                new LevelStatProvider(),
+                new TypeStatProvider(),
+                new UnidentifiedStatProvider(),
+                new PowderStatProvider())) {};
+        searchQueries = parseQueries();
+        queryPlans = searchQueries.stream().map(ItemQueryPlan::compile).toList();
+
+        Random random = new Random(42);
+        items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new BenchmarkItem(
+                    NAMES[random.nextInt(NAMES.length)],
+                    random.nextInt(106),
+                    TYPES[random.nextInt(TYPES.length)],
+                    random.nextBoolean(),
+                    random.nextInt(4) == 0 ? null : random.nextInt(5)));
+        }
+    }
+
+    // Done on every keystroke in a search bar
+    @Benchmark
+    public List<ItemSearchQuery> parseQueries() {
+        return QUERIES.stream()
+                .map(query -> itemFilterService.createSearchQuery(query, true, List.of(ItemProviderType.GEAR)))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ItemQueryPlan> compileQueries() {
+        return searchQueries.stream().map(ItemQueryPlan::compile).toList();
+    }
+
+    @Benchmark
+    public void filterItems(Blackhole blackhole) {
+        for (ItemQueryPlan plan : queryPlans) {
+            for (BenchmarkItem item : items) {
+                blackhole.consume(plan.matches(item, () -> item.name));
+            }
+        }
+    }
+
+    // Every filter and the plain text in query order, as done before query plans
+    @Benchmark
+    public void filterItemsUnplanned(Blackhole blackhole) {
+        for (ItemSearchQuery searchQuery : searchQueries) {
+            for (BenchmarkItem item : items) {
+                blackhole.consume(searchQuery.filters().matches(item)
+                        && (searchQuery.plainTextTokens().isEmpty()
+                                || item.name.toLowerCase(Locale.ROOT)
+                                        .contains(String.join(" ", searchQuery.plainTextTokens())
+                                                .toLowerCase(Locale.ROOT))));
+            }
+        }
+    }
+
+    private static final class BenchmarkItem extends WynnItem {
+        private final String name;
+        private final int level;
+        private final String type;
+        private final boolean unidentified;
+        private final Integer powders;
+
+        private BenchmarkItem(String name, int level, String type, boolean unidentified, Integer powders) {
+            this.name = name;
+            this.level = level;
+            this.type = type;
+            this.unidentified = unidentified;
+            this.powders = powders;
+        }
+    }
+
+    private abstract static class BenchmarkStatProvider<T extends Comparable<T>> extends ItemStatProvider<T> {
+        @Override
+        public List<ItemProviderType> getFilterTypes() {
+            return List.of(ItemProviderType.GEAR);
+        }
+    }
+
+    private static final class LevelStatProvider extends BenchmarkStatProvider<Integer> {
+        @Override
+        public Optional<Integer> getValue(WynnItem wynnItem) {
+            return Optional.of(((BenchmarkItem) wynnItem).level);
+        }
+    }
+
+    private static final class TypeStatProvider extends BenchmarkStatProvider<String> {
+        @Override
+        public Optional<String> getValue(WynnItem wynnItem) {
+            return Optional.of(((BenchmarkItem) wynnItem).type);
+        }
+    }
+
+    private static final class UnidentifiedStatProvider extends BenchmarkStatProvider<Boolean> {
+        @Override
+        public Optional<Boolean> getValue(WynnItem wynnItem) {
+            return Optional.of(((BenchmarkItem) wynnItem).unidentified);
+        }
+    }
+
+    private static final class PowderStatProvider extends BenchmarkStatProvider<Integer> {
+        @Override
+        public Optional<Integer> getValue(WynnItem wynnItem) {
+            return Optional.ofNullable(((BenchmarkItem) wynnItem).powders);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.labels.LiveLabelIndex;
+import com.wynntils.handlers.labels.type.LabelInfo;
+import com.wynntils.utils.mc.type.Location;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Removing the labels of removed entities, as done by LabelHandler for every entity removal packet.
+ * <p>
+ * Each invocation tracks the removed labels again, so the next one removes the same amount.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LabelRemovalBenchmark {
+    // A removal packet rarely holds more than this, even when changing worlds
+    private static final int REMOVED_PER_PACKET = 1_000;
+
+    @Param({"10000"})
+    public int labelCount;
+
+    private final LiveLabelIndex index = new LiveLabelIndex();
+    private final Map<Integer, LabelInfo> linear = new HashMap<>();
+
+    private List<Integer> removedIds;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        for (int i = 0; i < labelCount; i++) {
+            BenchmarkLabelInfo labelInfo = new BenchmarkLabelInfo(i, "Label " + i);
+            index.put(i, labelInfo);
+            linear.put(i, labelInfo);
+        }
+
+        // Include ids of entities that never had a label
+        Random random = new Random(42);
+        removedIds = new ArrayList<>();
+        for (int i = 0; i < REMOVED_PER_PACKET; i++) {
+            removedIds.add(random.nextInt(labelCount * 2));
+        }
+    }
+
+    @Benchmark
+    public void removeIndexed(Blackhole blackhole) {
+        List<LabelInfo> removed = index.removeAll(removedIds);
+        blackhole.consume(removed);
+
+        for (LabelInfo labelInfo : removed) {
+            index.put(((BenchmarkLabelInfo) labelInfo).entityId, labelInfo);
+        }
+    }
+
+    // The scan over every label that LabelHandler did before labels were indexed
+    @Benchmark
+    public void removeLinear(Blackhole blackhole) {
+        List<LabelInfo> removed = linear.values().stream()
+                .filter(label -> removedIds.contains(((BenchmarkLabelInfo) label).entityId))
+                .toList();
+        removed.forEach(label -> linear.remove(((BenchmarkLabelInfo) label).entityId));
+        blackhole.consume(removed);
+
+        for (LabelInfo labelInfo : removed) {
+            linear.put(((BenchmarkLabelInfo) labelInfo).entityId, labelInfo);
+        }
+    }
+
+    private static final class BenchmarkLabelInfo extends LabelInfo {
+        private final int entityId;
+
+        private BenchmarkLabelInfo(int entityId, String name) {
+            super(StyledText.fromString(name), new Location(entityId, 0, 0), null);
+            this.entityId = entityId;
+        }
+    }
+}
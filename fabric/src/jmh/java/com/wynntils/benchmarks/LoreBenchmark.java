@@ -0,0 +1,63 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.utils.mc.LoreUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Lore extraction from item stacks, as done by the item annotators and tooltip features.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoreBenchmark {
+    // The class requirement line of gear, which is a few lines into the lore
+    private static final Pattern CLASS_REQ_PATTERN =
+            Pattern.compile("^§a✔ §7Class Req: (?<name>.+)/(?<skinned>.+)$");
+    // The class requirement comes after the attack speed and an empty line, and after the health if there is any
+    private static final int CLASS_REQ_START_LINE = 2;
+
+    private List<ItemStack> itemStacks;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        itemStacks = BenchmarkFixtures.itemStacks("items.txt");
+    }
+
+    @Benchmark
+    public void getLore(Blackhole blackhole) {
+        for (ItemStack itemStack : itemStacks) {
+            blackhole.consume(LoreUtils.getLore(itemStack));
+        }
+    }
+
+    @Benchmark
+    public void getStringLore(Blackhole blackhole) {
+        for (ItemStack itemStack : itemStacks) {
+            blackhole.consume(LoreUtils.getStringLore(itemStack).getString());
+        }
+    }
+
+    @Benchmark
+    public void matchLoreLine(Blackhole blackhole) {
+        for (ItemStack itemStack : itemStacks) {
+            blackhole.consume(LoreUtils.matchLoreLine(itemStack, CLASS_REQ_START_LINE, CLASS_REQ_PATTERN).matches());
+        }
+    }
+}
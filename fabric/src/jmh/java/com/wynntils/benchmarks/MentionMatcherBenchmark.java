@@ -0,0 +1,58 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.PartStyle;
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.type.MentionMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Finding the mentions of the player name and their aliases in chat messages, as done by ChatMentionFeature for each
+ * received message. The time per message should not grow with the alias count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MentionMatcherBenchmark {
+    @Param({"1", "100", "10000"})
+    public int aliasCount;
+
+    private List<String> messages;
+    private MentionMatcher matcher;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        messages = BenchmarkFixtures.lines("chat.txt").stream()
+                .map(line -> StyledText.fromString(line).getString(PartStyle.StyleType.NONE))
+                .toList();
+
+        List<String> aliases = new ArrayList<>();
+        for (int i = 0; i < aliasCount; i++) {
+            aliases.add("player" + i);
+        }
+        matcher = new MentionMatcher(aliases);
+    }
+
+    @Benchmark
+    public void findMentions(Blackhole blackhole) {
+        for (String message : messages) {
+            blackhole.consume(matcher.findAll(message));
+        }
+    }
+}
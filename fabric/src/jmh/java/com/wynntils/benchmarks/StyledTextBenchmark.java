@@ -0,0 +1,98 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+package com.wynntils.benchmarks;
+
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.mc.StyledTextUtils;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and regex operations on {@link StyledText}, over the captured chat messages.
+ * Every benchmark processes the whole fixture once per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StyledTextBenchmark {
+    private static final Pattern COLORED_WORD_PATTERN = Pattern.compile("§[0-9a-f](\\w+)");
+    private static final Pattern HEART_PATTERN = Pattern.compile("❤");
+
+    private List<String> codedStrings;
+    private List<StyledText> styledTexts;
+
+    @Setup
+    public void setup() {
+        BenchmarkFixtures.bootstrap();
+
+        codedStrings = BenchmarkFixtures.lines("chat.txt");
+        styledTexts = codedStrings.stream().map(StyledText::fromString).toList();
+    }
+
+    @Benchmark
+    public void fromString(Blackhole blackhole) {
+        for (String codedString : codedStrings) {
+            blackhole.consume(StyledText.fromString(codedString));
+        }
+    }
+
+    @Benchmark
+    public void fromComponent(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(StyledText.fromComponent(styledText.getComponent()));
+        }
+    }
+
+    @Benchmark
+    public void getString(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(styledText.getString());
+        }
+    }
+
+    @Benchmark
+    public void getStringWithoutFormatting(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(styledText.getStringWithoutFormatting());
+        }
+    }
+
+    @Benchmark
+    public void getMatcherFind(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(styledText.getMatcher(COLORED_WORD_PATTERN).find());
+        }
+    }
+
+    @Benchmark
+    public void replaceFirst(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(styledText.replaceFirst(HEART_PATTERN, "♥"));
+        }
+    }
+
+    @Benchmark
+    public void split(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(styledText.split(" "));
+        }
+    }
+
+    @Benchmark
+    public void unwrapAndStripAlignment(Blackhole blackhole) {
+        for (StyledText styledText : styledTexts) {
+            blackhole.consume(StyledTextUtils.unwrap(styledText).stripAlignment());
+        }
+    }
+}
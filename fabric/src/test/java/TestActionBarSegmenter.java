@@ -0,0 +1,202 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.actionbar.ActionBarSegment;
+import com.wynntils.handlers.actionbar.ActionBarSegmentMatcher;
+import com.wynntils.handlers.actionbar.ActionBarSegmenter;
+import com.wynntils.models.characterstats.actionbar.matchers.HealthBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.HealthTextSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.HotbarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.LevelSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.ManaBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.ManaTextSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterBarSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterEdgeAnimationSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.MeterStateAnimationSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.matchers.PowderSpecialSegmentMatcher;
+import com.wynntils.models.characterstats.actionbar.segments.HealthTextSegment;
+import com.wynntils.models.characterstats.actionbar.segments.HotbarSegment;
+import com.wynntils.models.characterstats.actionbar.segments.LevelSegment;
+import com.wynntils.models.spells.actionbar.matchers.SpellSegmentMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestActionBarSegmenter {
+    private static final String HOTBAR = "\uDAFF\uDF98\uE00A\uDAFF\uDFFF\uDAFF\uDF98";
+    private static final String FULL_METER = "\uDAFF\uDFF4\uE090\uDAFF\uDFF3";
+    private static final String SPRINT_METER = "\uDAFF\uDFF4\uE0A5\uDAFF\uDFF3";
+    private static final String METER_EDGE = "\uDAFF\uDFF4\uE093\uDAFF\uDFF3";
+    private static final String METER_STATE = "\uDAFF\uDFF4\uE0E2\uDAFF\uDFF3";
+    // Level 105
+    private static final String LEVEL = "\uDAFF\uDFF8\uE001\uDAFF\uDFFE\uE000\uDAFF\uDFFE\uE005\uDAFF\uDFF8";
+    private static final String MANA_BAR = "\uDB00\uDC1C\uE089" + "\uDAFF\uDFFF\uE088".repeat(10) + "\uDAFF\uDFA6";
+    private static final String HEALTH_BAR = "\uDAFF\uDF9C\uE029" + "\uDAFF\uDFFF\uE028".repeat(10) + "\uDB00\uDC20";
+    private static final String CRITICAL_HEALTH_BAR = "\uDAFF\uDF9C\uE069" + "\uDAFF\uDFFF\uE024".repeat(10)
+            + "\uDAFF\uDFBC\uE069\uDB00\uDC1B";
+    // 120/120
+    private static final String HEALTH_TEXT =
+            "\uDAFF\uDFD0\uE011\uE012\uE010\uDB00\uDC02\uE01F\uDB00\uDC02\uE011\uE012\uE010\uDB00\uDC10";
+    // 80/90
+    private static final String MANA_TEXT =
+            "\uDB00\uDC10\uE018\uE010\uDB00\uDC02\uE01F\uDB00\uDC02\uE019\uE010\uDAFF\uDFD0";
+    // 1.2k/1.5k
+    private static final String SHORT_HEALTH_TEXT =
+            "\uDAFF\uDFD0\uE011\uE01E\uE012\uE01A\uDB00\uDC02\uE01F\uDB00\uDC02\uE011\uE01E\uE015\uE01A\uDB00\uDC10";
+    private static final String POWDER_SPECIAL = "\uDAFF\uDFF0\uE145\uDAFF\uDFEF";
+    private static final String EMPTY_POWDER_SPECIAL = "\uDAFF\uDFF0\uE110\uDAFF\uDFEF";
+    private static final String SPELL = "\uDAFF\uDFE0\uE100 \uE106 \uE101 \uE106 \uE102\uDAFF\uDFE0";
+    private static final String NO_SPELL = "\uDAFF\uDFE0\uE102 \uE106 \uE102 \uE106 \uE102\uDAFF\uDFE0";
+    private static final String UNKNOWN_GLYPH = "\uDAFF\uDFFC\uE300";
+
+    private static final List<String> PIECES = List.of(
+            HOTBAR,
+            FULL_METER,
+            SPRINT_METER,
+            METER_EDGE,
+            METER_STATE,
+            LEVEL,
+            MANA_BAR,
+            HEALTH_BAR,
+            CRITICAL_HEALTH_BAR,
+            HEALTH_TEXT,
+            MANA_TEXT,
+            SHORT_HEALTH_TEXT,
+            POWDER_SPECIAL,
+            EMPTY_POWDER_SPECIAL,
+            SPELL,
+            NO_SPELL,
+            UNKNOWN_GLYPH,
+            " ");
+
+    // Action bars as they are laid out in game
+    private static final List<String> CORPUS = List.of(
+            HEALTH_TEXT + HEALTH_BAR + HOTBAR + LEVEL + FULL_METER + MANA_BAR + MANA_TEXT,
+            HEALTH_TEXT + HEALTH_BAR + HOTBAR + LEVEL + SPRINT_METER + METER_STATE + MANA_BAR + MANA_TEXT,
+            HEALTH_TEXT + HEALTH_BAR + HOTBAR + LEVEL + METER_EDGE + MANA_BAR + MANA_TEXT + SPELL,
+            HEALTH_TEXT + CRITICAL_HEALTH_BAR + HOTBAR + LEVEL + FULL_METER + MANA_BAR + MANA_TEXT + NO_SPELL,
+            SHORT_HEALTH_TEXT + HEALTH_BAR + HOTBAR + LEVEL + FULL_METER + MANA_BAR + MANA_TEXT + POWDER_SPECIAL,
+            HEALTH_TEXT + HEALTH_BAR + HOTBAR + LEVEL + FULL_METER + MANA_BAR + MANA_TEXT + EMPTY_POWDER_SPECIAL,
+            // Segments we have no matcher for
+            HEALTH_TEXT + UNKNOWN_GLYPH + HEALTH_BAR + HOTBAR + UNKNOWN_GLYPH + LEVEL + MANA_BAR + MANA_TEXT,
+            UNKNOWN_GLYPH + HOTBAR + UNKNOWN_GLYPH,
+            // Literal placeholder characters
+            HEALTH_TEXT + "%" + HOTBAR + "%%" + LEVEL + "%",
+            // Partial action bars, while the resource pack is loading
+            HOTBAR,
+            HEALTH_TEXT + MANA_TEXT,
+            UNKNOWN_GLYPH,
+            "");
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // The registration order of CharacterStatsModel and SpellModel
+    private static List<ActionBarSegmentMatcher> matchers() {
+        return List.of(
+                new HotbarSegmentMatcher(),
+                new MeterBarSegmentMatcher(),
+                new MeterEdgeAnimationSegmentMatcher(),
+                new MeterStateAnimationSegmentMatcher(),
+                new LevelSegmentMatcher(),
+                new ManaBarSegmentMatcher(),
+                new HealthBarSegmentMatcher(),
+                new ManaTextSegmentMatcher(),
+                new HealthTextSegmentMatcher(),
+                new PowderSpecialSegmentMatcher(),
+                new SpellSegmentMatcher());
+    }
+
+    // The segmentation ActionBarHandler did before the segmenter, replacing matched segments in the styled text
+    private static List<ActionBarSegment> referenceSegments(List<ActionBarSegmentMatcher> matchers, String actionBar) {
+        StyledText actionBarText = StyledText.fromString(actionBar);
+        List<ActionBarSegment> matchedSegments = new ArrayList<>();
+
+        for (ActionBarSegmentMatcher segmentMatcher : matchers) {
+            ActionBarSegment parsedSegment =
+                    segmentMatcher.parse(actionBarText.getString().replaceAll("%", ""));
+            if (parsedSegment == null) continue;
+
+            matchedSegments.add(parsedSegment);
+            actionBarText = actionBarText.replaceFirst(parsedSegment.getSegmentText(), "%");
+        }
+
+        Arrays.stream(actionBarText.split("%"))
+                .filter(text -> !text.isEmpty())
+                .forEach(part -> matchedSegments.add(new TestFallbackSegment(part.getString())));
+
+        return matchedSegments;
+    }
+
+    private static List<String> describe(List<ActionBarSegment> segments) {
+        return segments.stream()
+                .map(segment -> segment.getClass().getSimpleName() + ":" + segment.getSegmentText())
+                .toList();
+    }
+
+    private static void assertSameSegments(ActionBarSegmenter segmenter, String actionBar) {
+        Assertions.assertEquals(
+                describe(referenceSegments(matchers(), actionBar)),
+                describe(segmenter.segment(actionBar)),
+                "Segments differ for action bar: " + actionBar);
+    }
+
+    @Test
+    public void corpus_matchesReferenceSegmentation() {
+        ActionBarSegmenter segmenter = new ActionBarSegmenter(matchers(), TestFallbackSegment::new);
+
+        for (String actionBar : CORPUS) {
+            assertSameSegments(segmenter, actionBar);
+        }
+    }
+
+    @Test
+    public void shuffledPieces_matchReferenceSegmentation() {
+        ActionBarSegmenter segmenter = new ActionBarSegmenter(matchers(), TestFallbackSegment::new);
+        Random random = new Random(0);
+
+        for (int i = 0; i < 500; i++) {
+            List<String> pieces = new ArrayList<>(PIECES);
+            Collections.shuffle(pieces, random);
+
+            assertSameSegments(segmenter, String.join("", pieces.subList(0, random.nextInt(pieces.size()))));
+        }
+    }
+
+    @Test
+    public void leftoverText_becomesFallbackSegments() {
+        ActionBarSegmenter segmenter = new ActionBarSegmenter(matchers(), TestFallbackSegment::new);
+
+        List<ActionBarSegment> segments =
+                segmenter.segment(UNKNOWN_GLYPH + HEALTH_TEXT + " " + HOTBAR + LEVEL + UNKNOWN_GLYPH);
+
+        Assertions.assertEquals(6, segments.size());
+        Assertions.assertInstanceOf(HotbarSegment.class, segments.get(0));
+        Assertions.assertInstanceOf(LevelSegment.class, segments.get(1));
+        Assertions.assertEquals(105, ((LevelSegment) segments.get(1)).getLevel());
+        Assertions.assertInstanceOf(HealthTextSegment.class, segments.get(2));
+        Assertions.assertEquals(
+                List.of(UNKNOWN_GLYPH, " ", UNKNOWN_GLYPH),
+                segments.subList(3, 6).stream()
+                        .map(ActionBarSegment::getSegmentText)
+                        .toList());
+    }
+
+    private static final class TestFallbackSegment extends ActionBarSegment {
+        private TestFallbackSegment(String segmentText) {
+            super(segmentText);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.BoundedLruMap;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestBoundedLruMap {
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void put_evictsLeastRecentlyUsed() {
+        BoundedLruMap<String, Integer> map = new BoundedLruMap<>(2);
+
+        map.put("a", 1);
+        map.put("b", 2);
+        // Reading "a" makes "b" the least recently used
+        map.get("a");
+        map.put("c", 3);
+
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals(List.of("a", "c"), List.copyOf(map.keySet()));
+
+        // Writing counts as a use as well
+        map.put("a", 4);
+        map.put("d", 5);
+
+        Assertions.assertEquals(List.of("a", "d"), List.copyOf(map.keySet()));
+        Assertions.assertEquals(4, (int) map.get("a"));
+    }
+
+    @Test
+    public void missingKeys_doNotChangeOrder() {
+        BoundedLruMap<String, Integer> map = new BoundedLruMap<>(2);
+
+        map.put("a", 1);
+        map.put("b", 2);
+        Assertions.assertNull(map.get("c"));
+        map.put("c", 3);
+
+        Assertions.assertEquals(List.of("b", "c"), List.copyOf(map.keySet()));
+    }
+}
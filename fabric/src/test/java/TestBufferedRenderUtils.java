@@ -0,0 +1,197 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.wynntils.utils.colors.CustomColor;
+import com.wynntils.utils.render.Texture;
+import com.wynntils.utils.render.buffered.BufferedRenderUtils;
+import com.wynntils.utils.render.buffered.CustomRenderType;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.Mth;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestBufferedRenderUtils {
+    private static final float EPSILON = 1e-4f;
+    private static final CustomColor COLOR = new CustomColor(255, 128, 0, 160);
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private record Vertex(float x, float y, float z, int color, float u, float v) {}
+
+    // Records the vertices of every render type, like a buffer source that is flushed once at the end
+    private static final class RecordingBufferSource implements MultiBufferSource {
+        private final Map<RenderType, List<Vertex>> streams = new LinkedHashMap<>();
+
+        @Override
+        public VertexConsumer getBuffer(RenderType renderType) {
+            return new RecordingVertexConsumer(streams.computeIfAbsent(renderType, type -> new ArrayList<>()));
+        }
+    }
+
+    private static final class RecordingVertexConsumer implements VertexConsumer {
+        private final List<Vertex> vertices;
+
+        private RecordingVertexConsumer(List<Vertex> vertices) {
+            this.vertices = vertices;
+        }
+
+        @Override
+        public VertexConsumer addVertex(float x, float y, float z) {
+            vertices.add(new Vertex(x, y, z, 0, 0, 0));
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setColor(int red, int green, int blue, int alpha) {
+            Vertex last = vertices.removeLast();
+            int color = alpha << 24 | red << 16 | green << 8 | blue;
+            vertices.add(new Vertex(last.x(), last.y(), last.z(), color, last.u(), last.v()));
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv(float u, float v) {
+            Vertex last = vertices.removeLast();
+            vertices.add(new Vertex(last.x(), last.y(), last.z(), last.color(), u, v));
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv1(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setUv2(int u, int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer setNormal(float normalX, float normalY, float normalZ) {
+            return this;
+        }
+    }
+
+    // The vertices RenderUtils.drawArc emits as a triangle strip
+    private static List<float[]> arcStrip(float x, float y, float fill, int innerRadius, int outerRadius) {
+        int segments = (int) Math.min(fill * 16f, 15f);
+        float midX = x + outerRadius;
+        float midY = y + outerRadius;
+        List<float[]> strip = new ArrayList<>();
+
+        for (int i = 0; i <= segments; i++) {
+            float angle = Mth.TWO_PI * i / 15f;
+            strip.add(new float[] {midX + Mth.sin(angle) * outerRadius, midY - Mth.cos(angle) * outerRadius});
+            strip.add(new float[] {midX + Mth.sin(angle) * innerRadius, midY - Mth.cos(angle) * innerRadius});
+        }
+
+        return strip;
+    }
+
+    private static void assertPosition(float[] expected, Vertex actual) {
+        Assertions.assertEquals(expected[0], actual.x(), EPSILON);
+        Assertions.assertEquals(expected[1], actual.y(), EPSILON);
+    }
+
+    @Test
+    public void arc_coversTheSameStripAsQuads() {
+        for (float fill : new float[] {0f, 0.05f, 0.3f, 0.5f, 1f}) {
+            RecordingBufferSource bufferSource = new RecordingBufferSource();
+            BufferedRenderUtils.drawArc(new PoseStack(), bufferSource, COLOR, 10, 20, 100, fill, 6, 8);
+
+            List<float[]> strip = arcStrip(10, 20, fill, 6, 8);
+            List<Vertex> quads =
+                    bufferSource.streams.getOrDefault(CustomRenderType.POSITION_COLOR_QUAD, List.of());
+            Assertions.assertEquals((strip.size() / 2 - 1) * 4, quads.size(), "Wrong vertex count for " + fill);
+
+            // Every strip step becomes one quad: outer, inner, next inner, next outer
+            for (int segment = 0; segment < quads.size() / 4; segment++) {
+                assertPosition(strip.get(segment * 2), quads.get(segment * 4));
+                assertPosition(strip.get(segment * 2 + 1), quads.get(segment * 4 + 1));
+                assertPosition(strip.get(segment * 2 + 3), quads.get(segment * 4 + 2));
+                assertPosition(strip.get(segment * 2 + 2), quads.get(segment * 4 + 3));
+            }
+
+            for (Vertex vertex : quads) {
+                Assertions.assertEquals(100, vertex.z(), EPSILON);
+                Assertions.assertEquals(COLOR.asInt(), vertex.color());
+            }
+        }
+    }
+
+    @Test
+    public void slotDecorations_areGroupedByRenderType() {
+        RecordingBufferSource bufferSource = new RecordingBufferSource();
+        PoseStack poseStack = new PoseStack();
+
+        // A full container of slots, with an arc, a highlight and an icon per slot
+        for (int slot = 0; slot < 54; slot++) {
+            int slotX = 8 + (slot % 9) * 18;
+            int slotY = 18 + (slot / 9) * 18;
+
+            BufferedRenderUtils.drawArc(poseStack, bufferSource, COLOR, slotX, slotY, 100, 0.7f, 6, 8);
+            BufferedRenderUtils.drawTexturedRectWithColor(
+                    poseStack,
+                    bufferSource,
+                    Texture.HIGHLIGHT.resource(),
+                    COLOR,
+                    slotX - 1,
+                    slotY - 1,
+                    100,
+                    18,
+                    18,
+                    0,
+                    0,
+                    18,
+                    18,
+                    Texture.HIGHLIGHT.width(),
+                    Texture.HIGHLIGHT.height());
+            BufferedRenderUtils.drawTexturedRect(
+                    poseStack,
+                    bufferSource,
+                    Texture.GEAR_ICONS.resource(),
+                    slotX + 2,
+                    slotY + 2,
+                    200,
+                    12,
+                    12,
+                    0,
+                    0,
+                    16,
+                    16,
+                    Texture.GEAR_ICONS.width(),
+                    Texture.GEAR_ICONS.height());
+        }
+
+        // One stream per shader, texture and blend state, so three draws for the whole container
+        Assertions.assertEquals(
+                List.of(
+                        CustomRenderType.POSITION_COLOR_QUAD,
+                        CustomRenderType.getPositionColorTextureQuad(Texture.HIGHLIGHT.resource()),
+                        CustomRenderType.getPositionTextureQuad(Texture.GEAR_ICONS.resource())),
+                List.copyOf(bufferSource.streams.keySet()));
+
+        int arcSegments = (int) (0.7f * 16f);
+        Assertions.assertEquals(
+                54 * arcSegments * 4,
+                bufferSource.streams.get(CustomRenderType.POSITION_COLOR_QUAD).size());
+        for (List<Vertex> stream : bufferSource.streams.values()) {
+            Assertions.assertEquals(0, stream.size() % 4, "Streams must only hold whole quads");
+        }
+    }
+}
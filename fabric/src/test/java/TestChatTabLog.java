@@ -0,0 +1,169 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.chat.type.RecipientType;
+import com.wynntils.services.chat.ChatTab;
+import com.wynntils.services.chat.ChatTabLog;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestChatTabLog {
+    private static final int TAB_CAPACITY = 100;
+
+    private static final List<ChatTab> TABS = List.of(
+            new ChatTab("All", false, null, Set.of(), null),
+            new ChatTab("Guild", true, "/g", Set.of(RecipientType.GUILD), null),
+            new ChatTab("Party", false, "/p", Set.of(RecipientType.PARTY), null),
+            new ChatTab("Private", false, null, Set.of(RecipientType.PRIVATE), null),
+            new ChatTab("Wars", false, null, null, "^.*\\[WAR\\].*$"),
+            new ChatTab("Local", false, null, Set.of(RecipientType.LOCAL, RecipientType.CLIENTSIDE), null));
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private record ChatEvent(RecipientType recipientType, String message, ChatTab focus) {}
+
+    // A recorded chat stream, with the focused tab switching every now and then
+    private static List<ChatEvent> chatStream() {
+        Random random = new Random(0);
+        RecipientType[] recipientTypes = RecipientType.values();
+        List<ChatEvent> events = new ArrayList<>();
+
+        ChatTab focus = TABS.getFirst();
+        for (int i = 0; i < 5000; i++) {
+            if (random.nextInt(40) == 0) {
+                int tabIndex = random.nextInt(TABS.size() + 1);
+                focus = tabIndex == TABS.size() ? null : TABS.get(tabIndex);
+            }
+
+            // Local chat is busy, private messages are rare
+            RecipientType recipientType = random.nextInt(3) == 0
+                    ? RecipientType.LOCAL
+                    : recipientTypes[random.nextInt(recipientTypes.length)];
+            if (recipientType == RecipientType.PRIVATE && random.nextInt(10) != 0) {
+                recipientType = RecipientType.INFO;
+            }
+
+            String message = "§7Message " + i + (random.nextInt(25) == 0 ? " [WAR]" : "");
+            events.add(new ChatEvent(recipientType, message, focus));
+        }
+
+        return events;
+    }
+
+    // The tabs ChatTabService sends a message to, the first consuming tab wins
+    private static List<ChatTab> targetTabs(RecipientType recipientType, StyledText message) {
+        for (ChatTab chatTab : TABS) {
+            if (chatTab.isConsuming() && chatTab.matches(recipientType, message)) {
+                return List.of(chatTab);
+            }
+        }
+
+        return TABS.stream()
+                .filter(chatTab -> !chatTab.isConsuming() && chatTab.matches(recipientType, message))
+                .toList();
+    }
+
+    @Test
+    public void recordedStream_matchesPerTabChats() {
+        ChatTabLog<String> log = new ChatTabLog<>(TAB_CAPACITY);
+
+        // What ChatTabService did before, one chat per tab that keeps its last messages
+        Map<ChatTab, List<String>> tabChats = new HashMap<>();
+        Map<ChatTab, Boolean> unreadMessages = new HashMap<>();
+
+        ChatTab focus = null;
+        for (ChatEvent event : chatStream()) {
+            if (event.focus() != focus) {
+                focus = event.focus();
+                if (focus != null) {
+                    unreadMessages.put(focus, false);
+                    log.markRead(focus);
+                }
+            }
+
+            List<ChatTab> tabs = targetTabs(event.recipientType(), StyledText.fromString(event.message()));
+            for (ChatTab tab : tabs) {
+                List<String> tabChat = tabChats.computeIfAbsent(tab, t -> new ArrayList<>());
+                tabChat.add(event.message());
+                if (tabChat.size() > TAB_CAPACITY) {
+                    tabChat.removeFirst();
+                }
+
+                if (focus != tab) {
+                    unreadMessages.put(tab, true);
+                }
+            }
+            log.addMessage(event.message(), tabs, focus);
+
+            for (ChatTab tab : TABS) {
+                Assertions.assertEquals(
+                        unreadMessages.getOrDefault(tab, false),
+                        log.hasUnreadMessages(tab),
+                        "Unread flag differs for tab " + tab.getName());
+            }
+        }
+
+        for (ChatTab tab : TABS) {
+            Assertions.assertEquals(
+                    tabChats.getOrDefault(tab, List.of()),
+                    log.getMessages(tab),
+                    "Messages differ for tab " + tab.getName());
+        }
+
+        // Every tab holds at most its capacity, and messages no tab holds are dropped
+        Assertions.assertTrue(log.size() <= 2 * TABS.size() * TAB_CAPACITY, "Log is not bounded: " + log.size());
+    }
+
+    @Test
+    public void rareMessages_surviveBusyTabs() {
+        ChatTabLog<String> log = new ChatTabLog<>(TAB_CAPACITY);
+        ChatTab busy = TABS.get(0);
+        ChatTab rare = TABS.get(3);
+
+        log.addMessage("Rare", List.of(rare), busy);
+        for (int i = 0; i < 10 * TAB_CAPACITY; i++) {
+            log.addMessage("Busy " + i, List.of(busy), busy);
+        }
+
+        Assertions.assertEquals(List.of("Rare"), log.getMessages(rare));
+        Assertions.assertEquals(TAB_CAPACITY, log.getMessages(busy).size());
+        Assertions.assertEquals("Busy " + (10 * TAB_CAPACITY - 1), log.getMessages(busy).getLast());
+        Assertions.assertTrue(log.size() <= 2 * (TAB_CAPACITY + 1), "Log is not bounded: " + log.size());
+    }
+
+    @Test
+    public void retainMessages_removesDeletedMessagesFromTab() {
+        ChatTabLog<String> log = new ChatTabLog<>(TAB_CAPACITY);
+        ChatTab all = TABS.get(0);
+        ChatTab party = TABS.get(2);
+
+        String first = "First";
+        String deleted = "Deleted";
+        String last = "Last";
+        log.addMessage(first, List.of(all), all);
+        log.addMessage(deleted, List.of(all, party), all);
+        log.addMessage(last, List.of(all), all);
+
+        log.retainMessages(all, List.of(first, last));
+
+        Assertions.assertEquals(List.of(first, last), log.getMessages(all));
+        Assertions.assertEquals(List.of(deleted), log.getMessages(party));
+        Assertions.assertTrue(log.hasUnreadMessages(party));
+        Assertions.assertFalse(log.hasUnreadMessages(all));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.services.cosmetics.type.CosmeticTextureCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestCosmeticTextureCache {
+    // A 64x32 cape frame
+    private static final long FRAME_BYTES = 64 * 32 * 4;
+    // One frame at 60 fps
+    private static final long FRAME_MS = 16;
+
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final UUID CAROL = UUID.randomUUID();
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // Stands in for the texture manager and the render thread
+    private static final class InMemoryTextures {
+        private final Set<ResourceLocation> registered = new HashSet<>();
+        private final List<Runnable> scheduledLoads = new ArrayList<>();
+        private final Map<UUID, Integer> frameCounts = new HashMap<>();
+        private final CosmeticTextureCache cache = new CosmeticTextureCache(
+                () -> this.budgetBytes, () -> this.time, scheduledLoads::add, this::release);
+
+        private long budgetBytes = Long.MAX_VALUE;
+        private long time = 0;
+        private int loadCount = 0;
+
+        private CosmeticTextureCache.Textures register(UUID uuid) {
+            loadCount++;
+            int frames = frameCounts.get(uuid);
+            if (frames == 0) throw new ArithmeticException("/ by zero");
+
+            String baseLocation = "wynntils:capes/" + uuid.toString().replace("-", "");
+            ResourceLocation[] locations = new ResourceLocation[frames];
+            for (int i = 0; i < frames; i++) {
+                locations[i] = ResourceLocation.parse(frames == 1 ? baseLocation : baseLocation + "/" + i);
+                registered.add(locations[i]);
+            }
+
+            return new CosmeticTextureCache.Textures(locations, frames * FRAME_BYTES);
+        }
+
+        private ResourceLocation[] render(UUID uuid) {
+            return cache.get(uuid, this::register);
+        }
+
+        // Renders a frame of the given players, then runs the loads recorded for the next render tick
+        private void renderFrame(UUID... uuids) {
+            time += FRAME_MS;
+            for (UUID uuid : uuids) {
+                render(uuid);
+            }
+
+            List<Runnable> loads = List.copyOf(scheduledLoads);
+            scheduledLoads.clear();
+            loads.forEach(Runnable::run);
+        }
+
+        private void release(ResourceLocation location) {
+            Assertions.assertTrue(registered.remove(location), "Released a texture that was not registered");
+        }
+    }
+
+    @Test
+    public void unloadedPlayers_areReleasedAndReloaded() {
+        InMemoryTextures textures = new InMemoryTextures();
+        textures.frameCounts.put(ALICE, 1);
+        textures.frameCounts.put(BOB, 8);
+
+        Assertions.assertNull(textures.render(ALICE));
+        Assertions.assertNull(textures.render(BOB));
+        // Rendering again before the load ran does not schedule another one
+        Assertions.assertNull(textures.render(BOB));
+        Assertions.assertEquals(2, textures.scheduledLoads.size());
+
+        textures.renderFrame();
+        Assertions.assertEquals(9, textures.registered.size());
+        Assertions.assertEquals(9 * FRAME_BYTES, textures.cache.getUsedBytes());
+        Assertions.assertEquals(8, textures.render(BOB).length);
+
+        // Bob walked out of render distance
+        textures.cache.releaseUnloaded(uuid -> uuid.equals(ALICE));
+        Assertions.assertEquals(1, textures.registered.size());
+        Assertions.assertEquals(FRAME_BYTES, textures.cache.getUsedBytes());
+        Assertions.assertFalse(textures.cache.contains(BOB));
+
+        // Bob came back
+        textures.renderFrame(ALICE, BOB);
+        Assertions.assertEquals(8, textures.render(BOB).length);
+        Assertions.assertEquals(9, textures.registered.size());
+        Assertions.assertEquals(3, textures.loadCount);
+
+        // Rendering again does not load anything
+        textures.renderFrame(ALICE, BOB);
+        Assertions.assertEquals(3, textures.loadCount);
+    }
+
+    @Test
+    public void budget_releasesLeastRecentlyUsed() {
+        InMemoryTextures textures = new InMemoryTextures();
+        textures.budgetBytes = 10 * FRAME_BYTES;
+        textures.frameCounts.put(ALICE, 4);
+        textures.frameCounts.put(BOB, 4);
+        textures.frameCounts.put(CAROL, 4);
+
+        textures.renderFrame(ALICE, BOB);
+        // Alice is still on screen, Bob is not
+        for (int i = 0; i < 1000; i++) {
+            textures.renderFrame(ALICE);
+        }
+        textures.renderFrame(ALICE, CAROL);
+
+        Assertions.assertTrue(textures.cache.contains(ALICE));
+        Assertions.assertFalse(textures.cache.contains(BOB));
+        Assertions.assertTrue(textures.cache.contains(CAROL));
+        Assertions.assertEquals(8, textures.registered.size());
+        Assertions.assertEquals(8 * FRAME_BYTES, textures.cache.getUsedBytes());
+
+        // A lowered budget is applied on the next sweep, once the players are no longer on screen
+        textures.budgetBytes = 5 * FRAME_BYTES;
+        for (int i = 0; i < 1000; i++) {
+            textures.renderFrame(CAROL);
+        }
+        textures.cache.releaseUnloaded(uuid -> true);
+        Assertions.assertFalse(textures.cache.contains(ALICE));
+        Assertions.assertTrue(textures.cache.contains(CAROL));
+        Assertions.assertEquals(4, textures.registered.size());
+    }
+
+    @Test
+    public void budgetSmallerThanVisiblePlayers_doesNotReload() {
+        InMemoryTextures textures = new InMemoryTextures();
+        textures.budgetBytes = 2 * FRAME_BYTES;
+        textures.frameCounts.put(ALICE, 1);
+        textures.frameCounts.put(BOB, 16);
+        textures.frameCounts.put(CAROL, 4);
+
+        for (int i = 0; i < 1000; i++) {
+            textures.renderFrame(ALICE, BOB, CAROL);
+            textures.cache.releaseUnloaded(uuid -> true);
+        }
+
+        // Every player is loaded once, and kept while on screen
+        Assertions.assertEquals(3, textures.loadCount);
+        Assertions.assertEquals(21, textures.registered.size());
+        Assertions.assertEquals(16, textures.render(BOB).length);
+
+        // Once they are off screen, the budget applies again
+        for (int i = 0; i < 1000; i++) {
+            textures.renderFrame(ALICE);
+        }
+        textures.cache.releaseUnloaded(uuid -> true);
+        Assertions.assertTrue(textures.cache.contains(ALICE));
+        Assertions.assertFalse(textures.cache.contains(BOB));
+        Assertions.assertFalse(textures.cache.contains(CAROL));
+        Assertions.assertEquals(1, textures.registered.size());
+    }
+
+    @Test
+    public void failedLoad_isNotRetried() {
+        InMemoryTextures textures = new InMemoryTextures();
+        // An image wider than 2:1 has no frames
+        textures.frameCounts.put(ALICE, 0);
+
+        for (int i = 0; i < 100; i++) {
+            textures.renderFrame(ALICE);
+        }
+        Assertions.assertEquals(1, textures.loadCount);
+        Assertions.assertNull(textures.render(ALICE));
+        Assertions.assertEquals(0, textures.cache.size());
+
+        // An explicit load skips failed users as well
+        textures.cache.load(ALICE, textures::register);
+        Assertions.assertEquals(1, textures.loadCount);
+
+        // Failures are forgotten on disconnect
+        textures.cache.releaseAll();
+        textures.frameCounts.put(ALICE, 1);
+        textures.renderFrame(ALICE);
+        Assertions.assertEquals(2, textures.loadCount);
+        Assertions.assertEquals(1, textures.render(ALICE).length);
+    }
+}
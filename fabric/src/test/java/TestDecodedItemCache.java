@@ -0,0 +1,107 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemrecord.type.DecodedItemCache;
+import com.wynntils.utils.type.ErrorOr;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestDecodedItemCache {
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    @Test
+    public void cacheHit_returnsEquivalentItem() {
+        CountingDecoder decoder = new CountingDecoder();
+        DecodedItemCache cache = new DecodedItemCache(16, decoder::decode);
+
+        WynnItem first = cache.get("payload").getValue();
+        WynnItem second = cache.get("payload").getValue();
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("payload", ((TestItem) second).payload);
+        Assertions.assertEquals(1, decoder.decodeCount("payload"));
+    }
+
+    @Test
+    public void invalidate_evictsDecodedItems() {
+        CountingDecoder decoder = new CountingDecoder();
+        DecodedItemCache cache = new DecodedItemCache(16, decoder::decode);
+
+        WynnItem beforeReload = cache.get("payload").getValue();
+        cache.invalidate();
+
+        Assertions.assertEquals(0, cache.size());
+
+        WynnItem afterReload = cache.get("payload").getValue();
+
+        Assertions.assertNotSame(beforeReload, afterReload);
+        Assertions.assertEquals(2, decoder.decodeCount("payload"));
+    }
+
+    @Test
+    public void cache_isBoundedAndEvictsLeastRecentlyUsed() {
+        CountingDecoder decoder = new CountingDecoder();
+        DecodedItemCache cache = new DecodedItemCache(2, decoder::decode);
+
+        cache.get("a");
+        cache.get("b");
+        // Touch "a" so "b" is the least recently used
+        cache.get("a");
+        cache.get("c");
+
+        Assertions.assertEquals(2, cache.size());
+
+        cache.get("a");
+        cache.get("b");
+
+        Assertions.assertEquals(1, decoder.decodeCount("a"));
+        Assertions.assertEquals(2, decoder.decodeCount("b"));
+    }
+
+    @Test
+    public void decodeErrors_areNotCached() {
+        CountingDecoder decoder = new CountingDecoder();
+        DecodedItemCache cache = new DecodedItemCache(16, decoder::decode);
+
+        Assertions.assertTrue(cache.get("").hasError());
+        Assertions.assertTrue(cache.get("").hasError());
+
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(2, decoder.decodeCount(""));
+    }
+
+    private static final class CountingDecoder {
+        private final Map<String, Integer> decodeCounts = new HashMap<>();
+
+        private ErrorOr<WynnItem> decode(String base64) {
+            decodeCounts.merge(base64, 1, Integer::sum);
+
+            if (base64.isEmpty()) return ErrorOr.error("Empty payload");
+
+            return ErrorOr.of(new TestItem(base64));
+        }
+
+        private int decodeCount(String base64) {
+            return decodeCounts.getOrDefault(base64, 0);
+        }
+    }
+
+    private static final class TestItem extends WynnItem {
+        private final String payload;
+
+        private TestItem(String payload) {
+            this.payload = payload;
+        }
+    }
+}
@@ -1,9 +1,17 @@
 /*
- * Copyright © Wynntils 2023-2024.
+ * Copyright © Wynntils 2023-2025.
  * This file is released under LGPLv3. See LICENSE for full license details.
  */
 import com.wynntils.utils.EncodedByteBuffer;
+import com.wynntils.utils.UnsignedByteUtils;
+import com.wynntils.utils.type.ArrayReader;
 import com.wynntils.utils.type.UnsignedByte;
+import com.wynntils.utils.type.UnsignedByteReader;
+import com.wynntils.utils.type.UnsignedByteWriter;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
 import net.minecraft.SharedConstants;
 import net.minecraft.server.Bootstrap;
 import org.junit.jupiter.api.Assertions;
@@ -11,6 +19,11 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 public class TestEncodedByteBuffer {
+    private static final long[] VARIABLE_SIZED_INTEGERS = {
+        0, 1, -1, 63, -64, 64, -65, 127, 128, 255, 256, 16383, 16384, Integer.MAX_VALUE, Integer.MIN_VALUE,
+        Long.MAX_VALUE, Long.MIN_VALUE
+    };
+
     @BeforeAll
     public static void setup() {
         SharedConstants.tryDetectVersion();
@@ -104,4 +117,169 @@ public class TestEncodedByteBuffer {
 
         Assertions.assertArrayEquals(expected, result, "fromUtf16String() did not return the correct byte array");
     }
+
+    @Test
+    public void randomBytes_utf16RoundTrip() {
+        Random random = new Random(0);
+
+        for (int i = 0; i < 500; i++) {
+            byte[] bytes = new byte[random.nextInt(300)];
+            random.nextBytes(bytes);
+
+            String encoded = EncodedByteBuffer.fromBytes(bytes).toUtf16String();
+
+            Assertions.assertArrayEquals(
+                    bytes,
+                    EncodedByteBuffer.fromUtf16String(encoded).toByteArray(),
+                    "fromUtf16String() did not return the encoded bytes");
+        }
+    }
+
+    @Test
+    public void randomBytes_utf16MatchesUnsignedByteImplementation() {
+        Random random = new Random(1);
+
+        for (int i = 0; i < 500; i++) {
+            byte[] bytes = new byte[random.nextInt(300)];
+            random.nextBytes(bytes);
+
+            Assertions.assertEquals(
+                    unsignedByteToUtf16String(UnsignedByte.of(bytes)),
+                    EncodedByteBuffer.fromBytes(bytes).toUtf16String(),
+                    "toUtf16String() did not match the UnsignedByte based encoding");
+        }
+    }
+
+    @Test
+    public void randomBytes_base64RoundTrip() {
+        Random random = new Random(2);
+
+        for (int i = 0; i < 100; i++) {
+            byte[] bytes = new byte[random.nextInt(300)];
+            random.nextBytes(bytes);
+
+            String encoded = EncodedByteBuffer.fromBytes(bytes).toBase64String();
+
+            Assertions.assertEquals(Base64.getEncoder().encodeToString(bytes), encoded);
+            Assertions.assertArrayEquals(bytes, EncodedByteBuffer.fromBase64String(encoded).toByteArray());
+        }
+    }
+
+    @Test
+    public void unsignedBytes_matchPrimitiveBytes() {
+        byte[] bytes = {(byte) 214, 121, 11, 0, (byte) 255, (byte) 128};
+
+        EncodedByteBuffer fromUnsigned = EncodedByteBuffer.fromBytes(UnsignedByte.of(bytes));
+        EncodedByteBuffer fromPrimitive = EncodedByteBuffer.fromBytes(bytes);
+        EncodedByteBuffer fromByteBuffer = EncodedByteBuffer.fromByteBuffer(ByteBuffer.wrap(bytes));
+
+        Assertions.assertEquals(fromPrimitive, fromUnsigned);
+        Assertions.assertEquals(fromPrimitive, fromByteBuffer);
+        Assertions.assertArrayEquals(UnsignedByte.of(bytes), fromPrimitive.getBytes());
+        Assertions.assertEquals("EncodedByteBuffer{bytes=214, 121, 11, 0, 255, 128}", fromPrimitive.toString());
+    }
+
+    @Test
+    public void variableSizedInteger_matchesUnsignedByteImplementation() {
+        Random random = new Random(3);
+        long[] values = new long[VARIABLE_SIZED_INTEGERS.length + 1000];
+        System.arraycopy(VARIABLE_SIZED_INTEGERS, 0, values, 0, VARIABLE_SIZED_INTEGERS.length);
+        for (int i = VARIABLE_SIZED_INTEGERS.length; i < values.length; i++) {
+            values[i] = random.nextLong() >> random.nextInt(64);
+        }
+
+        for (long value : values) {
+            UnsignedByte[] expected = UnsignedByteUtils.encodeVariableSizedInteger(value);
+
+            UnsignedByteWriter writer = new UnsignedByteWriter();
+            UnsignedByteUtils.encodeVariableSizedInteger(value, writer);
+            byte[] actual = writer.toByteArray();
+
+            Assertions.assertArrayEquals(UnsignedByte.toPrimitive(expected), actual, "Encoding differs for " + value);
+            Assertions.assertEquals(
+                    value, UnsignedByteUtils.decodeVariableSizedInteger(new UnsignedByteReader(actual)));
+            Assertions.assertEquals(
+                    value, UnsignedByteUtils.decodeVariableSizedInteger(new ArrayReader<>(UnsignedByte.of(actual))));
+        }
+    }
+
+    @Test
+    public void string_matchesUnsignedByteImplementation() {
+        for (String string : new String[] {"", "a", "Singularity", "Oak Wood Spear", "~!@#$%^&*()"}) {
+            UnsignedByteWriter writer = new UnsignedByteWriter();
+            UnsignedByteUtils.encodeString(string, writer);
+            byte[] actual = writer.toByteArray();
+
+            Assertions.assertArrayEquals(UnsignedByte.toPrimitive(UnsignedByteUtils.encodeString(string)), actual);
+            Assertions.assertEquals(string, UnsignedByteUtils.decodeString(Arrays.copyOf(actual, actual.length - 1)));
+        }
+
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> UnsignedByteUtils.encodeString("\u00e9", new UnsignedByteWriter()));
+    }
+
+    @Test
+    public void bitArray_matchesUnsignedByteImplementation() {
+        Random random = new Random(4);
+        boolean[] bits = new boolean[8 * 20];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = random.nextBoolean();
+        }
+
+        byte[] packed = UnsignedByteUtils.toPackedBytes(bits);
+
+        Assertions.assertArrayEquals(UnsignedByte.toPrimitive(UnsignedByteUtils.fromBitArray(bits)), packed);
+        Assertions.assertArrayEquals(bits, UnsignedByteUtils.toBitArray(packed));
+    }
+
+    @Test
+    public void reader_readsUnsignedValues() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {(byte) 255, 0, (byte) 128, 7});
+        UnsignedByteReader reader = new UnsignedByteReader(buffer);
+
+        Assertions.assertEquals(255, reader.peek());
+        Assertions.assertEquals(255, reader.read());
+        Assertions.assertEquals(0, reader.read());
+        Assertions.assertArrayEquals(new byte[] {(byte) 128, 7}, reader.readRemaining());
+        Assertions.assertFalse(reader.hasRemaining());
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, reader::read);
+
+        // Reading must not move the source buffer
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void writer_truncateDiscardsBytes() {
+        UnsignedByteWriter writer = new UnsignedByteWriter(1);
+        writer.write(1);
+        writer.write(new byte[] {2, 3, 4});
+        writer.truncate(2);
+        writer.write(300);
+
+        Assertions.assertArrayEquals(new byte[] {1, 2, (byte) 44}, writer.toByteArray());
+    }
+
+    // The UTF-16 encoding as it was implemented over UnsignedByte arrays
+    private static String unsignedByteToUtf16String(UnsignedByte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < bytes.length - 1; i += 2) {
+            int codePoint;
+
+            if (bytes[i].value() == 255 && bytes[i + 1].value() >= 254) {
+                codePoint = 0x100000 + (bytes[i + 1].value() - 254);
+            } else {
+                codePoint = 0xF0000 + (bytes[i].value() << 8 | bytes[i + 1].value());
+            }
+
+            builder.appendCodePoint(codePoint);
+        }
+
+        if (bytes.length % 2 == 1) {
+            builder.appendCodePoint(0x100000 + (bytes[bytes.length - 1].value() << 8) + 238);
+        }
+
+        return builder.toString();
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.FilteredSortedView;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestFilteredSortedView {
+    private static final int SLOT_COUNT = 54 * 5;
+    private static final int UPDATES_PER_RUN = 2000;
+
+    // Sorting by value / 10 produces many ties, which must keep the key order
+    private static final Predicate<Integer> EVEN_FILTER = value -> value % 2 == 0;
+    private static final Comparator<Integer> COARSE_COMPARATOR = Comparator.comparingInt(value -> value / 10);
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static List<Integer> fullRebuild(
+            Map<Integer, Integer> entries, Predicate<Integer> filter, Comparator<Integer> comparator) {
+        return entries.values().stream().filter(filter).sorted(comparator).toList();
+    }
+
+    @Test
+    public void randomUpdates_matchFullRebuild() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            FilteredSortedView<Integer, Integer> view = new FilteredSortedView<>();
+            Map<Integer, Integer> entries = new TreeMap<>();
+
+            view.setQuery(EVEN_FILTER, COARSE_COMPARATOR);
+
+            for (int i = 0; i < UPDATES_PER_RUN; i++) {
+                int key = random.nextInt(SLOT_COUNT);
+
+                if (random.nextInt(4) == 0) {
+                    view.remove(key);
+                    entries.remove(key);
+                } else {
+                    int value = random.nextInt(500);
+                    view.put(key, value);
+                    entries.put(key, value);
+                }
+
+                Assertions.assertEquals(
+                        fullRebuild(entries, EVEN_FILTER, COARSE_COMPARATOR),
+                        view.getView(),
+                        "Mismatch with seed " + seed + " after update " + i);
+            }
+        }
+    }
+
+    @Test
+    public void changingQuery_rebuildsView() {
+        Random random = new Random(42);
+        FilteredSortedView<Integer, Integer> view = new FilteredSortedView<>();
+        Map<Integer, Integer> entries = new TreeMap<>();
+
+        for (int i = 0; i < UPDATES_PER_RUN; i++) {
+            int key = random.nextInt(SLOT_COUNT);
+            int value = random.nextInt(500);
+            view.put(key, value);
+            entries.put(key, value);
+        }
+
+        Predicate<Integer> all = value -> true;
+        Comparator<Integer> descending = COARSE_COMPARATOR.reversed();
+
+        view.setQuery(all, descending);
+        Assertions.assertEquals(fullRebuild(entries, all, descending), view.getView());
+
+        view.setQuery(EVEN_FILTER, COARSE_COMPARATOR);
+        Assertions.assertEquals(fullRebuild(entries, EVEN_FILTER, COARSE_COMPARATOR), view.getView());
+
+        // Updates after a query change still use the new query
+        for (int i = 0; i < 200; i++) {
+            int key = random.nextInt(SLOT_COUNT);
+            int value = random.nextInt(500);
+            view.put(key, value);
+            entries.put(key, value);
+        }
+        Assertions.assertEquals(fullRebuild(entries, EVEN_FILTER, COARSE_COMPARATOR), view.getView());
+    }
+
+    @Test
+    public void clear_emptiesView() {
+        FilteredSortedView<Integer, Integer> view = new FilteredSortedView<>();
+        view.put(1, 2);
+        view.put(2, 4);
+
+        view.clear();
+
+        Assertions.assertTrue(view.getView().isEmpty());
+        Assertions.assertEquals(0, view.size());
+    }
+}
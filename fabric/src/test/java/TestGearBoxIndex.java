@@ -0,0 +1,148 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.models.gear.GearBoxIndex;
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.gear.type.GearMetaInfo;
+import com.wynntils.models.gear.type.GearRequirements;
+import com.wynntils.models.gear.type.GearRestrictions;
+import com.wynntils.models.gear.type.GearTier;
+import com.wynntils.models.gear.type.GearType;
+import com.wynntils.models.wynnitem.type.ItemObtainInfo;
+import com.wynntils.models.wynnitem.type.ItemObtainType;
+import com.wynntils.utils.type.RangedValue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestGearBoxIndex {
+    private static final int MAX_LEVEL = 110;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // A registry with gear of every type, tier and level, from boxed and non-boxed sources
+    private static List<GearInfo> gearRegistry() {
+        Random random = new Random(0);
+        ItemObtainType[] obtainTypes = ItemObtainType.values();
+        List<GearInfo> registry = new ArrayList<>();
+
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            for (GearType gearType : GearType.values()) {
+                for (GearTier gearTier : GearTier.values()) {
+                    if (random.nextInt(3) == 0) continue;
+
+                    List<ItemObtainInfo> obtainInfo = new ArrayList<>();
+                    for (int i = random.nextInt(3); i > 0; i--) {
+                        obtainInfo.add(new ItemObtainInfo(
+                                obtainTypes[random.nextInt(obtainTypes.length)], Optional.empty()));
+                    }
+
+                    registry.add(gearInfo(
+                            gearType + " " + gearTier + " " + level,
+                            gearType,
+                            gearTier,
+                            level,
+                            obtainInfo,
+                            random.nextInt(5) == 0));
+                }
+            }
+        }
+
+        return registry;
+    }
+
+    private static GearInfo gearInfo(
+            String name,
+            GearType gearType,
+            GearTier gearTier,
+            int level,
+            List<ItemObtainInfo> obtainInfo,
+            boolean preIdentified) {
+        GearMetaInfo metaInfo = new GearMetaInfo(
+                GearRestrictions.NONE, null, obtainInfo, Optional.empty(), Optional.empty(), true, preIdentified);
+        GearRequirements requirements = new GearRequirements(level, Optional.empty(), List.of(), Optional.empty());
+
+        return new GearInfo(name, gearType, gearTier, 0, metaInfo, requirements, null, List.of(), Optional.empty());
+    }
+
+    // The filter GearModel ran over the whole registry before the index
+    private static List<GearInfo> linearFilter(
+            List<GearInfo> registry, GearType gearType, GearTier gearTier, RangedValue levelRange) {
+        return registry.stream()
+                .filter(gear -> gear.type() == gearType
+                        && gear.tier() == gearTier
+                        && GearBoxIndex.canBeGearBox(gear)
+                        && levelRange.inRange(gear.requirements().level()))
+                .toList();
+    }
+
+    private static List<RangedValue> levelRanges() {
+        List<RangedValue> levelRanges = new ArrayList<>();
+
+        for (int low = 1; low <= MAX_LEVEL; low++) {
+            levelRanges.add(RangedValue.of(low, low));
+            levelRanges.add(RangedValue.of(low, low + 4));
+        }
+        levelRanges.add(RangedValue.of(1, MAX_LEVEL));
+        levelRanges.add(RangedValue.of(MAX_LEVEL + 1, MAX_LEVEL + 10));
+        levelRanges.add(RangedValue.NONE);
+
+        return levelRanges;
+    }
+
+    @Test
+    public void candidates_matchLinearFilter() {
+        List<GearInfo> registry = gearRegistry();
+        GearBoxIndex index = new GearBoxIndex(registry);
+
+        for (GearType gearType : GearType.values()) {
+            for (GearTier gearTier : GearTier.values()) {
+                for (RangedValue levelRange : levelRanges()) {
+                    Assertions.assertEquals(
+                            linearFilter(registry, gearType, gearTier, levelRange),
+                            index.getPossibleGears(gearType, gearTier, levelRange),
+                            "Candidates differ for " + gearType + " " + gearTier + " " + levelRange);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void candidates_areCachedPerGearBox() {
+        GearBoxIndex index = new GearBoxIndex(gearRegistry());
+
+        List<GearInfo> first = index.getPossibleGears(GearType.SPEAR, GearTier.LEGENDARY, RangedValue.of(90, 100));
+        List<GearInfo> second = index.getPossibleGears(GearType.SPEAR, GearTier.LEGENDARY, RangedValue.of(90, 100));
+
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void preIdentifiedAndUnboxedGear_isNeverACandidate() {
+        List<ItemObtainInfo> boxed = List.of(new ItemObtainInfo(ItemObtainType.LOOT_CHEST, Optional.empty()));
+        List<ItemObtainInfo> unboxed = List.of(new ItemObtainInfo(ItemObtainType.MERCHANT, Optional.empty()));
+
+        GearInfo boxedGear = gearInfo("Boxed", GearType.WAND, GearTier.RARE, 50, boxed, false);
+        GearBoxIndex index = new GearBoxIndex(List.of(
+                gearInfo("Pre-identified", GearType.WAND, GearTier.RARE, 50, boxed, true),
+                gearInfo("Merchant", GearType.WAND, GearTier.RARE, 50, unboxed, false),
+                gearInfo("No Source", GearType.WAND, GearTier.RARE, 50, List.of(), false),
+                boxedGear));
+
+        Assertions.assertEquals(
+                List.of(boxedGear), index.getPossibleGears(GearType.WAND, GearTier.RARE, RangedValue.of(46, 50)));
+        Assertions.assertEquals(
+                List.of(), GearBoxIndex.EMPTY.getPossibleGears(GearType.WAND, GearTier.RARE, RangedValue.of(46, 50)));
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.item.ItemAnnotation;
+import com.wynntils.handlers.item.ItemAnnotator;
+import com.wynntils.handlers.item.ItemAnnotatorIndex;
+import com.wynntils.models.items.ItemModel;
+import com.wynntils.models.items.annotators.game.AmplifierAnnotator;
+import com.wynntils.models.items.annotators.game.AspectAnnotator;
+import com.wynntils.models.items.annotators.game.CharmAnnotator;
+import com.wynntils.models.items.annotators.game.CorruptedCacheAnnotator;
+import com.wynntils.models.items.annotators.game.CraftedConsumableAnnotator;
+import com.wynntils.models.items.annotators.game.CraftedGearAnnotator;
+import com.wynntils.models.items.annotators.game.DungeonKeyAnnotator;
+import com.wynntils.models.items.annotators.game.EmeraldAnnotator;
+import com.wynntils.models.items.annotators.game.EmeraldPouchAnnotator;
+import com.wynntils.models.items.annotators.game.GatheringToolAnnotator;
+import com.wynntils.models.items.annotators.game.GearAnnotator;
+import com.wynntils.models.items.annotators.game.GearBoxAnnotator;
+import com.wynntils.models.items.annotators.game.HorseAnnotator;
+import com.wynntils.models.items.annotators.game.IngredientAnnotator;
+import com.wynntils.models.items.annotators.game.InsulatorAnnotator;
+import com.wynntils.models.items.annotators.game.MaterialAnnotator;
+import com.wynntils.models.items.annotators.game.MiscAnnotator;
+import com.wynntils.models.items.annotators.game.MultiHealthPotionAnnotator;
+import com.wynntils.models.items.annotators.game.OuterVoidItemAnnotator;
+import com.wynntils.models.items.annotators.game.PotionAnnotator;
+import com.wynntils.models.items.annotators.game.PowderAnnotator;
+import com.wynntils.models.items.annotators.game.RuneAnnotator;
+import com.wynntils.models.items.annotators.game.SimulatorAnnotator;
+import com.wynntils.models.items.annotators.game.TeleportScrollAnnotator;
+import com.wynntils.models.items.annotators.game.TomeAnnotator;
+import com.wynntils.models.items.annotators.game.TrinketAnnotator;
+import com.wynntils.models.items.annotators.game.UnknownGearAnnotator;
+import com.wynntils.models.items.annotators.gui.AbilityTreeAnnotator;
+import com.wynntils.models.items.annotators.gui.ActivityAnnotator;
+import com.wynntils.models.items.annotators.gui.ArchetypeAbilitiesAnnotator;
+import com.wynntils.models.items.annotators.gui.CharacterAnnotator;
+import com.wynntils.models.items.annotators.gui.CosmeticTierAnnotator;
+import com.wynntils.models.items.annotators.gui.DailyRewardMultiplierAnnotator;
+import com.wynntils.models.items.annotators.gui.GuildLogAnnotator;
+import com.wynntils.models.items.annotators.gui.IngredientPouchAnnotator;
+import com.wynntils.models.items.annotators.gui.LeaderboardSeasonAnnotator;
+import com.wynntils.models.items.annotators.gui.SeaskipperDestinationAnnotator;
+import com.wynntils.models.items.annotators.gui.ServerAnnotator;
+import com.wynntils.models.items.annotators.gui.SkillCrystalAnnotator;
+import com.wynntils.models.items.annotators.gui.SkillPointAnnotator;
+import com.wynntils.models.items.annotators.gui.TerritoryAnnotator;
+import com.wynntils.models.items.annotators.gui.TerritoryUpgradeAnnotator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.ItemLore;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestItemAnnotatorIndex {
+    // Serialized as item id;damage;name;lore lines separated by a backslash
+    private static final String ITEM_CORPUS =
+            """
+            minecraft:diamond_shovel;0;§5Singularity;§7Attack Speed: Normal\\§a✔ §7Class Req: Mage/Dark Wizard
+            minecraft:diamond_pickaxe;0;§f⬡ §bShiny Nirvana;§7Attack Speed: Fast
+            minecraft:leather_chestplate;0;§aCopper Chestplate;
+            minecraft:stone_shovel;3;§5Unidentified Spear;§a- §7Lv. Range: §f90-100
+            minecraft:stone_shovel;0;§5Unidentified Spear;§a- §7Lv. Range: §f90-100
+            minecraft:iron_horse_armor;0;§5Tome of Combat Mastery;
+            minecraft:iron_horse_armor;0;§6Steve's Pouch;§f2 x §7Fiery Essence§6 [§e✫✫§8✫§6]
+            minecraft:potion;0;§5Charm of the Worm;
+            minecraft:paper;0;§7Fiery Essence§6 [§e✫✫§8✫§6];
+            minecraft:paper;0;§fOak Wood§6 [§e✫§8✫✫§6];
+            minecraft:paper;0;§bCorkian Amplifier II;
+            minecraft:paper;0;§5Aspect of the Blade;§a✔ §7Class Req: Warrior/Knight
+            minecraft:paper;0;§5Corrupted Cache;
+            minecraft:paper;0;§3Crafted Sword§b [100%];
+            minecraft:paper;0;§3Crafted Potion§b [2/3];
+            minecraft:paper;0;§6Decrepit Sewers Key;
+            minecraft:emerald;0;§aEmerald;
+            minecraft:emerald_block;0;§aEmerald Block;
+            minecraft:experience_bottle;0;§aLiquid Emerald;
+            minecraft:paper;0;§aEmerald;
+            minecraft:diamond_axe;0;§aEmerald Pouch§2 [Tier III];§6§l1,024²
+            minecraft:golden_shovel;0;§aEmerald Pouch§2 [Tier I];
+            minecraft:iron_axe;0;§f\uE002 Gathering Axe T12;§7[120/130 Durability]
+            minecraft:saddle;0;§fBrown Horse;§7Tier 3\\§6Speed: 20/20\\§bXp: 12/100
+            minecraft:paper;0;§fBrown Horse;§7Tier 3
+            minecraft:paper;0;§5Corkian Insulator;
+            minecraft:potion;0;§c[+1200 ❤] §dPotions of Healing §4[3/5];
+            minecraft:potion;0;§dPotion of Healing§4 [2/3];
+            minecraft:lime_dye;0;§e✦ Thunder Powder III;
+            minecraft:paper;0;§bAz Rune;
+            minecraft:paper;0;§5Corkian Simulator;
+            minecraft:paper;0;§#8193ffffRagni Teleportation Scroll §#f9e79eff[3/3];
+            minecraft:paper;0;§aSpeed Totem [2/3];§7Right-Click to use
+            minecraft:compass;0;§b§lAbility Tree;\\\\\\§3✦ Unused Points: §f12
+            minecraft:paper;0;§#82eff4ff§lAbility Points;\\\\\\§b✦ Available Points: §f3§7/45
+            minecraft:potion;0;§aA Hunter's Calling §7[Quest];
+            minecraft:paper;0;§#a0c4ffff§lArcanist Archetype;
+            minecraft:paper;0;§6§l[>] Select This Character;§e- §7Class: §fMage\\§e- §7Level: §f106
+            minecraft:paper;0;§6§lDaily Reward;\\\\\\§e✦ Streak Multiplier: §f3x
+            minecraft:paper;0;§d§lSeason 20;§7Current Season
+            minecraft:paper;0;§bRagni Pass §7for §b128²;
+            minecraft:paper;0;§bEU | World 12;
+            minecraft:paper;0;§2§lSkill Crystal;\\§7You have §a5§7 skill points
+            minecraft:paper;0;§dUpgrade your §e✦ Dexterity§d skill;
+            minecraft:paper;0;§fDetlas§7 (HQ);
+            minecraft:paper;0;§6§lDamage §7[Lv. 3];
+            minecraft:paper;0;Oak Log;§7Crafting Material
+            minecraft:paper;0;§l§6Bold Before Color;
+            minecraft:paper;0;§rReset Name;
+            minecraft:air;0;;
+            """;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // The registration order of ItemModel
+    private static List<ItemAnnotator> annotators() {
+        return new ArrayList<>(List.of(
+                new GearAnnotator(),
+                new GearBoxAnnotator(),
+                new TomeAnnotator(),
+                new CharmAnnotator(),
+                new IngredientAnnotator(),
+                new MaterialAnnotator(),
+                new OuterVoidItemAnnotator(),
+                new UnknownGearAnnotator(),
+                new AmplifierAnnotator(),
+                new AspectAnnotator(),
+                new CorruptedCacheAnnotator(),
+                new CraftedConsumableAnnotator(),
+                new CraftedGearAnnotator(),
+                new DungeonKeyAnnotator(),
+                new EmeraldAnnotator(),
+                new EmeraldPouchAnnotator(),
+                new GatheringToolAnnotator(),
+                new HorseAnnotator(),
+                new InsulatorAnnotator(),
+                new MultiHealthPotionAnnotator(),
+                new PotionAnnotator(),
+                new PowderAnnotator(),
+                new RuneAnnotator(),
+                new SimulatorAnnotator(),
+                new TeleportScrollAnnotator(),
+                new TrinketAnnotator(),
+                new AbilityTreeAnnotator(),
+                new ActivityAnnotator(),
+                new ArchetypeAbilitiesAnnotator(),
+                new CharacterAnnotator(),
+                new CosmeticTierAnnotator(),
+                new DailyRewardMultiplierAnnotator(),
+                new GuildLogAnnotator(),
+                new IngredientPouchAnnotator(),
+                new LeaderboardSeasonAnnotator(),
+                new SeaskipperDestinationAnnotator(),
+                new ServerAnnotator(),
+                new SkillCrystalAnnotator(),
+                new SkillPointAnnotator(),
+                new TerritoryAnnotator(),
+                new TerritoryUpgradeAnnotator(),
+                new MiscAnnotator(),
+                new ItemModel.FallbackAnnotator()));
+    }
+
+    private static List<ItemStack> itemCorpus() {
+        return ITEM_CORPUS.lines()
+                .map(line -> {
+                    String[] fields = line.split(";", -1);
+
+                    ItemStack itemStack =
+                            new ItemStack(BuiltInRegistries.ITEM.getValue(ResourceLocation.parse(fields[0])));
+                    itemStack.setDamageValue(Integer.parseInt(fields[1]));
+                    if (!fields[2].isEmpty()) {
+                        itemStack.set(
+                                DataComponents.CUSTOM_NAME,
+                                StyledText.fromString(fields[2]).getComponent());
+                    }
+                    if (!fields[3].isEmpty()) {
+                        List<Component> lore = Arrays.stream(fields[3].split("\\\\", -1))
+                                .map(loreLine -> (Component) StyledText.fromString(loreLine).getComponent())
+                                .toList();
+                        itemStack.set(DataComponents.LORE, new ItemLore(lore));
+                    }
+
+                    return itemStack;
+                })
+                .toList();
+    }
+
+    private static StyledText getName(ItemStack itemStack) {
+        return StyledText.fromComponent(itemStack.getHoverName()).getNormalized();
+    }
+
+    // Annotates like ItemHandler does, with the first annotator that claims the item
+    private static String claim(List<ItemAnnotator> annotators, ItemStack itemStack, StyledText name) {
+        for (ItemAnnotator annotator : annotators) {
+            String outcome = tryAnnotate(annotator, itemStack, name);
+            if (outcome != null) return outcome;
+        }
+
+        return "none";
+    }
+
+    // Most annotators need loaded models once their cheap checks passed, so they throw in tests.
+    // A throw still means the annotator got past those checks, so it counts as a claim.
+    private static String tryAnnotate(ItemAnnotator annotator, ItemStack itemStack, StyledText name) {
+        String annotatorName = annotator.getClass().getSimpleName();
+
+        try {
+            ItemAnnotation annotation = annotator.getAnnotation(itemStack, name);
+            return annotation == null ? null : annotatorName + " -> " + annotation.getClass().getSimpleName();
+        } catch (Throwable t) {
+            return annotatorName + " -> throws";
+        }
+    }
+
+    @Test
+    public void itemCorpus_annotationsUnchanged() {
+        List<ItemAnnotator> annotators = annotators();
+        ItemAnnotatorIndex index = new ItemAnnotatorIndex(annotators);
+
+        for (ItemStack itemStack : itemCorpus()) {
+            StyledText name = getName(itemStack);
+
+            Assertions.assertEquals(
+                    claim(annotators, itemStack, name),
+                    claim(index.getCandidates(itemStack, name), itemStack, name),
+                    "Annotation differs for " + itemStack + " named " + name.getString());
+        }
+    }
+
+    @Test
+    public void itemCorpus_skippedAnnotatorsNeverClaim() {
+        List<ItemAnnotator> annotators = annotators();
+        ItemAnnotatorIndex index = new ItemAnnotatorIndex(annotators);
+
+        for (ItemStack itemStack : itemCorpus()) {
+            StyledText name = getName(itemStack);
+            List<ItemAnnotator> candidates = index.getCandidates(itemStack, name);
+
+            for (ItemAnnotator annotator : annotators) {
+                if (candidates.contains(annotator)) continue;
+
+                Assertions.assertNull(
+                        tryAnnotate(annotator, itemStack, name),
+                        annotator.getClass().getSimpleName() + " was skipped for " + name.getString());
+            }
+        }
+    }
+
+    @Test
+    public void itemCorpus_reachesModelBackedAnnotators() {
+        // Earlier annotators can claim these items first, so each annotator is asked on its own
+        for (ItemAnnotator annotator : List.of(
+                new GearAnnotator(),
+                new TomeAnnotator(),
+                new CharmAnnotator(),
+                new IngredientAnnotator(),
+                new PowderAnnotator())) {
+            Assertions.assertTrue(
+                    itemCorpus().stream()
+                            .anyMatch(itemStack -> tryAnnotate(annotator, itemStack, getName(itemStack)) != null),
+                    annotator.getClass().getSimpleName() + " never claimed an item of the corpus");
+        }
+    }
+
+    @Test
+    public void candidates_keepRegistrationOrderAndSkipOtherClasses() {
+        List<ItemAnnotator> annotators = annotators();
+        ItemAnnotatorIndex index = new ItemAnnotatorIndex(annotators);
+
+        ItemStack gear = new ItemStack(Items.DIAMOND_SHOVEL);
+        List<ItemAnnotator> candidates = index.getCandidates(gear, StyledText.fromString("§5Singularity"));
+
+        Assertions.assertInstanceOf(GearAnnotator.class, candidates.getFirst());
+        Assertions.assertInstanceOf(ItemModel.FallbackAnnotator.class, candidates.getLast());
+        Assertions.assertTrue(candidates.stream().noneMatch(annotator -> annotator instanceof GearBoxAnnotator));
+        Assertions.assertTrue(candidates.stream().noneMatch(annotator -> annotator instanceof IngredientAnnotator));
+        Assertions.assertTrue(candidates.size() < annotators.size());
+
+        List<Integer> positions = candidates.stream().map(annotators::indexOf).toList();
+        Assertions.assertEquals(positions.stream().sorted().toList(), positions);
+
+        // Plain names only go to annotators that accept any name
+        List<ItemAnnotator> plainCandidates = index.getCandidates(gear, StyledText.fromString("Oak Log"));
+        Assertions.assertTrue(plainCandidates.stream().noneMatch(annotator -> annotator instanceof GearAnnotator));
+    }
+
+    @Test
+    public void candidates_areCachedPerClassUntilInvalidated() {
+        List<ItemAnnotator> annotators = annotators();
+        ItemAnnotatorIndex index = new ItemAnnotatorIndex(annotators);
+
+        ItemStack paper = new ItemStack(Items.PAPER);
+        List<ItemAnnotator> first = index.getCandidates(paper, StyledText.fromString("§bAz Rune"));
+        List<ItemAnnotator> second = index.getCandidates(paper, StyledText.fromString("§bCorkian Amplifier II"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, index.getClassCount());
+
+        annotators.removeFirst();
+        index.invalidate();
+
+        Assertions.assertEquals(0, index.getClassCount());
+        // The removed gear annotator accepted this class
+        Assertions.assertEquals(
+                first.size() - 1,
+                index.getCandidates(paper, StyledText.fromString("§bAz Rune")).size());
+    }
+}
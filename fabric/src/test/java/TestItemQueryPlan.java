@@ -0,0 +1,262 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.models.items.WynnItem;
+import com.wynntils.services.itemfilter.ItemFilterService;
+import com.wynntils.services.itemfilter.type.ItemProviderType;
+import com.wynntils.services.itemfilter.type.ItemQueryPlan;
+import com.wynntils.services.itemfilter.type.ItemSearchQuery;
+import com.wynntils.services.itemfilter.type.ItemStatProvider;
+import com.wynntils.services.itemfilter.type.SortDirection;
+import com.wynntils.services.itemfilter.type.SortInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestItemQueryPlan {
+    private static final int SYNTHETIC_ITEM_COUNT = 10_000;
+    private static final String[] NAMES = {"Oak Wood Spear", "Diamond Sword", "Nirvana", "Cancer", "Singularity"};
+    private static final String[] TYPES = {"spear", "wand", "bow", "dagger", "relik"};
+
+    private static final LevelStatProvider LEVEL = new LevelStatProvider();
+    private static final TypeStatProvider TYPE = new TypeStatProvider();
+    private static final UnidentifiedStatProvider UNIDENTIFIED = new UnidentifiedStatProvider();
+    private static final PowderStatProvider POWDERS = new PowderStatProvider();
+
+    private static final ItemFilterService ITEM_FILTER_SERVICE =
+            new ItemFilterService(List.of(LEVEL, TYPE, UNIDENTIFIED, POWDERS)) {};
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static ItemSearchQuery query(String queryString) {
+        ItemSearchQuery searchQuery =
+                ITEM_FILTER_SERVICE.createSearchQuery(queryString, true, List.of(ItemProviderType.GEAR));
+        Assertions.assertEquals(List.of(), searchQuery.errors(), "Errors in " + queryString);
+        return searchQuery;
+    }
+
+    // The evaluation ItemFilterService did before query plans existed
+    private static boolean referenceMatches(ItemSearchQuery searchQuery, TestItem item) {
+        return searchQuery.filters().matches(item)
+                && (searchQuery.plainTextTokens().isEmpty()
+                        || item.name.toLowerCase(Locale.ROOT)
+                                .contains(String.join(" ", searchQuery.plainTextTokens())
+                                        .toLowerCase(Locale.ROOT)));
+    }
+
+    private static List<TestItem> syntheticItems(int count, long seed) {
+        Random random = new Random(seed);
+        List<TestItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new TestItem(
+                    NAMES[random.nextInt(NAMES.length)],
+                    random.nextInt(106),
+                    TYPES[random.nextInt(TYPES.length)],
+                    random.nextBoolean(),
+                    random.nextInt(4) == 0 ? null : random.nextInt(5)));
+        }
+        return items;
+    }
+
+    private static List<ItemSearchQuery> grammarQueries() {
+        return List.of(
+                // Single values, ranges and comparisons
+                query("level:50"),
+                query("level:10-60"),
+                query("level:>=100"),
+                query("level:>99"),
+                query("level:<=5"),
+                query("level:<6"),
+                // Comma separated values of the same stat match any of them
+                query("level:<10,>90"),
+                // Strings, loose and strict
+                query("type:SPE"),
+                query("type:\"wand\""),
+                query("type:\"wan\""),
+                // Booleans and "any" filters
+                query("unidentified:true"),
+                query("powder:*"),
+                // Multiple stats must all match
+                query("type:bow level:>=50 powder:1-3 unidentified:false"),
+                // Plain text, alone and with filters
+                query("diamond"),
+                query("oak wood"),
+                query("level:>50 NIRVANA"),
+                query("missing"));
+    }
+
+    @Test
+    public void filterGrammar_matchesReferenceEvaluation() {
+        List<TestItem> items = syntheticItems(1000, 1);
+
+        for (ItemSearchQuery searchQuery : grammarQueries()) {
+            ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(searchQuery);
+
+            for (TestItem item : items) {
+                Assertions.assertEquals(
+                        referenceMatches(searchQuery, item),
+                        plan.matches(item, () -> item.name),
+                        "Mismatch for " + item + " and " + searchQuery.filters().entries());
+            }
+        }
+    }
+
+    @Test
+    public void syntheticItems_matchReferenceEvaluation() {
+        List<TestItem> items = syntheticItems(SYNTHETIC_ITEM_COUNT, 2);
+        List<ItemSearchQuery> queries = grammarQueries();
+
+        for (ItemSearchQuery searchQuery : queries) {
+            ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(searchQuery);
+
+            List<TestItem> expected = items.stream()
+                    .filter(item -> referenceMatches(searchQuery, item))
+                    .toList();
+            List<TestItem> actual = items.stream()
+                    .filter(item -> plan.matches(item, () -> item.name))
+                    .toList();
+
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void failingClause_skipsNameLookup() {
+        ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(query("level:>200 sword"));
+        AtomicInteger nameLookups = new AtomicInteger();
+
+        for (TestItem item : syntheticItems(100, 3)) {
+            Assertions.assertFalse(plan.matches(item, () -> {
+                nameLookups.incrementAndGet();
+                return item.name;
+            }));
+        }
+
+        Assertions.assertEquals(0, nameLookups.get());
+    }
+
+    @Test
+    public void invalidTokens_areReportedAndIgnored() {
+        ItemSearchQuery searchQuery = ITEM_FILTER_SERVICE.createSearchQuery(
+                "durability:5 level:abc,>90 oak", true, List.of(ItemProviderType.GEAR));
+        ItemSearchQuery validQuery = query("level:>90 oak");
+
+        Assertions.assertEquals(2, searchQuery.errors().size());
+        Assertions.assertEquals(List.of("oak"), searchQuery.plainTextTokens());
+
+        ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(searchQuery);
+        for (TestItem item : syntheticItems(1000, 4)) {
+            Assertions.assertEquals(referenceMatches(validQuery, item), plan.matches(item, () -> item.name));
+        }
+    }
+
+    @Test
+    public void sorts_requireValuesAndOrderItems() {
+        ItemSearchQuery searchQuery = query("sort:powder,^level");
+        Assertions.assertEquals(
+                List.of(new SortInfo(SortDirection.DESCENDING, POWDERS), new SortInfo(SortDirection.ASCENDING, LEVEL)),
+                searchQuery.sorts());
+        ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(searchQuery);
+
+        TestItem noPowders = new TestItem("Cancer", 50, "dagger", false, null);
+        TestItem twoPowdersLow = new TestItem("Nirvana", 10, "dagger", false, 2);
+        TestItem twoPowdersHigh = new TestItem("Nirvana", 90, "dagger", false, 2);
+        TestItem threePowders = new TestItem("Diamond Sword", 1, "dagger", false, 3);
+
+        Assertions.assertFalse(plan.hasSortValues(noPowders));
+        Assertions.assertTrue(plan.hasSortValues(twoPowdersLow));
+
+        List<TestItem> sorted = new ArrayList<>(List.of(twoPowdersHigh, twoPowdersLow, threePowders));
+        sorted.sort(plan::compareWynnItems);
+
+        Assertions.assertEquals(List.of(threePowders, twoPowdersLow, twoPowdersHigh), sorted);
+    }
+
+    @Test
+    public void plans_areCachedPerSearchQuery() {
+        ItemSearchQuery searchQuery = query("level:>50 sword");
+        ItemQueryPlan plan = ITEM_FILTER_SERVICE.getQueryPlan(searchQuery);
+
+        Assertions.assertSame(plan, ITEM_FILTER_SERVICE.getQueryPlan(searchQuery));
+
+        // Screens without sorting parse the same string to a different query
+        ItemSearchQuery unsortedQuery =
+                ITEM_FILTER_SERVICE.createSearchQuery("sort:level sword", false, List.of(ItemProviderType.GEAR));
+        ItemSearchQuery sortedQuery = query("sort:level sword");
+        Assertions.assertEquals(List.of(), unsortedQuery.sorts());
+        Assertions.assertEquals(List.of(new SortInfo(SortDirection.DESCENDING, LEVEL)), sortedQuery.sorts());
+
+        Assertions.assertSame(unsortedQuery, ITEM_FILTER_SERVICE.getQueryPlan(unsortedQuery).getSearchQuery());
+        Assertions.assertSame(sortedQuery, ITEM_FILTER_SERVICE.getQueryPlan(sortedQuery).getSearchQuery());
+    }
+
+    private static final class TestItem extends WynnItem {
+        private final String name;
+        private final int level;
+        private final String type;
+        private final boolean unidentified;
+        private final Integer powders;
+
+        private TestItem(String name, int level, String type, boolean unidentified, Integer powders) {
+            this.name = name;
+            this.level = level;
+            this.type = type;
+            this.unidentified = unidentified;
+            this.powders = powders;
+        }
+
+        @Override
+        public String toString() {
+            return "TestItem{name=" + name + ", level=" + level + ", type=" + type + ", unidentified=" + unidentified
+                    + ", powders=" + powders + "}";
+        }
+    }
+
+    private abstract static class TestStatProvider<T extends Comparable<T>> extends ItemStatProvider<T> {
+        @Override
+        public List<ItemProviderType> getFilterTypes() {
+            return List.of(ItemProviderType.GEAR);
+        }
+    }
+
+    private static final class LevelStatProvider extends TestStatProvider<Integer> {
+        @Override
+        public Optional<Integer> getValue(WynnItem wynnItem) {
+            return Optional.of(((TestItem) wynnItem).level);
+        }
+    }
+
+    private static final class TypeStatProvider extends TestStatProvider<String> {
+        @Override
+        public Optional<String> getValue(WynnItem wynnItem) {
+            return Optional.of(((TestItem) wynnItem).type);
+        }
+    }
+
+    private static final class UnidentifiedStatProvider extends TestStatProvider<Boolean> {
+        @Override
+        public Optional<Boolean> getValue(WynnItem wynnItem) {
+            return Optional.of(((TestItem) wynnItem).unidentified);
+        }
+    }
+
+    private static final class PowderStatProvider extends TestStatProvider<Integer> {
+        @Override
+        public Optional<Integer> getValue(WynnItem wynnItem) {
+            return Optional.ofNullable(((TestItem) wynnItem).powders);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.wynntils.services.leaderboard.type.LeaderboardBadge;
+import com.wynntils.services.leaderboard.type.LeaderboardSnapshot;
+import com.wynntils.services.leaderboard.type.LeaderboardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestLeaderboardSnapshot {
+    private static final UUID ALICE = UUID.fromString("11111111-1111-4111-8111-111111111111");
+    private static final UUID BOB = UUID.fromString("22222222-2222-4222-8222-222222222222");
+    private static final UUID CAROL = UUID.fromString("33333333-3333-4333-8333-333333333333");
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // Stands in for the leaderboard API response of a single type
+    private static JsonObject response(UUID... standings) {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < standings.length; i++) {
+            if (i > 0) json.append(",");
+            json.append("\"")
+                    .append(i + 1)
+                    .append("\":{\"name\":\"player")
+                    .append(i)
+                    .append("\",\"uuid\":\"")
+                    .append(standings[i])
+                    .append("\",\"score\":")
+                    .append(1000 - i)
+                    .append("}");
+        }
+        return JsonParser.parseString(json.append("}").toString()).getAsJsonObject();
+    }
+
+    private static LeaderboardSnapshot apply(LeaderboardSnapshot snapshot, LeaderboardType type, UUID... standings) {
+        return snapshot.withRanking(type, LeaderboardSnapshot.parseRanking(response(standings)));
+    }
+
+    @Test
+    public void badges_matchStandings() {
+        LeaderboardSnapshot snapshot = LeaderboardSnapshot.EMPTY;
+        // Responses arrive in any order
+        snapshot = apply(snapshot, LeaderboardType.WARS, BOB, ALICE);
+        snapshot = apply(snapshot, LeaderboardType.MINING, ALICE, BOB, BOB, BOB, CAROL);
+        snapshot = apply(snapshot, LeaderboardType.WOODCUTTING, CAROL, CAROL, CAROL, CAROL, CAROL, CAROL, ALICE);
+
+        Assertions.assertEquals(
+                List.of(
+                        LeaderboardBadge.from(LeaderboardType.WOODCUTTING, 7),
+                        LeaderboardBadge.from(LeaderboardType.MINING, 1),
+                        LeaderboardBadge.from(LeaderboardType.WARS, 2)),
+                snapshot.getBadges(ALICE));
+        Assertions.assertEquals(
+                new LeaderboardBadge(LeaderboardType.MINING.ordinal() * LeaderboardBadge.WIDTH, 0),
+                snapshot.getBadges(ALICE).get(1));
+        Assertions.assertEquals(
+                new LeaderboardBadge(LeaderboardType.WOODCUTTING.ordinal() * LeaderboardBadge.WIDTH, 36),
+                snapshot.getBadges(ALICE).get(0));
+
+        Assertions.assertEquals(4, snapshot.getBadges(BOB).size());
+        Assertions.assertEquals(7, snapshot.getBadges(CAROL).size());
+        Assertions.assertEquals(List.of(), snapshot.getBadges(UUID.randomUUID()));
+        Assertions.assertEquals(3, snapshot.getPlayerCount());
+        Assertions.assertEquals(3, snapshot.getVersion());
+        Assertions.assertEquals(ALICE, snapshot.getRanking(LeaderboardType.MINING).get(1));
+    }
+
+    @Test
+    public void unchangedRanking_keepsSnapshot() {
+        LeaderboardSnapshot snapshot = apply(LeaderboardSnapshot.EMPTY, LeaderboardType.FISHING, ALICE, BOB);
+        snapshot = apply(snapshot, LeaderboardType.MINING, CAROL);
+
+        // The next reload returns the same standings
+        Assertions.assertSame(snapshot, apply(snapshot, LeaderboardType.FISHING, ALICE, BOB));
+        Assertions.assertSame(snapshot, apply(snapshot, LeaderboardType.MINING, CAROL));
+        Assertions.assertEquals(2, snapshot.getVersion());
+    }
+
+    @Test
+    public void changedRanking_rebuildsOnlyItsPlayers() {
+        LeaderboardSnapshot before = LeaderboardSnapshot.EMPTY;
+        before = apply(before, LeaderboardType.FISHING, ALICE, BOB);
+        before = apply(before, LeaderboardType.MINING, CAROL);
+
+        LeaderboardSnapshot after = apply(before, LeaderboardType.FISHING, BOB, ALICE);
+
+        Assertions.assertEquals(before.getVersion() + 1, after.getVersion());
+        Assertions.assertSame(before.getBadges(CAROL), after.getBadges(CAROL));
+        Assertions.assertEquals(List.of(LeaderboardBadge.from(LeaderboardType.FISHING, 2)), after.getBadges(ALICE));
+        Assertions.assertEquals(List.of(LeaderboardBadge.from(LeaderboardType.FISHING, 1)), after.getBadges(BOB));
+
+        // The old snapshot is unchanged
+        Assertions.assertEquals(List.of(LeaderboardBadge.from(LeaderboardType.FISHING, 1)), before.getBadges(ALICE));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> after.getBadges(ALICE).clear());
+
+        // Dropping off every leaderboard removes the player
+        LeaderboardSnapshot dropped = apply(after, LeaderboardType.MINING, BOB);
+        Assertions.assertEquals(List.of(), dropped.getBadges(CAROL));
+        Assertions.assertEquals(2, dropped.getPlayerCount());
+        Assertions.assertEquals(2, dropped.getBadges(BOB).size());
+    }
+
+    @Test
+    public void concurrentResponses_areSwappedAtomically() throws InterruptedException {
+        // Every type ranks the same nine players, in a different order
+        List<UUID> players = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            players.add(UUID.randomUUID());
+        }
+        Map<LeaderboardType, JsonObject> responses = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            List<UUID> standings = new ArrayList<>(players);
+            Collections.rotate(standings, type.ordinal());
+            responses.put(type, response(standings.toArray(UUID[]::new)));
+        }
+
+        AtomicReference<LeaderboardSnapshot> leaderboard = new AtomicReference<>(LeaderboardSnapshot.EMPTY);
+        AtomicBoolean done = new AtomicBoolean(false);
+        List<String> inconsistencies = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+
+        // A renderer reading badges while responses are applied
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                LeaderboardSnapshot snapshot = leaderboard.get();
+                for (UUID player : players) {
+                    // Every applied type ranks every player once
+                    int expected = (int) Arrays.stream(LeaderboardType.values())
+                            .filter(type -> !snapshot.getRanking(type).isEmpty())
+                            .count();
+                    if (snapshot.getBadges(player).size() != expected) {
+                        inconsistencies.add(snapshot.getVersion() + ": " + player);
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        // Like the network callbacks, every response is applied from its own thread
+        List<Thread> callbacks = new ArrayList<>();
+        for (Map.Entry<LeaderboardType, JsonObject> response : responses.entrySet()) {
+            Thread callback = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                Map<Integer, UUID> ranking = LeaderboardSnapshot.parseRanking(response.getValue());
+                leaderboard.updateAndGet(snapshot -> snapshot.withRanking(response.getKey(), ranking));
+            });
+            callback.start();
+            callbacks.add(callback);
+        }
+        start.countDown();
+        for (Thread callback : callbacks) {
+            callback.join();
+        }
+        done.set(true);
+        reader.join();
+
+        Assertions.assertEquals(List.of(), inconsistencies);
+
+        // The result does not depend on the order the responses arrived in
+        LeaderboardSnapshot sequential = LeaderboardSnapshot.EMPTY;
+        for (Map.Entry<LeaderboardType, JsonObject> response : responses.entrySet()) {
+            sequential =
+                    sequential.withRanking(response.getKey(), LeaderboardSnapshot.parseRanking(response.getValue()));
+        }
+        LeaderboardSnapshot concurrent = leaderboard.get();
+        Assertions.assertEquals(LeaderboardType.values().length, concurrent.getVersion());
+        for (UUID player : players) {
+            Assertions.assertEquals(sequential.getBadges(player), concurrent.getBadges(player));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.labels.LiveLabelIndex;
+import com.wynntils.handlers.labels.type.LabelInfo;
+import com.wynntils.utils.mc.type.Location;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestLiveLabelIndex {
+    private static final int LABEL_COUNT = 10_000;
+    private static final int REMOVED_PER_PACKET = 1_000;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static TestLabelInfo label(int entityId, String name) {
+        return new TestLabelInfo(entityId, name);
+    }
+
+    @Test
+    public void putAndUpdate_replaceLabel() {
+        LiveLabelIndex index = new LiveLabelIndex();
+
+        index.put(1, label(1, "Ragni"));
+        index.put(2, label(2, "Detlas"));
+        index.put(1, label(1, "Nemract"));
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals("Nemract", index.get(1).getName());
+        Assertions.assertEquals("Detlas", index.get(2).getName());
+        Assertions.assertNull(index.get(3));
+    }
+
+    @Test
+    public void removeAll_returnsLabelsInRemovalOrder() {
+        LiveLabelIndex index = new LiveLabelIndex();
+        for (int i = 0; i < 5; i++) {
+            index.put(i, label(i, "Label " + i));
+        }
+
+        // Unknown ids are ignored, and removing twice only returns the label once
+        List<LabelInfo> removed = index.removeAll(List.of(3, 42, 0, 3));
+
+        Assertions.assertEquals(
+                List.of("Label 3", "Label 0"),
+                removed.stream().map(LabelInfo::getName).toList());
+        Assertions.assertEquals(3, index.size());
+        Assertions.assertNull(index.get(3));
+        Assertions.assertNotNull(index.get(1));
+
+        // Removal packets store the ids in an IntList
+        Assertions.assertEquals(1, index.removeAll(new IntArrayList(new int[] {1})).size());
+    }
+
+    @Test
+    public void removeThenAdd_tracksNewLabel() {
+        LiveLabelIndex index = new LiveLabelIndex();
+
+        index.put(7, label(7, "Old"));
+        index.removeAll(List.of(7));
+        index.put(7, label(7, "New"));
+
+        Assertions.assertEquals("New", index.get(7).getName());
+        Assertions.assertEquals(List.of("New"), index.clear().stream().map(LabelInfo::getName).toList());
+        Assertions.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void thousandsOfLabels_matchLinearScan() {
+        Random random = new Random(0);
+        LiveLabelIndex index = new LiveLabelIndex();
+        Map<Integer, LabelInfo> reference = new HashMap<>();
+
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            TestLabelInfo labelInfo = label(i, "Label " + i);
+            index.put(i, labelInfo);
+            reference.put(i, labelInfo);
+        }
+
+        for (int packet = 0; packet < 20; packet++) {
+            List<Integer> entityIds = randomIds(random);
+
+            // The scan LabelHandler did before labels were indexed
+            List<LabelInfo> expected = reference.values().stream()
+                    .filter(label -> entityIds.contains(((TestLabelInfo) label).entityId))
+                    .toList();
+            expected.forEach(label -> reference.remove(((TestLabelInfo) label).entityId));
+
+            List<LabelInfo> actual = index.removeAll(entityIds);
+
+            Assertions.assertEquals(expected.size(), actual.size());
+            Assertions.assertTrue(actual.containsAll(expected));
+            Assertions.assertEquals(reference.size(), index.size());
+        }
+    }
+
+    private static List<Integer> randomIds(Random random) {
+        List<Integer> entityIds = new ArrayList<>();
+        for (int i = 0; i < REMOVED_PER_PACKET; i++) {
+            // Include ids of entities that never had a label
+            entityIds.add(random.nextInt(LABEL_COUNT * 2));
+        }
+        return entityIds;
+    }
+
+    private static final class TestLabelInfo extends LabelInfo {
+        private final int entityId;
+
+        private TestLabelInfo(int entityId, String name) {
+            super(StyledText.fromString(name), new Location(entityId, 0, 0), null);
+            this.entityId = entityId;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.MentionMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestMentionMatcher {
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static List<String> mentions(MentionMatcher matcher, String text) {
+        return matcher.findAll(text).stream()
+                .map(match -> text.substring(match.start(), match.end()))
+                .toList();
+    }
+
+    // The pattern ChatMentionFeature built for every alias before the matcher
+    private static Pattern aliasPattern(String alias) {
+        if (Pattern.compile("\\W").matcher(alias).find()) {
+            return Pattern.compile("(?:\\s|^)(" + Pattern.quote(alias) + ")(?:\\s|$)", Pattern.CASE_INSENSITIVE);
+        }
+
+        return Pattern.compile("(?<!\\[)\\b(" + alias + ")\\b(?!:|])", Pattern.CASE_INSENSITIVE);
+    }
+
+    private static List<MentionMatcher.Match> regexMatches(String alias, String text) {
+        Pattern pattern = aliasPattern(alias);
+        List<MentionMatcher.Match> matches = new ArrayList<>();
+
+        // The pattern was matched again on the text after every mention
+        int offset = 0;
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            matches.add(new MentionMatcher.Match(offset + matcher.start(), offset + matcher.end()));
+            offset += matcher.end();
+            matcher = pattern.matcher(text.substring(offset));
+        }
+
+        return matches;
+    }
+
+    @Test
+    public void wordAlias_matchesWholeWordsOnly() {
+        MentionMatcher matcher = new MentionMatcher(List.of("Steve"));
+
+        Assertions.assertEquals(List.of("Steve"), mentions(matcher, "hi Steve!"));
+        Assertions.assertEquals(List.of("steve", "STEVE"), mentions(matcher, "steve, STEVE"));
+        Assertions.assertEquals(List.of(), mentions(matcher, "Steven and xSteve and Steve_"));
+        Assertions.assertEquals(List.of(), mentions(matcher, "[Steve] Steve: hello"));
+        Assertions.assertEquals(List.of("Steve"), mentions(matcher, "(Steve)"));
+    }
+
+    @Test
+    public void symbolAlias_matchesBetweenWhitespace() {
+        MentionMatcher matcher = new MentionMatcher(List.of("st.eve"));
+
+        Assertions.assertEquals(List.of("st.eve"), mentions(matcher, "st.eve"));
+        Assertions.assertEquals(List.of(" st.eve "), mentions(matcher, "hi st.eve how are you"));
+        Assertions.assertEquals(List.of(" ST.EVE"), mentions(matcher, "hi ST.EVE"));
+        Assertions.assertEquals(List.of(), mentions(matcher, "hi st.eve! and (st.eve) and st.evening"));
+        // Regex metacharacters are matched literally
+        Assertions.assertEquals(List.of(), mentions(matcher, "hi stxeve"));
+    }
+
+    @Test
+    public void mixedAliases_areFoundInOnePass() {
+        MentionMatcher matcher = new MentionMatcher(List.of("Steve", "", "st.eve", "Alex", "Steve", "-=Al=-"));
+
+        Assertions.assertEquals(
+                List.of("Steve", " st.eve ", "alex", " -=Al=-"),
+                mentions(matcher, "Steve and st.eve and alex and -=Al=-"));
+        Assertions.assertEquals(List.of(), mentions(matcher, "nobody here"));
+        Assertions.assertTrue(new MentionMatcher(List.of("")).findAll("Steve").isEmpty());
+    }
+
+    @Test
+    public void singleAlias_matchesRegexSemantics() {
+        Random random = new Random(0);
+        String alphabet = "ab_ [:]. -\tA1";
+        List<String> aliases = List.of("ab", "a", "b_", "a.b", "-a", " a", "a ", "ab1", "B");
+
+        for (String alias : aliases) {
+            MentionMatcher matcher = new MentionMatcher(List.of(alias));
+
+            for (int i = 0; i < 20000; i++) {
+                StringBuilder text = new StringBuilder();
+                for (int length = random.nextInt(12); length > 0; length--) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+
+                Assertions.assertEquals(
+                        regexMatches(alias, text.toString()),
+                        matcher.findAll(text.toString()),
+                        "Matches differ for alias '" + alias + "' in '" + text + "'");
+            }
+        }
+    }
+
+    @Test
+    public void manyAliases_areMatched() {
+        List<String> aliases = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            aliases.add("player" + i);
+        }
+        MentionMatcher matcher = new MentionMatcher(aliases);
+
+        String message = "[Guild] someone: has anyone seen player42 or player9999? player123abc is not a name";
+        Assertions.assertEquals(List.of("player42", "player9999"), mentions(matcher, message));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.services.statistics.OverallStatistics;
+import com.wynntils.services.statistics.type.StatisticEntry;
+import com.wynntils.services.statistics.type.StatisticKind;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestOverallStatistics {
+    private static final StatisticKind[] KINDS = StatisticKind.values();
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // The statistics of every character, updated the way StatisticsService does
+    // StatisticsService itself persists every change through Managers, so it cannot be created here
+    private static final class CharacterStatistics {
+        private final Map<String, Map<StatisticKind, StatisticEntry>> characters = new TreeMap<>();
+        private final OverallStatistics overall = new OverallStatistics(characters::values);
+
+        private void add(String character, StatisticKind kind, long amount) {
+            Map<StatisticKind, StatisticEntry> statistics =
+                    characters.computeIfAbsent(character, id -> new EnumMap<>(StatisticKind.class));
+
+            StatisticEntry newValue = statistics.containsKey(kind)
+                    ? statistics.get(kind).getUpdatedEntry(amount)
+                    : new StatisticEntry(
+                            amount, 1, amount, amount, System.currentTimeMillis(), System.currentTimeMillis());
+            statistics.put(kind, newValue);
+
+            overall.add(kind, amount, newValue);
+        }
+
+        private void resetForCharacter(String character, StatisticKind kind) {
+            Map<StatisticKind, StatisticEntry> statistics = characters.get(character);
+            if (statistics == null || statistics.remove(kind) == null) return;
+
+            overall.invalidate(kind);
+        }
+
+        private void resetOverall(StatisticKind kind) {
+            characters.values().forEach(statistics -> statistics.remove(kind));
+            overall.invalidate(kind);
+        }
+
+        private void resetCharacter(String character) {
+            Map<StatisticKind, StatisticEntry> statistics = characters.get(character);
+            if (statistics == null) return;
+
+            statistics.keySet().forEach(overall::invalidate);
+            statistics.clear();
+        }
+
+        // A full recomputation over every character
+        private StatisticEntry recompute(StatisticKind kind) {
+            StatisticEntry total = null;
+            for (Map<StatisticKind, StatisticEntry> statistics : characters.values()) {
+                StatisticEntry entry = statistics.get(kind);
+                if (entry == null) continue;
+
+                total = total == null ? entry : total.merge(entry);
+            }
+
+            return total == null ? StatisticEntry.EMPTY : total;
+        }
+    }
+
+    @Test
+    public void runningTotals_matchRecomputation() {
+        List<String> characterIds = List.of("warrior", "mage", "archer", "shaman", "assassin");
+        Random random = new Random(42);
+        CharacterStatistics statistics = new CharacterStatistics();
+
+        for (int step = 0; step < 20_000; step++) {
+            String character = characterIds.get(random.nextInt(characterIds.size()));
+            StatisticKind kind = KINDS[random.nextInt(Math.min(4, KINDS.length))];
+
+            int action = random.nextInt(100);
+            if (action < 90) {
+                statistics.add(character, kind, random.nextInt(2000) - 100);
+            } else if (action < 95) {
+                statistics.resetForCharacter(character, kind);
+            } else if (action < 98) {
+                statistics.resetCharacter(character);
+            } else {
+                statistics.resetOverall(kind);
+            }
+
+            // Only look at the totals sometimes, so increments also pile up on stale and fresh totals
+            if (random.nextInt(10) == 0) {
+                for (StatisticKind checkedKind : KINDS) {
+                    Assertions.assertEquals(
+                            statistics.recompute(checkedKind),
+                            statistics.overall.get(checkedKind),
+                            "Step " + step + ", " + checkedKind);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void increments_doNotRecompute() {
+        AtomicInteger lookups = new AtomicInteger();
+        Map<StatisticKind, StatisticEntry> characterStatistics = new EnumMap<>(StatisticKind.class);
+        OverallStatistics overall = new OverallStatistics(() -> {
+            lookups.incrementAndGet();
+            return List.of(characterStatistics);
+        });
+        StatisticKind kind = KINDS[0];
+
+        // The first lookup computes the total from the stored statistics
+        characterStatistics.put(kind, new StatisticEntry(10, 2, 4, 6, 100, 200));
+        Assertions.assertEquals(new StatisticEntry(10, 2, 4, 6, 100, 200), overall.get(kind));
+        Assertions.assertEquals(1, lookups.get());
+
+        for (int i = 0; i < 1000; i++) {
+            StatisticEntry updated = characterStatistics.get(kind).getUpdatedEntry(3);
+            characterStatistics.put(kind, updated);
+            overall.add(kind, 3, updated);
+            overall.get(kind);
+        }
+        Assertions.assertEquals(1, lookups.get());
+        Assertions.assertEquals(characterStatistics.get(kind), overall.get(kind));
+
+        // Only a reset makes the next lookup compute the total again
+        characterStatistics.remove(kind);
+        overall.invalidate(kind);
+        Assertions.assertEquals(StatisticEntry.EMPTY, overall.get(kind));
+        Assertions.assertEquals(2, lookups.get());
+    }
+}
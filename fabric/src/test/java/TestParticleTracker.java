@@ -0,0 +1,172 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.handlers.particle.ParticleTracker;
+import com.wynntils.handlers.particle.type.Particle;
+import com.wynntils.handlers.particle.type.ParticleType;
+import com.wynntils.models.lootrun.particle.LootrunTaskParticleVerifier;
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.phys.Vec3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestParticleTracker {
+    // Recorded particle packets, as "<time in ms> <effect> <x> <y> <z>"
+    private static final String RECORDED_STREAM =
+            """
+            // A complete task circle, with unrelated particles in between
+            0 firework 125.5 64.0 -310.5
+            0 firework 125.2553 64.0 -312.0451
+            0 firework 124.5451 64.0 -313.4389
+            0 flame 123.7389 65.2 -314.6451
+            0 firework 123.4389 64.0 -314.5451
+            0 firework 122.0451 64.0 -315.2553
+            0 firework 120.5 64.0 -315.5
+            0 firework 118.9549 64.0 -315.2553
+            0 firework 117.5611 64.0 -314.5451
+            0 firework 116.4549 64.0 -313.4389
+            0 flame 116.0447 65.2 -312.1451
+            0 firework 115.7447 64.0 -312.0451
+            50 firework 115.5 64.0 -310.5
+            50 firework 115.7447 64.0 -308.9549
+            50 firework 116.4549 64.0 -307.5611
+            50 firework 117.5611 64.0 -306.4549
+            50 firework 118.9549 64.0 -305.7447
+            0 flame 120.8 65.2 -305.6
+            50 firework 120.5 64.0 -305.5
+            50 firework 122.0451 64.0 -305.7447
+            50 firework 123.4389 64.0 -306.4549
+            50 firework 124.5451 64.0 -307.5611
+            50 firework 125.2553 64.0 -308.9549
+            // An incomplete circle, the rest of it was never sent
+            5000 firework 5.5 70.0 0.5
+            5000 firework 5.2553 70.0 -1.0451
+            5000 firework 4.5451 70.0 -2.4389
+            5000 firework 3.4389 70.0 -3.5451
+            5000 firework 2.0451 70.0 -4.2553
+            5000 firework 0.5 70.0 -4.5
+            5000 firework -1.0451 70.0 -4.2553
+            // A complete circle after the incomplete one expired
+            20000 firework -35.5 58.0 1200.5
+            20000 firework -35.7447 58.0 1198.9549
+            20000 firework -36.4549 58.0 1197.5611
+            20000 firework -37.5611 58.0 1196.4549
+            20000 firework -38.9549 58.0 1195.7447
+            20000 firework -40.5 58.0 1195.5
+            20000 firework -42.0451 58.0 1195.7447
+            20000 firework -43.4389 58.0 1196.4549
+            20000 firework -44.5451 58.0 1197.5611
+            20000 firework -45.2553 58.0 1198.9549
+            20000 firework -45.5 58.0 1200.5
+            20000 firework -45.2553 58.0 1202.0451
+            20000 firework -44.5451 58.0 1203.4389
+            20000 firework -43.4389 58.0 1204.5451
+            20000 firework -42.0451 58.0 1205.2553
+            20000 firework -40.5 58.0 1205.5
+            20000 firework -38.9549 58.0 1205.2553
+            20000 firework -37.5611 58.0 1204.5451
+            20000 firework -36.4549 58.0 1203.4389
+            20000 firework -35.7447 58.0 1202.0451
+            // Only the right and left particle, when the client hits the particle limit
+            30000 firework 305.5 80.0 -20.0
+            30000 firework 295.5 80.0 -20.0
+            """;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static ParticleTracker createTracker() {
+        ParticleTracker tracker = new ParticleTracker();
+        tracker.registerParticleVerifier(ParticleType.LOOTRUN_TASK, new LootrunTaskParticleVerifier());
+        return tracker;
+    }
+
+    private static List<Particle> replay(ParticleTracker tracker, String stream) {
+        List<Particle> verifiedParticles = new ArrayList<>();
+
+        for (String line : stream.lines().toList()) {
+            if (line.isBlank() || line.startsWith("//")) continue;
+
+            String[] parts = line.split(" ");
+            ParticleOptions effect =
+                    switch (parts[1]) {
+                        case "firework" -> ParticleTypes.FIREWORK;
+                        case "flame" -> ParticleTypes.FLAME;
+                        default -> throw new IllegalArgumentException("Unknown particle effect: " + parts[1]);
+                    };
+
+            Particle particle = tracker.addParticle(
+                    effect,
+                    Double.parseDouble(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Double.parseDouble(parts[4]),
+                    Long.parseLong(parts[0]));
+            if (particle != null) {
+                verifiedParticles.add(particle);
+            }
+        }
+
+        return verifiedParticles;
+    }
+
+    private static void assertParticleAt(Particle particle, double x, double y, double z) {
+        Assertions.assertEquals(ParticleType.LOOTRUN_TASK, particle.particleType());
+        Assertions.assertEquals(new Vec3(x, y, z), particle.position());
+    }
+
+    @Test
+    public void recordedStream_verifiesTaskCircles() {
+        List<Particle> verifiedParticles = replay(createTracker(), RECORDED_STREAM);
+
+        Assertions.assertEquals(3, verifiedParticles.size());
+        assertParticleAt(verifiedParticles.get(0), 120.5, 64.0, -310.5);
+        assertParticleAt(verifiedParticles.get(1), -40.5, 58.0, 1200.5);
+        assertParticleAt(verifiedParticles.get(2), 300.5, 80.0, -20.0);
+    }
+
+    @Test
+    public void shiftedCircle_isNotVerified() {
+        // The same circle, but the right particle is not aligned to the block grid
+        String stream = RECORDED_STREAM
+                .lines()
+                .takeWhile(line -> !line.contains("An incomplete circle"))
+                .map(line -> line.replace("125.5 64.0", "125.6 64.0"))
+                .reduce("", (a, b) -> a + b + "\n");
+
+        Assertions.assertTrue(replay(createTracker(), stream).isEmpty());
+    }
+
+    @Test
+    public void incompleteCircle_expiresBeforeNextCircle() {
+        ParticleTracker withinExpiry = createTracker();
+        ParticleTracker afterExpiry = createTracker();
+
+        for (ParticleTracker tracker : List.of(withinExpiry, afterExpiry)) {
+            // The first particles of a circle around 0.5, 0.5, the rest never arrives
+            Assertions.assertNull(tracker.addParticle(ParticleTypes.FIREWORK, 5.5, 70, 0.5, 0));
+            Assertions.assertNull(tracker.addParticle(ParticleTypes.FIREWORK, 5.2553, 70, -1.0451, 0));
+        }
+
+        // While the incomplete circle is pending, the right particle of the next circle only invalidates it
+        Assertions.assertNull(withinExpiry.addParticle(ParticleTypes.FIREWORK, 105.5, 70, 0.5, 100));
+        Assertions.assertNull(withinExpiry.addParticle(ParticleTypes.FIREWORK, 95.5, 70, 0.5, 100));
+
+        // Once it expired, the right particle starts the next circle
+        long later = ParticleTracker.EXPIRY_MILLIS + 1;
+        Assertions.assertNull(afterExpiry.addParticle(ParticleTypes.FIREWORK, 105.5, 70, 0.5, later));
+        Particle particle = afterExpiry.addParticle(ParticleTypes.FIREWORK, 95.5, 70, 0.5, later);
+
+        Assertions.assertNotNull(particle);
+        assertParticleAt(particle, 100.5, 70, 0.5);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.utils.type.RequestCoalescer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestRequestCoalescer {
+    // Stands in for the remote server, answering every key except "missing"
+    private final List<Set<String>> receivedBatches = new ArrayList<>();
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private CompletableFuture<Map<String, String>> serve(Set<String> keys) {
+        receivedBatches.add(keys);
+        return CompletableFuture.completedFuture(keys.stream()
+                .filter(key -> !key.equals("missing"))
+                .collect(Collectors.toMap(Function.identity(), String::toUpperCase)));
+    }
+
+    @Test
+    public void requestsInWindow_areResolvedInOneBatch() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(10, this::serve, scheduledFlushes::add);
+
+        CompletableFuture<String> first = coalescer.request("a");
+        CompletableFuture<String> second = coalescer.request("b");
+        CompletableFuture<String> duplicate = coalescer.request("a");
+
+        Assertions.assertEquals(1, scheduledFlushes.size(), "Only the first request should schedule a flush");
+        Assertions.assertSame(first, duplicate, "Duplicate requests should share a future");
+        Assertions.assertFalse(first.isDone(), "Requests should wait for the window to pass");
+
+        scheduledFlushes.getFirst().run();
+
+        Assertions.assertEquals(List.of(Set.of("a", "b")), receivedBatches);
+        Assertions.assertEquals("A", first.join());
+        Assertions.assertEquals("B", second.join());
+        Assertions.assertEquals(0, coalescer.getPendingCount());
+    }
+
+    @Test
+    public void fullBatch_isFlushedImmediately() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(2, this::serve, scheduledFlushes::add);
+
+        CompletableFuture<String> first = coalescer.request("a");
+        CompletableFuture<String> second = coalescer.request("b");
+        CompletableFuture<String> third = coalescer.request("c");
+
+        Assertions.assertTrue(first.isDone() && second.isDone(), "A full batch should be flushed at once");
+        Assertions.assertFalse(third.isDone(), "A new batch should wait for its own window");
+        Assertions.assertEquals(2, scheduledFlushes.size());
+
+        // The flush of the first batch has nothing left to do
+        scheduledFlushes.get(0).run();
+        Assertions.assertEquals(1, receivedBatches.size());
+        Assertions.assertFalse(third.isDone(), "A stale flush should not flush the next batch");
+
+        scheduledFlushes.get(1).run();
+        Assertions.assertEquals(List.of(Set.of("a", "b"), Set.of("c")), receivedBatches);
+        Assertions.assertEquals("C", third.join());
+    }
+
+    @Test
+    public void unresolvedKey_completesWithNull() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(10, this::serve, scheduledFlushes::add);
+
+        CompletableFuture<String> missing = coalescer.request("missing");
+        coalescer.flush();
+
+        Assertions.assertNull(missing.join());
+    }
+
+    @Test
+    public void failingBatch_failsAllRequests() {
+        RequestCoalescer<String, String> coalescer = new RequestCoalescer<>(
+                10,
+                keys -> CompletableFuture.failedFuture(new IllegalStateException("server down")),
+                scheduledFlushes::add);
+
+        CompletableFuture<String> first = coalescer.request("a");
+        CompletableFuture<String> second = coalescer.request("b");
+        coalescer.flush();
+
+        Assertions.assertTrue(first.isCompletedExceptionally());
+        Assertions.assertTrue(second.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.handlers.scoreboard.ScoreboardPart;
+import com.wynntils.handlers.scoreboard.ScoreboardSegment;
+import com.wynntils.handlers.scoreboard.ScoreboardSegmentTracker;
+import com.wynntils.handlers.scoreboard.type.ScoreboardDiff;
+import com.wynntils.handlers.scoreboard.type.ScoreboardLine;
+import com.wynntils.handlers.scoreboard.type.SegmentMatcher;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestScoreboardSegmentTracker {
+    private static final TestPart PARTY_PART = new TestPart("Party:");
+    private static final TestPart QUEST_PART = new TestPart("Tracked Quest:");
+    private static final TestPart FALLBACK_PART = new TestPart(".*");
+
+    // Packets as the server sends them when joining a world, every line is set on its own
+    private static final List<List<Packet>> LOGIN_SEQUENCE = List.of(
+            List.of(
+                    set("À", 8),
+                    set("Party:", 7),
+                    set("- Alice", 6),
+                    set("- Bob", 5),
+                    set("ÀÀ", 4),
+                    set("Tracked Quest:", 3),
+                    set("Speak to the guard", 2),
+                    set("at the gate", 1)),
+            // A party member leaves, and another one joins
+            List.of(reset("- Bob"), set("- Carol", 5)),
+            // The quest progresses, the lines are replaced one at a time
+            List.of(reset("Speak to the guard"), reset("at the gate"), set("Kill 5 wolves", 2), set("(0/5)", 1)),
+            List.of(reset("(0/5)"), set("(1/5)", 1)),
+            List.of(reset("(1/5)"), set("(2/5)", 1)));
+
+    // Switching worlds clears every line and sends the new scoreboard in a single tick
+    private static final List<List<Packet>> WORLD_SWITCH_SEQUENCE = List.of(
+            LOGIN_SEQUENCE.getFirst(),
+            List.of(
+                    reset("À"),
+                    reset("Party:"),
+                    reset("- Alice"),
+                    reset("- Bob"),
+                    reset("ÀÀ"),
+                    reset("Tracked Quest:"),
+                    reset("Speak to the guard"),
+                    reset("at the gate"),
+                    set("À", 5),
+                    set("Tracked Quest:", 4),
+                    set("Speak to the guard", 3),
+                    set("at the gate", 2),
+                    set("Unknown line", 1)));
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static Packet set(String line, int score) {
+        return new Packet(line, score);
+    }
+
+    private static Packet reset(String line) {
+        return new Packet(line, null);
+    }
+
+    private static ScoreboardSegmentTracker createTracker() {
+        return new ScoreboardSegmentTracker(List.of(PARTY_PART, QUEST_PART), FALLBACK_PART);
+    }
+
+    private static List<ScoreboardLine> toLines(Map<String, Integer> scores) {
+        return scores.entrySet().stream()
+                .map(entry -> new ScoreboardLine(StyledText.fromString(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparing(ScoreboardLine::score).reversed())
+                .toList();
+    }
+
+    private static void apply(Map<String, Integer> scores, Packet packet) {
+        if (packet.score() == null) {
+            scores.remove(packet.line());
+        } else {
+            scores.put(packet.line(), packet.score());
+        }
+    }
+
+    private static void assertSameSegments(List<ScoreboardSegment> expected, List<ScoreboardSegment> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertSame(expected.get(i).getScoreboardPart(), actual.get(i).getScoreboardPart());
+            Assertions.assertEquals(expected.get(i).getHeader(), actual.get(i).getHeader());
+            Assertions.assertEquals(expected.get(i).getContent(), actual.get(i).getContent());
+        }
+    }
+
+    private static void assertCoalescedMatchesPerPacket(List<List<Packet>> sequence) {
+        ScoreboardSegmentTracker perPacket = createTracker();
+        ScoreboardSegmentTracker perTick = createTracker();
+        Map<String, Integer> scores = new HashMap<>();
+
+        for (List<Packet> tick : sequence) {
+            for (Packet packet : tick) {
+                apply(scores, packet);
+                perPacket.update(toLines(scores));
+            }
+
+            perTick.update(toLines(scores));
+
+            assertSameSegments(perPacket.getSegments(), perTick.getSegments());
+        }
+
+        Assertions.assertTrue(perTick.getRebuildCount() <= sequence.size());
+        Assertions.assertTrue(
+                perTick.getRebuildCount() * 2 < perPacket.getRebuildCount(),
+                "Expected far fewer rebuilds, got " + perTick.getRebuildCount() + " and "
+                        + perPacket.getRebuildCount());
+    }
+
+    @Test
+    public void loginSequence_coalescedMatchesPerPacket() {
+        assertCoalescedMatchesPerPacket(LOGIN_SEQUENCE);
+    }
+
+    @Test
+    public void worldSwitchSequence_coalescedMatchesPerPacket() {
+        assertCoalescedMatchesPerPacket(WORLD_SWITCH_SEQUENCE);
+    }
+
+    @Test
+    public void loginSequence_producesExpectedSegments() {
+        ScoreboardSegmentTracker tracker = createTracker();
+        Map<String, Integer> scores = new HashMap<>();
+
+        for (List<Packet> tick : LOGIN_SEQUENCE) {
+            tick.forEach(packet -> apply(scores, packet));
+            tracker.update(toLines(scores));
+        }
+
+        List<ScoreboardSegment> segments = tracker.getSegments();
+        Assertions.assertEquals(2, segments.size());
+        Assertions.assertSame(PARTY_PART, segments.get(0).getScoreboardPart());
+        Assertions.assertEquals(
+                List.of(StyledText.fromString("- Alice"), StyledText.fromString("- Carol")),
+                segments.get(0).getContent());
+        Assertions.assertSame(QUEST_PART, segments.get(1).getScoreboardPart());
+        Assertions.assertEquals(
+                List.of(StyledText.fromString("Kill 5 wolves"), StyledText.fromString("(2/5)")),
+                segments.get(1).getContent());
+    }
+
+    @Test
+    public void unchangedSegments_areNotAddedAgain() {
+        ScoreboardSegmentTracker tracker = createTracker();
+        Map<String, Integer> scores = new HashMap<>();
+
+        LOGIN_SEQUENCE.getFirst().forEach(packet -> apply(scores, packet));
+        ScoreboardDiff initialDiff = tracker.update(toLines(scores));
+        Assertions.assertEquals(2, initialDiff.addedSegments().size());
+
+        ScoreboardSegment partySegment = tracker.getSegments().getFirst();
+        partySegment.setVisibility(false);
+
+        // Only the quest segment changes
+        apply(scores, reset("at the gate"));
+        apply(scores, set("at the bridge", 1));
+        ScoreboardDiff diff = tracker.update(toLines(scores));
+
+        Assertions.assertEquals(1, diff.addedSegments().size());
+        Assertions.assertSame(QUEST_PART, diff.addedSegments().getFirst().getScoreboardPart());
+        Assertions.assertTrue(diff.removedSegments().isEmpty());
+
+        // The party segment is kept, including its visibility
+        Assertions.assertSame(partySegment, tracker.getSegments().getFirst());
+        Assertions.assertFalse(tracker.getSegments().getFirst().isVisible());
+
+        // Updating with the same lines does not rebuild
+        int rebuildCount = tracker.getRebuildCount();
+        Assertions.assertFalse(tracker.update(toLines(scores)).hasChanges());
+        Assertions.assertEquals(rebuildCount, tracker.getRebuildCount());
+    }
+
+    @Test
+    public void visibility_isDecidedForUnchangedSegments() {
+        ScoreboardSegmentTracker tracker = createTracker();
+        Map<String, Integer> scores = new HashMap<>();
+
+        LOGIN_SEQUENCE.getFirst().forEach(packet -> apply(scores, packet));
+        tracker.update(toLines(scores));
+        Assertions.assertFalse(tracker.updateVisibility(segment -> true));
+
+        // An overlay starts hiding the party segment, without the scoreboard changing
+        Set<ScoreboardPart> hiddenParts = new HashSet<>(Set.of(PARTY_PART));
+        Assertions.assertTrue(
+                tracker.updateVisibility(segment -> !hiddenParts.contains(segment.getScoreboardPart())));
+        Assertions.assertFalse(tracker.getSegments().get(0).isVisible());
+        Assertions.assertTrue(tracker.getSegments().get(1).isVisible());
+
+        // Only the quest segment changes, the party segment keeps being hidden
+        apply(scores, reset("at the gate"));
+        apply(scores, set("at the bridge", 1));
+        tracker.update(toLines(scores));
+        Assertions.assertFalse(
+                tracker.updateVisibility(segment -> !hiddenParts.contains(segment.getScoreboardPart())));
+        Assertions.assertFalse(tracker.getSegments().get(0).isVisible());
+
+        // The overlay is disabled again, so the unchanged party segment is shown again
+        hiddenParts.clear();
+        Assertions.assertFalse(tracker.update(toLines(scores)).hasChanges());
+        Assertions.assertTrue(
+                tracker.updateVisibility(segment -> !hiddenParts.contains(segment.getScoreboardPart())));
+        Assertions.assertTrue(tracker.getSegments().get(0).isVisible());
+    }
+
+    @Test
+    public void emptyDiff_hasNoChanges() {
+        Assertions.assertFalse(new ScoreboardDiff(List.of(), List.of(), false).hasChanges());
+        Assertions.assertTrue(new ScoreboardDiff(List.of(), List.of(), true).hasChanges());
+    }
+
+    @Test
+    public void removedPart_isReported() {
+        ScoreboardSegmentTracker tracker = createTracker();
+        Map<String, Integer> scores = new HashMap<>();
+
+        for (List<Packet> tick : WORLD_SWITCH_SEQUENCE) {
+            tick.forEach(packet -> apply(scores, packet));
+            ScoreboardDiff diff = tracker.update(toLines(scores));
+
+            if (tick != WORLD_SWITCH_SEQUENCE.getFirst()) {
+                Assertions.assertEquals(1, diff.removedSegments().size());
+                Assertions.assertSame(PARTY_PART, diff.removedSegments().getFirst().getScoreboardPart());
+            }
+        }
+    }
+
+    private record Packet(String line, Integer score) {}
+
+    private static final class TestPart extends ScoreboardPart {
+        private final SegmentMatcher segmentMatcher;
+
+        private TestPart(String headerPattern) {
+            this.segmentMatcher = SegmentMatcher.fromPattern(headerPattern);
+        }
+
+        @Override
+        public SegmentMatcher getSegmentMatcher() {
+            return segmentMatcher;
+        }
+
+        @Override
+        public void onSegmentChange(ScoreboardSegment newValue) {}
+
+        @Override
+        public void onSegmentRemove(ScoreboardSegment segment) {}
+
+        @Override
+        public void reset() {}
+
+        @Override
+        public String toString() {
+            return "TestPart{" + segmentMatcher.headerPattern() + "}";
+        }
+    }
+}
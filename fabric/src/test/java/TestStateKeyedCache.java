@@ -0,0 +1,242 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.models.gear.type.GearInfo;
+import com.wynntils.models.gear.type.GearTier;
+import com.wynntils.models.players.WynntilsUser;
+import com.wynntils.models.players.type.AccountType;
+import com.wynntils.models.players.type.CosmeticInfo;
+import com.wynntils.models.players.type.NametagState;
+import com.wynntils.utils.mc.type.EquipmentSnapshot;
+import com.wynntils.utils.type.StateKeyedCache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import net.minecraft.ChatFormatting;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.TextColor;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestStateKeyedCache {
+    private static final UUID PLAYER = UUID.randomUUID();
+    private static final UUID OTHER_PLAYER = UUID.randomUUID();
+    private static final float SCALE = 0.5f;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static GearInfo gearInfo(String name, GearTier tier) {
+        return new GearInfo(name, null, tier, 0, null, null, null, List.of(), Optional.empty());
+    }
+
+    private static WynntilsUser user(AccountType accountType) {
+        return new WynntilsUser(accountType, new CosmeticInfo(false, false, false, null));
+    }
+
+    // A player whose equipment is replaced the way equipment packets do
+    private static final class FakePlayer {
+        private final List<ItemStack> armorItems =
+                new ArrayList<>(List.of(ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY));
+
+        private ItemStack mainHandItem = ItemStack.EMPTY;
+        private WynntilsUser user = null;
+
+        // The state CustomNametagRendererFeature builds the nametags from
+        private NametagState state(boolean hovered) {
+            return new NametagState(
+                    hovered ? EquipmentSnapshot.of(mainHandItem, armorItems) : null,
+                    user,
+                    Component.literal("Player"),
+                    true,
+                    SCALE);
+        }
+    }
+
+    private static final class CountingNametags {
+        private final StateKeyedCache<UUID, NametagState, List<NametagState.Line>> cache = new StateKeyedCache<>(16);
+        private final Map<String, GearInfo> gearInfos = Map.of(
+                "Idol", gearInfo("Idol", GearTier.MYTHIC),
+                "Nirvana", gearInfo("Nirvana", GearTier.MYTHIC),
+                "Boreal-Patterned Aegis", gearInfo("Boreal-Patterned Aegis", GearTier.LEGENDARY));
+
+        private int buildCount = 0;
+
+        private List<NametagState.Line> get(UUID id, NametagState state) {
+            return cache.get(id, state, () -> {
+                buildCount++;
+                return state.buildLines(gearInfos::get);
+            });
+        }
+    }
+
+    private static ItemStack namedItem(Item item, String name) {
+        ItemStack itemStack = new ItemStack(item);
+        itemStack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        return itemStack;
+    }
+
+    private static List<String> strings(List<NametagState.Line> lines) {
+        return lines.stream().map(line -> line.component().getString()).toList();
+    }
+
+    @Test
+    public void lines_showGearAndAccountType() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+        player.armorItems.set(0, namedItem(Items.LEATHER_BOOTS, "Crafted Boots"));
+        // Not a known gear item
+        player.armorItems.set(1, namedItem(Items.LEATHER_LEGGINGS, "Leggings"));
+        ItemStack box = new ItemStack(Items.STONE_SHOVEL);
+        box.setDamageValue(6);
+        player.armorItems.set(2, box);
+
+        // Without a Wynntils user, the vanilla name is drawn below the gear
+        List<NametagState.Line> lines = nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(List.of("Idol", "Crafted Boots", "Unidentified Item", "Player"), strings(lines));
+        Assertions.assertEquals(
+                TextColor.fromLegacyFormat(ChatFormatting.DARK_PURPLE),
+                lines.get(0).component().getStyle().getColor());
+        Assertions.assertEquals(SCALE, lines.get(0).scale());
+        Assertions.assertEquals(1f, lines.get(3).scale());
+
+        player.user = user(AccountType.CONTENT_TEAM);
+        lines = nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(
+                List.of("Idol", "Crafted Boots", "Unidentified Item", "Wynntils CT", "⛨ Player"), strings(lines));
+        Assertions.assertEquals(SCALE * 1.5f, lines.get(3).scale());
+    }
+
+    @Test
+    public void notHoveredPlayers_keepVanillaNametag() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+
+        Assertions.assertEquals(List.of(), nametags.get(PLAYER, player.state(false)));
+
+        player.user = user(AccountType.NORMAL);
+        Assertions.assertEquals(List.of("⛨ Player"), strings(nametags.get(PLAYER, player.state(false))));
+    }
+
+    @Test
+    public void unchangedEquipment_isBuiltOnce() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+        player.armorItems.set(3, namedItem(Items.LEATHER_HELMET, "Morph-Stardust"));
+
+        for (int frame = 0; frame < 100; frame++) {
+            nametags.get(PLAYER, player.state(true));
+        }
+        Assertions.assertEquals(1, nametags.buildCount);
+
+        // The server resends the same equipment as new stacks
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+        player.armorItems.set(3, namedItem(Items.LEATHER_HELMET, "Morph-Stardust"));
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(1, nametags.buildCount);
+    }
+
+    @Test
+    public void equipmentChanges_rebuildNametags() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(1, nametags.buildCount);
+
+        // Switching the held item
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Nirvana");
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(List.of("Nirvana", "Player"), strings(nametags.get(PLAYER, player.state(true))));
+        Assertions.assertEquals(2, nametags.buildCount);
+
+        // Putting on armor
+        player.armorItems.set(2, namedItem(Items.LEATHER_CHESTPLATE, "Boreal-Patterned Aegis"));
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(3, nametags.buildCount);
+
+        // Unidentified boxes only differ by damage
+        ItemStack box = new ItemStack(Items.STONE_SHOVEL);
+        box.setDamageValue(1);
+        player.mainHandItem = box;
+        nametags.get(PLAYER, player.state(true));
+        ItemStack mythicBox = new ItemStack(Items.STONE_SHOVEL);
+        mythicBox.setDamageValue(6);
+        player.mainHandItem = mythicBox;
+        List<NametagState.Line> lines = nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(5, nametags.buildCount);
+        Assertions.assertEquals(
+                TextColor.fromLegacyFormat(GearTier.MYTHIC.getChatFormatting()),
+                lines.get(0).component().getStyle().getColor());
+
+        // Taking everything off
+        player.mainHandItem = ItemStack.EMPTY;
+        player.armorItems.set(2, ItemStack.EMPTY);
+        Assertions.assertEquals(List.of(), nametags.get(PLAYER, player.state(true)));
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(6, nametags.buildCount);
+    }
+
+    @Test
+    public void hoverAndUserChanges_rebuildNametags() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Idol");
+
+        nametags.get(PLAYER, player.state(false));
+        nametags.get(PLAYER, player.state(true));
+        nametags.get(PLAYER, player.state(true));
+        Assertions.assertEquals(2, nametags.buildCount);
+
+        // Equipment is not part of the state while the player is not hovered
+        nametags.get(PLAYER, player.state(false));
+        player.mainHandItem = namedItem(Items.DIAMOND_SHOVEL, "Nirvana");
+        nametags.get(PLAYER, player.state(false));
+        Assertions.assertEquals(3, nametags.buildCount);
+
+        player.user = user(AccountType.HELPER);
+        Assertions.assertEquals(
+                List.of("Wynntils Helper", "⛨ Player"), strings(nametags.get(PLAYER, player.state(false))));
+        Assertions.assertEquals(4, nametags.buildCount);
+    }
+
+    @Test
+    public void players_areCachedSeparately() {
+        CountingNametags nametags = new CountingNametags();
+        FakePlayer player = new FakePlayer();
+        FakePlayer otherPlayer = new FakePlayer();
+        otherPlayer.user = user(AccountType.CONTENT_TEAM);
+
+        for (int frame = 0; frame < 10; frame++) {
+            nametags.get(PLAYER, player.state(false));
+            nametags.get(OTHER_PLAYER, otherPlayer.state(false));
+        }
+        Assertions.assertEquals(2, nametags.buildCount);
+
+        nametags.cache.remove(OTHER_PLAYER);
+        nametags.get(PLAYER, player.state(false));
+        nametags.get(OTHER_PLAYER, otherPlayer.state(false));
+        Assertions.assertEquals(3, nametags.buildCount);
+        Assertions.assertEquals(2, nametags.cache.size());
+
+        nametags.cache.invalidate();
+        Assertions.assertEquals(0, nametags.cache.size());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.core.text.StyledText;
+import com.wynntils.utils.render.TextLayoutCache;
+import java.util.List;
+import net.minecraft.ChatFormatting;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.StringSplitter;
+import net.minecraft.network.chat.TextColor;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestTextLayoutCache {
+    // Every glyph is 6 pixels wide, like most of the default font
+    private static final int GLYPH_WIDTH = 6;
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    // A stub font where every glyph has the same width, and that counts how often a glyph is measured
+    private static final class StubFont {
+        private float glyphWidth = GLYPH_WIDTH;
+        private int glyphLookups = 0;
+
+        private TextLayoutCache newCache(int maxSize) {
+            return new TextLayoutCache(maxSize, new StringSplitter((codePoint, style) -> {
+                glyphLookups++;
+                return glyphWidth;
+            }));
+        }
+    }
+
+    private static List<String> strings(List<StyledText> lines) {
+        return lines.stream().map(StyledText::getStringWithoutFormatting).toList();
+    }
+
+    @Test
+    public void lines_areWrappedAtMaxWidth() {
+        StubFont font = new StubFont();
+        TextLayoutCache cache = font.newCache(16);
+        StyledText text = StyledText.fromString("§aThe quick brown fox jumps over the lazy dog");
+
+        Assertions.assertEquals(
+                List.of("The quick", "brown fox", "jumps over", "the lazy", "dog"),
+                strings(cache.getLines(text, 10 * GLYPH_WIDTH)));
+        Assertions.assertEquals(
+                List.of("The quick brown fox", "jumps over the lazy", "dog"),
+                strings(cache.getLines(text, 20 * GLYPH_WIDTH)));
+        Assertions.assertEquals(
+                List.of("The quick brown fox jumps over the lazy dog"),
+                strings(cache.getLines(text, Integer.MAX_VALUE)));
+        Assertions.assertEquals(43 * GLYPH_WIDTH, cache.getWidth(text));
+    }
+
+    @Test
+    public void lines_keepTheFormattingOfPreviousLines() {
+        StubFont font = new StubFont();
+        TextLayoutCache cache = font.newCache(16);
+        StyledText text = StyledText.fromString("§aThe quick §lbrown fox jumps");
+
+        List<StyledText> lines = cache.getLines(text, 10 * GLYPH_WIDTH);
+
+        Assertions.assertEquals(List.of("The quick", "brown fox", "jumps"), strings(lines));
+        for (StyledText line : lines) {
+            Assertions.assertEquals(
+                    TextColor.fromLegacyFormat(ChatFormatting.GREEN),
+                    line.getLastPart().getPartStyle().getStyle().getColor());
+        }
+        Assertions.assertFalse(lines.get(0).getLastPart().getPartStyle().getStyle().isBold());
+        // The last line has no formatting codes of its own
+        Assertions.assertTrue(lines.get(2).getLastPart().getPartStyle().getStyle().isBold());
+    }
+
+    @Test
+    public void repeatedFrames_measureOnce() {
+        StubFont font = new StubFont();
+        TextLayoutCache cache = font.newCache(16);
+        int firstFrameLookups = 0;
+
+        for (int frame = 0; frame < 100; frame++) {
+            // Overlays build their text again every frame
+            StyledText text = StyledText.fromString("§eSoul Points: §f12/15");
+
+            cache.getWidth(text);
+            cache.getLines(text, 50);
+            cache.getLines(text, 100);
+
+            if (frame == 0) {
+                firstFrameLookups = font.glyphLookups;
+            }
+        }
+
+        Assertions.assertTrue(firstFrameLookups > 0);
+        Assertions.assertEquals(firstFrameLookups, font.glyphLookups);
+    }
+
+    @Test
+    public void invalidate_remeasuresWithNewFont() {
+        StubFont font = new StubFont();
+        TextLayoutCache cache = font.newCache(16);
+        StyledText text = StyledText.fromString("Wide glyphs");
+
+        Assertions.assertEquals(11 * GLYPH_WIDTH, cache.getWidth(text));
+        Assertions.assertEquals(List.of("Wide glyphs"), strings(cache.getLines(text, 12 * GLYPH_WIDTH)));
+
+        // A resource pack with a wider font was loaded
+        font.glyphWidth = 2 * GLYPH_WIDTH;
+        Assertions.assertEquals(11 * GLYPH_WIDTH, cache.getWidth(text), "Cache must hold until invalidated");
+
+        cache.invalidate();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(22 * GLYPH_WIDTH, cache.getWidth(text));
+        Assertions.assertEquals(List.of("Wide", "glyphs"), strings(cache.getLines(text, 12 * GLYPH_WIDTH)));
+    }
+
+    @Test
+    public void cache_isBoundedAndEvictsLeastRecentlyUsed() {
+        StubFont font = new StubFont();
+        TextLayoutCache cache = font.newCache(2);
+        StyledText a = StyledText.fromString("a");
+        StyledText b = StyledText.fromString("b");
+        StyledText c = StyledText.fromString("c");
+
+        cache.getWidth(a);
+        cache.getWidth(b);
+        // Touch "a" so "b" is the least recently used
+        cache.getWidth(a);
+        cache.getWidth(c);
+
+        Assertions.assertEquals(3, font.measureCount);
+        cache.getWidth(a);
+        Assertions.assertEquals(3, font.measureCount);
+        cache.getWidth(b);
+        Assertions.assertEquals(4, font.measureCount);
+        Assertions.assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright © Wynntils 2025.
+ * This file is released under LGPLv3. See LICENSE for full license details.
+ */
+import com.wynntils.handlers.bossbar.TrackedBar;
+import com.wynntils.handlers.bossbar.TrackedBarDispatcher;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TestTrackedBarDispatcher {
+    // Patterns of the tracked bars in the mod, in registration order
+    private static final List<TrackedBar> BARS = List.of(
+            new TrackedBar(Pattern.compile(
+                    "^\\s*§[0-9a-f](.*) - §c(\\d+(?:\\.\\d+)?[kKmM]?)§4❤(?:§r - ( ?(§.(.+))(Dam|Weak|Def))+)?\\s*$")),
+            new TrackedBar(Pattern.compile("§7Press §f\uE005 SWAP HANDS§7 to skip( §8- §f\\d+§7/§f\\d+)?")),
+            new TrackedBar(List.of(
+                    Pattern.compile(
+                            "§[abc](?<territory>[a-zA-Z\\s]+)§[234] (?<tag>\uE060\uDAFF\uDFFF.*\uDB00\uDC02)"),
+                    Pattern.compile("§7Lv\\. (?<level>\\d+)§f - §b(?<guild>[a-zA-Z\\s]+)§f - §7(?<xp>\\d+)% XP"),
+                    Pattern.compile(
+                            "§3(?:Double )?(?<bomb>.+) from §b(?<user>.+)§7 \\[§f(?<length>\\d+)§7 min\\]"))),
+            new TrackedBar(Pattern.compile("§fAwakened §7\\[§f(\\d+)/(\\d+)§7]")),
+            new TrackedBar(Pattern.compile("§cBlood Pool §4\\[§c(\\d+)%§4\\]")),
+            new TrackedBar(Pattern.compile("§(c|a)Commander: ([0-9]+)s")),
+            new TrackedBar(Pattern.compile("§bMana Bank §3\\[(\\d+)/(\\d+)\\]")),
+            new TrackedBar(Pattern.compile("^§cForming a New Sun...$")),
+            new TrackedBar(Pattern.compile("^§#261f1fff\uE000\uE002\uE000$")));
+
+    private static final UUID MOB_BAR = UUID.randomUUID();
+    private static final UUID INFO_BAR = UUID.randomUUID();
+    private static final UUID ABILITY_BAR = UUID.randomUUID();
+    private static final UUID OTHER_BAR = UUID.randomUUID();
+
+    @BeforeAll
+    public static void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private enum EventType {
+        ADD,
+        UPDATE_NAME,
+        REMOVE
+    }
+
+    private record BarEvent(EventType type, UUID id, String name) {}
+
+    private record NameUpdate(TrackedBar trackedBar, String match) {}
+
+    // A recorded session: a mob fight, bombs and territory info, ability bars and a cutscene
+    private static List<BarEvent> recordedEvents() {
+        List<BarEvent> events = new ArrayList<>();
+
+        events.add(new BarEvent(EventType.ADD, INFO_BAR, "§7Lv. 80§f - §bSome Guild§f - §742% XP"));
+        events.add(new BarEvent(EventType.ADD, MOB_BAR, "§cAngry Zombie - §c1200§4❤"));
+        for (int health = 1200; health >= 0; health -= 37) {
+            events.add(new BarEvent(EventType.UPDATE_NAME, MOB_BAR, "§cAngry Zombie - §c" + health + "§4❤"));
+            events.add(new BarEvent(
+                    EventType.UPDATE_NAME, MOB_BAR, "§cAngry Zombie - §c" + health + "§4❤§r - §2✤ §7Weak"));
+        }
+        events.add(new BarEvent(EventType.REMOVE, MOB_BAR, null));
+
+        events.add(new BarEvent(EventType.UPDATE_NAME, INFO_BAR, "§3Double Combat XP from §bSteve§7 [§f20§7 min]"));
+        events.add(new BarEvent(EventType.UPDATE_NAME, INFO_BAR, "§bDetlas§2 \uE060\uDAFF\uDFFFtag\uDB00\uDC02"));
+        events.add(new BarEvent(EventType.UPDATE_NAME, INFO_BAR, "§7Lv. 81§f - §bSome Guild§f - §70% XP"));
+
+        events.add(new BarEvent(EventType.ADD, ABILITY_BAR, "§fAwakened §7[§f0/200§7]"));
+        for (int awakened = 0; awakened <= 200; awakened += 10) {
+            events.add(new BarEvent(EventType.UPDATE_NAME, ABILITY_BAR, "§fAwakened §7[§f" + awakened + "/200§7]"));
+        }
+        events.add(new BarEvent(EventType.REMOVE, ABILITY_BAR, null));
+
+        // The same UUID reused for a different bar
+        events.add(new BarEvent(EventType.ADD, ABILITY_BAR, "§aCommander: 30s"));
+        for (int seconds = 30; seconds >= 0; seconds--) {
+            events.add(new BarEvent(
+                    EventType.UPDATE_NAME, ABILITY_BAR, "§" + (seconds > 5 ? "a" : "c") + "Commander: " + seconds + "s"));
+        }
+        events.add(new BarEvent(EventType.REMOVE, ABILITY_BAR, null));
+
+        // Bars that start out empty and get their name later, and bars nobody tracks
+        events.add(new BarEvent(EventType.ADD, OTHER_BAR, ""));
+        events.add(new BarEvent(EventType.UPDATE_NAME, OTHER_BAR, "§7Press §f\uE005 SWAP HANDS§7 to skip"));
+        events.add(new BarEvent(
+                EventType.UPDATE_NAME, OTHER_BAR, "§7Press §f\uE005 SWAP HANDS§7 to skip §8- §f1§7/§f4"));
+        events.add(new BarEvent(EventType.REMOVE, OTHER_BAR, null));
+        events.add(new BarEvent(EventType.ADD, OTHER_BAR, "§dSomething else"));
+        events.add(new BarEvent(EventType.UPDATE_NAME, OTHER_BAR, "§cForming a New Sun..."));
+        events.add(new BarEvent(EventType.REMOVE, OTHER_BAR, null));
+        events.add(new BarEvent(EventType.ADD, OTHER_BAR, "§#261f1fff\uE000\uE002\uE000"));
+        events.add(new BarEvent(EventType.ADD, MOB_BAR, "   §eBoss - §c1.5M§4❤  "));
+
+        return events;
+    }
+
+    // What BossBarHandler did before the dispatcher, trying every pattern of every bar
+    private static List<NameUpdate> replayLinear(List<BarEvent> events) {
+        Map<UUID, TrackedBar> presentBars = new HashMap<>();
+        List<NameUpdate> updates = new ArrayList<>();
+
+        for (BarEvent event : events) {
+            switch (event.type()) {
+                case ADD -> linearMatch(event.name()).ifPresent(update -> {
+                    presentBars.put(event.id(), update.trackedBar());
+                    updates.add(update);
+                });
+                case UPDATE_NAME -> {
+                    if (!presentBars.containsKey(event.id())) {
+                        linearMatch(event.name())
+                                .ifPresent(update -> presentBars.put(event.id(), update.trackedBar()));
+                    }
+
+                    TrackedBar trackedBar = presentBars.get(event.id());
+                    if (trackedBar == null) continue;
+
+                    trackedBar.patterns.stream()
+                            .map(pattern -> pattern.matcher(event.name()))
+                            .filter(Matcher::matches)
+                            .findFirst()
+                            .ifPresent(matcher -> updates.add(new NameUpdate(trackedBar, matcher.group())));
+                }
+                case REMOVE -> presentBars.remove(event.id());
+            }
+        }
+
+        return updates;
+    }
+
+    private static Optional<NameUpdate> linearMatch(String name) {
+        for (TrackedBar trackedBar : BARS) {
+            for (Pattern pattern : trackedBar.patterns) {
+                Matcher matcher = pattern.matcher(name);
+                if (matcher.matches()) return Optional.of(new NameUpdate(trackedBar, matcher.group()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    // The same decisions BossBarHandler makes with the dispatcher
+    private static List<NameUpdate> replayDispatched(List<BarEvent> events) {
+        TrackedBarDispatcher dispatcher = new TrackedBarDispatcher();
+        BARS.forEach(dispatcher::register);
+        List<NameUpdate> updates = new ArrayList<>();
+
+        for (BarEvent event : events) {
+            switch (event.type()) {
+                case ADD -> dispatcher
+                        .matchNewBar(event.id(), event.name())
+                        .ifPresent(barMatch -> updates.add(
+                                new NameUpdate(barMatch.trackedBar(), barMatch.matcher().group())));
+                case UPDATE_NAME -> {
+                    if (!dispatcher.isPresent(event.id())) {
+                        dispatcher.matchNewBar(event.id(), event.name());
+                    }
+
+                    TrackedBar trackedBar = dispatcher.getPresentBar(event.id());
+                    if (trackedBar == null) continue;
+
+                    dispatcher
+                            .matchPresentBar(event.id(), event.name())
+                            .ifPresent(matcher -> updates.add(new NameUpdate(trackedBar, matcher.group())));
+                }
+                case REMOVE -> dispatcher.removePresentBar(event.id());
+            }
+        }
+
+        return updates;
+    }
+
+    @Test
+    public void recordedSession_matchesLinearScan() {
+        List<BarEvent> events = recordedEvents();
+
+        List<NameUpdate> expected = replayLinear(events);
+        List<NameUpdate> actual = replayDispatched(events);
+
+        Assertions.assertEquals(expected, actual);
+        // Every tracked bar except the blood pool and mana bank bars showed up
+        Assertions.assertEquals(
+                BARS.size() - 2,
+                actual.stream().map(NameUpdate::trackedBar).distinct().count());
+    }
+
+    @Test
+    public void barsRegisteredLater_areStillMatched() {
+        TrackedBarDispatcher dispatcher = new TrackedBarDispatcher();
+        BARS.forEach(dispatcher::register);
+        Assertions.assertTrue(dispatcher.matchNewBar(OTHER_BAR, "§eFocus §6[§e1/3§6]").isEmpty());
+
+        TrackedBar focusBar = new TrackedBar(Pattern.compile("§eFocus §6\\[§e(\\d+)/(\\d+)§6]"));
+        dispatcher.register(focusBar);
+
+        Assertions.assertEquals(
+                focusBar,
+                dispatcher
+                        .matchNewBar(OTHER_BAR, "§eFocus §6[§e1/3§6]")
+                        .map(TrackedBarDispatcher.BarMatch::trackedBar)
+                        .orElse(null));
+    }
+
+    @Test
+    public void presentBar_isNotMatchedByOtherBars() {
+        TrackedBarDispatcher dispatcher = new TrackedBarDispatcher();
+        BARS.forEach(dispatcher::register);
+
+        dispatcher.matchNewBar(ABILITY_BAR, "§fAwakened §7[§f10/200§7]");
+
+        // A name of another bar does not move the UUID to that bar
+        Assertions.assertTrue(
+                dispatcher.matchPresentBar(ABILITY_BAR, "§aCommander: 30s").isEmpty());
+        Assertions.assertEquals(BARS.get(3), dispatcher.getPresentBar(ABILITY_BAR));
+
+        dispatcher.removePresentBar(ABILITY_BAR);
+        Assertions.assertFalse(dispatcher.isPresent(ABILITY_BAR));
+        Assertions.assertTrue(
+                dispatcher.matchPresentBar(ABILITY_BAR, "§fAwakened §7[§f10/200§7]").isEmpty());
+    }
+}